@@ -0,0 +1,97 @@
+package cn.hutool.benchmark;
+
+import cn.hutool.core.util.StrUtil;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 基准测试入口，支持JMH的所有命令行参数，在此基础上：
+ * <ul>
+ *     <li>未指定线程数（-t）时，依次使用系统属性hutool.benchmark.threads中的线程数运行，默认为1和CPU核数</li>
+ *     <li>所有线程数的结果合并写出为JSON，默认文件名为hutool-benchmark-[版本].json，可使用-rff指定，用于不同版本间比较</li>
+ * </ul>
+ * 使用：
+ * <pre>
+ * mvn package -P benchmark -pl hutool-benchmark -am
+ * java -jar hutool-benchmark/target/benchmarks.jar [JSONBenchmark] [-p size=100]
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * 线程数列表的系统属性名，多个线程数使用逗号分隔
+	 */
+	public static final String THREADS_PROPERTY = "hutool.benchmark.threads";
+
+	public static void main(String[] args) throws Exception {
+		final CommandLineOptions cli = new CommandLineOptions(args);
+		if (cli.shouldHelp()) {
+			cli.showHelp();
+			return;
+		}
+		if (cli.shouldList()) {
+			new Runner(cli).list();
+			return;
+		}
+
+		final List<RunResult> results = new ArrayList<>();
+		for (final int threads : threadCounts(cli)) {
+			final Options options = new OptionsBuilder()
+					.parent(cli)
+					.threads(threads)
+					.build();
+			results.addAll(new Runner(options).run());
+		}
+
+		final String resultFile = cli.getResult().hasValue() ? cli.getResult().get() : StrUtil.format("hutool-benchmark-{}.json", version());
+		ResultFormatFactory.getInstance(ResultFormatType.JSON, resultFile).writeOut(results);
+		System.out.println("Benchmark results written to: " + resultFile);
+	}
+
+	/**
+	 * 获取需要运行的线程数列表
+	 *
+	 * @param cli 命令行参数
+	 * @return 线程数列表
+	 */
+	private static Set<Integer> threadCounts(CommandLineOptions cli) {
+		final Set<Integer> threadCounts = new LinkedHashSet<>();
+		if (cli.getThreads().hasValue()) {
+			threadCounts.add(cli.getThreads().get());
+			return threadCounts;
+		}
+
+		final String property = System.getProperty(THREADS_PROPERTY);
+		if (StrUtil.isBlank(property)) {
+			threadCounts.add(1);
+			threadCounts.add(Runtime.getRuntime().availableProcessors());
+		} else {
+			for (String threads : StrUtil.splitTrim(property, StrUtil.C_COMMA)) {
+				threadCounts.add(Integer.parseInt(threads));
+			}
+		}
+		return threadCounts;
+	}
+
+	/**
+	 * 获取Hutool版本，打包时写入MANIFEST，在IDE中运行时为dev
+	 *
+	 * @return 版本
+	 */
+	private static String version() {
+		return StrUtil.blankToDefault(BenchmarkRunner.class.getPackage().getImplementationVersion(), "dev");
+	}
+}
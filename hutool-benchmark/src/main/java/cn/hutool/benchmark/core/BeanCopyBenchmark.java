@@ -0,0 +1,96 @@
+package cn.hutool.benchmark.core;
+
+import cn.hutool.benchmark.data.DataGenerator;
+import cn.hutool.benchmark.data.User;
+import cn.hutool.benchmark.data.UserDTO;
+import cn.hutool.core.bean.BeanUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean复制基准测试，覆盖同类型复制、需要类型转换的复制及Bean与Map互转
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class BeanCopyBenchmark {
+
+	private User user;
+	private User target;
+	private Map<String, Object> map;
+
+	@Setup
+	public void setup() {
+		user = DataGenerator.user();
+		target = new User();
+		map = BeanUtil.beanToMap(user);
+	}
+
+	/**
+	 * 复制到同类型的新对象
+	 *
+	 * @return 结果
+	 */
+	@Benchmark
+	public User copyToSameType() {
+		return BeanUtil.copyProperties(user, User.class);
+	}
+
+	/**
+	 * 复制到已有对象
+	 *
+	 * @return 结果
+	 */
+	@Benchmark
+	public User copyToExisting() {
+		BeanUtil.copyProperties(user, target);
+		return target;
+	}
+
+	/**
+	 * 复制到字段类型不同的DTO，需要类型转换
+	 *
+	 * @return 结果
+	 */
+	@Benchmark
+	public UserDTO copyToDTO() {
+		return BeanUtil.copyProperties(user, UserDTO.class);
+	}
+
+	/**
+	 * Bean转Map
+	 *
+	 * @return 结果
+	 */
+	@Benchmark
+	public Map<String, Object> beanToMap() {
+		return BeanUtil.beanToMap(user);
+	}
+
+	/**
+	 * Map转Bean
+	 *
+	 * @return 结果
+	 */
+	@Benchmark
+	public User mapToBean() {
+		return BeanUtil.toBean(map, User.class);
+	}
+}
@@ -0,0 +1,87 @@
+package cn.hutool.benchmark.core;
+
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.lang.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Convert.convert基准测试，覆盖数字、日期、枚举及集合等常用转换
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ConvertBenchmark {
+
+	private final String intStr = "123456";
+	private final String decimalStr = "123456.789";
+	private final String dateStr = "2022-11-17 12:34:56";
+	private final String enumStr = "MILLISECONDS";
+	private final String[] intStrArray = {"1", "22", "333", "4444", "55555", "666666", "7777777", "88888888"};
+	private final TypeReference<List<Integer>> intListType = new TypeReference<List<Integer>>() {
+	};
+
+	@Benchmark
+	public Integer toInt() {
+		return Convert.convert(Integer.class, intStr);
+	}
+
+	@Benchmark
+	public Long toLongFromInt() {
+		return Convert.convert(Long.class, 123456);
+	}
+
+	@Benchmark
+	public BigDecimal toBigDecimal() {
+		return Convert.convert(BigDecimal.class, decimalStr);
+	}
+
+	@Benchmark
+	public String toStr() {
+		return Convert.convert(String.class, 123456.789D);
+	}
+
+	@Benchmark
+	public Date toDate() {
+		return Convert.convert(Date.class, dateStr);
+	}
+
+	@Benchmark
+	public LocalDateTime toLocalDateTime() {
+		return Convert.convert(LocalDateTime.class, dateStr);
+	}
+
+	@Benchmark
+	public TimeUnit toEnum() {
+		return Convert.convert(TimeUnit.class, enumStr);
+	}
+
+	@Benchmark
+	public List<Integer> toIntList() {
+		return Convert.convert(intListType, intStrArray);
+	}
+
+	@Benchmark
+	public int[] toIntArray() {
+		return Convert.convert(int[].class, intStrArray);
+	}
+}
@@ -0,0 +1,79 @@
+package cn.hutool.benchmark.core;
+
+import cn.hutool.core.util.StrUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StrUtil.format基准测试，paramCount为模板中的占位符个数，典型日志消息为1到4个
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class StrFormatBenchmark {
+
+	@Param({"1", "4", "16"})
+	private int paramCount;
+
+	private String template;
+	private Object[] params;
+	private String mapTemplate;
+	private Map<String, Object> map;
+
+	@Setup
+	public void setup() {
+		final StringBuilder templateBuilder = new StringBuilder("Request finished:");
+		final StringBuilder mapTemplateBuilder = new StringBuilder("Request finished:");
+		params = new Object[paramCount];
+		map = new HashMap<>();
+		for (int i = 0; i < paramCount; i++) {
+			templateBuilder.append(" field").append(i).append("={}");
+			mapTemplateBuilder.append(" field").append(i).append("={field").append(i).append('}');
+			// 混合字符串、数字和null参数
+			final Object param = (i % 3 == 0) ? "value" + i : (i % 3 == 1 ? (Object) (i * 1000L) : null);
+			params[i] = param;
+			map.put("field" + i, param);
+		}
+		template = templateBuilder.toString();
+		mapTemplate = mapTemplateBuilder.toString();
+	}
+
+	/**
+	 * 使用{}占位符格式化
+	 *
+	 * @return 结果
+	 */
+	@Benchmark
+	public String format() {
+		return StrUtil.format(template, params);
+	}
+
+	/**
+	 * 使用{key}占位符按照Map格式化
+	 *
+	 * @return 结果
+	 */
+	@Benchmark
+	public String formatMap() {
+		return StrUtil.format(mapTemplate, map);
+	}
+}
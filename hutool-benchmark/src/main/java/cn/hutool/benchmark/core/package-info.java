@@ -0,0 +1,6 @@
+/**
+ * 核心工具相关基准测试，包括Bean复制、类型转换和字符串格式化
+ *
+ * @author looly
+ */
+package cn.hutool.benchmark.core;
@@ -0,0 +1,41 @@
+package cn.hutool.benchmark.data;
+
+import java.io.Serializable;
+
+/**
+ * 基准测试用地址Bean
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class Address implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private String city;
+	private String street;
+	private int zipCode;
+
+	public String getCity() {
+		return city;
+	}
+
+	public void setCity(String city) {
+		this.city = city;
+	}
+
+	public String getStreet() {
+		return street;
+	}
+
+	public void setStreet(String street) {
+		this.street = street;
+	}
+
+	public int getZipCode() {
+		return zipCode;
+	}
+
+	public void setZipCode(int zipCode) {
+		this.zipCode = zipCode;
+	}
+}
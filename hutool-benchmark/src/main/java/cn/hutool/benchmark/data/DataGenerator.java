@@ -0,0 +1,65 @@
+package cn.hutool.benchmark.data;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.date.DateUtil;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 基准测试数据生成器，使用固定种子，保证每次运行的数据相同，结果可在不同版本间比较
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class DataGenerator {
+
+	private static final long SEED = 20221117L;
+	private static final String[] CITIES = {"北京", "上海", "Shenzhen", "Hangzhou", "成都"};
+	private static final String[] TAGS = {"java", "hutool", "json", "bean", "convert", "中文标签"};
+
+	/**
+	 * 生成指定个数的用户
+	 *
+	 * @param size 个数
+	 * @return 用户列表
+	 */
+	public static List<User> users(int size) {
+		final Random random = new Random(SEED);
+		final List<User> users = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			users.add(user(random, i));
+		}
+		return users;
+	}
+
+	/**
+	 * 生成一个用户
+	 *
+	 * @return 用户
+	 */
+	public static User user() {
+		return user(new Random(SEED), 0);
+	}
+
+	private static User user(Random random, int index) {
+		final Address address = new Address();
+		address.setCity(CITIES[random.nextInt(CITIES.length)]);
+		address.setStreet("No." + random.nextInt(1000) + " \"Hutool\" Road");
+		address.setZipCode(100000 + random.nextInt(900000));
+
+		final User user = new User();
+		user.setId(1000000000L + index);
+		user.setName("user_" + index);
+		user.setAge(18 + random.nextInt(60));
+		user.setScore(random.nextDouble() * 100);
+		user.setBalance(BigDecimal.valueOf(random.nextInt(10000000), 2));
+		user.setActive(random.nextBoolean());
+		user.setBirthday(DateUtil.offsetDay(DateUtil.parse("1990-01-01 08:00:00"), random.nextInt(10000)));
+		user.setTags(CollUtil.newArrayList(TAGS[random.nextInt(TAGS.length)], TAGS[random.nextInt(TAGS.length)]));
+		user.setAddress(address);
+		return user;
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * 基准测试使用的Bean及数据生成
+ *
+ * @author looly
+ */
+package cn.hutool.benchmark.data;
@@ -0,0 +1,89 @@
+package cn.hutool.benchmark.json;
+
+import cn.hutool.benchmark.data.DataGenerator;
+import cn.hutool.benchmark.data.User;
+import cn.hutool.json.JSON;
+import cn.hutool.json.JSONUtil;
+import cn.hutool.json.serialize.JSONByteWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON解析及序列化基准测试<br>
+ * 数据为用户对象数组，size分别代表单个对象（约200字节）、普通接口响应（约20KB）和批量数据（约2MB）
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JSONBenchmark {
+
+	@Param({"1", "100", "10000"})
+	private int size;
+
+	private List<User> users;
+	private String jsonStr;
+
+	@Setup
+	public void setup() {
+		users = DataGenerator.users(size);
+		jsonStr = JSONUtil.toJsonStr(users);
+	}
+
+	/**
+	 * JSONUtil.parse，文本解析为JSONArray
+	 *
+	 * @return 结果
+	 */
+	@Benchmark
+	public JSON parse() {
+		return JSONUtil.parse(jsonStr);
+	}
+
+	/**
+	 * JSONUtil.toList，文本解析为Bean列表
+	 *
+	 * @return 结果
+	 */
+	@Benchmark
+	public List<User> toList() {
+		return JSONUtil.toList(jsonStr, User.class);
+	}
+
+	/**
+	 * JSONUtil.toJsonStr，Bean列表序列化为文本
+	 *
+	 * @return 结果
+	 */
+	@Benchmark
+	public String toJsonStr() {
+		return JSONUtil.toJsonStr(users);
+	}
+
+	/**
+	 * JSONByteWriter.toBytes，Bean列表直接序列化为UTF-8字节，作为toJsonStr的对照
+	 *
+	 * @return 结果
+	 */
+	@Benchmark
+	public byte[] toJsonBytes() {
+		return JSONByteWriter.toBytes(users);
+	}
+}
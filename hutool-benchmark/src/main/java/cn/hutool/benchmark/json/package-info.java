@@ -0,0 +1,6 @@
+/**
+ * JSON相关基准测试
+ *
+ * @author looly
+ */
+package cn.hutool.benchmark.json;
@@ -0,0 +1,6 @@
+/**
+ * 基于JMH的Hutool性能基准测试，入口为{@link cn.hutool.benchmark.BenchmarkRunner}，结果以JSON格式写出，用于版本升级前后比较
+ *
+ * @author looly
+ */
+package cn.hutool.benchmark;
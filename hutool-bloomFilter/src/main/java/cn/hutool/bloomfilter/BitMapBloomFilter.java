@@ -12,7 +12,8 @@ import cn.hutool.core.util.NumberUtil;
  * 1.构建hash算法 <br>
  * 2.散列hash映射到数组的bit位置 <br>
  * 3.验证<br>
- * 此实现方式可以指定Hash算法
+ * 此实现方式可以指定Hash算法<br>
+ * 每个过滤器需单独计算哈希并使用独立的BitMap，如需更低的误判率和开销，请使用{@link HashBloomFilter}
  *
  * @author Ansj
  */
@@ -1,5 +1,7 @@
 package cn.hutool.bloomfilter;
 
+import cn.hutool.bloomfilter.bitMap.MappedBitMap;
+
 /**
  * 布隆过滤器工具
  *
@@ -29,4 +31,71 @@ public class BloomFilterUtil {
 	public static BitMapBloomFilter createBitMap(int m) {
 		return new BitMapBloomFilter(m);
 	}
+
+	/**
+	 * 创建基于双重哈希的布隆过滤器，根据预计元素个数和期望误判率计算位数组大小和哈希个数
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param fpp                期望误判率，取值范围(0, 1)
+	 * @return HashBloomFilter
+	 * @since 5.8.10
+	 */
+	public static HashBloomFilter createHash(long expectedInsertions, double fpp) {
+		return new HashBloomFilter(expectedInsertions, fpp);
+	}
+
+	/**
+	 * 创建线程安全的无锁布隆过滤器，根据预计元素个数和期望误判率计算位数组大小和哈希个数
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param fpp                期望误判率，取值范围(0, 1)
+	 * @return ConcurrentBloomFilter
+	 * @since 5.8.10
+	 */
+	public static ConcurrentBloomFilter createConcurrent(long expectedInsertions, double fpp) {
+		return new ConcurrentBloomFilter(expectedInsertions, fpp);
+	}
+
+	/**
+	 * 创建可扩容的布隆过滤器，元素个数超过容量时自动增加子过滤器，总误判率不超过fpp
+	 *
+	 * @param initialCapacity 初始容量
+	 * @param fpp             期望误判率，取值范围(0, 1)
+	 * @return ScalableBloomFilter
+	 * @since 5.8.10
+	 */
+	public static ScalableBloomFilter createScalable(long initialCapacity, double fpp) {
+		return new ScalableBloomFilter(initialCapacity, fpp);
+	}
+
+	/**
+	 * 创建支持移除元素的计数布隆过滤器
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param fpp                期望误判率，取值范围(0, 1)
+	 * @return CountingBloomFilter
+	 * @since 5.8.10
+	 */
+	public static CountingBloomFilter createCounting(long expectedInsertions, double fpp) {
+		return new CountingBloomFilter(expectedInsertions, fpp);
+	}
+
+	/**
+	 * 创建基于内存映射文件的布隆过滤器，可存储超过{@link Integer#MAX_VALUE}位，重新打开同一文件时保留已加入的元素<br>
+	 * 位数和哈希个数记录在映射文件的文件头中，使用方式：
+	 * <pre>
+	 * final long bitSize = HashBloomFilter.optimalBitSize(n, fpp);
+	 * try (MappedBitMap bitMap = new MappedBitMap(file, bitSize, HashBloomFilter.optimalHashNum(n, bitSize))) {
+	 *     ConcurrentBloomFilter filter = BloomFilterUtil.createMapped(bitMap);
+	 *     ...
+	 * }
+	 * </pre>
+	 *
+	 * @param bitMap 内存映射的{@link MappedBitMap}，由调用者负责关闭
+	 * @return ConcurrentBloomFilter
+	 * @since 5.8.10
+	 */
+	public static ConcurrentBloomFilter createMapped(MappedBitMap bitMap) {
+		return new ConcurrentBloomFilter(bitMap, bitMap.bitSize(), bitMap.hashNum());
+	}
 }
@@ -0,0 +1,187 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.bloomfilter.bitMap.BitMap;
+import cn.hutool.bloomfilter.bitMap.ConcurrentLongMap;
+import cn.hutool.core.lang.Assert;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * 线程安全的布隆过滤器，过滤器本身无锁，并发方式取决于位存储<br>
+ * 哈希方式同{@link HashBloomFilter}，位存储默认使用基于CAS的{@link ConcurrentLongMap}，多线程同时加入和查询时无需外部同步，也不会丢失位。<br>
+ * 使用自定义{@link BitMap}时，需保证其{@link BitMap#addIfAbsent(long)}和{@link BitMap#contains(long)}是线程安全的，
+ * 如{@link cn.hutool.bloomfilter.bitMap.MappedBitMap}写入时使用分段锁。<br>
+ * 序列化时只写出位数据，反序列化后位存储为{@link ConcurrentLongMap}，因此自定义的{@link BitMap}无需实现序列化。
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class ConcurrentBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 位存储，不直接序列化，序列化时按照long写出位数据
+	 */
+	private transient BitMap bitMap;
+	private final long bitSize;
+	private final int hashNum;
+
+	/**
+	 * 构造，根据预计元素个数和期望误判率计算位数组大小和哈希个数
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param fpp                期望误判率，取值范围(0, 1)
+	 */
+	public ConcurrentBloomFilter(long expectedInsertions, double fpp) {
+		this(HashBloomFilter.optimalBitSize(expectedInsertions, fpp),
+				HashBloomFilter.optimalHashNum(expectedInsertions, HashBloomFilter.optimalBitSize(expectedInsertions, fpp)));
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param bitSize 位数组大小，会向上取整为64的倍数
+	 * @param hashNum 哈希个数，即每个元素占用的位数
+	 */
+	public ConcurrentBloomFilter(long bitSize, int hashNum) {
+		this(createLongMap(bitSize), ((bitSize + 63) >>> 6) << 6, hashNum);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param bitMap  线程安全的{@link BitMap}
+	 * @param bitSize 位数组大小，不能超过bitMap的容量
+	 * @param hashNum 哈希个数，即每个元素占用的位数
+	 */
+	public ConcurrentBloomFilter(BitMap bitMap, long bitSize, int hashNum) {
+		Assert.isTrue(bitSize > 0, "Bit size must be positive!");
+		Assert.isTrue(hashNum > 0, "Hash number must be positive!");
+		this.bitMap = Assert.notNull(bitMap, "BitMap must be not null!");
+		this.bitSize = bitSize;
+		this.hashNum = hashNum;
+	}
+
+	@Override
+	public boolean add(String str) {
+		boolean changed = false;
+		for (long index : HashBloomFilter.indexes(str, hashNum, bitSize)) {
+			changed |= bitMap.addIfAbsent(index);
+		}
+		return changed;
+	}
+
+	@Override
+	public boolean contains(String str) {
+		for (long index : HashBloomFilter.indexes(str, hashNum, bitSize)) {
+			if (false == bitMap.contains(index)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 批量加入字符串，可在多个线程中同时调用
+	 *
+	 * @param strs 字符串列表
+	 * @return 新加入（之前判定不存在）的个数
+	 */
+	public int addAll(Iterable<String> strs) {
+		int count = 0;
+		for (String str : strs) {
+			if (add(str)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 是否可能包含全部字符串，此处存在误判
+	 *
+	 * @param strs 字符串列表
+	 * @return 是否全部存在，任意一个不存在返回{@code false}
+	 */
+	public boolean containsAll(Iterable<String> strs) {
+		for (String str : strs) {
+			if (false == contains(str)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 获取位数组大小
+	 *
+	 * @return 位数组大小
+	 */
+	public long getBitSize() {
+		return this.bitSize;
+	}
+
+	/**
+	 * 获取哈希个数
+	 *
+	 * @return 哈希个数
+	 */
+	public int getHashNum() {
+		return this.hashNum;
+	}
+
+	/**
+	 * 序列化，在默认字段之后按照long写出位数据，每个long存储64个位
+	 *
+	 * @param out {@link ObjectOutputStream}
+	 * @throws IOException IO异常
+	 */
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		long word;
+		for (long start = 0; start < bitSize; start += BitMap.MACHINE64) {
+			word = 0;
+			for (int i = 0; i < BitMap.MACHINE64 && start + i < bitSize; i++) {
+				if (bitMap.contains(start + i)) {
+					word |= 1L << i;
+				}
+			}
+			out.writeLong(word);
+		}
+	}
+
+	/**
+	 * 反序列化，位数据读入新的{@link ConcurrentLongMap}
+	 *
+	 * @param in {@link ObjectInputStream}
+	 * @throws IOException            IO异常
+	 * @throws ClassNotFoundException 类未找到
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		this.bitMap = createLongMap(bitSize);
+		long word;
+		for (long start = 0; start < bitSize; start += BitMap.MACHINE64) {
+			word = in.readLong();
+			while (0 != word) {
+				bitMap.add(start + Long.numberOfTrailingZeros(word));
+				word &= word - 1;
+			}
+		}
+	}
+
+	/**
+	 * 创建可存储指定位数的{@link ConcurrentLongMap}
+	 *
+	 * @param bitSize 位数
+	 * @return {@link ConcurrentLongMap}
+	 */
+	private static ConcurrentLongMap createLongMap(long bitSize) {
+		Assert.isTrue(bitSize > 0, "Bit size must be positive!");
+		final long wordNum = (bitSize + 63) >>> 6;
+		Assert.isTrue(wordNum <= Integer.MAX_VALUE, "Bit size {} is too large!", bitSize);
+		return new ConcurrentLongMap((int) wordNum);
+	}
+}
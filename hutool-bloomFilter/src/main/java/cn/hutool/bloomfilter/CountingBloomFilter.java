@@ -0,0 +1,265 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 计数布隆过滤器，支持移除元素<br>
+ * 哈希方式同{@link HashBloomFilter}，每个位置使用4位计数器代替单个位，每个long存储16个计数器。<br>
+ * 加入时对应计数器加1，移除时减1，计数器达到最大值15后不再变化（饱和），以避免移除时产生漏判。<br>
+ * 同一元素多次加入需要对应次数的移除；移除从未加入的元素会导致其它元素漏判，因此移除前应确认元素确实加入过。
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class CountingBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 序列化格式标识
+	 */
+	private static final byte MAGIC = 'C';
+	/**
+	 * 计数器最大值
+	 */
+	private static final int MAX_COUNT = 0xF;
+
+	private final long[] data;
+	private final long counterSize;
+	private final int hashNum;
+
+	/**
+	 * 构造，根据预计元素个数和期望误判率计算计数器个数和哈希个数
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param fpp                期望误判率，取值范围(0, 1)
+	 */
+	public CountingBloomFilter(long expectedInsertions, double fpp) {
+		this(HashBloomFilter.optimalBitSize(expectedInsertions, fpp),
+				HashBloomFilter.optimalHashNum(expectedInsertions, HashBloomFilter.optimalBitSize(expectedInsertions, fpp)));
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param counterSize 计数器个数，会向上取整为16的倍数，占用内存为counterSize / 2字节
+	 * @param hashNum     哈希个数，即每个元素占用的计数器数
+	 */
+	public CountingBloomFilter(long counterSize, int hashNum) {
+		Assert.isTrue(counterSize > 0, "Counter size must be positive!");
+		Assert.isTrue(hashNum > 0, "Hash number must be positive!");
+		final long wordNum = (counterSize + 15) >>> 4;
+		Assert.isTrue(wordNum <= Integer.MAX_VALUE, "Counter size {} is too large!", counterSize);
+		this.data = new long[(int) wordNum];
+		this.counterSize = wordNum << 4;
+		this.hashNum = hashNum;
+	}
+
+	/**
+	 * 构造，用于反序列化
+	 *
+	 * @param data    计数器数组
+	 * @param hashNum 哈希个数
+	 */
+	private CountingBloomFilter(long[] data, int hashNum) {
+		this.data = data;
+		this.counterSize = (long) data.length << 4;
+		this.hashNum = hashNum;
+	}
+
+	/**
+	 * 加入字符串，对应计数器加1，已存在的字符串再次加入时也会计数
+	 *
+	 * @param str 字符串
+	 * @return 加入前是否不存在
+	 */
+	@Override
+	public boolean add(String str) {
+		boolean absent = false;
+		for (long index : HashBloomFilter.indexes(str, hashNum, counterSize)) {
+			final int count = getCount(index);
+			if (0 == count) {
+				absent = true;
+			}
+			if (count < MAX_COUNT) {
+				setCount(index, count + 1);
+			}
+		}
+		return absent;
+	}
+
+	@Override
+	public boolean contains(String str) {
+		return contains(HashBloomFilter.indexes(str, hashNum, counterSize));
+	}
+
+	/**
+	 * 移除字符串，对应计数器减1，饱和的计数器不变
+	 *
+	 * @param str 字符串
+	 * @return 是否移除，字符串不存在时返回{@code false}
+	 */
+	public boolean remove(String str) {
+		final long[] indexes = HashBloomFilter.indexes(str, hashNum, counterSize);
+		if (false == contains(indexes)) {
+			return false;
+		}
+		for (long index : indexes) {
+			final int count = getCount(index);
+			if (count > 0 && count < MAX_COUNT) {
+				setCount(index, count - 1);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 获取计数器个数
+	 *
+	 * @return 计数器个数
+	 */
+	public long getCounterSize() {
+		return this.counterSize;
+	}
+
+	/**
+	 * 获取哈希个数
+	 *
+	 * @return 哈希个数
+	 */
+	public int getHashNum() {
+		return this.hashNum;
+	}
+
+	/**
+	 * 与另一个过滤器求并集，结果保存在当前过滤器中，对应计数器相加（饱和）<br>
+	 * 两个过滤器的计数器个数和哈希个数必须相同
+	 *
+	 * @param other 另一个过滤器
+	 * @return this
+	 */
+	public CountingBloomFilter union(CountingBloomFilter other) {
+		checkCompatible(other);
+		for (long i = 0; i < counterSize; i++) {
+			setCount(i, Math.min(MAX_COUNT, getCount(i) + other.getCount(i)));
+		}
+		return this;
+	}
+
+	/**
+	 * 与另一个过滤器求交集，结果保存在当前过滤器中，对应计数器取最小值<br>
+	 * 两个过滤器的计数器个数和哈希个数必须相同
+	 *
+	 * @param other 另一个过滤器
+	 * @return this
+	 */
+	public CountingBloomFilter intersect(CountingBloomFilter other) {
+		checkCompatible(other);
+		for (long i = 0; i < counterSize; i++) {
+			setCount(i, Math.min(getCount(i), other.getCount(i)));
+		}
+		return this;
+	}
+
+	/**
+	 * 将过滤器写出为紧凑的二进制格式，格式为：标识(1) + 哈希个数(4) + long个数(4) + 计数器数组，不关闭流
+	 *
+	 * @param out 输出流
+	 * @throws IORuntimeException IO异常
+	 */
+	public void write(OutputStream out) throws IORuntimeException {
+		final DataOutputStream dataOut = new DataOutputStream(out);
+		try {
+			dataOut.writeByte(MAGIC);
+			dataOut.writeInt(hashNum);
+			dataOut.writeInt(data.length);
+			for (long word : data) {
+				dataOut.writeLong(word);
+			}
+			dataOut.flush();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 从{@link #write(OutputStream)}写出的二进制数据中读取过滤器，不关闭流
+	 *
+	 * @param in 输入流
+	 * @return CountingBloomFilter
+	 * @throws IORuntimeException IO异常或数据格式错误
+	 */
+	public static CountingBloomFilter read(InputStream in) throws IORuntimeException {
+		final DataInputStream dataIn = new DataInputStream(in);
+		try {
+			if (MAGIC != dataIn.readByte()) {
+				throw new IORuntimeException("Invalid CountingBloomFilter data!");
+			}
+			final int hashNum = dataIn.readInt();
+			final int wordNum = dataIn.readInt();
+			if (hashNum <= 0 || wordNum <= 0) {
+				throw new IORuntimeException("Invalid CountingBloomFilter data!");
+			}
+			final long[] data = new long[wordNum];
+			for (int i = 0; i < data.length; i++) {
+				data[i] = dataIn.readLong();
+			}
+			return new CountingBloomFilter(data, hashNum);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 检查两个过滤器是否可以合并
+	 *
+	 * @param other 另一个过滤器
+	 */
+	private void checkCompatible(CountingBloomFilter other) {
+		Assert.isTrue(this.counterSize == other.counterSize && this.hashNum == other.hashNum,
+				"Filters with different counter size or hash number can not be merged!");
+	}
+
+	/**
+	 * 检查所有位置的计数器是否都不为0
+	 *
+	 * @param indexes 计数器位置
+	 * @return 是否都不为0
+	 */
+	private boolean contains(long[] indexes) {
+		for (long index : indexes) {
+			if (0 == getCount(index)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 获取计数器的值
+	 *
+	 * @param index 计数器位置
+	 * @return 计数
+	 */
+	private int getCount(long index) {
+		return (int) ((data[(int) (index >>> 4)] >>> ((index & 0xF) << 2)) & MAX_COUNT);
+	}
+
+	/**
+	 * 设置计数器的值
+	 *
+	 * @param index 计数器位置
+	 * @param count 计数，0~15
+	 */
+	private void setCount(long index, int count) {
+		final int wordIndex = (int) (index >>> 4);
+		final long shift = (index & 0xF) << 2;
+		data[wordIndex] = (data[wordIndex] & ~((long) MAX_COUNT << shift)) | ((long) count << shift);
+	}
+}
@@ -0,0 +1,295 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.hash.MurmurHash;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 基于双重哈希的布隆过滤器实现<br>
+ * 每个元素只计算一次Murmur3 128位哈希，将结果拆分为两个64位值h1、h2，
+ * 通过Kirsch-Mitzenmacher双重哈希 {@code h1 + i * h2} 推导出k个位置，所有位置映射到同一个连续的long数组中。<br>
+ * 位数组大小和哈希个数根据预计元素个数和期望误判率计算得出：
+ * <pre>
+ *     m = -n * ln(p) / (ln2)^2
+ *     k = m / n * ln2
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class HashBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 序列化格式标识
+	 */
+	private static final byte MAGIC = 'H';
+
+	private final long[] data;
+	private final long bitSize;
+	private final int hashNum;
+
+	/**
+	 * 构造，根据预计元素个数和期望误判率计算位数组大小和哈希个数
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param fpp                期望误判率，取值范围(0, 1)
+	 */
+	public HashBloomFilter(long expectedInsertions, double fpp) {
+		this(optimalBitSize(expectedInsertions, fpp),
+				optimalHashNum(expectedInsertions, optimalBitSize(expectedInsertions, fpp)));
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param bitSize 位数组大小，会向上取整为64的倍数
+	 * @param hashNum 哈希个数，即每个元素占用的位数
+	 */
+	public HashBloomFilter(long bitSize, int hashNum) {
+		Assert.isTrue(bitSize > 0, "Bit size must be positive!");
+		Assert.isTrue(hashNum > 0, "Hash number must be positive!");
+		final long wordNum = (bitSize + 63) >>> 6;
+		Assert.isTrue(wordNum <= Integer.MAX_VALUE, "Bit size {} is too large!", bitSize);
+		this.data = new long[(int) wordNum];
+		this.bitSize = wordNum << 6;
+		this.hashNum = hashNum;
+	}
+
+	/**
+	 * 构造，用于反序列化
+	 *
+	 * @param data    位数组
+	 * @param hashNum 哈希个数
+	 */
+	private HashBloomFilter(long[] data, int hashNum) {
+		this.data = data;
+		this.bitSize = (long) data.length << 6;
+		this.hashNum = hashNum;
+	}
+
+	@Override
+	public boolean add(String str) {
+		boolean changed = false;
+		for (long index : indexes(str, hashNum, bitSize)) {
+			changed |= setBit(index);
+		}
+		return changed;
+	}
+
+	@Override
+	public boolean contains(String str) {
+		for (long index : indexes(str, hashNum, bitSize)) {
+			if (false == getBit(index)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 获取位数组大小
+	 *
+	 * @return 位数组大小
+	 */
+	public long getBitSize() {
+		return this.bitSize;
+	}
+
+	/**
+	 * 获取哈希个数
+	 *
+	 * @return 哈希个数
+	 */
+	public int getHashNum() {
+		return this.hashNum;
+	}
+
+	/**
+	 * 获取被置为1的位数
+	 *
+	 * @return 被置为1的位数
+	 */
+	public long getBitCount() {
+		long count = 0;
+		for (long word : data) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	/**
+	 * 根据当前已置位的比例估算误判率，即 (bitCount / bitSize) ^ k
+	 *
+	 * @return 误判率
+	 */
+	public double getExpectedFpp() {
+		return Math.pow((double) getBitCount() / bitSize, hashNum);
+	}
+
+	/**
+	 * 与另一个过滤器求并集，结果保存在当前过滤器中，合并后包含两个过滤器中的全部元素<br>
+	 * 两个过滤器的位数组大小和哈希个数必须相同
+	 *
+	 * @param other 另一个过滤器
+	 * @return this
+	 */
+	public HashBloomFilter union(HashBloomFilter other) {
+		checkCompatible(other);
+		for (int i = 0; i < data.length; i++) {
+			data[i] |= other.data[i];
+		}
+		return this;
+	}
+
+	/**
+	 * 与另一个过滤器求交集，结果保存在当前过滤器中，同时存在于两个过滤器中的元素在结果中一定存在<br>
+	 * 两个过滤器的位数组大小和哈希个数必须相同
+	 *
+	 * @param other 另一个过滤器
+	 * @return this
+	 */
+	public HashBloomFilter intersect(HashBloomFilter other) {
+		checkCompatible(other);
+		for (int i = 0; i < data.length; i++) {
+			data[i] &= other.data[i];
+		}
+		return this;
+	}
+
+	/**
+	 * 将过滤器写出为紧凑的二进制格式，格式为：标识(1) + 哈希个数(4) + long个数(4) + 位数组，不关闭流
+	 *
+	 * @param out 输出流
+	 * @throws IORuntimeException IO异常
+	 */
+	public void write(OutputStream out) throws IORuntimeException {
+		final DataOutputStream dataOut = new DataOutputStream(out);
+		try {
+			dataOut.writeByte(MAGIC);
+			dataOut.writeInt(hashNum);
+			dataOut.writeInt(data.length);
+			for (long word : data) {
+				dataOut.writeLong(word);
+			}
+			dataOut.flush();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 从{@link #write(OutputStream)}写出的二进制数据中读取过滤器，不关闭流
+	 *
+	 * @param in 输入流
+	 * @return HashBloomFilter
+	 * @throws IORuntimeException IO异常或数据格式错误
+	 */
+	public static HashBloomFilter read(InputStream in) throws IORuntimeException {
+		final DataInputStream dataIn = new DataInputStream(in);
+		try {
+			if (MAGIC != dataIn.readByte()) {
+				throw new IORuntimeException("Invalid HashBloomFilter data!");
+			}
+			final int hashNum = dataIn.readInt();
+			final int wordNum = dataIn.readInt();
+			if (hashNum <= 0 || wordNum <= 0) {
+				throw new IORuntimeException("Invalid HashBloomFilter data!");
+			}
+			final long[] data = new long[wordNum];
+			for (int i = 0; i < data.length; i++) {
+				data[i] = dataIn.readLong();
+			}
+			return new HashBloomFilter(data, hashNum);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 计算最优的位数组大小：m = -n * ln(p) / (ln2)^2
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param fpp                期望误判率，取值范围(0, 1)
+	 * @return 位数组大小
+	 */
+	public static long optimalBitSize(long expectedInsertions, double fpp) {
+		Assert.isTrue(expectedInsertions > 0, "Expected insertions must be positive!");
+		Assert.isTrue(fpp > 0 && fpp < 1, "False positive probability must be in (0, 1)!");
+		return Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+	}
+
+	/**
+	 * 计算最优的哈希个数：k = m / n * ln2
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param bitSize            位数组大小
+	 * @return 哈希个数
+	 */
+	public static int optimalHashNum(long expectedInsertions, long bitSize) {
+		return Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+	}
+
+	/**
+	 * 通过双重哈希 {@code h1 + i * h2} 计算字符串对应的k个位置，供使用相同哈希方式的过滤器共用
+	 *
+	 * @param str     字符串
+	 * @param hashNum 哈希个数
+	 * @param bitSize 位数组大小
+	 * @return 位置数组，长度为哈希个数
+	 */
+	static long[] indexes(String str, int hashNum, long bitSize) {
+		final long[] hash = MurmurHash.hash128(str);
+		final long h2 = hash[1];
+		final long[] indexes = new long[hashNum];
+		long combined = hash[0];
+		for (int i = 0; i < hashNum; i++) {
+			indexes[i] = (combined & Long.MAX_VALUE) % bitSize;
+			combined += h2;
+		}
+		return indexes;
+	}
+
+	/**
+	 * 检查两个过滤器是否可以合并
+	 *
+	 * @param other 另一个过滤器
+	 */
+	private void checkCompatible(HashBloomFilter other) {
+		Assert.isTrue(this.bitSize == other.bitSize && this.hashNum == other.hashNum,
+				"Filters with different bit size or hash number can not be merged!");
+	}
+
+	/**
+	 * 将指定位置为1
+	 *
+	 * @param index 位置
+	 * @return 此位之前是否为0
+	 */
+	private boolean setBit(long index) {
+		final int wordIndex = (int) (index >>> 6);
+		final long mask = 1L << index;
+		final long word = data[wordIndex];
+		if ((word & mask) != 0) {
+			return false;
+		}
+		data[wordIndex] = word | mask;
+		return true;
+	}
+
+	/**
+	 * 检查指定位是否为1
+	 *
+	 * @param index 位置
+	 * @return 是否为1
+	 */
+	private boolean getBit(long index) {
+		return (data[(int) (index >>> 6)] & (1L << index)) != 0;
+	}
+}
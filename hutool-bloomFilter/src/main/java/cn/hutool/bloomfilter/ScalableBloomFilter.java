@@ -0,0 +1,284 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 可扩容的布隆过滤器（Scalable Bloom Filter）<br>
+ * 由多个{@link HashBloomFilter}子过滤器组成，当前子过滤器加入的元素达到其容量时，新建一个容量按growthFactor倍增长的子过滤器，
+ * 第i个子过滤器的误判率为 {@code fpp * (1 - r) * r^i}（r为收紧比例），使总误判率不超过fpp，不再受预计元素个数的限制。<br>
+ * 查询时依次检查所有子过滤器，加入时只写入最新的子过滤器。此类非线程安全。
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class ScalableBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 序列化格式标识
+	 */
+	private static final byte MAGIC = 'S';
+	/**
+	 * 默认容量增长倍数
+	 */
+	public static final int DEFAULT_GROWTH_FACTOR = 2;
+	/**
+	 * 默认误判率收紧比例
+	 */
+	public static final double DEFAULT_TIGHTENING_RATIO = 0.5;
+
+	private final long initialCapacity;
+	private final double fpp;
+	private final int growthFactor;
+	private final double tighteningRatio;
+	private final List<SubFilter> filters = new ArrayList<>();
+
+	/**
+	 * 构造，容量按2倍增长，误判率收紧比例为0.5
+	 *
+	 * @param initialCapacity 第一个子过滤器的容量
+	 * @param fpp             期望的总误判率，取值范围(0, 1)
+	 */
+	public ScalableBloomFilter(long initialCapacity, double fpp) {
+		this(initialCapacity, fpp, DEFAULT_GROWTH_FACTOR, DEFAULT_TIGHTENING_RATIO);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param initialCapacity 第一个子过滤器的容量
+	 * @param fpp             期望的总误判率，取值范围(0, 1)
+	 * @param growthFactor    子过滤器的容量增长倍数，不小于1
+	 * @param tighteningRatio 子过滤器的误判率收紧比例，取值范围(0, 1)
+	 */
+	public ScalableBloomFilter(long initialCapacity, double fpp, int growthFactor, double tighteningRatio) {
+		Assert.isTrue(initialCapacity > 0, "Initial capacity must be positive!");
+		Assert.isTrue(fpp > 0 && fpp < 1, "False positive probability must be in (0, 1)!");
+		Assert.isTrue(growthFactor >= 1, "Growth factor must be at least 1!");
+		Assert.isTrue(tighteningRatio > 0 && tighteningRatio < 1, "Tightening ratio must be in (0, 1)!");
+		this.initialCapacity = initialCapacity;
+		this.fpp = fpp;
+		this.growthFactor = growthFactor;
+		this.tighteningRatio = tighteningRatio;
+	}
+
+	@Override
+	public boolean add(String str) {
+		if (contains(str)) {
+			return false;
+		}
+		SubFilter current = filters.isEmpty() ? null : filters.get(filters.size() - 1);
+		if (null == current || current.count >= current.capacity) {
+			current = createSubFilter(filters.size());
+			filters.add(current);
+		}
+		current.filter.add(str);
+		current.count++;
+		return true;
+	}
+
+	@Override
+	public boolean contains(String str) {
+		// 新的子过滤器容量更大，元素更多，优先检查
+		for (int i = filters.size() - 1; i >= 0; i--) {
+			if (filters.get(i).filter.contains(str)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 获取子过滤器个数
+	 *
+	 * @return 子过滤器个数
+	 */
+	public int getFilterCount() {
+		return filters.size();
+	}
+
+	/**
+	 * 获取已加入的元素个数（不含判定为已存在的元素）
+	 *
+	 * @return 元素个数
+	 */
+	public long getCount() {
+		long count = 0;
+		for (SubFilter filter : filters) {
+			count += filter.count;
+		}
+		return count;
+	}
+
+	/**
+	 * 获取当前的总误判率上限，即 1 - ∏(1 - fpp_i)
+	 *
+	 * @return 误判率
+	 */
+	public double getExpectedFpp() {
+		double notFalse = 1;
+		for (SubFilter filter : filters) {
+			notFalse *= (1 - filter.filter.getExpectedFpp());
+		}
+		return 1 - notFalse;
+	}
+
+	/**
+	 * 与另一个过滤器求并集，结果保存在当前过滤器中<br>
+	 * 两个过滤器的初始容量、误判率、增长倍数和收紧比例必须相同，此时对应的子过滤器大小相同，按位合并；另一个过滤器多出的子过滤器直接复制
+	 *
+	 * @param other 另一个过滤器
+	 * @return this
+	 */
+	public ScalableBloomFilter union(ScalableBloomFilter other) {
+		checkCompatible(other);
+		final List<SubFilter> otherFilters = new ArrayList<>(other.filters);
+		for (int i = 0; i < otherFilters.size(); i++) {
+			final SubFilter otherFilter = otherFilters.get(i);
+			if (i >= filters.size()) {
+				filters.add(createSubFilter(i));
+			}
+			final SubFilter filter = filters.get(i);
+			filter.filter.union(otherFilter.filter);
+			filter.count = Math.min(filter.capacity, filter.count + otherFilter.count);
+		}
+		return this;
+	}
+
+	/**
+	 * 与另一个过滤器求交集，结果保存在当前过滤器中<br>
+	 * 同一元素在两个过滤器中可能位于不同层级的子过滤器中，按位求交集会导致漏判，
+	 * 因此只支持两个过滤器均只有一个子过滤器（均未扩容）的情况，两个过滤器的初始容量、误判率、增长倍数和收紧比例必须相同。
+	 *
+	 * @param other 另一个过滤器
+	 * @return this
+	 * @throws IllegalArgumentException 过滤器参数不同或已扩容
+	 */
+	public ScalableBloomFilter intersect(ScalableBloomFilter other) throws IllegalArgumentException {
+		checkCompatible(other);
+		Assert.isTrue(filters.size() <= 1 && other.filters.size() <= 1,
+				"Only filters with at most one sub filter can be intersected!");
+		if (other.filters.isEmpty()) {
+			filters.clear();
+		} else if (false == filters.isEmpty()) {
+			final SubFilter filter = filters.get(0);
+			final SubFilter otherFilter = other.filters.get(0);
+			filter.filter.intersect(otherFilter.filter);
+			filter.count = Math.min(filter.count, otherFilter.count);
+		}
+		return this;
+	}
+
+	/**
+	 * 将过滤器写出为紧凑的二进制格式，不关闭流<br>
+	 * 格式为：标识(1) + 初始容量(8) + 误判率(8) + 增长倍数(4) + 收紧比例(8) + 子过滤器个数(4) + [元素个数(8) + 子过滤器]...
+	 *
+	 * @param out 输出流
+	 * @throws IORuntimeException IO异常
+	 */
+	public void write(OutputStream out) throws IORuntimeException {
+		final DataOutputStream dataOut = new DataOutputStream(out);
+		try {
+			dataOut.writeByte(MAGIC);
+			dataOut.writeLong(initialCapacity);
+			dataOut.writeDouble(fpp);
+			dataOut.writeInt(growthFactor);
+			dataOut.writeDouble(tighteningRatio);
+			dataOut.writeInt(filters.size());
+			for (SubFilter filter : filters) {
+				dataOut.writeLong(filter.count);
+				filter.filter.write(dataOut);
+			}
+			dataOut.flush();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 从{@link #write(OutputStream)}写出的二进制数据中读取过滤器，不关闭流
+	 *
+	 * @param in 输入流
+	 * @return ScalableBloomFilter
+	 * @throws IORuntimeException IO异常或数据格式错误
+	 */
+	public static ScalableBloomFilter read(InputStream in) throws IORuntimeException {
+		final DataInputStream dataIn = new DataInputStream(in);
+		try {
+			if (MAGIC != dataIn.readByte()) {
+				throw new IORuntimeException("Invalid ScalableBloomFilter data!");
+			}
+			final ScalableBloomFilter result = new ScalableBloomFilter(
+					dataIn.readLong(), dataIn.readDouble(), dataIn.readInt(), dataIn.readDouble());
+			final int size = dataIn.readInt();
+			for (int i = 0; i < size; i++) {
+				final long count = dataIn.readLong();
+				final HashBloomFilter filter = HashBloomFilter.read(dataIn);
+				result.filters.add(new SubFilter(filter, result.capacityOf(i), count));
+			}
+			return result;
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 检查两个过滤器是否可以合并
+	 *
+	 * @param other 另一个过滤器
+	 */
+	private void checkCompatible(ScalableBloomFilter other) {
+		Assert.isTrue(this.initialCapacity == other.initialCapacity && this.fpp == other.fpp
+						&& this.growthFactor == other.growthFactor && this.tighteningRatio == other.tighteningRatio,
+				"Filters with different parameters can not be merged!");
+	}
+
+	/**
+	 * 创建第index个子过滤器
+	 *
+	 * @param index 子过滤器序号，从0开始
+	 * @return 子过滤器
+	 */
+	private SubFilter createSubFilter(int index) {
+		final long capacity = capacityOf(index);
+		final double subFpp = fpp * (1 - tighteningRatio) * Math.pow(tighteningRatio, index);
+		return new SubFilter(new HashBloomFilter(capacity, Math.max(subFpp, Double.MIN_NORMAL)), capacity, 0);
+	}
+
+	/**
+	 * 计算第index个子过滤器的容量：initialCapacity * growthFactor^index
+	 *
+	 * @param index 子过滤器序号，从0开始
+	 * @return 容量
+	 */
+	private long capacityOf(int index) {
+		return (long) Math.min(Long.MAX_VALUE, initialCapacity * Math.pow(growthFactor, index));
+	}
+
+	/**
+	 * 子过滤器及其容量和已加入元素个数
+	 */
+	private static class SubFilter implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final HashBloomFilter filter;
+		private final long capacity;
+		private long count;
+
+		SubFilter(HashBloomFilter filter, long capacity, long count) {
+			this.filter = filter;
+			this.capacity = capacity;
+			this.count = count;
+		}
+	}
+}
@@ -18,6 +18,21 @@ public interface BitMap{
 	 */
 	void add(long i);
 
+	/**
+	 * 值不存在时加入值，线程安全的实现中检查和加入为原子操作
+	 *
+	 * @param i 值
+	 * @return 是否加入成功，值已存在返回{@code false}
+	 * @since 5.8.10
+	 */
+	default boolean addIfAbsent(long i) {
+		if (contains(i)) {
+			return false;
+		}
+		add(i);
+		return true;
+	}
+
 	/**
 	 * 检查是否包含值
 	 *
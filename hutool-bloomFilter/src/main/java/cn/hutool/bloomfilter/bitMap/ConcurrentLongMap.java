@@ -0,0 +1,73 @@
+package cn.hutool.bloomfilter.bitMap;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 线程安全的BitMap，使用{@link AtomicLongArray}存储，通过CAS设置和清除位，多线程并发加入时不会丢失位，且无需加锁
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class ConcurrentLongMap implements BitMap, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final AtomicLongArray longs;
+
+	/**
+	 * 构造
+	 *
+	 * @param size 容量，即long的个数，可存储size * 64个位
+	 */
+	public ConcurrentLongMap(int size) {
+		longs = new AtomicLongArray(size);
+	}
+
+	@Override
+	public void add(long i) {
+		addIfAbsent(i);
+	}
+
+	@Override
+	public boolean addIfAbsent(long i) {
+		final int r = (int) (i / BitMap.MACHINE64);
+		final long mask = 1L << (i & (BitMap.MACHINE64 - 1));
+		long old;
+		do {
+			old = longs.get(r);
+			if ((old & mask) != 0) {
+				return false;
+			}
+		} while (false == longs.compareAndSet(r, old, old | mask));
+		return true;
+	}
+
+	@Override
+	public boolean contains(long i) {
+		final int r = (int) (i / BitMap.MACHINE64);
+		final long c = i & (BitMap.MACHINE64 - 1);
+		return ((longs.get(r) >>> c) & 1) == 1;
+	}
+
+	@Override
+	public void remove(long i) {
+		final int r = (int) (i / BitMap.MACHINE64);
+		final long mask = 1L << (i & (BitMap.MACHINE64 - 1));
+		long old;
+		do {
+			old = longs.get(r);
+			if ((old & mask) == 0) {
+				return;
+			}
+		} while (false == longs.compareAndSet(r, old, old & ~mask));
+	}
+
+	/**
+	 * 获取可存储的位数
+	 *
+	 * @return 位数
+	 */
+	public long bitSize() {
+		return (long) longs.length() * BitMap.MACHINE64;
+	}
+}
@@ -0,0 +1,220 @@
+package cn.hutool.bloomfilter.bitMap;
+
+import cn.hutool.core.io.BufferUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * 基于内存映射文件的BitMap，位数不受{@link Integer#MAX_VALUE}限制，适用于数十亿元素的布隆过滤器<br>
+ * 文件按照1GB分段映射，映射本身不读取数据，页面在首次访问时由操作系统按需加载，因此打开已有文件无需重建，可立即使用。<br>
+ * 文件头记录位数和哈希个数，重新打开时校验，避免使用不同参数打开导致过滤器数据错乱：
+ * <pre>
+ * 文件头：魔数"HTBM"(4) + 位数(8) + 哈希个数(4)
+ * 数据：  位数/8 字节
+ * </pre>
+ * 修改直接写入映射内存，由操作系统异步刷盘，调用{@link #flush()}可强制写入磁盘。<br>
+ * 此类线程安全，写操作按照所在的long分段加锁，不同分段的写入互不阻塞，读操作无锁；关闭后不能再使用。
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class MappedBitMap implements BitMap, Closeable {
+
+	/**
+	 * 文件头魔数"HTBM"
+	 */
+	private static final int MAGIC = 0x4854424D;
+	/**
+	 * 文件头字节数，保证数据按照long对齐
+	 */
+	private static final int HEADER_SIZE = 16;
+	/**
+	 * 每个映射分段的字节数的位移，即1GB
+	 */
+	private static final int SEGMENT_SHIFT = 30;
+	private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+	/**
+	 * 写锁的分段数，须为2的幂
+	 */
+	private static final int LOCK_STRIPES = 256;
+
+	private final RandomAccessFile file;
+	private final MappedByteBuffer[] segments;
+	private final Object[] locks;
+	private final long bitSize;
+	private final int hashNum;
+
+	/**
+	 * 构造，文件不存在或为空时创建，已存在时校验文件头后直接打开并保留原有数据
+	 *
+	 * @param file    映射文件
+	 * @param bitSize 位数，会向上取整为64的倍数
+	 * @param hashNum 哈希个数，记录在文件头中，重新打开时须一致
+	 * @throws IORuntimeException       IO异常或文件格式错误
+	 * @throws IllegalArgumentException 已有文件的位数或哈希个数与参数不一致
+	 */
+	public MappedBitMap(File file, long bitSize, int hashNum) throws IORuntimeException {
+		Assert.notNull(file, "File must be not null!");
+		Assert.isTrue(bitSize > 0, "Bit size must be positive!");
+		Assert.isTrue(hashNum > 0, "Hash num must be positive!");
+		final long byteSize = ((bitSize + 63) >>> 6) << 3;
+		this.bitSize = byteSize << 3;
+		this.hashNum = hashNum;
+
+		final int segmentCount = (int) ((byteSize + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+		this.segments = new MappedByteBuffer[segmentCount];
+		RandomAccessFile raf = null;
+		try {
+			raf = new RandomAccessFile(file, "rw");
+			if (0 == raf.length()) {
+				raf.writeInt(MAGIC);
+				raf.writeLong(this.bitSize);
+				raf.writeInt(hashNum);
+			} else {
+				checkHeader(raf);
+			}
+			if (raf.length() < HEADER_SIZE + byteSize) {
+				// 扩展的部分在多数文件系统上为稀疏文件，不实际占用磁盘
+				raf.setLength(HEADER_SIZE + byteSize);
+			}
+			final FileChannel channel = raf.getChannel();
+			for (int i = 0; i < segmentCount; i++) {
+				final long position = (long) i << SEGMENT_SHIFT;
+				segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + position, Math.min(SEGMENT_MASK + 1, byteSize - position));
+			}
+		} catch (IOException e) {
+			IoUtil.close(raf);
+			throw new IORuntimeException(e);
+		} catch (RuntimeException e) {
+			IoUtil.close(raf);
+			throw e;
+		}
+		this.file = raf;
+
+		this.locks = new Object[LOCK_STRIPES];
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			this.locks[i] = new Object();
+		}
+	}
+
+	@Override
+	public void add(long i) {
+		addIfAbsent(i);
+	}
+
+	@Override
+	public boolean addIfAbsent(long i) {
+		final long bytePosition = (i >>> 6) << 3;
+		final MappedByteBuffer segment = segments[(int) (bytePosition >>> SEGMENT_SHIFT)];
+		final int index = (int) (bytePosition & SEGMENT_MASK);
+		final long mask = 1L << i;
+		synchronized (lockFor(i)) {
+			final long word = segment.getLong(index);
+			if ((word & mask) != 0) {
+				return false;
+			}
+			segment.putLong(index, word | mask);
+		}
+		return true;
+	}
+
+	@Override
+	public boolean contains(long i) {
+		final long bytePosition = (i >>> 6) << 3;
+		return (segments[(int) (bytePosition >>> SEGMENT_SHIFT)].getLong((int) (bytePosition & SEGMENT_MASK)) & (1L << i)) != 0;
+	}
+
+	@Override
+	public void remove(long i) {
+		final long bytePosition = (i >>> 6) << 3;
+		final MappedByteBuffer segment = segments[(int) (bytePosition >>> SEGMENT_SHIFT)];
+		final int index = (int) (bytePosition & SEGMENT_MASK);
+		synchronized (lockFor(i)) {
+			segment.putLong(index, segment.getLong(index) & ~(1L << i));
+		}
+	}
+
+	/**
+	 * 获取可存储的位数
+	 *
+	 * @return 位数
+	 */
+	public long bitSize() {
+		return this.bitSize;
+	}
+
+	/**
+	 * 获取文件头中记录的哈希个数
+	 *
+	 * @return 哈希个数
+	 */
+	public int hashNum() {
+		return this.hashNum;
+	}
+
+	/**
+	 * 将修改强制写入磁盘
+	 */
+	public void flush() {
+		for (MappedByteBuffer segment : segments) {
+			segment.force();
+		}
+	}
+
+	/**
+	 * 写入磁盘，解除映射并关闭文件，解除映射后文件可立即删除或重新打开
+	 */
+	@Override
+	public void close() {
+		if (null == segments[0]) {
+			return;
+		}
+		try {
+			flush();
+		} finally {
+			for (int i = 0; i < segments.length; i++) {
+				BufferUtil.free(segments[i]);
+				segments[i] = null;
+			}
+			IoUtil.close(this.file);
+		}
+	}
+
+	/**
+	 * 获取位所在long的写锁，相邻的long使用不同的锁
+	 *
+	 * @param i 位
+	 * @return 锁
+	 */
+	private Object lockFor(long i) {
+		return locks[(int) ((i >>> 6) & (LOCK_STRIPES - 1))];
+	}
+
+	/**
+	 * 校验已有文件的文件头
+	 *
+	 * @param raf 文件
+	 * @throws IOException IO异常
+	 */
+	private void checkHeader(RandomAccessFile raf) throws IOException {
+		if (raf.length() < HEADER_SIZE || MAGIC != raf.readInt()) {
+			throw new IORuntimeException("Invalid mapped bit map file!");
+		}
+		final long fileBitSize = raf.readLong();
+		final int fileHashNum = raf.readInt();
+		if (fileBitSize != this.bitSize || fileHashNum != this.hashNum) {
+			throw new IllegalArgumentException(StrUtil.format(
+					"Mapped bit map file is created with bitSize {} and hashNum {}, but {} and {} given!",
+					fileBitSize, fileHashNum, this.bitSize, this.hashNum));
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.bloomfilter.bitMap.BitMap;
+import cn.hutool.bloomfilter.bitMap.ConcurrentLongMap;
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.ObjectUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentBloomFilterTest {
+
+	@Test
+	public void concurrentLongMapTest() throws InterruptedException {
+		// 多个线程同时设置同一组long中的不同位，不能丢失
+		final ConcurrentLongMap map = new ConcurrentLongMap(4);
+		final int threadCount = 8;
+		final CountDownLatch latch = new CountDownLatch(threadCount);
+		for (int t = 0; t < threadCount; t++) {
+			final int offset = t;
+			ThreadUtil.execute(() -> {
+				for (long i = offset; i < map.bitSize(); i += threadCount) {
+					map.add(i);
+				}
+				latch.countDown();
+			});
+		}
+		latch.await();
+		for (long i = 0; i < map.bitSize(); i++) {
+			Assert.assertTrue(map.contains(i));
+		}
+
+		Assert.assertFalse(map.addIfAbsent(10));
+		map.remove(10);
+		Assert.assertFalse(map.contains(10));
+		Assert.assertTrue(map.addIfAbsent(10));
+	}
+
+	@Test
+	public void addAllTest() throws InterruptedException {
+		final ConcurrentBloomFilter filter = BloomFilterUtil.createConcurrent(100000, 0.01);
+		final int threadCount = 4;
+		final int batchSize = 10000;
+		final AtomicInteger added = new AtomicInteger();
+		final CountDownLatch latch = new CountDownLatch(threadCount);
+		for (int t = 0; t < threadCount; t++) {
+			final List<String> batch = new ArrayList<>(batchSize);
+			for (int i = 0; i < batchSize; i++) {
+				batch.add("key" + (t * batchSize + i));
+			}
+			ThreadUtil.execute(() -> {
+				added.addAndGet(filter.addAll(batch));
+				latch.countDown();
+			});
+		}
+		latch.await();
+
+		// 存在误判时部分元素可能被认为已存在
+		Assert.assertTrue(added.get() > threadCount * batchSize * 0.99);
+		for (int i = 0; i < threadCount * batchSize; i++) {
+			Assert.assertTrue(filter.contains("key" + i));
+		}
+		Assert.assertTrue(filter.containsAll(ListUtil.of("key0", "key1", "key39999")));
+		Assert.assertFalse(filter.containsAll(ListUtil.of("key0", "notExist")));
+	}
+
+	@Test
+	public void serializeTest() {
+		final ConcurrentBloomFilter filter = BloomFilterUtil.createConcurrent(1000, 0.01);
+		for (int i = 0; i < 1000; i++) {
+			filter.add("key" + i);
+		}
+		final ConcurrentBloomFilter filter2 = ObjectUtil.cloneByStream(filter);
+		Assert.assertEquals(filter.getBitSize(), filter2.getBitSize());
+		Assert.assertEquals(filter.getHashNum(), filter2.getHashNum());
+		for (int i = 0; i < 1000; i++) {
+			Assert.assertTrue(filter2.contains("key" + i));
+		}
+		Assert.assertFalse(filter2.contains("notExist"));
+	}
+
+	@Test
+	public void serializeCustomBitMapTest() {
+		// 不可序列化的自定义BitMap，位数不是64的倍数
+		final ConcurrentLongMap longMap = new ConcurrentLongMap(2);
+		final BitMap bitMap = new BitMap() {
+			@Override
+			public void add(long i) {
+				longMap.add(i);
+			}
+
+			@Override
+			public boolean contains(long i) {
+				return longMap.contains(i);
+			}
+
+			@Override
+			public void remove(long i) {
+				longMap.remove(i);
+			}
+		};
+		final ConcurrentBloomFilter filter = new ConcurrentBloomFilter(bitMap, 100, 3);
+		filter.add("a");
+		filter.add("b");
+
+		final ConcurrentBloomFilter filter2 = ObjectUtil.cloneByStream(filter);
+		Assert.assertEquals(100, filter2.getBitSize());
+		Assert.assertTrue(filter2.contains("a"));
+		Assert.assertTrue(filter2.contains("b"));
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(filter.contains("key" + i), filter2.contains("key" + i));
+		}
+	}
+}
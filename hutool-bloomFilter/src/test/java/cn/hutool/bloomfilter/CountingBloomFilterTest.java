@@ -0,0 +1,83 @@
+package cn.hutool.bloomfilter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+public class CountingBloomFilterTest {
+
+	@Test
+	public void removeTest() {
+		final CountingBloomFilter filter = BloomFilterUtil.createCounting(1000, 0.01);
+		Assert.assertTrue(filter.add("abc"));
+		Assert.assertFalse(filter.add("abc"));
+		Assert.assertTrue(filter.add("123"));
+
+		// 加入两次需要移除两次
+		Assert.assertTrue(filter.remove("abc"));
+		Assert.assertTrue(filter.contains("abc"));
+		Assert.assertTrue(filter.remove("abc"));
+		Assert.assertFalse(filter.contains("abc"));
+		Assert.assertFalse(filter.remove("abc"));
+
+		Assert.assertTrue(filter.contains("123"));
+	}
+
+	@Test
+	public void saturateTest() {
+		final CountingBloomFilter filter = new CountingBloomFilter(64, 3);
+		for (int i = 0; i < 20; i++) {
+			filter.add("abc");
+		}
+		for (int i = 0; i < 20; i++) {
+			filter.remove("abc");
+		}
+		// 计数器饱和后不再减少，不会漏判
+		Assert.assertTrue(filter.contains("abc"));
+	}
+
+	@Test
+	public void mergeAndWriteTest() {
+		final CountingBloomFilter filter1 = new CountingBloomFilter(1000, 0.01);
+		final CountingBloomFilter filter2 = new CountingBloomFilter(1000, 0.01);
+		filter1.add("a");
+		filter1.add("b");
+		filter2.add("b");
+		filter2.add("c");
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		filter2.write(out);
+		final CountingBloomFilter read = CountingBloomFilter.read(new ByteArrayInputStream(out.toByteArray()));
+		Assert.assertEquals(filter2.getCounterSize(), read.getCounterSize());
+		Assert.assertEquals(filter2.getHashNum(), read.getHashNum());
+		Assert.assertTrue(read.contains("c"));
+
+		final CountingBloomFilter union = new CountingBloomFilter(1000, 0.01).union(filter1).union(read);
+		Assert.assertTrue(union.contains("a"));
+		Assert.assertTrue(union.contains("c"));
+		// 合并后b的计数为2
+		union.remove("b");
+		Assert.assertTrue(union.contains("b"));
+
+		filter1.intersect(read);
+		Assert.assertTrue(filter1.contains("b"));
+		Assert.assertFalse(filter1.contains("a"));
+		Assert.assertFalse(filter1.contains("c"));
+	}
+
+	@Test
+	public void sameIndexesAsHashBloomFilterTest() {
+		// 计数器个数与位数相同时，两种过滤器的判定结果一致
+		final CountingBloomFilter counting = new CountingBloomFilter(1024, 3);
+		final HashBloomFilter hash = new HashBloomFilter(1024, 3);
+		for (int i = 0; i < 100; i++) {
+			counting.add("value" + i);
+			hash.add("value" + i);
+		}
+		for (int i = 0; i < 10000; i++) {
+			Assert.assertEquals(hash.contains("test" + i), counting.contains("test" + i));
+		}
+	}
+}
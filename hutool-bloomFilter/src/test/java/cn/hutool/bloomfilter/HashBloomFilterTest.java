@@ -0,0 +1,80 @@
+package cn.hutool.bloomfilter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+public class HashBloomFilterTest {
+
+	@Test
+	public void filterTest() {
+		final HashBloomFilter filter = BloomFilterUtil.createHash(1000, 0.01);
+		Assert.assertTrue(filter.add("123"));
+		Assert.assertTrue(filter.add("abc"));
+		Assert.assertFalse(filter.add("abc"));
+
+		Assert.assertTrue(filter.contains("123"));
+		Assert.assertTrue(filter.contains("abc"));
+		Assert.assertFalse(filter.contains("ddd"));
+	}
+
+	@Test
+	public void optimalTest() {
+		// n = 1000000, p = 0.01时，m约为9585059，k为7
+		final long bitSize = HashBloomFilter.optimalBitSize(1000000, 0.01);
+		Assert.assertEquals(9585059, bitSize);
+		Assert.assertEquals(7, HashBloomFilter.optimalHashNum(1000000, bitSize));
+
+		final HashBloomFilter filter = new HashBloomFilter(1000000, 0.01);
+		Assert.assertEquals(0, filter.getBitSize() % 64);
+		Assert.assertEquals(7, filter.getHashNum());
+	}
+
+	@Test
+	public void fppTest() {
+		final int n = 10000;
+		final HashBloomFilter filter = new HashBloomFilter(n, 0.01);
+		for (int i = 0; i < n; i++) {
+			filter.add("key" + i);
+		}
+		for (int i = 0; i < n; i++) {
+			Assert.assertTrue(filter.contains("key" + i));
+		}
+
+		int falsePositive = 0;
+		for (int i = n; i < n * 11; i++) {
+			if (filter.contains("key" + i)) {
+				falsePositive++;
+			}
+		}
+		// 实际误判率应接近期望的1%
+		Assert.assertTrue(falsePositive < n * 10 * 0.02);
+		Assert.assertTrue(filter.getExpectedFpp() < 0.02);
+	}
+
+	@Test
+	public void mergeAndWriteTest() {
+		final HashBloomFilter filter1 = new HashBloomFilter(1000, 0.01);
+		final HashBloomFilter filter2 = new HashBloomFilter(1000, 0.01);
+		filter1.add("a");
+		filter1.add("b");
+		filter2.add("b");
+		filter2.add("c");
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		filter2.write(out);
+		final HashBloomFilter read = HashBloomFilter.read(new ByteArrayInputStream(out.toByteArray()));
+		Assert.assertEquals(filter2.getBitCount(), read.getBitCount());
+
+		final HashBloomFilter union = new HashBloomFilter(1000, 0.01).union(filter1).union(read);
+		Assert.assertTrue(union.contains("a"));
+		Assert.assertTrue(union.contains("b"));
+		Assert.assertTrue(union.contains("c"));
+
+		filter1.intersect(read);
+		Assert.assertTrue(filter1.contains("b"));
+		Assert.assertFalse(filter1.contains("a"));
+	}
+}
@@ -0,0 +1,119 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.bloomfilter.bitMap.MappedBitMap;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.thread.ThreadUtil;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+
+public class MappedBitMapTest {
+
+	@Test
+	public void reopenTest() {
+		final File file = FileUtil.createTempFile("bloom", ".bitmap", true);
+		try {
+			final long bitSize = HashBloomFilter.optimalBitSize(10000, 0.01);
+			final int hashNum = HashBloomFilter.optimalHashNum(10000, bitSize);
+			try (MappedBitMap bitMap = new MappedBitMap(file, bitSize, hashNum)) {
+				final ConcurrentBloomFilter filter = BloomFilterUtil.createMapped(bitMap);
+				for (int i = 0; i < 10000; i++) {
+					filter.add("key" + i);
+				}
+			}
+
+			// 重新打开文件后无需重建
+			try (MappedBitMap bitMap = new MappedBitMap(file, bitSize, hashNum)) {
+				final ConcurrentBloomFilter filter = BloomFilterUtil.createMapped(bitMap);
+				for (int i = 0; i < 10000; i++) {
+					Assert.assertTrue(filter.contains("key" + i));
+				}
+				Assert.assertFalse(filter.contains("notExist"));
+			}
+
+			// 关闭后解除映射，文件可以删除
+			Assert.assertTrue(file.delete());
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void headerTest() {
+		final File file = FileUtil.createTempFile("bloom", ".bitmap", true);
+		try {
+			new MappedBitMap(file, 1000, 3).close();
+			// 已有文件的参数不一致时不能打开
+			try {
+				new MappedBitMap(file, 2000, 3).close();
+				Assert.fail("Bit size mismatch accepted");
+			} catch (IllegalArgumentException e) {
+				Assert.assertTrue(e.getMessage().contains("1024"));
+			}
+			try {
+				new MappedBitMap(file, 1000, 4).close();
+				Assert.fail("Hash num mismatch accepted");
+			} catch (IllegalArgumentException e) {
+				// 哈希个数不一致
+			}
+			try (MappedBitMap bitMap = new MappedBitMap(file, 1000, 3)) {
+				Assert.assertEquals(3, bitMap.hashNum());
+				Assert.assertEquals(1024, bitMap.bitSize());
+			}
+
+			FileUtil.writeUtf8String("not a bit map file", file);
+			try {
+				new MappedBitMap(file, 1000, 3).close();
+				Assert.fail("Invalid file accepted");
+			} catch (IORuntimeException e) {
+				// 魔数错误
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void concurrentAddTest() throws InterruptedException {
+		final File file = FileUtil.createTempFile("bloom", ".bitmap", true);
+		try (MappedBitMap bitMap = new MappedBitMap(file, 64 * 1024, 1)) {
+			// 多个线程同时设置同一组long中的不同位，不能丢失
+			final int threadCount = 8;
+			final CountDownLatch latch = new CountDownLatch(threadCount);
+			for (int t = 0; t < threadCount; t++) {
+				final int offset = t;
+				ThreadUtil.execute(() -> {
+					for (long i = offset; i < bitMap.bitSize(); i += threadCount) {
+						bitMap.add(i);
+					}
+					latch.countDown();
+				});
+			}
+			latch.await();
+			for (long i = 0; i < bitMap.bitSize(); i++) {
+				Assert.assertTrue(bitMap.contains(i));
+			}
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	@Ignore
+	public void largeBitMapTest() {
+		// 超过Integer.MAX_VALUE位，文件约1.25GB，为稀疏文件
+		final File file = FileUtil.file("d:/test/large.bitmap");
+		final long bitSize = 10L * Integer.MAX_VALUE >>> 1;
+		try (MappedBitMap bitMap = new MappedBitMap(file, bitSize, 3)) {
+			final long last = bitMap.bitSize() - 1;
+			Assert.assertTrue(bitMap.addIfAbsent(last));
+			Assert.assertTrue(bitMap.contains(last));
+			bitMap.remove(last);
+			Assert.assertFalse(bitMap.contains(last));
+		}
+	}
+}
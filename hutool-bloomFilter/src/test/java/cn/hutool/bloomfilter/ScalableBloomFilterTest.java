@@ -0,0 +1,80 @@
+package cn.hutool.bloomfilter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+public class ScalableBloomFilterTest {
+
+	@Test
+	public void scaleTest() {
+		final ScalableBloomFilter filter = BloomFilterUtil.createScalable(100, 0.01);
+		final int n = 10000;
+		for (int i = 0; i < n; i++) {
+			filter.add("key" + i);
+		}
+		// 100 + 200 + ... 超过10000时至少需要7个子过滤器
+		Assert.assertTrue(filter.getFilterCount() >= 7);
+		for (int i = 0; i < n; i++) {
+			Assert.assertTrue(filter.contains("key" + i));
+		}
+
+		int falsePositive = 0;
+		for (int i = n; i < n * 11; i++) {
+			if (filter.contains("key" + i)) {
+				falsePositive++;
+			}
+		}
+		// 扩容后总误判率仍不超过期望值
+		Assert.assertTrue(falsePositive < n * 10 * 0.01);
+	}
+
+	@Test
+	public void unionAndWriteTest() {
+		final ScalableBloomFilter filter1 = new ScalableBloomFilter(100, 0.01);
+		final ScalableBloomFilter filter2 = new ScalableBloomFilter(100, 0.01);
+		for (int i = 0; i < 500; i++) {
+			filter1.add("a" + i);
+			filter2.add("b" + i);
+		}
+		filter2.add("c");
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		filter2.write(out);
+		final ScalableBloomFilter read = ScalableBloomFilter.read(new ByteArrayInputStream(out.toByteArray()));
+		Assert.assertEquals(filter2.getFilterCount(), read.getFilterCount());
+		Assert.assertEquals(filter2.getCount(), read.getCount());
+
+		filter1.union(read);
+		for (int i = 0; i < 500; i++) {
+			Assert.assertTrue(filter1.contains("a" + i));
+			Assert.assertTrue(filter1.contains("b" + i));
+		}
+		Assert.assertTrue(filter1.contains("c"));
+	}
+
+	@Test
+	public void intersectTest() {
+		final ScalableBloomFilter filter1 = new ScalableBloomFilter(1000, 0.01);
+		final ScalableBloomFilter filter2 = new ScalableBloomFilter(1000, 0.01);
+		filter1.add("a");
+		filter1.add("b");
+		filter2.add("b");
+		filter2.add("c");
+
+		filter1.intersect(filter2);
+		Assert.assertTrue(filter1.contains("b"));
+		Assert.assertFalse(filter1.contains("a"));
+		Assert.assertFalse(filter1.contains("c"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void intersectScaledTest() {
+		final ScalableBloomFilter filter1 = new ScalableBloomFilter(1, 0.01);
+		filter1.add("a");
+		filter1.add("b");
+		filter1.intersect(new ScalableBloomFilter(1, 0.01));
+	}
+}
@@ -171,4 +171,14 @@ public interface Cache<K, V> extends Iterable<V>, Serializable {
 	default Cache<K, V> setListener(CacheListener<K, V> listener){
 		return this;
 	}
+
+	/**
+	 * 获取缓存统计快照，包括命中、加载、按原因分类的移除、锁等待等统计，默认返回{@link CacheStats#EMPTY}
+	 *
+	 * @return {@link CacheStats}
+	 * @since 5.8.10
+	 */
+	default CacheStats stats() {
+		return CacheStats.EMPTY;
+	}
 }
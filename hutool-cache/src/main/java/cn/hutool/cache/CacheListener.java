@@ -17,4 +17,17 @@ public interface CacheListener<K, V> {
 	 * @param cachedObject 被缓存的对象
 	 */
 	void onRemove(K key, V cachedObject);
+
+	/**
+	 * 对象移除回调，带移除原因，默认调用{@link #onRemove(Object, Object)}<br>
+	 * 需要区分移除原因时重写此方法
+	 *
+	 * @param key          键
+	 * @param cachedObject 被缓存的对象
+	 * @param cause        移除原因
+	 * @since 5.8.10
+	 */
+	default void onRemove(K key, V cachedObject, RemovalCause cause) {
+		onRemove(key, cachedObject);
+	}
 }
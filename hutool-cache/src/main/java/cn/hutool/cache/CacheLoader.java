@@ -0,0 +1,58 @@
+package cn.hutool.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 缓存加载器，用于{@link LoadingCache}在缓存未命中或需要刷新时加载值
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.10
+ */
+@FunctionalInterface
+public interface CacheLoader<K, V> {
+
+	/**
+	 * 加载键对应的值
+	 *
+	 * @param key 键
+	 * @return 值，{@code null}表示不存在，不会被缓存
+	 * @throws Exception 加载异常
+	 */
+	V load(K key) throws Exception;
+
+	/**
+	 * 批量加载多个键对应的值，默认逐个调用{@link #load(Object)}<br>
+	 * 如果数据源支持批量查询（如SQL的IN查询），建议重写此方法
+	 *
+	 * @param keys 键列表
+	 * @return 键值对，不存在的键可以不包含在结果中
+	 * @throws Exception 加载异常
+	 */
+	default Map<K, V> loadAll(Iterable<? extends K> keys) throws Exception {
+		final Map<K, V> result = new LinkedHashMap<>();
+		V value;
+		for (K key : keys) {
+			value = load(key);
+			if (null != value) {
+				result.put(key, value);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 重新加载已缓存的值，用于刷新，默认调用{@link #load(Object)}<br>
+	 * 重写此方法可以根据旧值实现增量加载，如根据版本号判断是否需要更新
+	 *
+	 * @param key      键
+	 * @param oldValue 旧值
+	 * @return 新值，{@code null}表示保留旧值
+	 * @throws Exception 加载异常
+	 */
+	default V reload(K key, V oldValue) throws Exception {
+		return load(key);
+	}
+}
@@ -0,0 +1,367 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.CacheObj;
+import cn.hutool.cache.serialize.CacheSerializer;
+import cn.hutool.cache.serialize.JdkCacheSerializer;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 缓存快照工具，用于将缓存中的对象保存到文件，并在启动时重新加载（预热），适用于所有{@link Cache}实现。<br>
+ * 快照文件为紧凑的二进制格式，通过{@link FileChannel}流式读写，不会一次性将整个文件读入内存：
+ * <pre>
+ * 文件头：魔数"HTCS"(4) + 版本(1)
+ * 对象：  标记1(1) + 过期时间(8) + 键长度(4) + 键 + 值长度(4) + 值
+ * 文件尾：标记0(1)
+ * </pre>
+ * 过期时间为绝对时间（上次访问时间+存活时长），加载时按照剩余存活时长放入缓存，加载时已过期的对象被跳过，永不过期的对象记录为{@code -1}，
+ * 加载时使用目标缓存的默认过期时长。
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class CacheSnapshot {
+
+	private static final byte[] MAGIC = {'H', 'T', 'C', 'S'};
+	private static final byte VERSION = 1;
+	private static final byte ENTRY = 1;
+	private static final byte END = 0;
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * 使用JDK序列化将缓存保存到快照文件
+	 *
+	 * @param <K>   键类型
+	 * @param <V>   值类型
+	 * @param cache 缓存
+	 * @param file  快照文件，已存在则覆盖
+	 * @return 保存的对象数
+	 * @throws IORuntimeException IO异常
+	 */
+	public static <K, V> int write(Cache<K, V> cache, File file) throws IORuntimeException {
+		return write(cache, file, new JdkCacheSerializer<>(), new JdkCacheSerializer<>());
+	}
+
+	/**
+	 * 将缓存保存到快照文件，已过期的对象和值为{@code null}的对象不保存
+	 *
+	 * @param <K>             键类型
+	 * @param <V>             值类型
+	 * @param cache           缓存
+	 * @param file            快照文件，已存在则覆盖
+	 * @param keySerializer   键序列化器
+	 * @param valueSerializer 值序列化器
+	 * @return 保存的对象数
+	 * @throws IORuntimeException IO异常
+	 */
+	public static <K, V> int write(Cache<K, V> cache, File file,
+								   CacheSerializer<K> keySerializer, CacheSerializer<V> valueSerializer) throws IORuntimeException {
+		Assert.notNull(cache, "Cache must be not null!");
+		Assert.notNull(file, "File must be not null!");
+		FileUtil.mkParentDirs(file);
+
+		int count = 0;
+		try (final FileChannel channel = FileChannel.open(file.toPath(),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+			buffer.put(MAGIC).put(VERSION);
+
+			final long now = System.currentTimeMillis();
+			final Iterator<CacheObj<K, V>> iterator = cache.cacheObjIterator();
+			CacheObj<K, V> co;
+			long expireTime;
+			while (iterator.hasNext()) {
+				co = iterator.next();
+				expireTime = (co.getTtl() > 0) ? co.getLastAccess() + co.getTtl() : -1;
+				if ((expireTime >= 0 && expireTime <= now) || null == co.getValue()) {
+					continue;
+				}
+
+				ensureRemaining(channel, buffer, 9);
+				buffer.put(ENTRY).putLong(expireTime);
+				writeBytes(channel, buffer, keySerializer.serialize(co.getKey()));
+				writeBytes(channel, buffer, valueSerializer.serialize(co.getValue()));
+				count++;
+			}
+
+			ensureRemaining(channel, buffer, 1);
+			buffer.put(END);
+			flush(channel, buffer);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return count;
+	}
+
+	/**
+	 * 使用JDK反序列化从快照文件加载对象到缓存，文件不存在时不加载
+	 *
+	 * @param <K>   键类型
+	 * @param <V>   值类型
+	 * @param cache 缓存
+	 * @param file  快照文件
+	 * @return 加载的对象数
+	 * @throws IORuntimeException IO异常或文件格式错误
+	 */
+	public static <K, V> int read(Cache<K, V> cache, File file) throws IORuntimeException {
+		return read(cache, file, new JdkCacheSerializer<>(), new JdkCacheSerializer<>());
+	}
+
+	/**
+	 * 从快照文件加载对象到缓存，对象按照剩余存活时长放入缓存，已过期的对象被跳过，文件不存在时不加载<br>
+	 * 未设置过期的对象使用目标缓存的默认过期时长
+	 *
+	 * @param <K>             键类型
+	 * @param <V>             值类型
+	 * @param cache           缓存
+	 * @param file            快照文件
+	 * @param keySerializer   键序列化器
+	 * @param valueSerializer 值序列化器
+	 * @return 加载的对象数
+	 * @throws IORuntimeException IO异常或文件格式错误
+	 */
+	public static <K, V> int read(Cache<K, V> cache, File file,
+								  CacheSerializer<K> keySerializer, CacheSerializer<V> valueSerializer) throws IORuntimeException {
+		Assert.notNull(cache, "Cache must be not null!");
+		if (false == FileUtil.isFile(file)) {
+			return 0;
+		}
+
+		int count = 0;
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+			buffer.flip();
+
+			fill(channel, buffer, MAGIC.length + 1);
+			for (byte b : MAGIC) {
+				if (b != buffer.get()) {
+					throw new IORuntimeException("Invalid cache snapshot file: {}", file);
+				}
+			}
+			final byte version = buffer.get();
+			if (VERSION != version) {
+				throw new IORuntimeException("Unsupported cache snapshot version: {}", version);
+			}
+
+			long expireTime;
+			K key;
+			V value;
+			while (true) {
+				fill(channel, buffer, 1);
+				if (END == buffer.get()) {
+					break;
+				}
+				fill(channel, buffer, 8);
+				expireTime = buffer.getLong();
+				key = keySerializer.deserialize(readBytes(channel, buffer));
+				value = valueSerializer.deserialize(readBytes(channel, buffer));
+
+				if (expireTime < 0) {
+					// 使用目标缓存自身的过期策略
+					cache.put(key, value);
+				} else {
+					// 在读取之后计算剩余存活时长，避免反序列化耗时导致存活时长偏长
+					final long remaining = expireTime - System.currentTimeMillis();
+					if (remaining <= 0) {
+						continue;
+					}
+					cache.put(key, value, remaining);
+				}
+				count++;
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return count;
+	}
+
+	/**
+	 * 定时使用JDK序列化将缓存保存到快照文件（检查点）<br>
+	 * 每次先写入临时文件，完成后替换快照文件，保证快照文件始终完整。写入异常时定时任务终止。
+	 *
+	 * @param <K>    键类型
+	 * @param <V>    值类型
+	 * @param cache  缓存
+	 * @param file   快照文件
+	 * @param period 保存周期，单位毫秒
+	 * @return {@link ScheduledFuture}，可用于取消定时保存
+	 */
+	public static <K, V> ScheduledFuture<?> scheduleCheckpoint(Cache<K, V> cache, File file, long period) {
+		return scheduleCheckpoint(cache, file, period, new JdkCacheSerializer<>(), new JdkCacheSerializer<>());
+	}
+
+	/**
+	 * 定时将缓存保存到快照文件（检查点）<br>
+	 * 每次先写入临时文件，完成后替换快照文件，保证快照文件始终完整。写入异常时定时任务终止。
+	 *
+	 * @param <K>             键类型
+	 * @param <V>             值类型
+	 * @param cache           缓存
+	 * @param file            快照文件
+	 * @param period          保存周期，单位毫秒
+	 * @param keySerializer   键序列化器
+	 * @param valueSerializer 值序列化器
+	 * @return {@link ScheduledFuture}，可用于取消定时保存
+	 */
+	public static <K, V> ScheduledFuture<?> scheduleCheckpoint(Cache<K, V> cache, File file, long period,
+															   CacheSerializer<K> keySerializer, CacheSerializer<V> valueSerializer) {
+		Assert.notNull(file, "File must be not null!");
+		return GlobalPruneTimer.INSTANCE.schedule(() -> checkpoint(cache, file, keySerializer, valueSerializer), period);
+	}
+
+	/**
+	 * 保存检查点，先写入临时文件，完成后替换快照文件
+	 *
+	 * @param <K>             键类型
+	 * @param <V>             值类型
+	 * @param cache           缓存
+	 * @param file            快照文件
+	 * @param keySerializer   键序列化器
+	 * @param valueSerializer 值序列化器
+	 * @return 保存的对象数
+	 * @throws IORuntimeException IO异常
+	 */
+	public static <K, V> int checkpoint(Cache<K, V> cache, File file,
+										CacheSerializer<K> keySerializer, CacheSerializer<V> valueSerializer) throws IORuntimeException {
+		final File tmpFile = new File(file.getAbsolutePath() + ".tmp");
+		final int count = write(cache, tmpFile, keySerializer, valueSerializer);
+		try {
+			try {
+				Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return count;
+	}
+
+	// ---------------------------------------------------------------- private method start
+
+	/**
+	 * 写出长度和bytes，bytes超过缓冲区剩余空间时直接写出
+	 *
+	 * @param channel 文件通道
+	 * @param buffer  缓冲区，写模式
+	 * @param bytes   bytes
+	 * @throws IOException IO异常
+	 */
+	private static void writeBytes(FileChannel channel, ByteBuffer buffer, byte[] bytes) throws IOException {
+		ensureRemaining(channel, buffer, 4);
+		buffer.putInt(bytes.length);
+		if (buffer.remaining() >= bytes.length) {
+			buffer.put(bytes);
+		} else {
+			flush(channel, buffer);
+			writeFully(channel, ByteBuffer.wrap(bytes));
+		}
+	}
+
+	/**
+	 * 保证缓冲区有足够的剩余空间，不足时写出
+	 *
+	 * @param channel 文件通道
+	 * @param buffer  缓冲区，写模式
+	 * @param size    需要的空间
+	 * @throws IOException IO异常
+	 */
+	private static void ensureRemaining(FileChannel channel, ByteBuffer buffer, int size) throws IOException {
+		if (buffer.remaining() < size) {
+			flush(channel, buffer);
+		}
+	}
+
+	/**
+	 * 写出缓冲区中的数据并清空缓冲区
+	 *
+	 * @param channel 文件通道
+	 * @param buffer  缓冲区，写模式
+	 * @throws IOException IO异常
+	 */
+	private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+		buffer.flip();
+		writeFully(channel, buffer);
+		buffer.clear();
+	}
+
+	/**
+	 * 写出全部数据
+	 *
+	 * @param channel 文件通道
+	 * @param buffer  数据
+	 * @throws IOException IO异常
+	 */
+	private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	/**
+	 * 读取长度和bytes，bytes超过缓冲区大小时直接读取
+	 *
+	 * @param channel 文件通道
+	 * @param buffer  缓冲区，读模式
+	 * @return bytes
+	 * @throws IOException IO异常
+	 */
+	private static byte[] readBytes(FileChannel channel, ByteBuffer buffer) throws IOException {
+		fill(channel, buffer, 4);
+		final int length = buffer.getInt();
+		if (length < 0) {
+			throw new IOException("Invalid length: " + length);
+		}
+		final byte[] bytes = new byte[length];
+		if (length <= buffer.capacity()) {
+			fill(channel, buffer, length);
+			buffer.get(bytes);
+		} else {
+			// 先取出缓冲区中剩余的部分，再直接从通道读取
+			final int buffered = buffer.remaining();
+			buffer.get(bytes, 0, buffered);
+			final ByteBuffer target = ByteBuffer.wrap(bytes, buffered, length - buffered);
+			while (target.hasRemaining()) {
+				if (channel.read(target) < 0) {
+					throw new EOFException();
+				}
+			}
+		}
+		return bytes;
+	}
+
+	/**
+	 * 保证缓冲区中至少有指定长度的数据，不足时从通道读取
+	 *
+	 * @param channel 文件通道
+	 * @param buffer  缓冲区，读模式
+	 * @param size    需要的长度，不超过缓冲区大小
+	 * @throws IOException IO异常，数据不足时抛出{@link EOFException}
+	 */
+	private static void fill(FileChannel channel, ByteBuffer buffer, int size) throws IOException {
+		if (buffer.remaining() >= size) {
+			return;
+		}
+		buffer.compact();
+		while (buffer.position() < size) {
+			if (channel.read(buffer) < 0) {
+				throw new EOFException();
+			}
+		}
+		buffer.flip();
+	}
+	// ---------------------------------------------------------------- private method end
+}
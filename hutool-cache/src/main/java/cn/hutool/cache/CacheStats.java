@@ -0,0 +1,359 @@
+package cn.hutool.cache;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存统计快照，不可变，由{@link StatsCounter#snapshot(long, long, long)}生成，包括：
+ * <ul>
+ *     <li>命中数、丢失数</li>
+ *     <li>加载成功数、失败数、总耗时及耗时分布</li>
+ *     <li>按照{@link RemovalCause}分类的移除数，以及被移除对象的平均存活时长</li>
+ *     <li>锁等待次数、总耗时及耗时分布（只统计发生竞争的加锁）</li>
+ * </ul>
+ * 耗时分布按照2的幂分桶，第i个桶记录耗时在[2<sup>i-1</sup>, 2<sup>i</sup>)纳秒之间的次数，因此百分位数为近似值（不超过实际值的2倍）。<br>
+ * 定时导出时，可以使用{@link #minus(CacheStats)}计算两次快照之间的增量。
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class CacheStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 耗时分布的桶数
+	 */
+	static final int HISTOGRAM_SIZE = 64;
+
+	/**
+	 * 空的统计
+	 */
+	public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0,
+			new long[RemovalCause.values().length], 0, 0, 0,
+			new long[HISTOGRAM_SIZE], new long[HISTOGRAM_SIZE], 0);
+
+	private final long hitCount;
+	private final long missCount;
+	private final long loadSuccessCount;
+	private final long loadFailureCount;
+	private final long totalLoadTime;
+	private final long[] removalCounts;
+	private final long totalEntryLifetime;
+	private final long lockWaitCount;
+	private final long totalLockWaitTime;
+	private final long[] loadHistogram;
+	private final long[] lockWaitHistogram;
+	private final long size;
+
+	/**
+	 * 构造
+	 *
+	 * @param hitCount           命中数
+	 * @param missCount          丢失数
+	 * @param loadSuccessCount   加载成功数
+	 * @param loadFailureCount   加载失败数
+	 * @param totalLoadTime      加载总耗时，单位纳秒
+	 * @param removalCounts      按照{@link RemovalCause#ordinal()}分类的移除数
+	 * @param totalEntryLifetime 被移除对象的存活总时长，单位毫秒
+	 * @param lockWaitCount      锁等待次数
+	 * @param totalLockWaitTime  锁等待总耗时，单位纳秒
+	 * @param loadHistogram      加载耗时分布
+	 * @param lockWaitHistogram  锁等待耗时分布
+	 * @param size               快照时的对象数
+	 */
+	CacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount, long totalLoadTime,
+			   long[] removalCounts, long totalEntryLifetime, long lockWaitCount, long totalLockWaitTime,
+			   long[] loadHistogram, long[] lockWaitHistogram, long size) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.loadSuccessCount = loadSuccessCount;
+		this.loadFailureCount = loadFailureCount;
+		this.totalLoadTime = totalLoadTime;
+		this.removalCounts = removalCounts;
+		this.totalEntryLifetime = totalEntryLifetime;
+		this.lockWaitCount = lockWaitCount;
+		this.totalLockWaitTime = totalLockWaitTime;
+		this.loadHistogram = loadHistogram;
+		this.lockWaitHistogram = lockWaitHistogram;
+		this.size = size;
+	}
+
+	// ---------------------------------------------------------------- hit and miss start
+
+	/**
+	 * @return 请求数，即命中数+丢失数
+	 */
+	public long getRequestCount() {
+		return hitCount + missCount;
+	}
+
+	/**
+	 * @return 命中数
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return 丢失数
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return 命中率，无请求时为{@code 1.0}
+	 */
+	public double getHitRate() {
+		final long requestCount = getRequestCount();
+		return (0 == requestCount) ? 1.0 : (double) hitCount / requestCount;
+	}
+
+	/**
+	 * @return 丢失率，无请求时为{@code 0.0}
+	 */
+	public double getMissRate() {
+		final long requestCount = getRequestCount();
+		return (0 == requestCount) ? 0.0 : (double) missCount / requestCount;
+	}
+	// ---------------------------------------------------------------- hit and miss end
+
+	// ---------------------------------------------------------------- load start
+
+	/**
+	 * @return 加载数，即加载成功数+失败数
+	 */
+	public long getLoadCount() {
+		return loadSuccessCount + loadFailureCount;
+	}
+
+	/**
+	 * @return 加载成功数
+	 */
+	public long getLoadSuccessCount() {
+		return loadSuccessCount;
+	}
+
+	/**
+	 * @return 加载失败数
+	 */
+	public long getLoadFailureCount() {
+		return loadFailureCount;
+	}
+
+	/**
+	 * @return 加载总耗时，单位纳秒
+	 */
+	public long getTotalLoadTime() {
+		return totalLoadTime;
+	}
+
+	/**
+	 * @return 平均加载耗时，单位纳秒
+	 */
+	public double getAverageLoadPenalty() {
+		final long loadCount = getLoadCount();
+		return (0 == loadCount) ? 0.0 : (double) totalLoadTime / loadCount;
+	}
+
+	/**
+	 * 获取加载耗时的近似百分位数
+	 *
+	 * @param percentile 百分位，取值[0, 1]，如0.99
+	 * @return 耗时，单位纳秒
+	 */
+	public long getLoadLatencyPercentile(double percentile) {
+		return percentile(loadHistogram, percentile);
+	}
+	// ---------------------------------------------------------------- load end
+
+	// ---------------------------------------------------------------- removal start
+
+	/**
+	 * 获取指定原因的移除数
+	 *
+	 * @param cause 移除原因
+	 * @return 移除数
+	 */
+	public long getRemovalCount(RemovalCause cause) {
+		return removalCounts[cause.ordinal()];
+	}
+
+	/**
+	 * @return 自动淘汰数，即除主动移除外的移除数
+	 */
+	public long getEvictionCount() {
+		long count = 0;
+		for (RemovalCause cause : RemovalCause.values()) {
+			if (cause.wasEvicted()) {
+				count += removalCounts[cause.ordinal()];
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return 被移除对象的平均存活时长，即从加入到移除的时长，单位毫秒
+	 */
+	public double getAverageEntryLifetime() {
+		long count = 0;
+		for (long removalCount : removalCounts) {
+			count += removalCount;
+		}
+		return (0 == count) ? 0.0 : (double) totalEntryLifetime / count;
+	}
+	// ---------------------------------------------------------------- removal end
+
+	// ---------------------------------------------------------------- lock start
+
+	/**
+	 * @return 锁等待次数，只统计加锁时发生竞争的次数
+	 */
+	public long getLockWaitCount() {
+		return lockWaitCount;
+	}
+
+	/**
+	 * @return 锁等待总耗时，单位纳秒
+	 */
+	public long getTotalLockWaitTime() {
+		return totalLockWaitTime;
+	}
+
+	/**
+	 * @return 平均锁等待耗时，单位纳秒
+	 */
+	public double getAverageLockWait() {
+		return (0 == lockWaitCount) ? 0.0 : (double) totalLockWaitTime / lockWaitCount;
+	}
+
+	/**
+	 * 获取锁等待耗时的近似百分位数
+	 *
+	 * @param percentile 百分位，取值[0, 1]，如0.99
+	 * @return 耗时，单位纳秒
+	 */
+	public long getLockWaitPercentile(double percentile) {
+		return percentile(lockWaitHistogram, percentile);
+	}
+	// ---------------------------------------------------------------- lock end
+
+	/**
+	 * @return 快照时的对象数
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * 合并两个统计，用于汇总多个缓存（如分段缓存）的统计
+	 *
+	 * @param other 另一个统计
+	 * @return 新的统计
+	 */
+	public CacheStats plus(CacheStats other) {
+		return combine(other, 1);
+	}
+
+	/**
+	 * 计算与之前快照的增量，用于定时导出每个周期的统计，对象数为此快照的对象数
+	 *
+	 * @param previous 之前的快照
+	 * @return 新的统计
+	 */
+	public CacheStats minus(CacheStats previous) {
+		final CacheStats result = combine(previous, -1);
+		return new CacheStats(result.hitCount, result.missCount, result.loadSuccessCount, result.loadFailureCount,
+				result.totalLoadTime, result.removalCounts, result.totalEntryLifetime, result.lockWaitCount,
+				result.totalLockWaitTime, result.loadHistogram, result.lockWaitHistogram, this.size);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder("CacheStats [");
+		sb.append("size=").append(size)
+				.append(", hitCount=").append(hitCount)
+				.append(", missCount=").append(missCount)
+				.append(", hitRate=").append(String.format("%.4f", getHitRate()))
+				.append(", loadSuccessCount=").append(loadSuccessCount)
+				.append(", loadFailureCount=").append(loadFailureCount)
+				.append(", averageLoadPenalty=").append(TimeUnit.NANOSECONDS.toMicros((long) getAverageLoadPenalty())).append("us")
+				.append(", loadP99=").append(TimeUnit.NANOSECONDS.toMicros(getLoadLatencyPercentile(0.99))).append("us");
+		for (RemovalCause cause : RemovalCause.values()) {
+			sb.append(", ").append(cause.name().toLowerCase()).append("Count=").append(getRemovalCount(cause));
+		}
+		sb.append(", averageEntryLifetime=").append((long) getAverageEntryLifetime()).append("ms")
+				.append(", lockWaitCount=").append(lockWaitCount)
+				.append(", averageLockWait=").append(TimeUnit.NANOSECONDS.toMicros((long) getAverageLockWait())).append("us")
+				.append(", lockWaitP99=").append(TimeUnit.NANOSECONDS.toMicros(getLockWaitPercentile(0.99))).append("us");
+		return sb.append(']').toString();
+	}
+
+	// ---------------------------------------------------------------- private method start
+
+	/**
+	 * 按照系数合并两个统计
+	 *
+	 * @param other  另一个统计
+	 * @param factor 系数，1表示相加，-1表示相减
+	 * @return 新的统计
+	 */
+	private CacheStats combine(CacheStats other, int factor) {
+		return new CacheStats(
+				hitCount + factor * other.hitCount,
+				missCount + factor * other.missCount,
+				loadSuccessCount + factor * other.loadSuccessCount,
+				loadFailureCount + factor * other.loadFailureCount,
+				totalLoadTime + factor * other.totalLoadTime,
+				combine(removalCounts, other.removalCounts, factor),
+				totalEntryLifetime + factor * other.totalEntryLifetime,
+				lockWaitCount + factor * other.lockWaitCount,
+				totalLockWaitTime + factor * other.totalLockWaitTime,
+				combine(loadHistogram, other.loadHistogram, factor),
+				combine(lockWaitHistogram, other.lockWaitHistogram, factor),
+				size + factor * other.size);
+	}
+
+	/**
+	 * 按照系数合并两个数组
+	 *
+	 * @param a      数组
+	 * @param b      另一个数组
+	 * @param factor 系数
+	 * @return 新数组
+	 */
+	private static long[] combine(long[] a, long[] b, int factor) {
+		final long[] result = new long[a.length];
+		for (int i = 0; i < a.length; i++) {
+			result[i] = a[i] + factor * b[i];
+		}
+		return result;
+	}
+
+	/**
+	 * 计算耗时分布的近似百分位数，返回所在桶的上界
+	 *
+	 * @param histogram  耗时分布
+	 * @param percentile 百分位
+	 * @return 耗时，单位纳秒
+	 */
+	private static long percentile(long[] histogram, double percentile) {
+		long total = 0;
+		for (long count : histogram) {
+			total += count;
+		}
+		if (0 == total) {
+			return 0;
+		}
+		final long rank = (long) Math.ceil(Math.max(0, Math.min(1, percentile)) * total);
+		long count = 0;
+		for (int i = 0; i < histogram.length; i++) {
+			count += histogram[i];
+			if (count >= rank && count > 0) {
+				return (0 == i) ? 0 : (1L << i) - 1;
+			}
+		}
+		return Long.MAX_VALUE;
+	}
+	// ---------------------------------------------------------------- private method end
+}
@@ -1,11 +1,25 @@
 package cn.hutool.cache;
 
+import cn.hutool.cache.impl.BucketLFUCache;
+import cn.hutool.cache.impl.DefaultLoadingCache;
 import cn.hutool.cache.impl.FIFOCache;
 import cn.hutool.cache.impl.LFUCache;
 import cn.hutool.cache.impl.LRUCache;
 import cn.hutool.cache.impl.NoCache;
+import cn.hutool.cache.impl.OffHeapCache;
+import cn.hutool.cache.impl.StripedCache;
+import cn.hutool.cache.impl.TieredCache;
 import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.cache.impl.TimingWheelTimedCache;
+import cn.hutool.cache.impl.TinyLfuCache;
 import cn.hutool.cache.impl.WeakCache;
+import cn.hutool.cache.serialize.CacheSerializer;
+import cn.hutool.cache.serialize.JdkCacheSerializer;
+
+import java.io.File;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * 缓存工具类
@@ -65,6 +79,97 @@ public class CacheUtil {
 	}
 
 
+	/**
+	 * 创建基于频率桶的LFU(least frequently used) 最少使用率缓存<br>
+	 * 访问和淘汰的时间复杂度均为O(1)，适用于大容量缓存.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 容量
+	 * @param timeout 过期时长，单位：毫秒
+	 * @return {@link BucketLFUCache}
+	 * @since 5.8.10
+	 */
+	public static <K, V> BucketLFUCache<K, V> newBucketLFUCache(int capacity, long timeout){
+		return new BucketLFUCache<>(capacity, timeout);
+	}
+
+	/**
+	 * 创建基于频率桶的LFU(least frequently used) 最少使用率缓存<br>
+	 * 访问和淘汰的时间复杂度均为O(1)，适用于大容量缓存.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 容量
+	 * @return {@link BucketLFUCache}
+	 * @since 5.8.10
+	 */
+	public static <K, V> BucketLFUCache<K, V> newBucketLFUCache(int capacity){
+		return new BucketLFUCache<>(capacity);
+	}
+
+	/**
+	 * 创建分段FIFO(first in first out) 先进先出缓存<br>
+	 * 键按hash分布到多个独立的{@link FIFOCache}分段中，每个分段单独加锁，适用于高并发写入的场景.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 总容量
+	 * @param segmentCount 分段数，会被调整为2的幂
+	 * @param timeout 过期时长，单位：毫秒
+	 * @return {@link StripedCache}
+	 * @since 5.8.10
+	 */
+	public static <K, V> StripedCache<K, V> newStripedFIFOCache(int capacity, int segmentCount, long timeout){
+		return new StripedCache<>(capacity, segmentCount, segmentCapacity -> new FIFOCache<>(segmentCapacity, timeout));
+	}
+
+	/**
+	 * 创建分段FIFO(first in first out) 先进先出缓存<br>
+	 * 键按hash分布到多个独立的{@link FIFOCache}分段中，每个分段单独加锁，适用于高并发写入的场景.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 总容量
+	 * @param segmentCount 分段数，会被调整为2的幂
+	 * @return {@link StripedCache}
+	 * @since 5.8.10
+	 */
+	public static <K, V> StripedCache<K, V> newStripedFIFOCache(int capacity, int segmentCount){
+		return new StripedCache<>(capacity, segmentCount, FIFOCache::new);
+	}
+
+	/**
+	 * 创建分段LFU(least frequently used) 最少使用率缓存<br>
+	 * 键按hash分布到多个独立的{@link LFUCache}分段中，每个分段单独加锁，适用于高并发写入的场景.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 总容量
+	 * @param segmentCount 分段数，会被调整为2的幂
+	 * @param timeout 过期时长，单位：毫秒
+	 * @return {@link StripedCache}
+	 * @since 5.8.10
+	 */
+	public static <K, V> StripedCache<K, V> newStripedLFUCache(int capacity, int segmentCount, long timeout){
+		return new StripedCache<>(capacity, segmentCount, segmentCapacity -> new LFUCache<>(segmentCapacity, timeout));
+	}
+
+	/**
+	 * 创建分段LFU(least frequently used) 最少使用率缓存<br>
+	 * 键按hash分布到多个独立的{@link LFUCache}分段中，每个分段单独加锁，适用于高并发写入的场景.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 总容量
+	 * @param segmentCount 分段数，会被调整为2的幂
+	 * @return {@link StripedCache}
+	 * @since 5.8.10
+	 */
+	public static <K, V> StripedCache<K, V> newStripedLFUCache(int capacity, int segmentCount){
+		return new StripedCache<>(capacity, segmentCount, LFUCache::new);
+	}
+
 	/**
 	 * 创建LRU (least recently used)最近最久未使用缓存.
 	 *
@@ -90,6 +195,35 @@ public class CacheUtil {
 		return new LRUCache<>(capacity);
 	}
 
+	/**
+	 * 创建W-TinyLFU缓存<br>
+	 * 读操作无锁，适用于高并发且访问热点集中的场景.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 容量
+	 * @param timeout 过期时长，单位：毫秒
+	 * @return {@link TinyLfuCache}
+	 * @since 5.8.10
+	 */
+	public static <K, V> TinyLfuCache<K, V> newTinyLfuCache(int capacity, long timeout){
+		return new TinyLfuCache<>(capacity, timeout);
+	}
+
+	/**
+	 * 创建W-TinyLFU缓存<br>
+	 * 读操作无锁，适用于高并发且访问热点集中的场景.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param capacity 容量
+	 * @return {@link TinyLfuCache}
+	 * @since 5.8.10
+	 */
+	public static <K, V> TinyLfuCache<K, V> newTinyLfuCache(int capacity){
+		return new TinyLfuCache<>(capacity);
+	}
+
 	/**
 	 * 创建定时缓存.
 	 *
@@ -102,6 +236,35 @@ public class CacheUtil {
 		return new TimedCache<>(timeout);
 	}
 
+	/**
+	 * 创建基于时间轮的定时缓存<br>
+	 * 过期清理的代价与过期对象数成正比，适用于大量短时效对象的场景.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param timeout 过期时长，单位：毫秒
+	 * @return {@link TimingWheelTimedCache}
+	 * @since 5.8.10
+	 */
+	public static <K, V> TimingWheelTimedCache<K, V> newTimingWheelTimedCache(long timeout){
+		return new TimingWheelTimedCache<>(timeout);
+	}
+
+	/**
+	 * 创建基于时间轮的定时缓存<br>
+	 * 过期清理的代价与过期对象数成正比，适用于大量短时效对象的场景.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param timeout 过期时长，单位：毫秒
+	 * @param tickMs 时间轮一个槽的跨度，即过期清理的精度，单位：毫秒
+	 * @return {@link TimingWheelTimedCache}
+	 * @since 5.8.10
+	 */
+	public static <K, V> TimingWheelTimedCache<K, V> newTimingWheelTimedCache(long timeout, long tickMs){
+		return new TimingWheelTimedCache<>(timeout, tickMs);
+	}
+
 	/**
 	 * 创建弱引用缓存.
 	 *
@@ -115,6 +278,99 @@ public class CacheUtil {
 		return new WeakCache<>(timeout);
 	}
 
+	/**
+	 * 创建自动加载缓存，包装已有缓存，未命中时通过{@link CacheLoader}加载.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param cache 被包装的缓存
+	 * @param loader 缓存加载器
+	 * @return {@link DefaultLoadingCache}
+	 * @since 5.8.10
+	 */
+	public static <K, V> DefaultLoadingCache<K, V> newLoadingCache(Cache<K, V> cache, CacheLoader<K, V> loader){
+		return new DefaultLoadingCache<>(cache, loader);
+	}
+
+	/**
+	 * 创建堆外缓存，对象使用JDK序列化后存储于堆外内存中，存储空间满时淘汰最早写入的对象.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param maxBytes 最大存储空间，单位字节，按照{@link OffHeapCache#DEFAULT_SLAB_SIZE}分段
+	 * @param timeout 过期时长，单位：毫秒，{@code 0}表示不过期
+	 * @return {@link OffHeapCache}
+	 * @since 5.8.10
+	 */
+	public static <K, V> OffHeapCache<K, V> newOffHeapCache(long maxBytes, long timeout){
+		return newOffHeapCache(maxBytes, timeout, new JdkCacheSerializer<>());
+	}
+
+	/**
+	 * 创建堆外缓存，对象序列化后存储于堆外内存中，存储空间满时淘汰最早写入的对象.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param maxBytes 最大存储空间，单位字节，按照{@link OffHeapCache#DEFAULT_SLAB_SIZE}分段
+	 * @param timeout 过期时长，单位：毫秒，{@code 0}表示不过期
+	 * @param valueSerializer 值序列化器
+	 * @return {@link OffHeapCache}
+	 * @since 5.8.10
+	 */
+	public static <K, V> OffHeapCache<K, V> newOffHeapCache(long maxBytes, long timeout, CacheSerializer<V> valueSerializer){
+		final int slabSize = (int) Math.min(maxBytes, OffHeapCache.DEFAULT_SLAB_SIZE);
+		return new OffHeapCache<>(slabSize, (int) ((maxBytes + slabSize - 1) / slabSize), timeout, valueSerializer);
+	}
+
+	/**
+	 * 创建内存映射文件缓存，对象序列化后存储于文件中，存储空间满时淘汰最早写入的对象.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param file 存储文件
+	 * @param maxBytes 最大存储空间，即文件大小，单位字节，按照{@link OffHeapCache#DEFAULT_SLAB_SIZE}分段
+	 * @param timeout 过期时长，单位：毫秒，{@code 0}表示不过期
+	 * @param valueSerializer 值序列化器
+	 * @return {@link OffHeapCache}
+	 * @since 5.8.10
+	 */
+	public static <K, V> OffHeapCache<K, V> newMappedFileCache(File file, long maxBytes, long timeout, CacheSerializer<V> valueSerializer){
+		final int slabSize = (int) Math.min(maxBytes, OffHeapCache.DEFAULT_SLAB_SIZE);
+		return new OffHeapCache<>(file, slabSize, (int) ((maxBytes + slabSize - 1) / slabSize), timeout, valueSerializer);
+	}
+
+	/**
+	 * 创建二级缓存，一级缓存淘汰的对象降级到二级缓存（如{@link OffHeapCache}）中.
+	 *
+	 * @param <K> Key类型
+	 * @param <V> Value类型
+	 * @param heapCache 一级缓存
+	 * @param secondCache 二级缓存
+	 * @return {@link TieredCache}
+	 * @since 5.8.10
+	 */
+	public static <K, V> TieredCache<K, V> newTieredCache(Cache<K, V> heapCache, Cache<K, V> secondCache){
+		return new TieredCache<>(heapCache, secondCache);
+	}
+
+	/**
+	 * 定时导出缓存统计，每个周期将此周期内的统计增量（对象数为当前值）交给导出函数，例如写入日志或监控系统.<br>
+	 * 定时任务使用{@link GlobalPruneTimer}，导出函数应尽快返回，抛出异常时定时任务终止.
+	 *
+	 * @param cache 缓存
+	 * @param period 导出周期，单位：毫秒
+	 * @param exporter 导出函数
+	 * @return {@link ScheduledFuture}，可用于取消导出
+	 * @since 5.8.10
+	 */
+	public static ScheduledFuture<?> scheduleStatsExport(Cache<?, ?> cache, long period, Consumer<CacheStats> exporter){
+		final AtomicReference<CacheStats> previous = new AtomicReference<>(cache.stats());
+		return GlobalPruneTimer.INSTANCE.schedule(() -> {
+			final CacheStats current = cache.stats();
+			exporter.accept(current.minus(previous.getAndSet(current)));
+		}, period);
+	}
+
 	/**
 	 * 创建无缓存实现.
 	 *
@@ -0,0 +1,51 @@
+package cn.hutool.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 自动加载缓存接口<br>
+ * 缓存未命中时通过{@link CacheLoader}加载值，同一个键同时只有一个线程执行加载，其它线程等待加载结果（single-flight）。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.10
+ */
+public interface LoadingCache<K, V> extends Cache<K, V> {
+
+	/**
+	 * 从缓存中获得对象，不存在或已过期时通过{@link CacheLoader#load(Object)}加载并缓存<br>
+	 * 如果开启了写入后刷新，对象超过刷新时长时在后台重新加载，当前调用返回旧值
+	 *
+	 * @param key 键
+	 * @return 值，加载结果为{@code null}时返回{@code null}
+	 */
+	@Override
+	V get(K key);
+
+	/**
+	 * 批量获取，不存在的键通过{@link CacheLoader#loadAll(Iterable)}一次性加载
+	 *
+	 * @param keys 键列表
+	 * @return 键值对，不存在的键不包含在结果中
+	 */
+	Map<K, V> getAll(Iterable<? extends K> keys);
+
+	/**
+	 * 异步获取，缓存命中时返回已完成的{@link CompletableFuture}，否则在后台线程中加载
+	 *
+	 * @param key 键
+	 * @return {@link CompletableFuture}
+	 */
+	CompletableFuture<V> getAsync(K key);
+
+	/**
+	 * 在后台重新加载键对应的值，加载期间读取依旧返回旧值，加载失败时保留旧值<br>
+	 * 如果此键已经在加载中，返回正在进行的加载
+	 *
+	 * @param key 键
+	 * @return {@link CompletableFuture}
+	 */
+	CompletableFuture<V> refresh(K key);
+}
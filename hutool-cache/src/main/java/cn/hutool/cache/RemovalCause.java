@@ -0,0 +1,42 @@
+package cn.hutool.cache;
+
+/**
+ * 缓存对象被移除的原因
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public enum RemovalCause {
+
+	/**
+	 * 用户主动移除，如调用{@link Cache#remove(Object)}
+	 */
+	EXPLICIT(false),
+	/**
+	 * 对象过期
+	 */
+	EXPIRED(true),
+	/**
+	 * 缓存已满，按照淘汰策略被淘汰
+	 */
+	SIZE(true),
+	/**
+	 * 弱引用的键被GC回收
+	 */
+	COLLECTED(true);
+
+	private final boolean evicted;
+
+	RemovalCause(boolean evicted) {
+		this.evicted = evicted;
+	}
+
+	/**
+	 * 是否为缓存自动淘汰，即非用户主动移除
+	 *
+	 * @return 是否为自动淘汰
+	 */
+	public boolean wasEvicted() {
+		return this.evicted;
+	}
+}
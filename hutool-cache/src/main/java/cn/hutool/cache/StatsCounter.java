@@ -0,0 +1,126 @@
+package cn.hutool.cache;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 缓存统计计数器，线程安全，用于在缓存实现中记录加载、移除和锁等待等事件，通过{@link #snapshot(long, long, long)}生成{@link CacheStats}快照<br>
+ * 计数使用{@link LongAdder}，耗时分布使用按照2的幂分桶的{@link AtomicLongArray}，记录的代价均为O(1)。
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class StatsCounter implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final LongAdder loadSuccessCount = new LongAdder();
+	private final LongAdder loadFailureCount = new LongAdder();
+	private final LongAdder totalLoadTime = new LongAdder();
+	private final LongAdder[] removalCounts;
+	private final LongAdder totalEntryLifetime = new LongAdder();
+	private final LongAdder lockWaitCount = new LongAdder();
+	private final LongAdder totalLockWaitTime = new LongAdder();
+	private final AtomicLongArray loadHistogram = new AtomicLongArray(CacheStats.HISTOGRAM_SIZE);
+	private final AtomicLongArray lockWaitHistogram = new AtomicLongArray(CacheStats.HISTOGRAM_SIZE);
+
+	/**
+	 * 构造
+	 */
+	public StatsCounter() {
+		final RemovalCause[] causes = RemovalCause.values();
+		this.removalCounts = new LongAdder[causes.length];
+		for (int i = 0; i < causes.length; i++) {
+			this.removalCounts[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * 记录加载成功
+	 *
+	 * @param loadTime 加载耗时，单位纳秒
+	 */
+	public void recordLoadSuccess(long loadTime) {
+		loadSuccessCount.increment();
+		totalLoadTime.add(loadTime);
+		record(loadHistogram, loadTime);
+	}
+
+	/**
+	 * 记录加载失败
+	 *
+	 * @param loadTime 加载耗时，单位纳秒
+	 */
+	public void recordLoadFailure(long loadTime) {
+		loadFailureCount.increment();
+		totalLoadTime.add(loadTime);
+		record(loadHistogram, loadTime);
+	}
+
+	/**
+	 * 记录对象移除
+	 *
+	 * @param cause    移除原因
+	 * @param lifetime 对象的存活时长，单位毫秒
+	 */
+	public void recordRemoval(RemovalCause cause, long lifetime) {
+		removalCounts[cause.ordinal()].increment();
+		totalEntryLifetime.add(Math.max(0, lifetime));
+	}
+
+	/**
+	 * 记录锁等待
+	 *
+	 * @param waitTime 等待耗时，单位纳秒
+	 */
+	public void recordLockWait(long waitTime) {
+		lockWaitCount.increment();
+		totalLockWaitTime.add(waitTime);
+		record(lockWaitHistogram, waitTime);
+	}
+
+	/**
+	 * 生成统计快照，快照期间的并发记录可能部分计入
+	 *
+	 * @param hitCount  命中数
+	 * @param missCount 丢失数
+	 * @param size      对象数
+	 * @return {@link CacheStats}
+	 */
+	public CacheStats snapshot(long hitCount, long missCount, long size) {
+		final long[] removals = new long[removalCounts.length];
+		for (int i = 0; i < removals.length; i++) {
+			removals[i] = removalCounts[i].sum();
+		}
+		return new CacheStats(hitCount, missCount,
+				loadSuccessCount.sum(), loadFailureCount.sum(), totalLoadTime.sum(),
+				removals, totalEntryLifetime.sum(),
+				lockWaitCount.sum(), totalLockWaitTime.sum(),
+				toArray(loadHistogram), toArray(lockWaitHistogram), size);
+	}
+
+	/**
+	 * 记录耗时到对应的桶中
+	 *
+	 * @param histogram 耗时分布
+	 * @param time      耗时，单位纳秒
+	 */
+	private static void record(AtomicLongArray histogram, long time) {
+		// 第i个桶记录[2^(i-1), 2^i)，time非负时i不超过63
+		histogram.incrementAndGet(64 - Long.numberOfLeadingZeros(Math.max(0, time)));
+	}
+
+	/**
+	 * 复制耗时分布
+	 *
+	 * @param histogram 耗时分布
+	 * @return 数组
+	 */
+	private static long[] toArray(AtomicLongArray histogram) {
+		final long[] result = new long[histogram.length()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = histogram.get(i);
+		}
+		return result;
+	}
+}
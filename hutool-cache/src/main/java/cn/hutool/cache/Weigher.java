@@ -0,0 +1,22 @@
+package cn.hutool.cache;
+
+/**
+ * 缓存对象的权重计算器，用于按照权重（如对象占用的字节数）而非对象个数限制缓存大小
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.10
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+	/**
+	 * 计算对象的权重，对象加入缓存时调用一次，权重不能为负数
+	 *
+	 * @param key   键
+	 * @param value 值
+	 * @return 权重
+	 */
+	int weigh(K key, V value);
+}
@@ -3,6 +3,8 @@ package cn.hutool.cache.file;
 import java.io.File;
 
 import cn.hutool.cache.Cache;
+import cn.hutool.cache.RemovalCause;
+import cn.hutool.cache.impl.CacheObj;
 import cn.hutool.cache.impl.LFUCache;
 
 /**
@@ -54,8 +56,9 @@ public class LFUFileCache extends AbstractFileCache{
 			}
 
 			@Override
-			protected void onRemove(File key, byte[] cachedObject) {
-				usedSize -= cachedObject.length;
+			protected void onRemove(CacheObj<File, byte[]> co, RemovalCause cause) {
+				usedSize -= co.getValue().length;
+				super.onRemove(co, cause);
 			}
 		};
 	}
@@ -2,6 +2,11 @@ package cn.hutool.cache.impl;
 
 import cn.hutool.cache.Cache;
 import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.CacheStats;
+import cn.hutool.cache.RemovalCause;
+import cn.hutool.cache.StatsCounter;
+import cn.hutool.cache.Weigher;
+import cn.hutool.core.lang.Assert;
 import cn.hutool.core.lang.func.Func0;
 import cn.hutool.core.lang.mutable.Mutable;
 import cn.hutool.core.lang.mutable.MutableObj;
@@ -59,6 +64,23 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 * 丢失数，即未命中缓存计数
 	 */
 	protected LongAdder missCount = new LongAdder();
+	/**
+	 * 加载、移除、锁等待等统计
+	 */
+	protected final StatsCounter statsCounter = new StatsCounter();
+
+	/**
+	 * 权重计算器，{@code null}表示不按照权重限制
+	 */
+	protected Weigher<K, V> weigher;
+	/**
+	 * 最大总权重，{@code 0}表示不按照权重限制
+	 */
+	protected long maximumWeight;
+	/**
+	 * 当前总权重
+	 */
+	protected final LongAdder totalWeight = new LongAdder();
 
 	/**
 	 * 缓存监听
@@ -81,13 +103,19 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 */
 	protected void putWithoutLock(K key, V object, long timeout) {
 		CacheObj<K, V> co = new CacheObj<>(key, object, timeout);
+		co.weight = weigh(key, object);
 		if (timeout != 0) {
 			existCustomTimeout = true;
 		}
 		if (isFull()) {
 			pruneCache();
 		}
-		cacheMap.put(MutableObj.of(key), co);
+		final CacheObj<K, V> old = cacheMap.put(MutableObj.of(key), co);
+		totalWeight.add(co.weight - (null == old ? 0 : old.weight));
+		if (isOverweight()) {
+			// 加入后超过最大权重，淘汰直到总权重不超过限制
+			pruneCache();
+		}
 	}
 	// ---------------------------------------------------------------- put end
 
@@ -117,11 +145,14 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 				// 双重检查锁，防止在竞争锁的过程中已经有其它线程写入
 				final CacheObj<K, V> co = getWithoutLock(key);
 				if (null == co || co.isExpired()) {
+					final long start = System.nanoTime();
 					try {
 						v = supplier.call();
 					} catch (Exception e) {
+						statsCounter.recordLoadFailure(System.nanoTime() - start);
 						throw new RuntimeException(e);
 					}
+					statsCounter.recordLoadSuccess(System.nanoTime() - start);
 					put(key, v, this.timeout);
 				} else {
 					v = co.get(isUpdateLastAccess);
@@ -184,9 +215,79 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		return (timeout != 0) || existCustomTimeout;
 	}
 
+	/**
+	 * 缓存是否已满，对象个数达到容量，或总权重超过最大权重时为满
+	 *
+	 * @return 是否已满
+	 */
 	@Override
 	public boolean isFull() {
-		return (capacity > 0) && (cacheMap.size() >= capacity);
+		return ((capacity > 0) && (cacheMap.size() >= capacity)) || isOverweight();
+	}
+
+	/**
+	 * 设置权重计算器和最大总权重，设置后缓存按照总权重限制大小，总权重超过限制时按照淘汰策略淘汰对象，直到不超过限制，需在加入对象前设置：
+	 * <ul>
+	 *     <li>{@link FIFOCache}、{@link LRUCache}、{@link LFUCache}、{@link BucketLFUCache}支持按照权重淘汰</li>
+	 *     <li>{@link TimedCache}、{@link TimingWheelTimedCache}只清理过期对象，仅统计总权重，不按照权重淘汰</li>
+	 *     <li>{@link TinyLfuCache}、{@link OffHeapCache}不支持权重，调用此方法抛出{@link UnsupportedOperationException}</li>
+	 * </ul>
+	 *
+	 * @param weigher       权重计算器
+	 * @param maximumWeight 最大总权重，须大于0
+	 * @return this
+	 * @since 5.8.10
+	 */
+	public AbstractCache<K, V> setWeigher(Weigher<K, V> weigher, long maximumWeight) {
+		Assert.notNull(weigher, "Weigher must be not null!");
+		Assert.isTrue(maximumWeight > 0, "Maximum weight must be greater than 0!");
+		this.weigher = weigher;
+		this.maximumWeight = maximumWeight;
+		return this;
+	}
+
+	/**
+	 * @return 最大总权重，{@code 0}表示不按照权重限制
+	 * @since 5.8.10
+	 */
+	public long getMaximumWeight() {
+		return this.maximumWeight;
+	}
+
+	/**
+	 * @return 当前总权重
+	 * @since 5.8.10
+	 */
+	public long getTotalWeight() {
+		return this.totalWeight.sum();
+	}
+
+	/**
+	 * 总权重是否超过最大权重
+	 *
+	 * @return 是否超过最大权重
+	 * @since 5.8.10
+	 */
+	protected boolean isOverweight() {
+		return (maximumWeight > 0) && (totalWeight.sum() > maximumWeight);
+	}
+
+	/**
+	 * 计算对象权重，未设置权重计算器时为0
+	 *
+	 * @param key    键
+	 * @param object 值
+	 * @return 权重
+	 * @since 5.8.10
+	 */
+	protected int weigh(K key, V object) {
+		final Weigher<K, V> weigher = this.weigher;
+		if (null == weigher) {
+			return 0;
+		}
+		final int weight = weigher.weigh(key, object);
+		Assert.isTrue(weight >= 0, "Weight must be not negative: {}", weight);
+		return weight;
 	}
 
 	@Override
@@ -228,18 +329,44 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		return this.cacheMap.keySet().stream().map(Mutable::get).collect(Collectors.toSet());
 	}
 
+	@Override
+	public CacheStats stats() {
+		return statsCounter.snapshot(hitCount.sum(), missCount.sum(), size());
+	}
+
+	/**
+	 * 对象移除回调，记录移除统计，调用{@link #onRemove(Object, Object)}后通知监听<br>
+	 * 子类可重写此方法用于监听移除事件，如果重写，需调用父方法，否则权重、统计和listener将无效
+	 *
+	 * @param co    被移除的缓存对象
+	 * @param cause 移除原因
+	 * @since 5.8.10
+	 */
+	protected void onRemove(CacheObj<K, V> co, RemovalCause cause) {
+		if (0 != co.weight) {
+			totalWeight.add(-co.weight);
+		}
+		statsCounter.recordRemoval(cause, System.currentTimeMillis() - co.createTime);
+		onRemove(co.key, co.obj);
+		final CacheListener<K, V> listener = this.listener;
+		if (listener instanceof CacheObjListener) {
+			((CacheObjListener<K, V>) listener).onRemove(co, cause);
+		} else if (null != listener) {
+			listener.onRemove(co.key, co.obj, cause);
+		}
+	}
+
 	/**
 	 * 对象移除回调。默认无动作<br>
-	 * 子类可重写此方法用于监听移除事件，如果重写，listener将无效
+	 * 由{@link #onRemove(CacheObj, RemovalCause)}在通知listener前调用，子类可重写此方法用于监听移除事件
 	 *
 	 * @param key          键
 	 * @param cachedObject 被缓存的对象
+	 * @deprecated 需要移除原因时请重写{@link #onRemove(CacheObj, RemovalCause)}
 	 */
+	@Deprecated
 	protected void onRemove(K key, V cachedObject) {
-		final CacheListener<K, V> listener = this.listener;
-		if (null != listener) {
-			listener.onRemove(key, cachedObject);
-		}
+		// 默认无动作，listener由onRemove(CacheObj, RemovalCause)通知
 	}
 
 	/**
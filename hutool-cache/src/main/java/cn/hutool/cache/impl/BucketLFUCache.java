@@ -0,0 +1,464 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.RemovalCause;
+import cn.hutool.core.lang.mutable.MutableObj;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+
+/**
+ * 基于频率桶的LFU(least frequently used) 最少使用率缓存<br>
+ * 相同访问频率的对象放在同一个桶中，桶之间按照频率从小到大组成双向链表，桶内按照进入顺序排列：
+ * <ul>
+ *     <li>访问对象时，将其移动到相邻的频率+1的桶中，时间复杂度O(1)</li>
+ *     <li>缓存满时，淘汰频率最低的桶中最早进入的对象，时间复杂度O(1)</li>
+ * </ul>
+ * 相比{@link LFUCache}每次淘汰都需要遍历全部对象，此实现适用于大容量缓存。
+ * 与{@link LFUCache}不同，缓存满时不遍历清理过期对象，直接淘汰频率最低的对象，被淘汰的对象已过期时按照过期通知；
+ * 其它过期对象在读取时或调用{@link #prune()}时清理。<br>
+ * 设置权重时，总权重超过限制后同样按照频率从低到高淘汰，直到不超过限制。<br>
+ * 通过{@link #setDecayInterval(long)}可开启频率衰减：每经过指定次数的访问，所有对象的访问频率减半，
+ * 避免过去的热点对象因频率过高而永久占据缓存。
+ *
+ * <p>
+ * 参考：http://dhruvbird.com/lfu.pdf
+ * </p>
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.10
+ */
+public class BucketLFUCache<K, V> extends ReentrantCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 频率最低的桶，不直接序列化，序列化时按照频率顺序写出对象，反序列化时重建，避免序列化链表时递归过深
+	 */
+	private transient FrequencyBucket<K, V> head;
+	/**
+	 * 频率衰减的访问间隔，{@code 0}表示不衰减
+	 */
+	private long decayInterval;
+	/**
+	 * 距上次衰减的访问次数
+	 */
+	private long accessSinceDecay;
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量
+	 */
+	public BucketLFUCache(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量
+	 * @param timeout  过期时长
+	 */
+	public BucketLFUCache(int capacity, long timeout) {
+		if (Integer.MAX_VALUE == capacity) {
+			capacity -= 1;
+		}
+
+		this.capacity = capacity;
+		this.timeout = timeout;
+		cacheMap = new HashMap<>(capacity + 1, 1.0f);
+	}
+
+	/**
+	 * 设置频率衰减的访问间隔，每经过指定次数的访问，所有对象的访问频率减半<br>
+	 * 衰减时只需遍历频率桶和被合并桶中的对象，当间隔不小于容量时，均摊到每次访问的代价为O(1)
+	 *
+	 * @param decayInterval 访问间隔，{@code 0}表示不衰减
+	 * @return this
+	 */
+	public BucketLFUCache<K, V> setDecayInterval(long decayInterval) {
+		acquireLock();
+		try {
+			this.decayInterval = decayInterval;
+			this.accessSinceDecay = 0;
+		} finally {
+			lock.unlock();
+		}
+		return this;
+	}
+
+	/**
+	 * 获取对象的访问频率，对象不存在返回{@code -1}
+	 *
+	 * @param key 键
+	 * @return 访问频率
+	 */
+	public long frequency(K key) {
+		acquireLock();
+		try {
+			final Node<K, V> node = (Node<K, V>) getWithoutLock(key);
+			return (null == node) ? -1 : node.bucket.frequency;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		CacheObj<K, V> co;
+		acquireLock();
+		try {
+			co = getWithoutLock(key);
+			if (null != co && false == co.isExpired()) {
+				increment((Node<K, V>) co);
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		// 未命中
+		if (null == co) {
+			missCount.increment();
+			return null;
+		} else if (false == co.isExpired()) {
+			hitCount.increment();
+			return co.get(isUpdateLastAccess);
+		}
+
+		// 过期，既不算命中也不算非命中
+		remove(key, true);
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		acquireLock();
+		try {
+			super.clear();
+			this.head = null;
+			this.accessSinceDecay = 0;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+		final Node<K, V> node = new Node<>(key, object, timeout);
+		node.weight = weigh(key, object);
+		final CacheObj<K, V> old = cacheMap.put(MutableObj.of(key), node);
+		totalWeight.add(node.weight - (null == old ? 0 : old.weight));
+		if (null != old) {
+			// 替换旧值，新对象重新计数
+			unlink((Node<K, V>) old);
+		} else if (capacity > 0 && cacheMap.size() > capacity) {
+			// 直接淘汰频率最低的对象，不遍历过期对象，保证O(1)
+			evict();
+		}
+
+		// 新对象进入频率为0的桶
+		if (null == head || head.frequency != 0) {
+			final FrequencyBucket<K, V> bucket = new FrequencyBucket<>(0);
+			bucket.next = head;
+			if (null != head) {
+				head.prev = bucket;
+			}
+			head = bucket;
+		}
+		head.addLast(node);
+
+		// 超过最大权重，按照频率从低到高淘汰，直到不超过限制
+		while (isOverweight() && null != head) {
+			evict();
+		}
+	}
+
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key, boolean withMissCount) {
+		final CacheObj<K, V> co = super.removeWithoutLock(key, withMissCount);
+		if (null != co) {
+			unlink((Node<K, V>) co);
+		}
+		return co;
+	}
+
+	/**
+	 * 清理过期对象<br>
+	 * 容量满时的淘汰在{@link #putWithoutLock(Object, Object, long)}中以O(1)完成，不调用此方法，此方法只用于主动清理过期对象。
+	 *
+	 * @return 清理个数
+	 */
+	@Override
+	protected int pruneCache() {
+		if (false == isPruneExpiredActive()) {
+			return 0;
+		}
+		int count = 0;
+		final Iterator<CacheObj<K, V>> values = cacheObjIter();
+		CacheObj<K, V> co;
+		while (values.hasNext()) {
+			co = values.next();
+			if (co.isExpired()) {
+				values.remove();
+				unlink((Node<K, V>) co);
+				onRemove(co, RemovalCause.EXPIRED);
+				count++;
+			}
+		}
+		return count;
+	}
+
+	// ---------------------------------------------------------------- private method start
+
+	/**
+	 * 序列化，在默认字段之后按照频率从低到高、桶内顺序写出对象及其频率
+	 *
+	 * @param out {@link ObjectOutputStream}
+	 * @throws IOException IO异常
+	 */
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		acquireLock();
+		try {
+			out.defaultWriteObject();
+			out.writeInt(cacheMap.size());
+			for (FrequencyBucket<K, V> bucket = head; null != bucket; bucket = bucket.next) {
+				for (Node<K, V> node = bucket.first; null != node; node = node.next) {
+					// 对象已随Map写出，此处只写出引用
+					out.writeObject(node);
+					out.writeLong(bucket.frequency);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 反序列化，按照写出顺序重建频率桶
+	 *
+	 * @param in {@link ObjectInputStream}
+	 * @throws IOException            IO异常
+	 * @throws ClassNotFoundException 类未找到
+	 */
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		final int size = in.readInt();
+		FrequencyBucket<K, V> last = null;
+		Node<K, V> node;
+		long frequency;
+		for (int i = 0; i < size; i++) {
+			node = (Node<K, V>) in.readObject();
+			frequency = in.readLong();
+			if (null == last || last.frequency != frequency) {
+				final FrequencyBucket<K, V> bucket = new FrequencyBucket<>(frequency);
+				if (null == last) {
+					head = bucket;
+				} else {
+					insertAfter(last, bucket);
+				}
+				last = bucket;
+			}
+			last.addLast(node);
+		}
+	}
+
+	/**
+	 * 淘汰频率最低的桶中最早进入的对象，只检查此对象是否过期
+	 */
+	private void evict() {
+		if (null == head) {
+			return;
+		}
+		final Node<K, V> node = head.first;
+		cacheMap.remove(MutableObj.of(node.key));
+		unlink(node);
+		onRemove(node, node.isExpired() ? RemovalCause.EXPIRED : RemovalCause.SIZE);
+	}
+
+	/**
+	 * 对象访问频率+1，移动到下一个桶中
+	 *
+	 * @param node 对象节点
+	 */
+	private void increment(Node<K, V> node) {
+		final FrequencyBucket<K, V> bucket = node.bucket;
+		final long frequency = bucket.frequency + 1;
+		FrequencyBucket<K, V> next = bucket.next;
+		if (null == next || next.frequency != frequency) {
+			next = new FrequencyBucket<>(frequency);
+			insertAfter(bucket, next);
+		}
+		unlink(node);
+		next.addLast(node);
+
+		if (decayInterval > 0 && ++accessSinceDecay >= decayInterval) {
+			decay();
+		}
+	}
+
+	/**
+	 * 所有频率减半，减半后频率相同的相邻桶合并，频率较低的桶中对象排在前面，优先被淘汰
+	 */
+	private void decay() {
+		this.accessSinceDecay = 0;
+		FrequencyBucket<K, V> kept = null;
+		FrequencyBucket<K, V> bucket = head;
+		FrequencyBucket<K, V> next;
+		while (null != bucket) {
+			next = bucket.next;
+			bucket.frequency >>>= 1;
+			if (null != kept && kept.frequency == bucket.frequency) {
+				kept.merge(bucket);
+				removeBucket(bucket);
+			} else {
+				kept = bucket;
+			}
+			bucket = next;
+		}
+	}
+
+	/**
+	 * 将对象从所在的桶中移除，桶为空时移除桶
+	 *
+	 * @param node 对象节点
+	 */
+	private void unlink(Node<K, V> node) {
+		final FrequencyBucket<K, V> bucket = node.bucket;
+		if (null == bucket) {
+			return;
+		}
+		bucket.remove(node);
+		if (null == bucket.first) {
+			removeBucket(bucket);
+		}
+	}
+
+	/**
+	 * 在指定桶后插入新桶
+	 *
+	 * @param bucket    指定桶
+	 * @param newBucket 新桶
+	 */
+	private void insertAfter(FrequencyBucket<K, V> bucket, FrequencyBucket<K, V> newBucket) {
+		newBucket.prev = bucket;
+		newBucket.next = bucket.next;
+		if (null != bucket.next) {
+			bucket.next.prev = newBucket;
+		}
+		bucket.next = newBucket;
+	}
+
+	/**
+	 * 从桶链表中移除桶
+	 *
+	 * @param bucket 桶
+	 */
+	private void removeBucket(FrequencyBucket<K, V> bucket) {
+		if (null == bucket.prev) {
+			head = bucket.next;
+		} else {
+			bucket.prev.next = bucket.next;
+		}
+		if (null != bucket.next) {
+			bucket.next.prev = bucket.prev;
+		}
+		bucket.prev = null;
+		bucket.next = null;
+	}
+	// ---------------------------------------------------------------- private method end
+
+	/**
+	 * 缓存节点，记录所在的频率桶及桶内前后节点
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class Node<K, V> extends CacheObj<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		transient FrequencyBucket<K, V> bucket;
+		transient Node<K, V> prev;
+		transient Node<K, V> next;
+
+		Node(K key, V obj, long ttl) {
+			super(key, obj, ttl);
+		}
+	}
+
+	/**
+	 * 频率桶，保存相同访问频率的对象
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class FrequencyBucket<K, V> {
+		long frequency;
+		FrequencyBucket<K, V> prev;
+		FrequencyBucket<K, V> next;
+		Node<K, V> first;
+		Node<K, V> last;
+
+		FrequencyBucket(long frequency) {
+			this.frequency = frequency;
+		}
+
+		void addLast(Node<K, V> node) {
+			node.bucket = this;
+			node.prev = last;
+			node.next = null;
+			if (null == last) {
+				first = node;
+			} else {
+				last.next = node;
+			}
+			last = node;
+		}
+
+		void remove(Node<K, V> node) {
+			if (null == node.prev) {
+				first = node.next;
+			} else {
+				node.prev.next = node.next;
+			}
+			if (null == node.next) {
+				last = node.prev;
+			} else {
+				node.next.prev = node.prev;
+			}
+			node.prev = null;
+			node.next = null;
+			node.bucket = null;
+		}
+
+		/**
+		 * 将另一个桶中的对象追加到此桶尾部
+		 *
+		 * @param other 另一个桶
+		 */
+		void merge(FrequencyBucket<K, V> other) {
+			for (Node<K, V> node = other.first; null != node; node = node.next) {
+				node.bucket = this;
+			}
+			if (null == other.first) {
+				return;
+			}
+			if (null == last) {
+				first = other.first;
+			} else {
+				last.next = other.first;
+				other.first.prev = last;
+			}
+			last = other.last;
+			other.first = null;
+			other.last = null;
+		}
+	}
+}
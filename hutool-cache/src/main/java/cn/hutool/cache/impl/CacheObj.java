@@ -19,6 +19,10 @@ public class CacheObj<K, V> implements Serializable {
 	protected final K key;
 	protected final V obj;
 
+	/**
+	 * 加入缓存的时间
+	 */
+	protected long createTime;
 	/**
 	 * 上次访问时间
 	 */
@@ -31,6 +35,10 @@ public class CacheObj<K, V> implements Serializable {
 	 * 对象存活时长，0表示永久存活
 	 */
 	protected final long ttl;
+	/**
+	 * 对象权重，未设置{@link cn.hutool.cache.Weigher}时为0
+	 */
+	protected int weight;
 
 	/**
 	 * 构造
@@ -44,6 +52,7 @@ public class CacheObj<K, V> implements Serializable {
 		this.obj = obj;
 		this.ttl = ttl;
 		this.lastAccess = System.currentTimeMillis();
+		this.createTime = this.lastAccess;
 	}
 
 	/**
@@ -89,6 +98,16 @@ public class CacheObj<K, V> implements Serializable {
 		return null;
 	}
 
+	/**
+	 * 获取加入缓存的时间
+	 *
+	 * @return 加入缓存的时间
+	 * @since 5.8.10
+	 */
+	public long getCreateTime() {
+		return this.createTime;
+	}
+
 	/**
 	 * 获取上次访问时间
 	 *
@@ -0,0 +1,24 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.RemovalCause;
+
+/**
+ * 可获取被移除的{@link CacheObj}的缓存监听，{@link AbstractCache}移除对象时优先回调此方法，
+ * 用于包装缓存时获取被移除对象的过期时长、访问时间等信息，仅供内部使用
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.10
+ */
+interface CacheObjListener<K, V> extends CacheListener<K, V> {
+
+	/**
+	 * 对象移除回调
+	 *
+	 * @param co    被移除的缓存对象
+	 * @param cause 移除原因
+	 */
+	void onRemove(CacheObj<K, V> co, RemovalCause cause);
+}
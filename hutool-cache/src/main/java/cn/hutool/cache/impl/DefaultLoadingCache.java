@@ -0,0 +1,473 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.Cache;
+import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.CacheLoader;
+import cn.hutool.cache.CacheStats;
+import cn.hutool.cache.LoadingCache;
+import cn.hutool.cache.RemovalCause;
+import cn.hutool.cache.StatsCounter;
+import cn.hutool.core.exceptions.ExceptionUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.func.Func0;
+import cn.hutool.core.thread.GlobalThreadPool;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 默认的自动加载缓存实现，包装已有的{@link Cache}（如{@link LRUCache}、{@link TimedCache}等）实现：
+ * <ul>
+ *     <li>未命中时通过{@link CacheLoader}加载，同一个键同时只有一个加载，其它线程等待同一个加载结果</li>
+ *     <li>写入后刷新（refresh-ahead）：对象写入超过指定时长后，读取时在后台重新加载，期间依旧返回旧值</li>
+ *     <li>异步获取和批量获取</li>
+ * </ul>
+ * 注意：包装时会占用被包装缓存的监听，请通过{@link #setListener(CacheListener)}设置监听；键不能为{@code null}。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.10
+ */
+public class DefaultLoadingCache<K, V> implements LoadingCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	private final Cache<K, V> cache;
+	private final CacheLoader<K, V> loader;
+	/**
+	 * 正在加载或刷新的键
+	 */
+	private transient Map<K, CompletableFuture<V>> loadingMap = new ConcurrentHashMap<>();
+	/**
+	 * 键的写入时间，用于判断是否需要刷新
+	 */
+	private final Map<K, Long> writeTimeMap = new ConcurrentHashMap<>();
+	/**
+	 * 写入后刷新时长，单位毫秒，{@code 0}表示不刷新
+	 */
+	private long refreshAfterWrite;
+	/**
+	 * 异步加载和刷新使用的线程池
+	 */
+	private transient Executor executor = GlobalThreadPool.getExecutor();
+	/**
+	 * 加载统计
+	 */
+	private final StatsCounter statsCounter = new StatsCounter();
+	private CacheListener<K, V> listener;
+
+	/**
+	 * 构造
+	 *
+	 * @param cache  被包装的缓存
+	 * @param loader 缓存加载器
+	 */
+	public DefaultLoadingCache(Cache<K, V> cache, CacheLoader<K, V> loader) {
+		this.cache = Assert.notNull(cache, "Cache must be not null!");
+		this.loader = Assert.notNull(loader, "CacheLoader must be not null!");
+		this.cache.setListener(new RemovalForwarder());
+	}
+
+	/**
+	 * 设置写入后刷新时长，对象写入超过此时长后，下次读取时在后台重新加载
+	 *
+	 * @param refreshAfterWrite 刷新时长，单位毫秒，{@code 0}表示不刷新
+	 * @return this
+	 */
+	public DefaultLoadingCache<K, V> setRefreshAfterWrite(long refreshAfterWrite) {
+		this.refreshAfterWrite = refreshAfterWrite;
+		return this;
+	}
+
+	/**
+	 * 设置异步加载和刷新使用的线程池，默认使用{@link GlobalThreadPool}
+	 *
+	 * @param executor 线程池
+	 * @return this
+	 */
+	public DefaultLoadingCache<K, V> setExecutor(Executor executor) {
+		this.executor = Assert.notNull(executor, "Executor must be not null!");
+		return this;
+	}
+
+	// ---------------------------------------------------------------- load start
+	@Override
+	public V get(K key) {
+		final V value = cache.get(key);
+		if (null != value) {
+			refreshIfNecessary(key);
+			return value;
+		}
+		return load(key);
+	}
+
+	@Override
+	public Map<K, V> getAll(Iterable<? extends K> keys) {
+		final Map<K, V> found = new HashMap<>();
+		final List<K> missingKeys = new ArrayList<>();
+		V value;
+		for (K key : keys) {
+			value = cache.get(key);
+			if (null != value) {
+				refreshIfNecessary(key);
+				found.put(key, value);
+			} else {
+				missingKeys.add(key);
+			}
+		}
+
+		if (false == missingKeys.isEmpty()) {
+			final Map<K, V> loaded;
+			final long start = System.nanoTime();
+			try {
+				loaded = loader.loadAll(missingKeys);
+			} catch (Exception e) {
+				statsCounter.recordLoadFailure(System.nanoTime() - start);
+				throw ExceptionUtil.wrapRuntime(e);
+			}
+			statsCounter.recordLoadSuccess(System.nanoTime() - start);
+			if (null != loaded) {
+				for (K key : missingKeys) {
+					value = loaded.get(key);
+					if (null != value) {
+						put(key, value);
+						found.put(key, value);
+					}
+				}
+			}
+		}
+
+		// 按照传入键的顺序返回
+		final Map<K, V> result = new LinkedHashMap<>(found.size(), 1);
+		for (K key : keys) {
+			value = found.get(key);
+			if (null != value) {
+				result.put(key, value);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public CompletableFuture<V> getAsync(K key) {
+		final V value = cache.get(key);
+		if (null != value) {
+			refreshIfNecessary(key);
+			return CompletableFuture.completedFuture(value);
+		}
+		return submit(key, () -> {
+			// 双重检查，防止在获取加载权之前其它线程已经加载完成
+			V loaded = cache.get(key, false);
+			if (null == loaded) {
+				loaded = load(() -> loader.load(key));
+				if (null != loaded) {
+					put(key, loaded);
+				}
+			}
+			return loaded;
+		});
+	}
+
+	@Override
+	public CompletableFuture<V> refresh(K key) {
+		return submit(key, () -> {
+			final V oldValue = cache.get(key, false);
+			final V newValue;
+			try {
+				newValue = load(() -> (null == oldValue) ? loader.load(key) : loader.reload(key, oldValue));
+			} catch (Exception e) {
+				// 加载失败同样保留旧值并重新计时，避免每次读取都向故障的数据源发起刷新
+				writeTimeMap.replace(key, System.currentTimeMillis());
+				throw e;
+			}
+			if (null != newValue) {
+				put(key, newValue);
+				return newValue;
+			}
+			// 保留旧值，重新计时，避免每次读取都触发刷新；旧值已被移除时不再记录
+			writeTimeMap.replace(key, System.currentTimeMillis());
+			return oldValue;
+		});
+	}
+	// ---------------------------------------------------------------- load end
+
+	// ---------------------------------------------------------------- delegate start
+	@Override
+	public int capacity() {
+		return cache.capacity();
+	}
+
+	@Override
+	public long timeout() {
+		return cache.timeout();
+	}
+
+	@Override
+	public void put(K key, V object) {
+		// 先记录写入时间，如果加入时即被淘汰，移除回调会清理写入时间
+		writeTimeMap.put(key, System.currentTimeMillis());
+		cache.put(key, object);
+	}
+
+	@Override
+	public void put(K key, V object, long timeout) {
+		writeTimeMap.put(key, System.currentTimeMillis());
+		cache.put(key, object, timeout);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess, Func0<V> supplier) {
+		return cache.get(key, isUpdateLastAccess, supplier);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		return cache.get(key, isUpdateLastAccess);
+	}
+
+	@Override
+	public Iterator<CacheObj<K, V>> cacheObjIterator() {
+		return cache.cacheObjIterator();
+	}
+
+	@Override
+	public Iterator<V> iterator() {
+		return cache.iterator();
+	}
+
+	@Override
+	public int prune() {
+		return cache.prune();
+	}
+
+	@Override
+	public boolean isFull() {
+		return cache.isFull();
+	}
+
+	@Override
+	public void remove(K key) {
+		cache.remove(key);
+		writeTimeMap.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		cache.clear();
+		writeTimeMap.clear();
+	}
+
+	@Override
+	public int size() {
+		return cache.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return cache.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		return cache.containsKey(key);
+	}
+
+	@Override
+	public DefaultLoadingCache<K, V> setListener(CacheListener<K, V> listener) {
+		this.listener = listener;
+		return this;
+	}
+
+	/**
+	 * 被包装缓存的统计，加上此缓存通过{@link CacheLoader}加载的统计
+	 *
+	 * @return {@link CacheStats}
+	 */
+	@Override
+	public CacheStats stats() {
+		return cache.stats().plus(statsCounter.snapshot(0, 0, 0));
+	}
+
+	@Override
+	public String toString() {
+		return cache.toString();
+	}
+	// ---------------------------------------------------------------- delegate end
+
+	// ---------------------------------------------------------------- private method start
+
+	/**
+	 * 同步加载，同一个键只有一个线程执行加载，其它线程等待结果
+	 *
+	 * @param key 键
+	 * @return 值
+	 */
+	private V load(K key) {
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final CompletableFuture<V> loading = loadingMap.putIfAbsent(key, future);
+		if (null != loading) {
+			return join(loading);
+		}
+
+		try {
+			// 双重检查，防止在获取加载权之前其它线程已经加载完成
+			V value = cache.get(key, false);
+			if (null == value) {
+				value = load(() -> loader.load(key));
+				if (null != value) {
+					put(key, value);
+				}
+			}
+			future.complete(value);
+			return value;
+		} catch (Throwable e) {
+			future.completeExceptionally(e);
+			throw ExceptionUtil.wrapRuntime(e);
+		} finally {
+			loadingMap.remove(key, future);
+		}
+	}
+
+	/**
+	 * 执行加载并记录加载耗时
+	 *
+	 * @param task 加载任务
+	 * @return 值
+	 * @throws Exception 加载异常
+	 */
+	private V load(Callable<V> task) throws Exception {
+		final long start = System.nanoTime();
+		final V value;
+		try {
+			value = task.call();
+		} catch (Exception e) {
+			statsCounter.recordLoadFailure(System.nanoTime() - start);
+			throw e;
+		}
+		statsCounter.recordLoadSuccess(System.nanoTime() - start);
+		return value;
+	}
+
+	/**
+	 * 在线程池中执行加载，同一个键同时只有一个加载任务
+	 *
+	 * @param key  键
+	 * @param task 加载任务
+	 * @return {@link CompletableFuture}
+	 */
+	private CompletableFuture<V> submit(K key, Callable<V> task) {
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final CompletableFuture<V> loading = loadingMap.putIfAbsent(key, future);
+		if (null != loading) {
+			return loading;
+		}
+
+		try {
+			executor.execute(() -> {
+				try {
+					future.complete(task.call());
+				} catch (Throwable e) {
+					future.completeExceptionally(e);
+				} finally {
+					loadingMap.remove(key, future);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			loadingMap.remove(key, future);
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	/**
+	 * 如果对象写入时间超过刷新时长，则在后台刷新
+	 *
+	 * @param key 键
+	 */
+	private void refreshIfNecessary(K key) {
+		if (refreshAfterWrite <= 0) {
+			return;
+		}
+		final Long writeTime = writeTimeMap.get(key);
+		if (null != writeTime
+				&& System.currentTimeMillis() - writeTime >= refreshAfterWrite
+				&& false == loadingMap.containsKey(key)) {
+			refresh(key);
+		}
+	}
+
+	/**
+	 * 等待加载结果，加载异常转换为运行时异常抛出
+	 *
+	 * @param future {@link CompletableFuture}
+	 * @return 值
+	 */
+	private V join(CompletableFuture<V> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			throw ExceptionUtil.wrapRuntime(null == e.getCause() ? e : e.getCause());
+		}
+	}
+
+	/**
+	 * 被包装缓存的移除回调，清理写入时间并转发给监听
+	 *
+	 * @param key          键
+	 * @param cachedObject 被缓存的对象
+	 * @param cause        移除原因
+	 */
+	private void onRemove(K key, V cachedObject, RemovalCause cause) {
+		if (null != key) {
+			writeTimeMap.remove(key);
+		}
+		final CacheListener<K, V> listener = this.listener;
+		if (null != listener) {
+			listener.onRemove(key, cachedObject, cause);
+		}
+	}
+
+	/**
+	 * 反序列化，重建加载中的键和线程池
+	 *
+	 * @param in {@link ObjectInputStream}
+	 * @throws IOException            IO异常
+	 * @throws ClassNotFoundException 类未找到
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		this.loadingMap = new ConcurrentHashMap<>();
+		this.executor = GlobalThreadPool.getExecutor();
+	}
+	// ---------------------------------------------------------------- private method end
+
+	/**
+	 * 被包装缓存的监听，将移除事件转发给{@link DefaultLoadingCache#onRemove(Object, Object, RemovalCause)}
+	 */
+	private class RemovalForwarder implements CacheListener<K, V>, Serializable {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public void onRemove(K key, V cachedObject) {
+			DefaultLoadingCache.this.onRemove(key, cachedObject, RemovalCause.EXPLICIT);
+		}
+
+		@Override
+		public void onRemove(K key, V cachedObject, RemovalCause cause) {
+			DefaultLoadingCache.this.onRemove(key, cachedObject, cause);
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.RemovalCause;
+
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 
@@ -57,7 +59,7 @@ public class FIFOCache<K, V> extends StampedCache<K, V> {
 				CacheObj<K, V> co = values.next();
 				if (co.isExpired()) {
 					values.remove();
-					onRemove(co.key, co.obj);
+					onRemove(co, RemovalCause.EXPIRED);
 					count++;
 					continue;
 				}
@@ -72,9 +74,21 @@ public class FIFOCache<K, V> extends StampedCache<K, V> {
 		// 清理结束后依旧是满的，则删除第一个被缓存的对象
 		if (isFull() && null != first) {
 			removeWithoutLock(first.key, false);
-			onRemove(first.key, first.obj);
+			onRemove(first, RemovalCause.SIZE);
 			count++;
 		}
+
+		// 按照权重限制时，可能需要继续删除先入的对象
+		if (isOverweight()) {
+			final Iterator<CacheObj<K, V>> iter = cacheObjIter();
+			CacheObj<K, V> co;
+			while (isOverweight() && iter.hasNext()) {
+				co = iter.next();
+				iter.remove();
+				onRemove(co, RemovalCause.SIZE);
+				count++;
+			}
+		}
 		return count;
 	}
 }
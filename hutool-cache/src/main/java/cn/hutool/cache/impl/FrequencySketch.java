@@ -0,0 +1,170 @@
+package cn.hutool.cache.impl;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * 基于Count-Min Sketch的访问频率估算器，用于TinyLFU的准入过滤<br>
+ * 每个long值保存16个4位计数器，每个元素通过4个哈希函数映射到同一个long中的4个计数器上，取最小值作为频率估算值。<br>
+ * 当累计增加次数达到采样数（容量的10倍）时，所有计数器减半，以此实现频率的衰减，避免历史热点永久占据缓存。
+ *
+ * <p>
+ * 此类非线程安全，需由调用者加锁保护。
+ * </p>
+ *
+ * <p>参考：https://arxiv.org/pdf/1512.00727.pdf</p>
+ *
+ * @param <E> 元素类型
+ * @author looly
+ * @since 5.8.10
+ */
+public class FrequencySketch<E> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final long[] SEED = {
+			0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final long ONE_MASK = 0x1111111111111111L;
+
+	private int sampleSize;
+	private int tableMask;
+	private long[] table;
+	private int size;
+
+	/**
+	 * 构造
+	 *
+	 * @param maximumSize 预估的最大元素数，一般为缓存容量
+	 */
+	public FrequencySketch(long maximumSize) {
+		ensureCapacity(maximumSize);
+	}
+
+	/**
+	 * 根据最大元素数重新初始化计数表，原有计数将被丢弃
+	 *
+	 * @param maximumSize 预估的最大元素数
+	 */
+	public void ensureCapacity(long maximumSize) {
+		final int maximum = (int) Math.min(Math.max(maximumSize, 1), Integer.MAX_VALUE >>> 1);
+		this.table = new long[ceilingPowerOfTwo(maximum)];
+		this.tableMask = Math.max(0, table.length - 1);
+		this.sampleSize = (int) Math.min(10L * maximum, Integer.MAX_VALUE);
+		this.size = 0;
+	}
+
+	/**
+	 * 获取元素的估算访问频率，最大值为15
+	 *
+	 * @param e 元素
+	 * @return 估算频率
+	 */
+	public int frequency(E e) {
+		final int hash = spread(e.hashCode());
+		final int start = (hash & 3) << 2;
+		int frequency = Integer.MAX_VALUE;
+		for (int i = 0; i < 4; i++) {
+			final int index = indexOf(hash, i);
+			final int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+			frequency = Math.min(frequency, count);
+		}
+		return frequency;
+	}
+
+	/**
+	 * 增加元素的访问频率，达到采样数后所有计数器减半
+	 *
+	 * @param e 元素
+	 */
+	public void increment(E e) {
+		final int hash = spread(e.hashCode());
+		final int start = (hash & 3) << 2;
+
+		// 循环展开，使用非短路或保证4个计数器都被增加
+		final int index0 = indexOf(hash, 0);
+		final int index1 = indexOf(hash, 1);
+		final int index2 = indexOf(hash, 2);
+		final int index3 = indexOf(hash, 3);
+
+		boolean added = incrementAt(index0, start);
+		added |= incrementAt(index1, start + 1);
+		added |= incrementAt(index2, start + 2);
+		added |= incrementAt(index3, start + 3);
+
+		if (added && (++size == sampleSize)) {
+			reset();
+		}
+	}
+
+	/**
+	 * 清空所有计数
+	 */
+	public void clear() {
+		Arrays.fill(table, 0L);
+		this.size = 0;
+	}
+
+	/**
+	 * 指定计数器加1，计数器已满（15）时不变
+	 *
+	 * @param i 表位置
+	 * @param j 计数器在long中的位置（0~15）
+	 * @return 是否增加成功
+	 */
+	private boolean incrementAt(int i, int j) {
+		final int offset = j << 2;
+		final long mask = (0xfL << offset);
+		if ((table[i] & mask) != mask) {
+			table[i] += (1L << offset);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * 所有计数器减半
+	 */
+	private void reset() {
+		int count = 0;
+		for (int i = 0; i < table.length; i++) {
+			count += Long.bitCount(table[i] & ONE_MASK);
+			table[i] = (table[i] >>> 1) & RESET_MASK;
+		}
+		size = (size >>> 1) - (count >>> 2);
+	}
+
+	/**
+	 * 第i个哈希函数对应的表位置
+	 *
+	 * @param item 元素hash
+	 * @param i    哈希函数序号
+	 * @return 表位置
+	 */
+	private int indexOf(int item, int i) {
+		long hash = (item + SEED[i]) * SEED[i];
+		hash += (hash >>> 32);
+		return ((int) hash) & tableMask;
+	}
+
+	/**
+	 * 对hashCode进行再哈希，防止低质量的hashCode导致计数器分布不均
+	 *
+	 * @param x hashCode
+	 * @return 再哈希值
+	 */
+	private static int spread(int x) {
+		x = ((x >>> 16) ^ x) * 0x45d9f3b;
+		x = ((x >>> 16) ^ x) * 0x45d9f3b;
+		return (x >>> 16) ^ x;
+	}
+
+	/**
+	 * 大于等于给定值的最小2的幂
+	 *
+	 * @param x 值
+	 * @return 2的幂
+	 */
+	private static int ceilingPowerOfTwo(int x) {
+		return 1 << -Integer.numberOfLeadingZeros(x - 1);
+	}
+}
@@ -1,5 +1,7 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.RemovalCause;
+
 import java.util.HashMap;
 import java.util.Iterator;
 
@@ -63,7 +65,7 @@ public class LFUCache<K, V> extends StampedCache<K, V> {
 			co = values.next();
 			if (co.isExpired() == true) {
 				values.remove();
-				onRemove(co.key, co.obj);
+				onRemove(co, RemovalCause.EXPIRED);
 				count++;
 				continue;
 			}
@@ -75,8 +77,10 @@ public class LFUCache<K, V> extends StampedCache<K, V> {
 		}
 
 		// 减少所有对象访问量，并清除减少后为0的访问对象
-		if (isFull() && comin != null) {
+		// 按照权重限制时，一轮清除后可能依旧超过限制，需重复直到不超过限制
+		while (isFull() && comin != null) {
 			long minAccessCount = comin.accessCount.get();
+			comin = null;
 
 			values = cacheObjIter();
 			CacheObj<K, V> co1;
@@ -84,10 +88,16 @@ public class LFUCache<K, V> extends StampedCache<K, V> {
 				co1 = values.next();
 				if (co1.accessCount.addAndGet(-minAccessCount) <= 0) {
 					values.remove();
-					onRemove(co1.key, co1.obj);
+					onRemove(co1, RemovalCause.SIZE);
 					count++;
+				} else if (comin == null || co1.accessCount.get() < comin.accessCount.get()) {
+					comin = co1;
 				}
 			}
+
+			if (false == isOverweight()) {
+				break;
+			}
 		}
 
 		return count;
@@ -1,5 +1,6 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.RemovalCause;
 import cn.hutool.core.lang.mutable.Mutable;
 import cn.hutool.core.map.FixedLinkedHashMap;
 
@@ -44,32 +45,40 @@ public class LRUCache<K, V> extends ReentrantCache<K, V> {
 
 		//链表key按照访问顺序排序，调用get方法后，会将这次访问的元素移至头部
 		final FixedLinkedHashMap<Mutable<K>, CacheObj<K, V>> fixedLinkedHashMap = new FixedLinkedHashMap<>(capacity);
-		fixedLinkedHashMap.setRemoveListener(entry -> {
-			if(null != listener){
-				listener.onRemove(entry.getKey().get(), entry.getValue().getValue());
-			}
-		});
+		fixedLinkedHashMap.setRemoveListener(entry -> onRemove(entry.getValue(), RemovalCause.SIZE));
 		cacheMap = fixedLinkedHashMap;
 	}
 
 	// ---------------------------------------------------------------- prune
 
 	/**
-	 * 只清理超时对象，LRU的实现会交给{@code LinkedHashMap}
+	 * 清理超时对象，按照个数的LRU淘汰交给{@code LinkedHashMap}<br>
+	 * 按照权重限制时，总权重超过限制则从最久未使用的对象开始淘汰，直到不超过限制
 	 */
 	@Override
 	protected int pruneCache() {
-		if (isPruneExpiredActive() == false) {
-			return 0;
-		}
 		int count = 0;
-		Iterator<CacheObj<K, V>> values = cacheObjIter();
+		Iterator<CacheObj<K, V>> values;
 		CacheObj<K, V> co;
-		while (values.hasNext()) {
-			co = values.next();
-			if (co.isExpired()) {
+		if (isPruneExpiredActive()) {
+			values = cacheObjIter();
+			while (values.hasNext()) {
+				co = values.next();
+				if (co.isExpired()) {
+					values.remove();
+					onRemove(co, RemovalCause.EXPIRED);
+					count++;
+				}
+			}
+		}
+
+		if (isOverweight()) {
+			// 链表按照访问顺序排列，头部为最久未使用的对象
+			values = cacheObjIter();
+			while (isOverweight() && values.hasNext()) {
+				co = values.next();
 				values.remove();
-				onRemove(co.key, co.obj);
+				onRemove(co, RemovalCause.SIZE);
 				count++;
 			}
 		}
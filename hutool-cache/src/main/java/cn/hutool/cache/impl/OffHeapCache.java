@@ -0,0 +1,542 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.RemovalCause;
+import cn.hutool.cache.Weigher;
+import cn.hutool.cache.serialize.CacheSerializer;
+import cn.hutool.core.io.BufferUtil;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.mutable.MutableObj;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * 堆外缓存，对象序列化后存储于堆外内存（{@link ByteBuffer#allocateDirect(int)}）或内存映射文件中，
+ * 堆内只保留键及对象位置的索引，适用于缓存大量对象而不希望增加GC压力的场景。<br>
+ * 存储空间分为若干个固定大小的段（slab），对象顺序追加写入当前段，当前段写满时写入下一个段，
+ * 所有段写满后循环复用最早写入的段，其中仍然有效的对象被淘汰（FIFO），因此：
+ * <ul>
+ *     <li>写入和淘汰均无需在堆外内存中分配和回收小块空间，没有碎片问题</li>
+ *     <li>被移除或替换的对象占用的空间在所在段被复用时回收</li>
+ *     <li>序列化后大于一个段的对象无法存储，会被忽略</li>
+ * </ul>
+ * 读取时在乐观读锁下复制对象的bytes，反序列化在锁外进行。<br>
+ * 键保存在堆内的索引中用于查找，不做序列化，只有值存储于堆外。
+ *
+ * <p>
+ * 使用文件存储时，文件在关闭后保留，但内容仅在本缓存实例内有效，重新打开不会恢复已有对象。<br>
+ * 序列化时写出所有有效对象的bytes，反序列化后的缓存使用堆外内存存储。
+ * </p>
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.10
+ */
+public class OffHeapCache<K, V> extends StampedCache<K, V> implements Closeable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 默认段大小：1M
+	 */
+	public static final int DEFAULT_SLAB_SIZE = 1024 * 1024;
+
+	private final CacheSerializer<V> valueSerializer;
+	private final int slabSize;
+	private final int slabCount;
+	/**
+	 * 段分配器，按照段序号分配存储空间
+	 */
+	private transient IntFunction<ByteBuffer> slabAllocator;
+	private transient ByteBuffer[] slabs;
+	/**
+	 * 每个段中写入的对象，段被复用时用于淘汰其中仍然有效的对象
+	 */
+	private transient List<Node<K, V>>[] slabNodes;
+	/**
+	 * 文件存储时的文件通道
+	 */
+	private transient FileChannel fileChannel;
+	/**
+	 * 当前写入的段
+	 */
+	private transient int currentSlab;
+	/**
+	 * 当前段的写入位置
+	 */
+	private transient int writePosition;
+
+	/**
+	 * 构造，使用堆外内存存储
+	 *
+	 * @param slabSize        段大小，单位字节
+	 * @param slabCount       段数，总存储空间为段大小*段数
+	 * @param timeout         过期时长，单位毫秒，{@code 0}表示不过期
+	 * @param valueSerializer 值序列化器
+	 */
+	public OffHeapCache(int slabSize, int slabCount, long timeout, CacheSerializer<V> valueSerializer) {
+		this(slabSize, slabCount, timeout, valueSerializer, null);
+	}
+
+	/**
+	 * 构造，使用内存映射文件存储，文件不存在时创建
+	 *
+	 * @param file            存储文件
+	 * @param slabSize        段大小，单位字节
+	 * @param slabCount       段数，文件大小为段大小*段数
+	 * @param timeout         过期时长，单位毫秒，{@code 0}表示不过期
+	 * @param valueSerializer 值序列化器
+	 * @throws IORuntimeException 文件打开失败
+	 */
+	public OffHeapCache(File file, int slabSize, int slabCount, long timeout, CacheSerializer<V> valueSerializer) throws IORuntimeException {
+		this(slabSize, slabCount, timeout, valueSerializer, openChannel(file));
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param slabSize        段大小，单位字节
+	 * @param slabCount       段数
+	 * @param timeout         过期时长，单位毫秒，{@code 0}表示不过期
+	 * @param valueSerializer 值序列化器
+	 * @param fileChannel     文件通道，{@code null}表示使用堆外内存
+	 */
+	private OffHeapCache(int slabSize, int slabCount, long timeout, CacheSerializer<V> valueSerializer, FileChannel fileChannel) {
+		Assert.isTrue(slabSize > 0, "Slab size must be greater than 0!");
+		Assert.isTrue(slabCount > 0, "Slab count must be greater than 0!");
+		this.valueSerializer = Assert.notNull(valueSerializer, "Value serializer must be not null!");
+		this.slabSize = slabSize;
+		this.slabCount = slabCount;
+		this.timeout = timeout;
+		this.cacheMap = new HashMap<>();
+		initSlabs(fileChannel);
+	}
+
+	/**
+	 * 获取段大小，即可以存储的单个对象序列化后的最大字节数
+	 *
+	 * @return 段大小
+	 */
+	public int getSlabSize() {
+		return this.slabSize;
+	}
+
+	/**
+	 * 获取最大存储空间，单位字节
+	 *
+	 * @return 最大存储空间
+	 */
+	public long getMaxBytes() {
+		return (long) slabSize * slabCount;
+	}
+
+	/**
+	 * 不支持权重，容量按照段大小和段数限制
+	 *
+	 * @param weigher       权重计算器
+	 * @param maximumWeight 最大总权重
+	 * @return this
+	 * @throws UnsupportedOperationException 始终抛出
+	 */
+	@Override
+	public AbstractCache<K, V> setWeigher(Weigher<K, V> weigher, long maximumWeight) {
+		throw new UnsupportedOperationException("OffHeapCache does not support weigher, capacity is limited by slab size and count!");
+	}
+
+	@Override
+	public void put(K key, V object, long timeout) {
+		// 序列化在锁外进行
+		final byte[] bytes = valueSerializer.serialize(object);
+		final long stamp = acquireWriteLock();
+		try {
+			putBytesWithoutLock(key, bytes, timeout);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		long stamp = lock.tryOptimisticRead();
+		Node<K, V> node;
+		byte[] bytes;
+		try {
+			node = (Node<K, V>) getWithoutLock(key);
+			bytes = (null == node) ? null : read(node);
+		} catch (RuntimeException e) {
+			// 读取期间被写线程修改，数据可能不一致，下面悲观读重新读取
+			node = null;
+			bytes = null;
+			stamp = 0;
+		}
+		if (false == lock.validate(stamp)) {
+			stamp = acquireReadLock();
+			try {
+				node = (Node<K, V>) getWithoutLock(key);
+				bytes = (null == node) ? null : read(node);
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+
+		// 未命中
+		if (null == node) {
+			missCount.increment();
+			return null;
+		} else if (false == node.isExpired()) {
+			hitCount.increment();
+			node.get(isUpdateLastAccess);
+			return valueSerializer.deserialize(bytes);
+		}
+
+		// 过期
+		remove(key, true);
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		final long stamp = acquireWriteLock();
+		try {
+			cacheMap.clear();
+			for (List<Node<K, V>> nodes : slabNodes) {
+				if (null != nodes) {
+					nodes.clear();
+				}
+			}
+			this.currentSlab = 0;
+			this.writePosition = 0;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * 关闭缓存，清空所有对象，释放堆外内存或解除文件映射，使用文件存储时关闭文件<br>
+	 * 读取时不加锁复制对象的bytes，因此关闭时不能有其它线程正在使用此缓存，关闭后的缓存不可再使用
+	 */
+	@Override
+	public void close() {
+		final long stamp = acquireWriteLock();
+		try {
+			cacheMap.clear();
+			for (int i = 0; i < slabCount; i++) {
+				BufferUtil.free(slabs[i]);
+				slabs[i] = null;
+				slabNodes[i] = null;
+			}
+			this.currentSlab = 0;
+			this.writePosition = 0;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+		IoUtil.close(this.fileChannel);
+	}
+
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		putBytesWithoutLock(key, valueSerializer.serialize(object), timeout);
+	}
+
+	/**
+	 * 移除对象，存在监听时返回包含值的缓存对象，供移除回调使用
+	 *
+	 * @param key           键
+	 * @param withMissCount 是否计数丢失数
+	 * @return 移除的对象，无此对象返回{@code null}
+	 */
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key, boolean withMissCount) {
+		final CacheObj<K, V> co = super.removeWithoutLock(key, withMissCount);
+		if (null == co || null == listener) {
+			return co;
+		}
+		return toCacheObj((Node<K, V>) co);
+	}
+
+	/**
+	 * 遍历时反序列化对象，返回包含值的缓存对象
+	 *
+	 * @return 缓存对象迭代器
+	 */
+	@Override
+	protected Iterator<CacheObj<K, V>> cacheObjIter() {
+		final List<CacheObj<K, V>> list = new ArrayList<>(cacheMap.size());
+		for (CacheObj<K, V> co : cacheMap.values()) {
+			list.add(toCacheObj((Node<K, V>) co));
+		}
+		return list.iterator();
+	}
+
+	/**
+	 * 清理过期对象，过期对象占用的空间在所在段被复用时回收
+	 *
+	 * @return 清理数
+	 */
+	@Override
+	protected int pruneCache() {
+		if (false == isPruneExpiredActive()) {
+			return 0;
+		}
+		int count = 0;
+		final Iterator<CacheObj<K, V>> values = cacheMap.values().iterator();
+		Node<K, V> node;
+		while (values.hasNext()) {
+			node = (Node<K, V>) values.next();
+			if (node.isExpired()) {
+				values.remove();
+				notifyRemove(node, RemovalCause.EXPIRED);
+				count++;
+			}
+		}
+		return count;
+	}
+
+	// ---------------------------------------------------------------- private method start
+
+	/**
+	 * 写入对象的bytes，空间不足时复用最早写入的段
+	 *
+	 * @param key     键
+	 * @param bytes   值的bytes
+	 * @param timeout 过期时长
+	 * @return 新的对象节点，无法存储时返回{@code null}
+	 */
+	private Node<K, V> putBytesWithoutLock(K key, byte[] bytes, long timeout) {
+		if (bytes.length > slabSize) {
+			// 无法存储，移除旧值，避免读取到过期数据
+			final CacheObj<K, V> old = cacheMap.remove(MutableObj.of(key));
+			if (null != old) {
+				notifyRemove((Node<K, V>) old, RemovalCause.SIZE);
+			}
+			return null;
+		}
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+
+		if (null == slabs[currentSlab]) {
+			allocateSlab(currentSlab);
+		} else if (writePosition + bytes.length > slabSize) {
+			currentSlab = (currentSlab + 1) % slabCount;
+			writePosition = 0;
+			if (null == slabs[currentSlab]) {
+				allocateSlab(currentSlab);
+			} else {
+				recycleSlab(currentSlab);
+			}
+		}
+
+		final ByteBuffer slab = slabs[currentSlab].duplicate();
+		slab.position(writePosition);
+		slab.put(bytes);
+
+		final Node<K, V> node = new Node<>(key, timeout, currentSlab, writePosition, bytes.length);
+		writePosition += bytes.length;
+		slabNodes[currentSlab].add(node);
+		cacheMap.put(MutableObj.of(key), node);
+		return node;
+	}
+
+	/**
+	 * 读取对象的bytes
+	 *
+	 * @param node 对象节点
+	 * @return bytes
+	 */
+	private byte[] read(Node<K, V> node) {
+		final byte[] bytes = new byte[node.length];
+		final ByteBuffer slab = slabs[node.slab].duplicate();
+		slab.position(node.offset);
+		slab.get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * 初始化段，所有段在首次写入时分配
+	 *
+	 * @param fileChannel 文件通道，{@code null}表示使用堆外内存
+	 */
+	@SuppressWarnings("unchecked")
+	private void initSlabs(FileChannel fileChannel) {
+		this.fileChannel = fileChannel;
+		if (null == fileChannel) {
+			final int slabSize = this.slabSize;
+			this.slabAllocator = index -> ByteBuffer.allocateDirect(slabSize);
+		} else {
+			this.slabAllocator = this::mapSlab;
+		}
+		this.slabs = new ByteBuffer[slabCount];
+		this.slabNodes = new List[slabCount];
+	}
+
+	/**
+	 * 分配段
+	 *
+	 * @param index 段序号
+	 */
+	private void allocateSlab(int index) {
+		slabs[index] = slabAllocator.apply(index);
+		slabNodes[index] = new ArrayList<>();
+	}
+
+	/**
+	 * 复用段，淘汰其中仍然有效的对象
+	 *
+	 * @param index 段序号
+	 */
+	private void recycleSlab(int index) {
+		final List<Node<K, V>> nodes = slabNodes[index];
+		final MutableObj<K> mKey = new MutableObj<>();
+		for (Node<K, V> node : nodes) {
+			mKey.set(node.key);
+			// 被替换或移除的对象已不在索引中，只淘汰仍然有效的
+			if (cacheMap.get(mKey) == node) {
+				cacheMap.remove(mKey);
+				notifyRemove(node, RemovalCause.SIZE);
+			}
+		}
+		nodes.clear();
+	}
+
+	/**
+	 * 移除回调，存在监听时才反序列化值
+	 *
+	 * @param node  对象节点
+	 * @param cause 移除原因
+	 */
+	private void notifyRemove(Node<K, V> node, RemovalCause cause) {
+		onRemove(null == listener ? node : toCacheObj(node), cause);
+	}
+
+	/**
+	 * 读取并反序列化值，转换为包含值的缓存对象
+	 *
+	 * @param node 对象节点
+	 * @return 缓存对象
+	 */
+	private CacheObj<K, V> toCacheObj(Node<K, V> node) {
+		final CacheObj<K, V> co = new CacheObj<>(node.key, valueSerializer.deserialize(read(node)), node.ttl);
+		co.lastAccess = node.lastAccess;
+		co.createTime = node.createTime;
+		return co;
+	}
+
+	/**
+	 * 映射文件中的段
+	 *
+	 * @param index 段序号
+	 * @return {@link ByteBuffer}
+	 */
+	private ByteBuffer mapSlab(int index) {
+		try {
+			return fileChannel.map(FileChannel.MapMode.READ_WRITE, (long) index * slabSize, slabSize);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 序列化，在索引之后按照索引顺序写出每个对象的bytes
+	 *
+	 * @param out {@link ObjectOutputStream}
+	 * @throws IOException IO异常
+	 */
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		final long stamp = acquireReadLock();
+		try {
+			out.defaultWriteObject();
+			out.writeInt(cacheMap.size());
+			Node<K, V> node;
+			for (CacheObj<K, V> co : cacheMap.values()) {
+				node = (Node<K, V>) co;
+				out.writeObject(node);
+				out.writeObject(read(node));
+			}
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * 反序列化，将对象的bytes重新写入堆外内存，保留过期时长和访问时间
+	 *
+	 * @param in {@link ObjectInputStream}
+	 * @throws IOException            IO异常
+	 * @throws ClassNotFoundException 类未找到
+	 */
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		this.cacheMap = new HashMap<>();
+		initSlabs(null);
+		final int size = in.readInt();
+		Node<K, V> node;
+		Node<K, V> newNode;
+		for (int i = 0; i < size; i++) {
+			node = (Node<K, V>) in.readObject();
+			newNode = putBytesWithoutLock(node.key, (byte[]) in.readObject(), node.ttl);
+			if (null != newNode) {
+				newNode.lastAccess = node.lastAccess;
+				newNode.createTime = node.createTime;
+			}
+		}
+	}
+
+	/**
+	 * 打开存储文件
+	 *
+	 * @param file 文件
+	 * @return {@link FileChannel}
+	 */
+	private static FileChannel openChannel(File file) {
+		Assert.notNull(file, "File must be not null!");
+		FileUtil.mkParentDirs(file);
+		try {
+			return FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+	// ---------------------------------------------------------------- private method end
+
+	/**
+	 * 堆外缓存的索引节点，值存储于堆外，只记录位置
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class Node<K, V> extends CacheObj<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		final int slab;
+		final int offset;
+		final int length;
+
+		Node(K key, long ttl, int slab, int offset, int length) {
+			super(key, null, ttl);
+			this.slab = slab;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		public String toString() {
+			return "CacheObj [key=" + key + ", slab=" + slab + ", offset=" + offset + ", length=" + length + ", lastAccess=" + lastAccess + ", ttl=" + ttl + "]";
+		}
+	}
+}
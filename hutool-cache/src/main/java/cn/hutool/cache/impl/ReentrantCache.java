@@ -1,5 +1,6 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.RemovalCause;
 import cn.hutool.core.collection.CopiedIter;
 
 import java.util.Iterator;
@@ -23,7 +24,7 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 
 	@Override
 	public void put(K key, V object, long timeout) {
-		lock.lock();
+		acquireLock();
 		try {
 			putWithoutLock(key, object, timeout);
 		} finally {
@@ -33,7 +34,7 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 
 	@Override
 	public boolean containsKey(K key) {
-		lock.lock();
+		acquireLock();
 		try {
 			// 不存在或已移除
 			final CacheObj<K, V> co = getWithoutLock(key);
@@ -57,7 +58,7 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 	@Override
 	public V get(K key, boolean isUpdateLastAccess) {
 		CacheObj<K, V> co;
-		lock.lock();
+		acquireLock();
 		try {
 			co = getWithoutLock(key);
 		} finally {
@@ -81,7 +82,7 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 	@Override
 	public Iterator<CacheObj<K, V>> cacheObjIterator() {
 		CopiedIter<CacheObj<K, V>> copiedIterator;
-		lock.lock();
+		acquireLock();
 		try {
 			copiedIterator = CopiedIter.copyOf(cacheObjIter());
 		} finally {
@@ -92,7 +93,7 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 
 	@Override
 	public final int prune() {
-		lock.lock();
+		acquireLock();
 		try {
 			return pruneCache();
 		} finally {
@@ -107,9 +108,10 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 
 	@Override
 	public void clear() {
-		lock.lock();
+		acquireLock();
 		try {
 			cacheMap.clear();
+			totalWeight.reset();
 		} finally {
 			lock.unlock();
 		}
@@ -117,7 +119,7 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 
 	@Override
 	public String toString() {
-		lock.lock();
+		acquireLock();
 		try {
 			return super.toString();
 		} finally {
@@ -129,10 +131,11 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 	 * 移除key对应的对象
 	 *
 	 * @param key           键
-	 * @param withMissCount 是否计数丢失数
+	 * @param withMissCount 是否计数丢失数，为{@code true}时表示因过期移除
+	 * @since 5.8.10
 	 */
-	private void remove(K key, boolean withMissCount) {
-		lock.lock();
+	protected void remove(K key, boolean withMissCount) {
+		acquireLock();
 		CacheObj<K, V> co;
 		try {
 			co = removeWithoutLock(key, withMissCount);
@@ -140,7 +143,20 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 			lock.unlock();
 		}
 		if (null != co) {
-			onRemove(co.key, co.obj);
+			onRemove(co, withMissCount ? RemovalCause.EXPIRED : RemovalCause.EXPLICIT);
+		}
+	}
+
+	/**
+	 * 加锁，发生竞争时记录锁等待耗时，未竞争时无额外代价
+	 *
+	 * @since 5.8.10
+	 */
+	protected final void acquireLock() {
+		if (false == lock.tryLock()) {
+			final long start = System.nanoTime();
+			lock.lock();
+			statsCounter.recordLockWait(System.nanoTime() - start);
 		}
 	}
 }
@@ -1,5 +1,6 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.RemovalCause;
 import cn.hutool.core.collection.CopiedIter;
 
 import java.util.Iterator;
@@ -23,7 +24,7 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 
 	@Override
 	public void put(K key, V object, long timeout) {
-		final long stamp = lock.writeLock();
+		final long stamp = acquireWriteLock();
 		try {
 			putWithoutLock(key, object, timeout);
 		} finally {
@@ -33,7 +34,7 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 
 	@Override
 	public boolean containsKey(K key) {
-		final long stamp = lock.readLock();
+		final long stamp = acquireReadLock();
 		try {
 			// 不存在或已移除
 			final CacheObj<K, V> co = getWithoutLock(key);
@@ -61,7 +62,7 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 		CacheObj<K, V> co = getWithoutLock(key);
 		if(false == lock.validate(stamp)){
 			// 有写线程修改了此对象，悲观读
-			stamp = lock.readLock();
+			stamp = acquireReadLock();
 			try {
 				co = getWithoutLock(key);
 			} finally {
@@ -86,7 +87,7 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 	@Override
 	public Iterator<CacheObj<K, V>> cacheObjIterator() {
 		CopiedIter<CacheObj<K, V>> copiedIterator;
-		final long stamp = lock.readLock();
+		final long stamp = acquireReadLock();
 		try {
 			copiedIterator = CopiedIter.copyOf(cacheObjIter());
 		} finally {
@@ -97,7 +98,7 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 
 	@Override
 	public final int prune() {
-		final long stamp = lock.writeLock();
+		final long stamp = acquireWriteLock();
 		try {
 			return pruneCache();
 		} finally {
@@ -112,9 +113,10 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 
 	@Override
 	public void clear() {
-		final long stamp = lock.writeLock();
+		final long stamp = acquireWriteLock();
 		try {
 			cacheMap.clear();
+			totalWeight.reset();
 		} finally {
 			lock.unlockWrite(stamp);
 		}
@@ -124,10 +126,11 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 	 * 移除key对应的对象
 	 *
 	 * @param key           键
-	 * @param withMissCount 是否计数丢失数
+	 * @param withMissCount 是否计数丢失数，为{@code true}时表示因过期移除
+	 * @since 5.8.10
 	 */
-	private void remove(K key, boolean withMissCount) {
-		final long stamp = lock.writeLock();
+	protected void remove(K key, boolean withMissCount) {
+		final long stamp = acquireWriteLock();
 		CacheObj<K, V> co;
 		try {
 			co = removeWithoutLock(key, withMissCount);
@@ -135,7 +138,39 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V>{
 			lock.unlockWrite(stamp);
 		}
 		if (null != co) {
-			onRemove(co.key, co.obj);
+			onRemove(co, withMissCount ? RemovalCause.EXPIRED : RemovalCause.EXPLICIT);
+		}
+	}
+
+	/**
+	 * 获取写锁，发生竞争时记录锁等待耗时，未竞争时无额外代价
+	 *
+	 * @return 写锁的stamp
+	 * @since 5.8.10
+	 */
+	protected final long acquireWriteLock() {
+		long stamp = lock.tryWriteLock();
+		if (0 == stamp) {
+			final long start = System.nanoTime();
+			stamp = lock.writeLock();
+			statsCounter.recordLockWait(System.nanoTime() - start);
+		}
+		return stamp;
+	}
+
+	/**
+	 * 获取读锁，发生竞争时记录锁等待耗时，未竞争时无额外代价
+	 *
+	 * @return 读锁的stamp
+	 * @since 5.8.10
+	 */
+	protected final long acquireReadLock() {
+		long stamp = lock.tryReadLock();
+		if (0 == stamp) {
+			final long start = System.nanoTime();
+			stamp = lock.readLock();
+			statsCounter.recordLockWait(System.nanoTime() - start);
 		}
+		return stamp;
 	}
 }
@@ -0,0 +1,265 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.Cache;
+import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.CacheStats;
+import cn.hutool.core.collection.IterChain;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.func.Func0;
+
+import java.util.Iterator;
+import java.util.function.IntFunction;
+
+/**
+ * 分段缓存<br>
+ * 键按照hash值分布到N个相互独立的分段缓存中，每个分段拥有自己的锁、Map和容量份额。<br>
+ * 对于{@link StampedCache}的子类（如{@link LFUCache}、{@link FIFOCache}），写操作和清理只阻塞对应分段的读写，
+ * 且每个分段清理时只需扫描自身的对象，写吞吐可以随分段数（CPU核数）扩展。
+ *
+ * <p>
+ * 由于淘汰只在分段内进行，整体的淘汰顺序是近似的，例如分段LFU淘汰的是所在分段中访问最少的对象。
+ * </p>
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.10
+ */
+public class StripedCache<K, V> implements Cache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	private final Cache<K, V>[] segments;
+	private final int segmentMask;
+
+	/**
+	 * 构造<br>
+	 * 分段数会被调整为大于等于给定值的2的幂，总容量平均分配到每个分段
+	 *
+	 * @param capacity       总容量，{@code 0}表示无大小限制
+	 * @param segmentCount   分段数
+	 * @param segmentFactory 分段缓存创建函数，参数为分配给此分段的容量
+	 */
+	@SuppressWarnings("unchecked")
+	public StripedCache(int capacity, int segmentCount, IntFunction<? extends Cache<K, V>> segmentFactory) {
+		Assert.isTrue(segmentCount > 0, "Segment count must be greater than 0!");
+		Assert.notNull(segmentFactory, "Segment factory must be not null!");
+		segmentCount = ceilingPowerOfTwo(segmentCount);
+		if (capacity > 0 && segmentCount > capacity) {
+			// 分段数不超过容量，保证每个分段至少有1个容量
+			segmentCount = Integer.highestOneBit(capacity);
+		}
+
+		this.segments = new Cache[segmentCount];
+		this.segmentMask = segmentCount - 1;
+		for (int i = 0; i < segmentCount; i++) {
+			// 余数分配给前面的分段，保证总容量不变
+			this.segments[i] = segmentFactory.apply(
+					capacity > 0 ? (capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0)) : 0);
+		}
+	}
+
+	/**
+	 * 获取分段数
+	 *
+	 * @return 分段数
+	 */
+	public int segmentCount() {
+		return this.segments.length;
+	}
+
+	@Override
+	public int capacity() {
+		int capacity = 0;
+		for (Cache<K, V> segment : segments) {
+			capacity += segment.capacity();
+		}
+		return capacity;
+	}
+
+	@Override
+	public long timeout() {
+		return segments[0].timeout();
+	}
+
+	@Override
+	public void put(K key, V object) {
+		segmentFor(key).put(key, object);
+	}
+
+	@Override
+	public void put(K key, V object, long timeout) {
+		segmentFor(key).put(key, object, timeout);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess, Func0<V> supplier) {
+		return segmentFor(key).get(key, isUpdateLastAccess, supplier);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		return segmentFor(key).get(key, isUpdateLastAccess);
+	}
+
+	@Override
+	public Iterator<CacheObj<K, V>> cacheObjIterator() {
+		final IterChain<CacheObj<K, V>> chain = new IterChain<>();
+		for (Cache<K, V> segment : segments) {
+			chain.addChain(segment.cacheObjIterator());
+		}
+		return chain;
+	}
+
+	@Override
+	public Iterator<V> iterator() {
+		final IterChain<V> chain = new IterChain<>();
+		for (Cache<K, V> segment : segments) {
+			chain.addChain(segment.iterator());
+		}
+		return chain;
+	}
+
+	/**
+	 * 依次清理每个分段，清理某个分段时不影响其它分段的读写
+	 *
+	 * @return 清理的缓存对象个数
+	 */
+	@Override
+	public int prune() {
+		int count = 0;
+		for (Cache<K, V> segment : segments) {
+			count += segment.prune();
+		}
+		return count;
+	}
+
+	/**
+	 * 所有分段的对象总数达到总容量时认为已满，单个分段满时只会在分段内淘汰
+	 *
+	 * @return 缓存是否已满
+	 */
+	@Override
+	public boolean isFull() {
+		final int capacity = capacity();
+		return capacity > 0 && size() >= capacity;
+	}
+
+	@Override
+	public void remove(K key) {
+		segmentFor(key).remove(key);
+	}
+
+	@Override
+	public void clear() {
+		for (Cache<K, V> segment : segments) {
+			segment.clear();
+		}
+	}
+
+	@Override
+	public int size() {
+		int size = 0;
+		for (Cache<K, V> segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		for (Cache<K, V> segment : segments) {
+			if (false == segment.isEmpty()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		return segmentFor(key).containsKey(key);
+	}
+
+	@Override
+	public StripedCache<K, V> setListener(CacheListener<K, V> listener) {
+		for (Cache<K, V> segment : segments) {
+			segment.setListener(listener);
+		}
+		return this;
+	}
+
+	/**
+	 * @return 所有分段的命中数之和，分段不是{@link AbstractCache}时不计入
+	 */
+	public long getHitCount() {
+		long count = 0;
+		for (Cache<K, V> segment : segments) {
+			if (segment instanceof AbstractCache) {
+				count += ((AbstractCache<K, V>) segment).getHitCount();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return 所有分段的丢失数之和，分段不是{@link AbstractCache}时不计入
+	 */
+	public long getMissCount() {
+		long count = 0;
+		for (Cache<K, V> segment : segments) {
+			if (segment instanceof AbstractCache) {
+				count += ((AbstractCache<K, V>) segment).getMissCount();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return 所有分段的统计之和
+	 */
+	@Override
+	public CacheStats stats() {
+		CacheStats stats = CacheStats.EMPTY;
+		for (Cache<K, V> segment : segments) {
+			stats = stats.plus(segment.stats());
+		}
+		return stats;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < segments.length; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(segments[i]);
+		}
+		return sb.append(']').toString();
+	}
+
+	/**
+	 * 获取键对应的分段
+	 *
+	 * @param key 键
+	 * @return 分段缓存
+	 */
+	protected Cache<K, V> segmentFor(K key) {
+		int h = (null == key) ? 0 : key.hashCode();
+		// 高位参与运算，避免低质量hash导致分段不均
+		h ^= (h >>> 16);
+		h *= 0x45d9f3b;
+		h ^= (h >>> 16);
+		return segments[h & segmentMask];
+	}
+
+	/**
+	 * 大于等于给定值的最小2的幂
+	 *
+	 * @param x 值
+	 * @return 2的幂
+	 */
+	private static int ceilingPowerOfTwo(int x) {
+		return 1 << -Integer.numberOfLeadingZeros(x - 1);
+	}
+}
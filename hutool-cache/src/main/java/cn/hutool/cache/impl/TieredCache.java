@@ -0,0 +1,512 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.Cache;
+import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.CacheStats;
+import cn.hutool.cache.RemovalCause;
+import cn.hutool.core.collection.IterChain;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.func.Func0;
+import cn.hutool.core.util.ObjectUtil;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 二级缓存，由堆内的一级缓存和容量更大的二级缓存（如{@link OffHeapCache}）组成：
+ * <ul>
+ *     <li>写入时放入一级缓存</li>
+ *     <li>一级缓存因容量不足淘汰的对象降级放入二级缓存</li>
+ *     <li>一级缓存未命中时查找二级缓存，命中则从二级缓存中移出并提升到一级缓存</li>
+ * </ul>
+ * 一个键同时只存在于一级缓存或二级缓存中的一个，同一个键的写入、移除、提升和降级按照分段锁串行执行，避免提升或降级的旧值覆盖新写入的值。<br>
+ * 淘汰回调可能在一级缓存的锁内执行，此时不能获取分段锁，因此降级的对象先进入待降级队列，在本次操作结束后持有分段锁放入二级缓存，
+ * 一级缓存中已有此键的新值时不再降级。<br>
+ * 一级缓存为{@link AbstractCache}的实现时，降级的对象在二级缓存中保留剩余的存活时长，未设置存活时长的对象使用二级缓存的默认过期时长；提升的对象使用一级缓存的默认过期时长。<br>
+ * 包装时会占用两级缓存的监听，通过{@link #setListener(CacheListener)}设置的监听在对象从一级缓存中过期、被移除，
+ * 或从二级缓存中淘汰、过期、被移除时回调，对象在两级之间移动时不回调；键不能为{@code null}。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.10
+ */
+public class TieredCache<K, V> implements Cache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 键锁的分段数，须为2的幂
+	 */
+	private static final int LOCK_STRIPES = 64;
+
+	private final Cache<K, V> heapCache;
+	private final Cache<K, V> secondCache;
+	/**
+	 * 按照键的hash分段的锁，用于串行同一个键的写入、移除和提升
+	 */
+	private final Lock[] keyLocks;
+	/**
+	 * 当前线程正在两级之间移动的键，此时此键的移除不回调监听，其它线程的移除正常回调
+	 */
+	private transient ThreadLocal<K> movingKey = new ThreadLocal<>();
+	/**
+	 * 待降级的对象，同一个键只保留最后一次淘汰的值
+	 */
+	private transient Map<K, Demotion<V>> pendingDemotions = new ConcurrentHashMap<>();
+	private CacheListener<K, V> listener;
+
+	/**
+	 * 构造
+	 *
+	 * @param heapCache   一级缓存，通常为容量较小的堆内缓存
+	 * @param secondCache 二级缓存，通常为容量较大的堆外缓存
+	 */
+	public TieredCache(Cache<K, V> heapCache, Cache<K, V> secondCache) {
+		this.heapCache = Assert.notNull(heapCache, "Heap cache must be not null!");
+		this.secondCache = Assert.notNull(secondCache, "Second cache must be not null!");
+		this.keyLocks = new Lock[LOCK_STRIPES];
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			this.keyLocks[i] = new ReentrantLock();
+		}
+		this.heapCache.setListener(new HeapListener());
+		this.secondCache.setListener(new SecondListener());
+	}
+
+	/**
+	 * 获取一级缓存
+	 *
+	 * @return 一级缓存
+	 */
+	public Cache<K, V> getHeapCache() {
+		return this.heapCache;
+	}
+
+	/**
+	 * 获取二级缓存
+	 *
+	 * @return 二级缓存
+	 */
+	public Cache<K, V> getSecondCache() {
+		return this.secondCache;
+	}
+
+	@Override
+	public int capacity() {
+		return heapCache.capacity() + secondCache.capacity();
+	}
+
+	@Override
+	public long timeout() {
+		return heapCache.timeout();
+	}
+
+	@Override
+	public void put(K key, V object) {
+		final Lock keyLock = lockFor(key);
+		keyLock.lock();
+		try {
+			// 先移除旧值，写入时新值本身被淘汰也可以正常降级
+			removeQuietly(secondCache, key);
+			pendingDemotions.remove(key);
+			heapCache.put(key, object);
+		} finally {
+			keyLock.unlock();
+		}
+		drainDemotions();
+	}
+
+	@Override
+	public void put(K key, V object, long timeout) {
+		final Lock keyLock = lockFor(key);
+		keyLock.lock();
+		try {
+			removeQuietly(secondCache, key);
+			pendingDemotions.remove(key);
+			heapCache.put(key, object, timeout);
+		} finally {
+			keyLock.unlock();
+		}
+		drainDemotions();
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess, Func0<V> supplier) {
+		if (null == supplier) {
+			return get(key, isUpdateLastAccess);
+		}
+		final Lock keyLock = lockFor(key);
+		keyLock.lock();
+		try {
+			return heapCache.get(key, isUpdateLastAccess, () -> {
+				final V value = promote(key, isUpdateLastAccess);
+				return (null != value) ? value : supplier.call();
+			});
+		} finally {
+			keyLock.unlock();
+			drainDemotions();
+		}
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		final V value = heapCache.get(key, isUpdateLastAccess);
+		if (null != value) {
+			// 读取也可能触发一级缓存的淘汰
+			drainDemotions();
+			return value;
+		}
+
+		final Lock keyLock = lockFor(key);
+		keyLock.lock();
+		try {
+			// 双重检查，获取锁期间其它线程可能已经写入或提升
+			if (heapCache.containsKey(key)) {
+				return heapCache.get(key, isUpdateLastAccess);
+			}
+			final V promoted = promote(key, isUpdateLastAccess);
+			if (null != promoted) {
+				heapCache.put(key, promoted);
+			}
+			return promoted;
+		} finally {
+			keyLock.unlock();
+			drainDemotions();
+		}
+	}
+
+	@Override
+	public Iterator<CacheObj<K, V>> cacheObjIterator() {
+		drainDemotions();
+		final IterChain<CacheObj<K, V>> chain = new IterChain<>();
+		chain.addChain(heapCache.cacheObjIterator());
+		chain.addChain(secondCache.cacheObjIterator());
+		return chain;
+	}
+
+	@Override
+	public Iterator<V> iterator() {
+		drainDemotions();
+		final IterChain<V> chain = new IterChain<>();
+		chain.addChain(heapCache.iterator());
+		chain.addChain(secondCache.iterator());
+		return chain;
+	}
+
+	/**
+	 * 清理两级缓存
+	 *
+	 * @return 清理数
+	 */
+	@Override
+	public int prune() {
+		return heapCache.prune() + secondCache.prune();
+	}
+
+	@Override
+	public boolean isFull() {
+		return heapCache.isFull() && secondCache.isFull();
+	}
+
+	@Override
+	public void remove(K key) {
+		final Lock keyLock = lockFor(key);
+		keyLock.lock();
+		try {
+			heapCache.remove(key);
+			final Demotion<V> demotion = pendingDemotions.remove(key);
+			if (null != demotion) {
+				onRemove(key, demotion.value, RemovalCause.EXPLICIT);
+			}
+			secondCache.remove(key);
+		} finally {
+			keyLock.unlock();
+		}
+		drainDemotions();
+	}
+
+	@Override
+	public void clear() {
+		heapCache.clear();
+		pendingDemotions.clear();
+		secondCache.clear();
+	}
+
+	@Override
+	public int size() {
+		drainDemotions();
+		return heapCache.size() + secondCache.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		drainDemotions();
+		return heapCache.isEmpty() && secondCache.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		return heapCache.containsKey(key) || pendingDemotions.containsKey(key) || secondCache.containsKey(key);
+	}
+
+	@Override
+	public TieredCache<K, V> setListener(CacheListener<K, V> listener) {
+		this.listener = listener;
+		return this;
+	}
+
+	/**
+	 * 两级缓存的统计之和，一级缓存未命中、二级缓存命中的请求同时计入两级的统计
+	 *
+	 * @return {@link CacheStats}
+	 */
+	@Override
+	public CacheStats stats() {
+		return heapCache.stats().plus(secondCache.stats());
+	}
+
+	@Override
+	public String toString() {
+		return "TieredCache [heap=" + heapCache + ", second=" + secondCache + "]";
+	}
+
+	// ---------------------------------------------------------------- private method start
+
+	/**
+	 * 从二级缓存中移出对象，用于提升到一级缓存
+	 *
+	 * @param key                键
+	 * @param isUpdateLastAccess 是否更新最后访问时间
+	 * @return 值，不存在返回{@code null}
+	 */
+	private V promote(K key, boolean isUpdateLastAccess) {
+		// 尚未降级的对象直接提升
+		final Demotion<V> demotion = pendingDemotions.remove(key);
+		if (null != demotion) {
+			if (false == demotion.isExpired()) {
+				return demotion.value;
+			}
+			onRemove(key, demotion.value, RemovalCause.EXPIRED);
+		}
+		final V value = secondCache.get(key, isUpdateLastAccess);
+		if (null != value) {
+			removeQuietly(secondCache, key);
+		}
+		return value;
+	}
+
+	/**
+	 * 一级缓存的移除回调，因容量不足淘汰的对象进入待降级队列，其它原因的移除转发给监听<br>
+	 * 对象设置了存活时长时，在二级缓存中保留剩余的存活时长，已过期的对象不再降级
+	 *
+	 * @param co    被移除的缓存对象
+	 * @param cause 移除原因
+	 */
+	private void demote(CacheObj<K, V> co, RemovalCause cause) {
+		if (RemovalCause.SIZE != cause || co.getTtl() <= 0) {
+			demote(co.getKey(), co.getValue(), cause);
+			return;
+		}
+		final long expireTime = co.getLastAccess() + co.getTtl();
+		if (expireTime <= System.currentTimeMillis()) {
+			onRemove(co.getKey(), co.getValue(), RemovalCause.EXPIRED);
+		} else if (null != co.getKey() && null != co.getValue()) {
+			pendingDemotions.put(co.getKey(), new Demotion<>(co.getValue(), expireTime));
+		}
+	}
+
+	/**
+	 * 一级缓存的移除回调，因容量不足淘汰的对象进入待降级队列，降级时使用二级缓存的默认过期时长，其它原因的移除转发给监听
+	 *
+	 * @param key          键
+	 * @param cachedObject 被缓存的对象
+	 * @param cause        移除原因
+	 */
+	private void demote(K key, V cachedObject, RemovalCause cause) {
+		if (RemovalCause.SIZE == cause) {
+			if (null != key && null != cachedObject) {
+				pendingDemotions.put(key, new Demotion<>(cachedObject, 0));
+			}
+			return;
+		}
+		onRemove(key, cachedObject, cause);
+	}
+
+	/**
+	 * 将待降级的对象放入二级缓存，每个键持有其分段锁处理，调用时不能持有分段锁<br>
+	 * 一级缓存中已有此键时，说明降级后又写入或提升了新值，丢弃降级的旧值
+	 */
+	private void drainDemotions() {
+		if (pendingDemotions.isEmpty()) {
+			return;
+		}
+		Lock keyLock;
+		Demotion<V> demotion;
+		for (K key : pendingDemotions.keySet()) {
+			keyLock = lockFor(key);
+			keyLock.lock();
+			try {
+				demotion = pendingDemotions.remove(key);
+				if (null == demotion || heapCache.containsKey(key)) {
+					continue;
+				}
+				if (0 == demotion.expireTime) {
+					secondCache.put(key, demotion.value);
+				} else if (demotion.isExpired()) {
+					onRemove(key, demotion.value, RemovalCause.EXPIRED);
+				} else {
+					secondCache.put(key, demotion.value, demotion.expireTime - System.currentTimeMillis());
+				}
+			} finally {
+				keyLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * 二级缓存的移除回调，转发给监听
+	 *
+	 * @param key          键
+	 * @param cachedObject 被缓存的对象
+	 * @param cause        移除原因
+	 */
+	private void onRemove(K key, V cachedObject, RemovalCause cause) {
+		final CacheListener<K, V> listener = this.listener;
+		if (null != listener && false == isMoving(key)) {
+			listener.onRemove(key, cachedObject, cause);
+		}
+	}
+
+	/**
+	 * 移除对象，当前线程的此次移除不回调监听
+	 *
+	 * @param cache 缓存
+	 * @param key   键
+	 */
+	private void removeQuietly(Cache<K, V> cache, K key) {
+		movingKey.set(key);
+		try {
+			cache.remove(key);
+		} finally {
+			movingKey.remove();
+		}
+	}
+
+	/**
+	 * 当前线程是否正在两级之间移动此键
+	 *
+	 * @param key 键
+	 * @return 是否正在移动
+	 */
+	private boolean isMoving(K key) {
+		final K moving = movingKey.get();
+		return null != moving && ObjectUtil.equals(moving, key);
+	}
+
+	/**
+	 * 获取键对应的分段锁
+	 *
+	 * @param key 键
+	 * @return 锁
+	 */
+	private Lock lockFor(K key) {
+		int h = (null == key) ? 0 : key.hashCode();
+		// 高位参与运算，避免低质量hash导致分段不均
+		h ^= (h >>> 16);
+		h *= 0x45d9f3b;
+		h ^= (h >>> 16);
+		return keyLocks[h & (LOCK_STRIPES - 1)];
+	}
+
+	/**
+	 * 序列化，先完成待降级对象的降级
+	 *
+	 * @param out {@link ObjectOutputStream}
+	 * @throws IOException IO异常
+	 */
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		drainDemotions();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 * 反序列化，重建线程本地的移动标记和待降级队列
+	 *
+	 * @param in {@link ObjectInputStream}
+	 * @throws IOException            IO异常
+	 * @throws ClassNotFoundException 类未找到
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		this.movingKey = new ThreadLocal<>();
+		this.pendingDemotions = new ConcurrentHashMap<>();
+	}
+	// ---------------------------------------------------------------- private method end
+
+	/**
+	 * 一级缓存的监听，可获取被移除对象的存活时长时降级保留剩余时长
+	 */
+	private class HeapListener implements CacheObjListener<K, V>, Serializable {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public void onRemove(K key, V cachedObject) {
+			demote(key, cachedObject, RemovalCause.EXPLICIT);
+		}
+
+		@Override
+		public void onRemove(K key, V cachedObject, RemovalCause cause) {
+			demote(key, cachedObject, cause);
+		}
+
+		@Override
+		public void onRemove(CacheObj<K, V> co, RemovalCause cause) {
+			demote(co, cause);
+		}
+	}
+
+	/**
+	 * 待降级的对象
+	 *
+	 * @param <V> 值类型
+	 */
+	private static class Demotion<V> {
+		final V value;
+		/**
+		 * 过期时间，{@code 0}表示使用二级缓存的默认过期时长
+		 */
+		final long expireTime;
+
+		Demotion(V value, long expireTime) {
+			this.value = value;
+			this.expireTime = expireTime;
+		}
+
+		boolean isExpired() {
+			return expireTime > 0 && expireTime <= System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * 二级缓存的监听，转发给{@link TieredCache#onRemove(Object, Object, RemovalCause)}
+	 */
+	private class SecondListener implements CacheListener<K, V>, Serializable {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public void onRemove(K key, V cachedObject) {
+			TieredCache.this.onRemove(key, cachedObject, RemovalCause.EXPLICIT);
+		}
+
+		@Override
+		public void onRemove(K key, V cachedObject, RemovalCause cause) {
+			TieredCache.this.onRemove(key, cachedObject, cause);
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package cn.hutool.cache.impl;
 
 import cn.hutool.cache.GlobalPruneTimer;
+import cn.hutool.cache.RemovalCause;
 import cn.hutool.core.lang.mutable.Mutable;
 
 import java.util.HashMap;
@@ -59,7 +60,7 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 			co = values.next();
 			if (co.isExpired()) {
 				values.remove();
-				onRemove(co.key, co.obj);
+				onRemove(co, RemovalCause.EXPIRED);
 				count++;
 			}
 		}
@@ -0,0 +1,272 @@
+package cn.hutool.cache.impl;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.function.Consumer;
+
+/**
+ * 用于缓存过期的多层时间轮<br>
+ * 共4层，每层64个槽，第0层每个槽的跨度为tickMs，上一层每个槽的跨度为下一层整个轮的跨度。<br>
+ * 对象按照过期时间放入对应层的槽中，时间推进时只处理经过的槽：
+ * <ul>
+ *     <li>槽中已过期的对象交给回调处理（从缓存中移除）</li>
+ *     <li>未过期的对象（如访问后过期时间被延后，或上层槽开始时降级的对象）按照新的过期时间重新放入时间轮</li>
+ * </ul>
+ * 因此推进时间的代价只与经过的槽中的对象数相关，而与缓存总大小无关。
+ *
+ * <p>
+ * 此类非线程安全，需由调用者加锁保护，参考：{@code cn.hutool.cron.timingwheel.TimingWheel}
+ * </p>
+ *
+ * <p>
+ * 序列化时槽和链表指针不写出，反序列化后为空的时间轮，由调用者按照节点的过期时间重新调度。
+ * </p>
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.10
+ */
+class TimerWheel<K, V> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 时间轮层数
+	 */
+	private static final int LEVELS = 4;
+	/**
+	 * 每层槽数，必须为2的幂
+	 */
+	private static final int WHEEL_SIZE = 64;
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+	/**
+	 * 每层一个槽的跨度，单位毫秒
+	 */
+	private final long[] spans;
+	/**
+	 * 每层的槽，槽为以哨兵节点为首的环形双向链表
+	 */
+	private transient Node<K, V>[][] wheels;
+	/**
+	 * 上次推进的时间
+	 */
+	private long currentTime;
+
+	/**
+	 * 构造
+	 *
+	 * @param tickMs      第0层一个槽的跨度，单位毫秒
+	 * @param currentTime 当前时间
+	 */
+	TimerWheel(long tickMs, long currentTime) {
+		this.spans = new long[LEVELS];
+		long span = tickMs;
+		for (int i = 0; i < LEVELS; i++) {
+			spans[i] = span;
+			span *= WHEEL_SIZE;
+		}
+		this.currentTime = currentTime;
+		initWheels();
+	}
+
+	/**
+	 * 按照节点的过期时间放入对应的槽中，已过期的节点放入当前槽，下次推进时处理
+	 *
+	 * @param node 节点
+	 */
+	void schedule(Node<K, V> node) {
+		final long time = Math.max(node.expireTime(), currentTime);
+		final long delay = time - currentTime;
+		int level = 0;
+		while (level < LEVELS - 1 && delay >= spans[level + 1]) {
+			level++;
+		}
+		final Node<K, V> sentinel = wheels[level][(int) ((time / spans[level]) & WHEEL_MASK)];
+
+		node.next = sentinel;
+		node.prev = sentinel.prev;
+		sentinel.prev.next = node;
+		sentinel.prev = node;
+	}
+
+	/**
+	 * 将节点从时间轮中移除，节点不在时间轮中时无操作
+	 *
+	 * @param node 节点
+	 */
+	void deschedule(Node<K, V> node) {
+		if (null != node.next) {
+			node.next.prev = node.prev;
+			node.prev.next = node.next;
+			node.next = null;
+			node.prev = null;
+		}
+	}
+
+	/**
+	 * 推进时间，处理经过的槽
+	 *
+	 * @param time            当前时间
+	 * @param expiredConsumer 过期节点处理
+	 * @return 过期节点数
+	 */
+	int advance(long time, Consumer<Node<K, V>> expiredConsumer) {
+		final long previousTime = this.currentTime;
+		if (time <= previousTime) {
+			return 0;
+		}
+		this.currentTime = time;
+
+		int count = 0;
+		long previousTicks;
+		long delta;
+		for (int i = 0; i < LEVELS; i++) {
+			previousTicks = previousTime / spans[i];
+			delta = (time / spans[i]) - previousTicks;
+			if (delta <= 0) {
+				// 下层没有跨过槽，上层也不会
+				break;
+			}
+			count += expire(i, previousTicks, delta, expiredConsumer);
+		}
+		return count;
+	}
+
+	/**
+	 * 清空时间轮
+	 */
+	void clear() {
+		for (Node<K, V>[] wheel : wheels) {
+			for (Node<K, V> sentinel : wheel) {
+				Node<K, V> node = sentinel.next;
+				Node<K, V> next;
+				while (node != sentinel) {
+					next = node.next;
+					node.prev = null;
+					node.next = null;
+					node = next;
+				}
+				sentinel.prev = sentinel;
+				sentinel.next = sentinel;
+			}
+		}
+	}
+
+	/**
+	 * 创建空的槽
+	 */
+	@SuppressWarnings("unchecked")
+	private void initWheels() {
+		this.wheels = new Node[LEVELS][WHEEL_SIZE];
+		for (int i = 0; i < LEVELS; i++) {
+			for (int j = 0; j < WHEEL_SIZE; j++) {
+				wheels[i][j] = Node.sentinel();
+			}
+		}
+	}
+
+	/**
+	 * 反序列化，槽未序列化，重新创建空的槽
+	 *
+	 * @param in {@link ObjectInputStream}
+	 * @throws IOException            IO异常
+	 * @throws ClassNotFoundException 类未找到
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		initWheels();
+	}
+
+	/**
+	 * 处理某一层经过的槽
+	 *
+	 * @param level           层
+	 * @param previousTicks   上次推进时此层的刻度
+	 * @param delta           经过的刻度数
+	 * @param expiredConsumer 过期节点处理
+	 * @return 过期节点数
+	 */
+	private int expire(int level, long previousTicks, long delta, Consumer<Node<K, V>> expiredConsumer) {
+		final Node<K, V>[] wheel = wheels[level];
+		// 第0层处理已结束的槽；上层处理已开始的槽，将其中的对象降级到下层，避免过期被延迟一个上层槽的跨度
+		final int start = (int) ((0 == level ? previousTicks : previousTicks + 1) & WHEEL_MASK);
+		final int end = start + (int) Math.min(delta, WHEEL_SIZE);
+
+		int count = 0;
+		Node<K, V> sentinel;
+		Node<K, V> node;
+		Node<K, V> next;
+		for (int i = start; i < end; i++) {
+			sentinel = wheel[i & WHEEL_MASK];
+			// 先摘下整个槽，重新调度的节点可能再次进入此槽
+			node = sentinel.next;
+			sentinel.prev = sentinel;
+			sentinel.next = sentinel;
+			while (node != sentinel) {
+				next = node.next;
+				node.prev = null;
+				node.next = null;
+				if (node.isExpired()) {
+					expiredConsumer.accept(node);
+					count++;
+				} else {
+					schedule(node);
+				}
+				node = next;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 时间轮中的缓存对象，在{@link CacheObj}的基础上增加槽内的链表指针
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	static class Node<K, V> extends CacheObj<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * 链表指针不序列化，避免序列化时沿链表递归导致栈溢出
+		 */
+		transient Node<K, V> prev;
+		transient Node<K, V> next;
+
+		/**
+		 * 构造
+		 *
+		 * @param key 键
+		 * @param obj 值
+		 * @param ttl 超时时长
+		 */
+		Node(K key, V obj, long ttl) {
+			super(key, obj, ttl);
+		}
+
+		/**
+		 * 过期时间，即上次访问时间+存活时长，访问后会延后
+		 *
+		 * @return 过期时间
+		 */
+		long expireTime() {
+			return this.lastAccess + this.ttl;
+		}
+
+		/**
+		 * 创建槽的哨兵节点
+		 *
+		 * @param <K> 键类型
+		 * @param <V> 值类型
+		 * @return 哨兵节点
+		 */
+		static <K, V> Node<K, V> sentinel() {
+			final Node<K, V> sentinel = new Node<>(null, null, 0);
+			sentinel.prev = sentinel;
+			sentinel.next = sentinel;
+			return sentinel;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.RemovalCause;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.mutable.MutableObj;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
+/**
+ * 基于多层时间轮的定时缓存<br>
+ * 与{@link TimedCache}清理时遍历全部对象不同，此缓存将对象按照过期时间放入时间轮中，
+ * 清理时只处理到期的槽，代价与实际过期的对象数成正比，适用于大量短时效对象（如会话）的场景。<br>
+ * 每次加入对象时会顺带推进时间轮，过期对象可以被及时清理，也可以通过{@link #schedulePrune(long)}定时推进。
+ *
+ * <p>
+ * 读操作不会调整时间轮，访问后被延后过期时间的对象，会在原槽到期时按照新的过期时间重新放入时间轮。
+ * </p>
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.10
+ */
+public class TimingWheelTimedCache<K, V> extends TimedCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 默认时间轮一个槽的跨度，单位毫秒
+	 */
+	public static final long DEFAULT_TICK_MS = 100;
+
+	private final TimerWheel<K, V> timerWheel;
+
+	/**
+	 * 构造
+	 *
+	 * @param timeout 超时（过期）时长，单位毫秒
+	 */
+	public TimingWheelTimedCache(long timeout) {
+		this(timeout, DEFAULT_TICK_MS);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param timeout 超时（过期）时长，单位毫秒
+	 * @param tickMs  时间轮一个槽的跨度，即过期清理的精度，单位毫秒
+	 */
+	public TimingWheelTimedCache(long timeout, long tickMs) {
+		super(timeout);
+		Assert.isTrue(tickMs > 0, "Tick must be greater than 0!");
+		this.timerWheel = new TimerWheel<>(tickMs, System.currentTimeMillis());
+	}
+
+	@Override
+	public void clear() {
+		final long stamp = acquireWriteLock();
+		try {
+			cacheMap.clear();
+			timerWheel.clear();
+			totalWeight.reset();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+		final TimerWheel.Node<K, V> node = new TimerWheel.Node<>(key, object, timeout);
+		node.weight = weigh(key, object);
+		final CacheObj<K, V> old = cacheMap.put(MutableObj.of(key), node);
+		totalWeight.add(node.weight - (null == old ? 0 : old.weight));
+		if (null != old) {
+			timerWheel.deschedule((TimerWheel.Node<K, V>) old);
+		}
+		if (timeout > 0) {
+			timerWheel.schedule(node);
+		}
+
+		// 顺带推进时间轮，未跨过槽时无额外代价
+		pruneCache();
+	}
+
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key, boolean withMissCount) {
+		final CacheObj<K, V> co = super.removeWithoutLock(key, withMissCount);
+		if (null != co) {
+			timerWheel.deschedule((TimerWheel.Node<K, V>) co);
+		}
+		return co;
+	}
+
+	/**
+	 * 推进时间轮，清理到期的对象
+	 *
+	 * @return 清理数
+	 */
+	@Override
+	protected int pruneCache() {
+		return timerWheel.advance(System.currentTimeMillis(), node -> {
+			if (cacheMap.remove(MutableObj.of(node.key), node)) {
+				onRemove(node, RemovalCause.EXPIRED);
+			}
+		});
+	}
+
+	/**
+	 * 反序列化，时间轮的槽未序列化，按照对象的过期时间重新放入时间轮
+	 *
+	 * @param in {@link ObjectInputStream}
+	 * @throws IOException            IO异常
+	 * @throws ClassNotFoundException 类未找到
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		for (CacheObj<K, V> co : cacheMap.values()) {
+			if (co.ttl > 0) {
+				timerWheel.schedule((TimerWheel.Node<K, V>) co);
+			}
+		}
+	}
+}
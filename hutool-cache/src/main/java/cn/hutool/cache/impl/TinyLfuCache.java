@@ -0,0 +1,690 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.RemovalCause;
+import cn.hutool.cache.Weigher;
+import cn.hutool.core.collection.CopiedIter;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.mutable.MutableObj;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * W-TinyLFU（Window Tiny Least Frequently Used）缓存<br>
+ * 数据存储于{@link ConcurrentHashMap}中，读写操作本身无需加锁，淘汰策略的维护通过读写缓冲批量异步完成：
+ * <ul>
+ *     <li>读操作将访问记录放入分段的有损环形读缓冲，缓冲满时尝试（{@link ReentrantLock#tryLock()}）批量回放，读操作永远不会阻塞等待锁</li>
+ *     <li>写操作将新增/移除记录放入写缓冲，由获得淘汰锁的线程批量回放并执行淘汰</li>
+ * </ul>
+ * 淘汰策略分为窗口区（1%，LRU）和主区（99%，分段LRU，包括试用区和保护区），
+ * 从窗口区淘汰的对象进入试用区，当容量超出时，通过{@link FrequencySketch}比较候选对象与试用区头部对象的访问频率，频率高者留下。<br>
+ * 此策略对于热点集中的访问（如Zipf分布）命中率通常高于LRU，且对扫描类的访问具有抵抗力。
+ *
+ * <p>参考：https://github.com/ben-manes/caffeine/wiki/Efficiency</p>
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.10
+ */
+public class TinyLfuCache<K, V> extends AbstractCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 读缓冲条带数，与CPU核数相关
+	 */
+	private static final int READ_BUFFER_STRIPES = ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors());
+	/**
+	 * 每个读缓冲的大小，必须为2的幂
+	 */
+	private static final int READ_BUFFER_SIZE = 16;
+	private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+
+	/**
+	 * 窗口区占总容量的比例
+	 */
+	private static final double WINDOW_PERCENT = 0.01d;
+	/**
+	 * 保护区占主区的比例
+	 */
+	private static final double PROTECTED_PERCENT = 0.8d;
+
+	private static final int QUEUE_NONE = 0;
+	private static final int QUEUE_WINDOW = 1;
+	private static final int QUEUE_PROBATION = 2;
+	private static final int QUEUE_PROTECTED = 3;
+
+	private final FrequencySketch<K> sketch;
+	private final int windowMaximum;
+	private final int protectedMaximum;
+
+	// 淘汰策略的数据结构不序列化，反序列化时根据Map重建，避免序列化链表时递归过深
+	/**
+	 * 淘汰锁，用于保护淘汰策略相关的数据结构，不影响读写Map
+	 */
+	private transient ReentrantLock evictionLock;
+	private transient ReadBuffer<K, V>[] readBuffers;
+	private transient Queue<Runnable> writeBuffer;
+	private transient AccessOrderDeque<K, V> windowDeque;
+	private transient AccessOrderDeque<K, V> probationDeque;
+	private transient AccessOrderDeque<K, V> protectedDeque;
+	private transient int windowSize;
+	private transient int probationSize;
+	private transient int protectedSize;
+
+	/**
+	 * 构造，默认对象不过期
+	 *
+	 * @param capacity 容量
+	 */
+	public TinyLfuCache(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量，必须大于0
+	 * @param timeout  过期时长，单位毫秒，{@code 0}表示不过期
+	 */
+	public TinyLfuCache(int capacity, long timeout) {
+		Assert.isTrue(capacity > 0, "Capacity must be greater than 0!");
+		this.capacity = capacity;
+		this.timeout = timeout;
+		this.cacheMap = new ConcurrentHashMap<>(Math.min(capacity, 1 << 16));
+
+		this.windowMaximum = Math.max(1, (int) (capacity * WINDOW_PERCENT));
+		this.protectedMaximum = (int) ((capacity - windowMaximum) * PROTECTED_PERCENT);
+		this.sketch = new FrequencySketch<>(capacity);
+		initPolicy();
+	}
+
+	/**
+	 * 不支持权重，容量按照对象个数限制
+	 *
+	 * @param weigher       权重计算器
+	 * @param maximumWeight 最大总权重
+	 * @return this
+	 * @throws UnsupportedOperationException 始终抛出
+	 */
+	@Override
+	public AbstractCache<K, V> setWeigher(Weigher<K, V> weigher, long maximumWeight) {
+		throw new UnsupportedOperationException("TinyLfuCache does not support weigher, capacity is limited by entry count!");
+	}
+
+	// ---------------------------------------------------------------- put start
+	@Override
+	public void put(K key, V object, long timeout) {
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+		final Node<K, V> node = new Node<>(key, object, timeout);
+		final CacheObj<K, V> old = cacheMap.put(MutableObj.of(key), node);
+		if (null != old) {
+			// 替换的旧值只从淘汰策略中移除，与其它缓存一致，不触发移除事件
+			writeBuffer.offer(new RemovalTask((Node<K, V>) old));
+		}
+		writeBuffer.offer(new AddTask(node));
+		scheduleDrain();
+	}
+	// ---------------------------------------------------------------- put end
+
+	// ---------------------------------------------------------------- get start
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		final CacheObj<K, V> co = getWithoutLock(key);
+
+		// 未命中
+		if (null == co) {
+			missCount.increment();
+			return null;
+		} else if (false == co.isExpired()) {
+			hitCount.increment();
+			afterRead((Node<K, V>) co);
+			return co.get(isUpdateLastAccess);
+		}
+
+		// 过期，既不算命中也不算非命中
+		remove((Node<K, V>) co, true);
+		return null;
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		final CacheObj<K, V> co = getWithoutLock(key);
+		if (null == co) {
+			return false;
+		}
+		if (false == co.isExpired()) {
+			return true;
+		}
+
+		// 过期
+		remove((Node<K, V>) co, true);
+		return false;
+	}
+	// ---------------------------------------------------------------- get end
+
+	@Override
+	public Iterator<CacheObj<K, V>> cacheObjIterator() {
+		// ConcurrentHashMap的迭代是弱一致的，无需加锁
+		return new CacheObjIterator<>(CopiedIter.copyOf(cacheObjIter()));
+	}
+
+	@Override
+	public int prune() {
+		evictionLock.lock();
+		try {
+			maintenance();
+			return pruneCache();
+		} finally {
+			unlockAndDrain();
+		}
+	}
+
+	@Override
+	public void remove(K key) {
+		final CacheObj<K, V> co = cacheMap.remove(MutableObj.of(key));
+		if (null != co) {
+			writeBuffer.offer(new RemovalTask((Node<K, V>) co));
+			scheduleDrain();
+			onRemove(co, RemovalCause.EXPLICIT);
+		}
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			maintenance();
+			cacheMap.clear();
+			windowDeque.clear();
+			probationDeque.clear();
+			protectedDeque.clear();
+			windowSize = 0;
+			probationSize = 0;
+			protectedSize = 0;
+			sketch.clear();
+		} finally {
+			unlockAndDrain();
+		}
+	}
+
+	/**
+	 * 清理过期对象，调用时已持有淘汰锁
+	 *
+	 * @return 清理数
+	 */
+	@Override
+	protected int pruneCache() {
+		if (false == isPruneExpiredActive()) {
+			return 0;
+		}
+		int count = 0;
+		final Iterator<CacheObj<K, V>> values = cacheObjIter();
+		Node<K, V> node;
+		while (values.hasNext()) {
+			node = (Node<K, V>) values.next();
+			if (node.isExpired() && cacheMap.remove(MutableObj.of(node.key), node)) {
+				unlink(node);
+				onRemove(node, RemovalCause.EXPIRED);
+				count++;
+			}
+		}
+		return count;
+	}
+
+	// ---------------------------------------------------------------- private method start
+
+	/**
+	 * 移除指定节点，只有Map中对应的值依旧是此节点时才移除
+	 *
+	 * @param node          节点
+	 * @param withMissCount 是否计数丢失数
+	 */
+	private void remove(Node<K, V> node, boolean withMissCount) {
+		if (withMissCount) {
+			this.missCount.increment();
+		}
+		if (cacheMap.remove(MutableObj.of(node.key), node)) {
+			writeBuffer.offer(new RemovalTask(node));
+			scheduleDrain();
+			onRemove(node, withMissCount ? RemovalCause.EXPIRED : RemovalCause.EXPLICIT);
+		}
+	}
+
+	/**
+	 * 记录读操作，读缓冲满时尝试回放，获取锁失败则直接返回，不阻塞读线程
+	 *
+	 * @param node 被读取的节点
+	 */
+	private void afterRead(Node<K, V> node) {
+		final int index = (int) Thread.currentThread().getId() & (READ_BUFFER_STRIPES - 1);
+		if (readBuffers[index].offer(node) && evictionLock.tryLock()) {
+			try {
+				maintenance();
+			} finally {
+				unlockAndDrain();
+			}
+		}
+	}
+
+	/**
+	 * 释放淘汰锁，并再次检查写缓冲<br>
+	 * 持有锁期间其它线程加入的写任务因获取锁失败未被回放，释放后由当前线程负责回放，保证写任务不滞留
+	 */
+	private void unlockAndDrain() {
+		evictionLock.unlock();
+		scheduleDrain();
+	}
+
+	/**
+	 * 写缓冲非空时尝试回放，如果淘汰锁已被其它线程持有，则由持有线程在释放锁后负责回放
+	 */
+	private void scheduleDrain() {
+		while (false == writeBuffer.isEmpty() && evictionLock.tryLock()) {
+			try {
+				maintenance();
+			} finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * 回放读写缓冲并执行淘汰，调用时必须持有淘汰锁
+	 */
+	private void maintenance() {
+		final Consumer<Node<K, V>> onAccess = this::onAccess;
+		for (ReadBuffer<K, V> readBuffer : readBuffers) {
+			readBuffer.drainTo(onAccess);
+		}
+
+		Runnable task;
+		while (null != (task = writeBuffer.poll())) {
+			task.run();
+		}
+
+		evictEntries();
+	}
+
+	/**
+	 * 回放访问记录，增加频率并调整节点所在队列
+	 *
+	 * @param node 节点
+	 */
+	private void onAccess(Node<K, V> node) {
+		if (QUEUE_NONE == node.queueType) {
+			// 已被移除或尚未加入
+			return;
+		}
+		sketch.increment(node.key);
+		switch (node.queueType) {
+			case QUEUE_WINDOW:
+				windowDeque.moveToBack(node);
+				break;
+			case QUEUE_PROBATION:
+				// 试用区被再次访问，晋升到保护区
+				probationDeque.remove(node);
+				probationSize--;
+				protectedDeque.addLast(node);
+				protectedSize++;
+				node.queueType = QUEUE_PROTECTED;
+				demoteFromProtected();
+				break;
+			case QUEUE_PROTECTED:
+				protectedDeque.moveToBack(node);
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * 保护区超出限制时，将最久未使用的节点降级到试用区
+	 */
+	private void demoteFromProtected() {
+		Node<K, V> node;
+		while (protectedSize > protectedMaximum && null != (node = protectedDeque.peekFirst())) {
+			protectedDeque.remove(node);
+			protectedSize--;
+			probationDeque.addLast(node);
+			probationSize++;
+			node.queueType = QUEUE_PROBATION;
+		}
+	}
+
+	/**
+	 * 执行淘汰：先将窗口区溢出的节点移入试用区作为候选，容量超出时候选者与试用区头部的牺牲者比较频率，频率低者被淘汰
+	 */
+	private void evictEntries() {
+		Node<K, V> candidate = null;
+		Node<K, V> node;
+		while (windowSize > windowMaximum && null != (node = windowDeque.peekFirst())) {
+			windowDeque.remove(node);
+			windowSize--;
+			probationDeque.addLast(node);
+			probationSize++;
+			node.queueType = QUEUE_PROBATION;
+			if (null == candidate) {
+				candidate = node;
+			}
+		}
+
+		Node<K, V> victim;
+		Node<K, V> evict;
+		while (windowSize + probationSize + protectedSize > capacity) {
+			victim = probationDeque.peekFirst();
+			if (null == victim) {
+				victim = (protectedSize > 0) ? protectedDeque.peekFirst() : windowDeque.peekFirst();
+				evict = victim;
+			} else if (null == candidate || candidate == victim) {
+				evict = victim;
+			} else {
+				evict = admit(candidate.key, victim.key) ? victim : candidate;
+			}
+			if (null == evict) {
+				break;
+			}
+			if (evict == candidate) {
+				// 候选者都在试用区尾部，顺序向后
+				candidate = candidate.next;
+			}
+			evict(evict);
+		}
+	}
+
+	/**
+	 * 判断候选者是否可以替代牺牲者留在缓存中
+	 *
+	 * @param candidateKey 候选者键
+	 * @param victimKey    牺牲者键
+	 * @return 是否准入
+	 */
+	private boolean admit(K candidateKey, K victimKey) {
+		return sketch.frequency(candidateKey) > sketch.frequency(victimKey);
+	}
+
+	/**
+	 * 淘汰节点
+	 *
+	 * @param node 节点
+	 */
+	private void evict(Node<K, V> node) {
+		unlink(node);
+		if (cacheMap.remove(MutableObj.of(node.key), node)) {
+			onRemove(node, RemovalCause.SIZE);
+		}
+	}
+
+	/**
+	 * 将节点从所在队列中移除，并标记为已移除
+	 *
+	 * @param node 节点
+	 */
+	private void unlink(Node<K, V> node) {
+		switch (node.queueType) {
+			case QUEUE_WINDOW:
+				windowDeque.remove(node);
+				windowSize--;
+				break;
+			case QUEUE_PROBATION:
+				probationDeque.remove(node);
+				probationSize--;
+				break;
+			case QUEUE_PROTECTED:
+				protectedDeque.remove(node);
+				protectedSize--;
+				break;
+			default:
+				break;
+		}
+		node.queueType = QUEUE_NONE;
+		node.retired = true;
+	}
+
+	/**
+	 * 初始化淘汰策略相关的数据结构
+	 */
+	@SuppressWarnings("unchecked")
+	private void initPolicy() {
+		this.evictionLock = new ReentrantLock();
+		this.writeBuffer = new ConcurrentLinkedQueue<>();
+		this.windowDeque = new AccessOrderDeque<>();
+		this.probationDeque = new AccessOrderDeque<>();
+		this.protectedDeque = new AccessOrderDeque<>();
+		this.readBuffers = new ReadBuffer[READ_BUFFER_STRIPES];
+		for (int i = 0; i < READ_BUFFER_STRIPES; i++) {
+			this.readBuffers[i] = new ReadBuffer<>();
+		}
+	}
+
+	/**
+	 * 反序列化，重建淘汰策略：节点依次加入窗口区，窗口区满后加入试用区，访问频率保留在{@link FrequencySketch}中
+	 *
+	 * @param in {@link ObjectInputStream}
+	 * @throws IOException            IO异常
+	 * @throws ClassNotFoundException 类未找到
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		initPolicy();
+		Node<K, V> node;
+		for (CacheObj<K, V> co : cacheMap.values()) {
+			node = (Node<K, V>) co;
+			if (windowSize < windowMaximum) {
+				windowDeque.addLast(node);
+				windowSize++;
+				node.queueType = QUEUE_WINDOW;
+			} else {
+				probationDeque.addLast(node);
+				probationSize++;
+				node.queueType = QUEUE_PROBATION;
+			}
+		}
+	}
+
+	/**
+	 * 大于等于给定值的最小2的幂
+	 *
+	 * @param x 值
+	 * @return 2的幂
+	 */
+	private static int ceilingPowerOfTwo(int x) {
+		return 1 << -Integer.numberOfLeadingZeros(x - 1);
+	}
+	// ---------------------------------------------------------------- private method end
+
+	/**
+	 * 新增节点任务
+	 */
+	private class AddTask implements Runnable {
+		private final Node<K, V> node;
+
+		AddTask(Node<K, V> node) {
+			this.node = node;
+		}
+
+		@Override
+		public void run() {
+			if (node.retired) {
+				// 在加入前已经被移除
+				return;
+			}
+			sketch.increment(node.key);
+			windowDeque.addLast(node);
+			windowSize++;
+			node.queueType = QUEUE_WINDOW;
+		}
+	}
+
+	/**
+	 * 移除节点任务
+	 */
+	private class RemovalTask implements Runnable {
+		private final Node<K, V> node;
+
+		RemovalTask(Node<K, V> node) {
+			this.node = node;
+		}
+
+		@Override
+		public void run() {
+			unlink(node);
+		}
+	}
+
+	/**
+	 * 缓存节点，在{@link CacheObj}的基础上增加淘汰策略所需的链表指针
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class Node<K, V> extends CacheObj<K, V> {
+		private static final long serialVersionUID = 1L;
+
+		transient Node<K, V> prev;
+		transient Node<K, V> next;
+		/**
+		 * 所在队列，只在持有淘汰锁时读写
+		 */
+		transient int queueType = QUEUE_NONE;
+		/**
+		 * 是否已经从淘汰策略中移除，只在持有淘汰锁时读写
+		 */
+		transient boolean retired;
+
+		Node(K key, V obj, long ttl) {
+			super(key, obj, ttl);
+		}
+	}
+
+	/**
+	 * 按访问顺序排列的双向链表，头部为最久未访问节点，只在持有淘汰锁时使用
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class AccessOrderDeque<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+
+		Node<K, V> peekFirst() {
+			return first;
+		}
+
+		void addLast(Node<K, V> node) {
+			node.prev = last;
+			node.next = null;
+			if (null == last) {
+				first = node;
+			} else {
+				last.next = node;
+			}
+			last = node;
+		}
+
+		void remove(Node<K, V> node) {
+			final Node<K, V> prev = node.prev;
+			final Node<K, V> next = node.next;
+			if (null == prev) {
+				first = next;
+			} else {
+				prev.next = next;
+			}
+			if (null == next) {
+				last = prev;
+			} else {
+				next.prev = prev;
+			}
+			node.prev = null;
+			node.next = null;
+		}
+
+		void moveToBack(Node<K, V> node) {
+			if (node != last) {
+				remove(node);
+				addLast(node);
+			}
+		}
+
+		void clear() {
+			Node<K, V> node = first;
+			Node<K, V> next;
+			while (null != node) {
+				next = node.next;
+				node.prev = null;
+				node.next = null;
+				node.queueType = QUEUE_NONE;
+				node.retired = true;
+				node = next;
+			}
+			first = null;
+			last = null;
+		}
+	}
+
+	/**
+	 * 有损环形读缓冲，多线程写入，持有淘汰锁的单线程读取<br>
+	 * 缓冲满或CAS竞争失败时直接丢弃访问记录，以此保证读操作不被阻塞
+	 *
+	 * @param <K> 键类型
+	 * @param <V> 值类型
+	 */
+	private static class ReadBuffer<K, V> {
+		private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+		private final AtomicLong writeCounter = new AtomicLong();
+		private volatile long readCounter;
+
+		/**
+		 * 加入访问记录
+		 *
+		 * @param node 节点
+		 * @return 缓冲是否已满，满则需要回放
+		 */
+		boolean offer(Node<K, V> node) {
+			final long head = readCounter;
+			final long tail = writeCounter.get();
+			final long size = tail - head;
+			if (size >= READ_BUFFER_SIZE) {
+				return true;
+			}
+			if (writeCounter.compareAndSet(tail, tail + 1)) {
+				buffer.lazySet((int) (tail & READ_BUFFER_MASK), node);
+				return size + 1 >= READ_BUFFER_SIZE;
+			}
+			return false;
+		}
+
+		/**
+		 * 回放所有已发布的访问记录，调用时必须持有淘汰锁
+		 *
+		 * @param consumer 访问记录消费者
+		 */
+		void drainTo(Consumer<Node<K, V>> consumer) {
+			long head = readCounter;
+			final long tail = writeCounter.get();
+			int index;
+			Node<K, V> node;
+			for (; head < tail; head++) {
+				index = (int) (head & READ_BUFFER_MASK);
+				node = buffer.get(index);
+				if (null == node) {
+					// 已占位但尚未写入，下次回放
+					break;
+				}
+				buffer.lazySet(index, null);
+				consumer.accept(node);
+			}
+			readCounter = head;
+		}
+	}
+}
@@ -1,12 +1,10 @@
 package cn.hutool.cache.impl;
 
 import cn.hutool.cache.CacheListener;
-import cn.hutool.core.lang.Opt;
+import cn.hutool.cache.RemovalCause;
 import cn.hutool.core.lang.mutable.Mutable;
 import cn.hutool.core.map.WeakConcurrentMap;
 
-import java.lang.ref.Reference;
-
 /**
  * 弱引用缓存<br>
  * 对于一个给定的键，其映射的存在并不阻止垃圾回收器对该键的丢弃，这就使该键成为可终止的，被终止，然后被回收。<br>
@@ -28,16 +26,15 @@ public class WeakCache<K, V> extends TimedCache<K, V>{
 	 */
 	public WeakCache(long timeout) {
 		super(timeout, new WeakConcurrentMap<>());
+
+		final WeakConcurrentMap<Mutable<K>, CacheObj<K, V>> map = (WeakConcurrentMap<Mutable<K>, CacheObj<K, V>>) this.cacheMap;
+		// WeakKey回收之后，键的包装对象已经为null，此处使用值中保存的键
+		map.setPurgeListener((key, value) -> onRemove(value, RemovalCause.COLLECTED));
 	}
 
 	@Override
 	public WeakCache<K, V> setListener(CacheListener<K, V> listener) {
 		super.setListener(listener);
-
-		final WeakConcurrentMap<Mutable<K>, CacheObj<K, V>> map = (WeakConcurrentMap<Mutable<K>, CacheObj<K, V>>) this.cacheMap;
-		// WeakKey回收之后，key对应的值已经是null了，因此此处的key也为null
-		map.setPurgeListener((key, value)-> listener.onRemove(Opt.ofNullable(key).map(Reference::get).map(Mutable::get).get(), value.getValue()));
-
 		return this;
 	}
 }
@@ -0,0 +1,26 @@
+package cn.hutool.cache.serialize;
+
+/**
+ * bytes缓存对象序列化器，直接存储原始bytes，适用于缓存已序列化的数据
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class BytesCacheSerializer implements CacheSerializer<byte[]> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 单例
+	 */
+	public static final BytesCacheSerializer INSTANCE = new BytesCacheSerializer();
+
+	@Override
+	public byte[] serialize(byte[] obj) {
+		return obj;
+	}
+
+	@Override
+	public byte[] deserialize(byte[] bytes) {
+		return bytes;
+	}
+}
@@ -0,0 +1,30 @@
+package cn.hutool.cache.serialize;
+
+import java.io.Serializable;
+
+/**
+ * 缓存对象序列化器，用于堆外缓存等需要以字节形式存储对象的场景<br>
+ * 序列化器作为缓存的一部分随缓存一起序列化，因此须可序列化
+ *
+ * @param <T> 对象类型
+ * @author looly
+ * @since 5.8.10
+ */
+public interface CacheSerializer<T> extends Serializable {
+
+	/**
+	 * 序列化对象为bytes
+	 *
+	 * @param obj 对象
+	 * @return bytes
+	 */
+	byte[] serialize(T obj);
+
+	/**
+	 * 反序列化bytes为对象
+	 *
+	 * @param bytes bytes
+	 * @return 对象
+	 */
+	T deserialize(byte[] bytes);
+}
@@ -0,0 +1,29 @@
+package cn.hutool.cache.serialize;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.SerializeUtil;
+
+/**
+ * 基于JDK序列化的缓存对象序列化器，对象必须实现{@link java.io.Serializable}
+ *
+ * <p>
+ * 注意！！！ 反序列化不会检查安全性，请勿用于不可信的数据！！！
+ * </p>
+ *
+ * @param <T> 对象类型
+ * @author looly
+ * @since 5.8.10
+ */
+public class JdkCacheSerializer<T> implements CacheSerializer<T> {
+	private static final long serialVersionUID = 1L;
+
+	@Override
+	public byte[] serialize(T obj) {
+		return Assert.notNull(SerializeUtil.serialize(obj), "Object [{}] is not Serializable!", obj);
+	}
+
+	@Override
+	public T deserialize(byte[] bytes) {
+		return SerializeUtil.deserialize(bytes);
+	}
+}
@@ -0,0 +1,7 @@
+/**
+ * 缓存序列化，用于将缓存对象存储于堆外内存或文件中
+ *
+ * @author looly
+ *
+ */
+package cn.hutool.cache.serialize;
@@ -0,0 +1,164 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.BucketLFUCache;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.ObjectUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BucketLFUCacheTest {
+
+	@Test
+	public void evictTest() {
+		final BucketLFUCache<String, String> cache = CacheUtil.newBucketLFUCache(3);
+		cache.put("key1", "value1");
+		cache.get("key1");
+		cache.get("key1");
+		cache.put("key2", "value2");
+		cache.get("key2");
+		cache.put("key3", "value3");
+		Assert.assertEquals(2, cache.frequency("key1"));
+		Assert.assertEquals(1, cache.frequency("key2"));
+		Assert.assertEquals(0, cache.frequency("key3"));
+
+		// 访问最少的key3被淘汰
+		cache.put("key4", "value4");
+		Assert.assertFalse(cache.containsKey("key3"));
+		Assert.assertEquals(3, cache.size());
+
+		// 频率相同时淘汰最早进入的
+		cache.put("key5", "value5");
+		Assert.assertFalse(cache.containsKey("key4"));
+		Assert.assertTrue(cache.containsKey("key1"));
+		Assert.assertTrue(cache.containsKey("key2"));
+	}
+
+	@Test
+	public void replaceAndRemoveTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+		final BucketLFUCache<String, String> cache = CacheUtil.newBucketLFUCache(3);
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+		cache.put("key1", "value1");
+		cache.get("key1");
+		cache.put("key1", "value11");
+		Assert.assertEquals(0, cache.frequency("key1"));
+		Assert.assertEquals("value11", cache.get("key1"));
+
+		cache.remove("key1");
+		Assert.assertEquals(-1, cache.frequency("key1"));
+		Assert.assertEquals(1, removeCount.get());
+
+		for (int i = 0; i < 100; i++) {
+			cache.put("key" + i, "value" + i);
+		}
+		Assert.assertEquals(3, cache.size());
+		Assert.assertEquals(98, removeCount.get());
+
+		cache.clear();
+		Assert.assertTrue(cache.isEmpty());
+		cache.put("key1", "value1");
+		Assert.assertEquals("value1", cache.get("key1"));
+	}
+
+	@Test
+	public void decayTest() {
+		final BucketLFUCache<String, String> cache = CacheUtil.newBucketLFUCache(2);
+		cache.setDecayInterval(8);
+		cache.put("old", "old");
+		for (int i = 0; i < 7; i++) {
+			cache.get("old");
+		}
+		Assert.assertEquals(7, cache.frequency("old"));
+
+		// 第8次访问触发衰减，频率减半
+		cache.put("new", "new");
+		cache.get("new");
+		Assert.assertEquals(3, cache.frequency("old"));
+		Assert.assertEquals(0, cache.frequency("new"));
+
+		for (int i = 0; i < 8; i++) {
+			cache.get("new");
+		}
+		// 衰减后新热点超过旧热点，再次加入对象时淘汰旧热点
+		Assert.assertEquals(4, cache.frequency("new"));
+		Assert.assertEquals(1, cache.frequency("old"));
+		cache.put("other", "other");
+		Assert.assertFalse(cache.containsKey("old"));
+		Assert.assertTrue(cache.containsKey("new"));
+	}
+
+	@Test
+	public void timeoutTest() {
+		final BucketLFUCache<String, String> cache = CacheUtil.newBucketLFUCache(3, 10);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2", 0);
+		ThreadUtil.sleep(50);
+		Assert.assertEquals(1, cache.prune());
+		Assert.assertNull(cache.get("key1"));
+		Assert.assertEquals("value2", cache.get("key2"));
+	}
+
+	@Test
+	public void evictWithoutPruneTest() {
+		final List<String> removed = new ArrayList<>();
+		final BucketLFUCache<String, String> cache = CacheUtil.newBucketLFUCache(3);
+		cache.setListener((key, value) -> removed.add(key));
+		cache.put("expired", "value1", 10);
+		cache.put("key2", "value2");
+		cache.put("key3", "value3");
+		// 过期对象访问频率最高
+		for (int i = 0; i < 5; i++) {
+			cache.get("expired");
+		}
+		cache.get("key2");
+		cache.get("key3", false);
+		cache.get("key3");
+		ThreadUtil.sleep(50);
+
+		// 缓存满时不遍历过期对象，直接淘汰频率最低的对象
+		cache.put("key4", "value4");
+		Assert.assertEquals(CollUtil.newArrayList("key2"), removed);
+		Assert.assertEquals(1, cache.stats().getRemovalCount(RemovalCause.SIZE));
+
+		// 过期对象在读取或主动清理时移除
+		Assert.assertEquals(1, cache.prune());
+		Assert.assertEquals(CollUtil.newArrayList("key2", "expired"), removed);
+
+		// 被淘汰的对象已过期时按照过期通知
+		cache.put("short", "value5", 10);
+		cache.get("key4");
+		ThreadUtil.sleep(50);
+		cache.put("key6", "value6");
+		Assert.assertFalse(cache.containsKey("short"));
+		Assert.assertEquals(1, cache.stats().getRemovalCount(RemovalCause.SIZE));
+		Assert.assertEquals(2, cache.stats().getRemovalCount(RemovalCause.EXPIRED));
+	}
+
+	@Test
+	public void serializeTest() {
+		final BucketLFUCache<Integer, String> cache = CacheUtil.newBucketLFUCache(100000);
+		for (int i = 0; i < 100000; i++) {
+			cache.put(i, "value" + i);
+		}
+		cache.get(1);
+		cache.get(1);
+		cache.get(2);
+
+		final BucketLFUCache<Integer, String> cache2 = ObjectUtil.cloneByStream(cache);
+		Assert.assertEquals(100000, cache2.size());
+		Assert.assertEquals(2, cache2.frequency(1));
+		Assert.assertEquals(1, cache2.frequency(2));
+		Assert.assertEquals(0, cache2.frequency(3));
+
+		// 反序列化后频率桶可用，频率最低且最早加入的对象被淘汰
+		cache2.put(100000, "value100000");
+		Assert.assertFalse(cache2.containsKey(0));
+		Assert.assertTrue(cache2.containsKey(1));
+		Assert.assertEquals(100000, cache2.size());
+	}
+}
@@ -0,0 +1,126 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.LFUCache;
+import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.cache.serialize.BytesCacheSerializer;
+import cn.hutool.cache.serialize.JdkCacheSerializer;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class CacheSnapshotTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+	private File file;
+
+	@Before
+	public void init() {
+		// 每个测试使用独立的文件，互不影响
+		file = new File(folder.getRoot(), "snapshot.data");
+	}
+
+	@Test
+	public void writeAndReadTest() {
+		final LFUCache<String, String> cache = CacheUtil.newLFUCache(100);
+		for (int i = 0; i < 50; i++) {
+			cache.put("key" + i, "value" + i);
+		}
+		Assert.assertEquals(50, CacheSnapshot.write(cache, file));
+
+		final LFUCache<String, String> newCache = CacheUtil.newLFUCache(100);
+		Assert.assertEquals(50, CacheSnapshot.read(newCache, file));
+		for (int i = 0; i < 50; i++) {
+			Assert.assertEquals("value" + i, newCache.get("key" + i));
+		}
+	}
+
+	@Test
+	public void ttlTest() {
+		final TimedCache<String, String> cache = CacheUtil.newTimedCache(10000);
+		cache.put("short", "short", 50);
+		cache.put("long", "long");
+		cache.put("forever", "forever", 0);
+		CacheSnapshot.write(cache, file);
+
+		final TimedCache<String, String> newCache = CacheUtil.newTimedCache(10000);
+		Assert.assertEquals(3, CacheSnapshot.read(newCache, file));
+		// 剩余存活时长被保留
+		ThreadUtil.sleep(100);
+		Assert.assertNull(newCache.get("short"));
+		Assert.assertEquals("long", newCache.get("long"));
+		Assert.assertEquals("forever", newCache.get("forever"));
+
+		// 加载时已过期的对象被跳过
+		final TimedCache<String, String> newCache2 = CacheUtil.newTimedCache(10000);
+		Assert.assertEquals(2, CacheSnapshot.read(newCache2, file));
+	}
+
+	@Test
+	public void defaultTimeoutTest() {
+		final LFUCache<String, String> cache = CacheUtil.newLFUCache(10);
+		cache.put("key1", "value1");
+		CacheSnapshot.write(cache, file);
+
+		// 未设置过期的对象使用目标缓存的默认过期时长
+		final TimedCache<String, String> newCache = CacheUtil.newTimedCache(50);
+		Assert.assertEquals(1, CacheSnapshot.read(newCache, file));
+		Assert.assertEquals("value1", newCache.get("key1", false));
+		ThreadUtil.sleep(100);
+		Assert.assertNull(newCache.get("key1"));
+	}
+
+	@Test
+	public void largeValueTest() {
+		final LFUCache<String, byte[]> cache = CacheUtil.newLFUCache(10);
+		final byte[] large = StrUtil.repeat('a', 200 * 1024).getBytes();
+		cache.put("large", large);
+		cache.put("small", new byte[]{1, 2, 3});
+		CacheSnapshot.write(cache, file, new JdkCacheSerializer<>(), BytesCacheSerializer.INSTANCE);
+
+		final LFUCache<String, byte[]> newCache = CacheUtil.newLFUCache(10);
+		Assert.assertEquals(2, CacheSnapshot.read(newCache, file, new JdkCacheSerializer<>(), BytesCacheSerializer.INSTANCE));
+		Assert.assertArrayEquals(large, newCache.get("large"));
+		Assert.assertArrayEquals(new byte[]{1, 2, 3}, newCache.get("small"));
+	}
+
+	@Test
+	public void checkpointTest() throws InterruptedException {
+		final LFUCache<String, String> cache = CacheUtil.newLFUCache(10);
+		cache.put("key1", "value1");
+		final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+		executor.scheduleAtFixedRate(() -> CacheSnapshot.checkpoint(cache, file,
+				new JdkCacheSerializer<>(), new JdkCacheSerializer<>()), 0, 20, TimeUnit.MILLISECONDS);
+		ThreadUtil.sleep(200);
+		// 等待正在进行的检查点结束，之后文件不再被修改
+		executor.shutdown();
+		Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		Assert.assertFalse(FileUtil.exist(file.getAbsolutePath() + ".tmp"));
+
+		final LFUCache<String, String> newCache = CacheUtil.newLFUCache(10);
+		Assert.assertEquals(1, CacheSnapshot.read(newCache, file));
+		Assert.assertEquals("value1", newCache.get("key1"));
+	}
+
+	@Test
+	public void readNotExistTest() {
+		Assert.assertEquals(0, CacheSnapshot.read(CacheUtil.newLFUCache(10), file));
+	}
+
+	@Test(expected = IORuntimeException.class)
+	public void readInvalidTest() {
+		FileUtil.writeUtf8String("invalid", file);
+		CacheSnapshot.read(CacheUtil.newLFUCache(10), file);
+	}
+}
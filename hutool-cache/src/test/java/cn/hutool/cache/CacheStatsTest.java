@@ -0,0 +1,154 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.FIFOCache;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.cache.impl.StripedCache;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.thread.ThreadUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class CacheStatsTest {
+
+	@Test
+	public void removalCauseTest() {
+		final Map<String, RemovalCause> causes = new ConcurrentHashMap<>();
+		final FIFOCache<String, String> cache = CacheUtil.newFIFOCache(2, 10);
+		cache.setListener(new CacheListener<String, String>() {
+			@Override
+			public void onRemove(String key, String cachedObject) {
+				Assert.fail("Should call onRemove with cause");
+			}
+
+			@Override
+			public void onRemove(String key, String cachedObject, RemovalCause cause) {
+				causes.put(key, cause);
+			}
+		});
+
+		cache.put("key1", "value1", 0);
+		cache.put("key2", "value2");
+		cache.remove("key1");
+		Assert.assertEquals(RemovalCause.EXPLICIT, causes.get("key1"));
+
+		ThreadUtil.sleep(50);
+		Assert.assertNull(cache.get("key2"));
+		Assert.assertEquals(RemovalCause.EXPIRED, causes.get("key2"));
+
+		cache.put("key3", "value3", 0);
+		cache.put("key4", "value4", 0);
+		cache.put("key5", "value5", 0);
+		Assert.assertEquals(RemovalCause.SIZE, causes.get("key3"));
+
+		final CacheStats stats = cache.stats();
+		Assert.assertEquals(1, stats.getRemovalCount(RemovalCause.EXPLICIT));
+		Assert.assertEquals(1, stats.getRemovalCount(RemovalCause.EXPIRED));
+		Assert.assertEquals(1, stats.getRemovalCount(RemovalCause.SIZE));
+		Assert.assertEquals(2, stats.getEvictionCount());
+		Assert.assertEquals(2, stats.getSize());
+		Assert.assertTrue(stats.getAverageEntryLifetime() >= 0);
+	}
+
+	@Test
+	public void loadStatsTest() {
+		final FIFOCache<String, String> cache = CacheUtil.newFIFOCache(10);
+		Assert.assertEquals("value1", cache.get("key1", () -> {
+			ThreadUtil.sleep(10);
+			return "value1";
+		}));
+		Assert.assertEquals("value1", cache.get("key1"));
+		try {
+			cache.get("key2", () -> {
+				throw new IllegalStateException("load error");
+			});
+			Assert.fail();
+		} catch (RuntimeException e) {
+			// ignore
+		}
+
+		final CacheStats stats = cache.stats();
+		Assert.assertEquals(1, stats.getLoadSuccessCount());
+		Assert.assertEquals(1, stats.getLoadFailureCount());
+		Assert.assertTrue(stats.getTotalLoadTime() >= TimeUnit.MILLISECONDS.toNanos(10));
+		Assert.assertTrue(stats.getLoadLatencyPercentile(0.99) >= TimeUnit.MILLISECONDS.toNanos(10));
+		Assert.assertEquals(1, stats.getHitCount());
+		Assert.assertEquals(0, cache.stats().minus(stats).getRequestCount());
+	}
+
+	@Test
+	public void stripedStatsTest() {
+		final StripedCache<Integer, Integer> cache = CacheUtil.newStripedFIFOCache(8, 4);
+		for (int i = 0; i < 16; i++) {
+			cache.put(i, i);
+		}
+		for (int i = 0; i < 16; i++) {
+			cache.get(i);
+		}
+		final CacheStats stats = cache.stats();
+		Assert.assertEquals(16, stats.getRequestCount());
+		// 每个分段内淘汰，未淘汰的对象均命中
+		Assert.assertEquals(16, stats.getHitCount() + stats.getRemovalCount(RemovalCause.SIZE));
+		Assert.assertEquals(cache.size(), stats.getHitCount());
+		Assert.assertEquals(cache.size(), stats.getSize());
+	}
+
+	@Test
+	public void scheduleStatsExportTest() throws InterruptedException {
+		final FIFOCache<String, String> cache = CacheUtil.newFIFOCache(10);
+		cache.put("key1", "value1");
+		cache.get("key1");
+
+		final CountDownLatch latch = new CountDownLatch(1);
+		final AtomicReference<CacheStats> exported = new AtomicReference<>();
+		final ScheduledFuture<?> future = CacheUtil.scheduleStatsExport(cache, 20, stats -> {
+			exported.set(stats);
+			latch.countDown();
+		});
+		cache.get("key1");
+		cache.get("key2");
+		Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+		future.cancel(false);
+
+		// 只导出开始导出之后的增量
+		Assert.assertEquals(1, exported.get().getHitCount());
+		Assert.assertEquals(1, exported.get().getMissCount());
+		Assert.assertEquals(1, exported.get().getSize());
+	}
+
+	@SuppressWarnings("deprecation")
+	@Test
+	public void legacyOnRemoveTest() {
+		final List<String> removedKeys = new ArrayList<>();
+		final LRUCache<String, String> cache = new LRUCache<String, String>(2) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void onRemove(String key, String cachedObject) {
+				removedKeys.add(key);
+			}
+		};
+		final AtomicInteger listenerCount = new AtomicInteger();
+		cache.setListener((key, value) -> listenerCount.incrementAndGet());
+
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		// 按照个数淘汰
+		cache.put("key3", "value3");
+		cache.remove("key2");
+
+		// 重写的旧回调和监听均被调用，且只调用一次
+		Assert.assertEquals(CollUtil.newArrayList("key1", "key2"), removedKeys);
+		Assert.assertEquals(2, listenerCount.get());
+		Assert.assertEquals(1, cache.stats().getRemovalCount(RemovalCause.SIZE));
+	}
+}
@@ -0,0 +1,172 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.DefaultLoadingCache;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LoadingCacheTest {
+
+	@Test
+	public void singleFlightTest() {
+		final AtomicInteger loadCount = new AtomicInteger();
+		final LoadingCache<String, String> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(10), key -> {
+			loadCount.incrementAndGet();
+			ThreadUtil.sleep(100);
+			return "value-" + key;
+		});
+
+		ThreadUtil.concurrencyTest(20, () -> Assert.assertEquals("value-a", cache.get("a")));
+		// 20个线程同时未命中，只加载一次
+		Assert.assertEquals(1, loadCount.get());
+		Assert.assertEquals("value-a", cache.get("a"));
+		Assert.assertEquals(1, loadCount.get());
+	}
+
+	@Test
+	public void getAllTest() {
+		final AtomicInteger loadAllCount = new AtomicInteger();
+		final LoadingCache<Integer, String> cache = CacheUtil.newLoadingCache(CacheUtil.newLFUCache(10), new CacheLoader<Integer, String>() {
+			@Override
+			public String load(Integer key) {
+				return StrUtil.toString(key);
+			}
+
+			@Override
+			public Map<Integer, String> loadAll(Iterable<? extends Integer> keys) {
+				loadAllCount.incrementAndGet();
+				final Map<Integer, String> result = MapUtil.newHashMap();
+				for (Integer key : keys) {
+					if (key < 3) {
+						result.put(key, StrUtil.toString(key));
+					}
+				}
+				return result;
+			}
+		});
+
+		cache.put(0, "zero");
+		final Map<Integer, String> result = cache.getAll(Arrays.asList(0, 1, 2, 3));
+		Assert.assertEquals(1, loadAllCount.get());
+		Assert.assertEquals(3, result.size());
+		Assert.assertEquals("zero", result.get(0));
+		Assert.assertEquals("1", result.get(1));
+		Assert.assertEquals("[0, 1, 2]", result.keySet().toString());
+		Assert.assertTrue(cache.containsKey(2));
+		Assert.assertFalse(cache.containsKey(3));
+	}
+
+	@Test
+	public void getAsyncTest() {
+		final LoadingCache<String, String> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(10), key -> "value-" + key);
+		Assert.assertEquals("value-a", cache.getAsync("a").join());
+		Assert.assertTrue(cache.getAsync("a").isDone());
+	}
+
+	@Test
+	public void refreshAfterWriteTest() {
+		final AtomicInteger version = new AtomicInteger();
+		final DefaultLoadingCache<String, String> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(10), key -> {
+			ThreadUtil.sleep(50);
+			return key + version.incrementAndGet();
+		});
+		cache.setRefreshAfterWrite(100);
+
+		Assert.assertEquals("a1", cache.get("a"));
+		ThreadUtil.sleep(150);
+		// 超过刷新时长，后台刷新期间返回旧值
+		Assert.assertEquals("a1", cache.get("a"));
+		ThreadUtil.sleep(150);
+		Assert.assertEquals("a2", cache.get("a"));
+	}
+
+	@Test
+	public void refreshExceptionTest() {
+		final AtomicInteger reloadCount = new AtomicInteger();
+		final DefaultLoadingCache<String, String> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(10), new CacheLoader<String, String>() {
+			@Override
+			public String load(String key) {
+				return "value-" + key;
+			}
+
+			@Override
+			public String reload(String key, String oldValue) {
+				reloadCount.incrementAndGet();
+				throw new IllegalStateException("reload error");
+			}
+		});
+		cache.setRefreshAfterWrite(100);
+
+		Assert.assertEquals("value-a", cache.get("a"));
+		ThreadUtil.sleep(150);
+		Assert.assertEquals("value-a", cache.get("a"));
+		ThreadUtil.sleep(20);
+		// 刷新失败后重新计时，刷新间隔内的读取返回旧值且不再触发刷新
+		for (int i = 0; i < 10; i++) {
+			Assert.assertEquals("value-a", cache.get("a"));
+		}
+		ThreadUtil.sleep(20);
+		Assert.assertEquals(1, reloadCount.get());
+	}
+
+	@Test
+	public void loadExceptionTest() {
+		final AtomicInteger loadCount = new AtomicInteger();
+		final LoadingCache<String, String> cache = CacheUtil.newLoadingCache(CacheUtil.newLRUCache(10), key -> {
+			if (1 == loadCount.incrementAndGet()) {
+				throw new IllegalStateException("load error");
+			}
+			return "value-" + key;
+		});
+		try {
+			cache.get("a");
+			Assert.fail();
+		} catch (IllegalStateException e) {
+			Assert.assertEquals("load error", e.getMessage());
+		}
+		// 失败不缓存，下次重新加载
+		Assert.assertEquals("value-a", cache.get("a"));
+	}
+
+	@Test
+	public void writeTimeCleanTest() {
+		final LRUCache<String, String> lruCache = CacheUtil.newLRUCache(2);
+		lruCache.setWeigher((key, value) -> value.length(), 5);
+		final DefaultLoadingCache<String, String> cache = CacheUtil.newLoadingCache(lruCache, key -> "value-" + key);
+		final Map<?, ?> writeTimeMap = (Map<?, ?>) ReflectUtil.getFieldValue(cache, "writeTimeMap");
+
+		cache.put("a", "1");
+		cache.put("b", "2");
+		// 按照个数淘汰
+		cache.put("c", "3");
+		Assert.assertEquals(lruCache.keySet(), writeTimeMap.keySet());
+
+		// 加入时即超过最大权重被淘汰
+		cache.put("d", "123456");
+		Assert.assertTrue(cache.isEmpty());
+		Assert.assertTrue(writeTimeMap.isEmpty());
+	}
+
+	@Test
+	public void serializeTest() {
+		final DefaultLoadingCache<String, String> cache = CacheUtil.newLoadingCache(CacheUtil.newFIFOCache(10),
+				(CacheLoader<String, String> & Serializable) key -> "value-" + key);
+		Assert.assertEquals("value-a", cache.get("a"));
+
+		final DefaultLoadingCache<String, String> cache2 = ObjectUtil.cloneByStream(cache);
+		Assert.assertEquals("value-a", cache2.get("a"));
+		Assert.assertEquals("value-b", cache2.get("b"));
+		Assert.assertEquals("value-c", cache2.getAsync("c").join());
+		Assert.assertEquals(3, cache2.size());
+	}
+}
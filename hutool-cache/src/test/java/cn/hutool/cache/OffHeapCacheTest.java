@@ -0,0 +1,315 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.CacheObj;
+import cn.hutool.cache.impl.FIFOCache;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.cache.impl.OffHeapCache;
+import cn.hutool.cache.impl.TieredCache;
+import cn.hutool.cache.serialize.BytesCacheSerializer;
+import cn.hutool.cache.serialize.JdkCacheSerializer;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.ObjectUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OffHeapCacheTest {
+
+	@Test
+	public void putGetTest() {
+		final OffHeapCache<String, String> cache = CacheUtil.newOffHeapCache(1024 * 1024, 0);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		Assert.assertEquals("value1", cache.get("key1"));
+		Assert.assertEquals("value2", cache.get("key2"));
+
+		// 替换
+		cache.put("key1", "value11");
+		Assert.assertEquals("value11", cache.get("key1"));
+		Assert.assertEquals(2, cache.size());
+
+		final Iterator<CacheObj<String, String>> iterator = cache.cacheObjIterator();
+		int count = 0;
+		while (iterator.hasNext()) {
+			Assert.assertNotNull(iterator.next().getValue());
+			count++;
+		}
+		Assert.assertEquals(2, count);
+
+		cache.remove("key1");
+		Assert.assertNull(cache.get("key1"));
+		cache.clear();
+		Assert.assertTrue(cache.isEmpty());
+		cache.close();
+	}
+
+	@Test
+	public void recycleSlabTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+		// 4个64字节的段，每个对象32字节
+		final OffHeapCache<Integer, byte[]> cache = new OffHeapCache<>(64, 4, 0, BytesCacheSerializer.INSTANCE);
+		cache.setListener((key, value) -> {
+			Assert.assertEquals(32, value.length);
+			removeCount.incrementAndGet();
+		});
+		for (int i = 0; i < 8; i++) {
+			cache.put(i, new byte[32]);
+		}
+		Assert.assertEquals(8, cache.size());
+		Assert.assertEquals(0, removeCount.get());
+
+		// 所有段写满，复用第一个段，淘汰其中的两个对象
+		cache.put(8, new byte[32]);
+		Assert.assertEquals(2, removeCount.get());
+		Assert.assertFalse(cache.containsKey(0));
+		Assert.assertFalse(cache.containsKey(1));
+		Assert.assertTrue(cache.containsKey(8));
+
+		// 超过段大小的对象无法存储
+		cache.put(100, new byte[65]);
+		Assert.assertNull(cache.get(100));
+		cache.close();
+	}
+
+	@Test
+	public void timeoutTest() {
+		final OffHeapCache<String, String> cache = CacheUtil.newOffHeapCache(1024, 10);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2", 0);
+		ThreadUtil.sleep(50);
+		Assert.assertEquals(1, cache.prune());
+		Assert.assertNull(cache.get("key1"));
+		Assert.assertEquals("value2", cache.get("key2"));
+		cache.close();
+	}
+
+	@Test
+	public void mappedFileTest() {
+		final File file = FileUtil.file(FileUtil.getTmpDir(), "hutool-offheap-cache-test.data");
+		final OffHeapCache<String, String> cache = CacheUtil.newMappedFileCache(file, 4096, 0, new JdkCacheSerializer<>());
+		try {
+			for (int i = 0; i < 10; i++) {
+				cache.put("key" + i, "value" + i);
+			}
+			Assert.assertEquals("value5", cache.get("key5"));
+			Assert.assertEquals(4096, cache.getMaxBytes());
+		} finally {
+			cache.close();
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void tieredCacheTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+		final TieredCache<String, String> cache = CacheUtil.newTieredCache(
+				new LRUCache<>(2), CacheUtil.newOffHeapCache(1024 * 1024, 0));
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		cache.put("key3", "value3");
+		// key1被降级到二级缓存
+		Assert.assertFalse(cache.getHeapCache().containsKey("key1"));
+		Assert.assertTrue(cache.getSecondCache().containsKey("key1"));
+		Assert.assertEquals(3, cache.size());
+
+		// 二级缓存命中后提升，key2被降级
+		Assert.assertEquals("value1", cache.get("key1"));
+		Assert.assertTrue(cache.getHeapCache().containsKey("key1"));
+		Assert.assertFalse(cache.getSecondCache().containsKey("key1"));
+		Assert.assertTrue(cache.getSecondCache().containsKey("key2"));
+		Assert.assertEquals(3, cache.size());
+
+		// 写入时清除二级缓存中的旧值
+		cache.put("key2", "value22");
+		Assert.assertEquals("value22", cache.get("key2"));
+		Assert.assertEquals(3, cache.size());
+		Assert.assertEquals(0, removeCount.get());
+
+		cache.remove("key3");
+		Assert.assertFalse(cache.containsKey("key3"));
+		Assert.assertEquals(1, removeCount.get());
+
+		Assert.assertEquals("value4", cache.get("key4", () -> "value4"));
+		Assert.assertEquals(3, cache.size());
+	}
+
+	@Test
+	public void serializeTest() {
+		final OffHeapCache<String, String> cache = CacheUtil.newOffHeapCache(1024, 0);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2", 100000);
+		cache.put("key1", "value11");
+
+		final OffHeapCache<String, String> cache2 = ObjectUtil.cloneByStream(cache);
+		cache.close();
+		Assert.assertEquals(2, cache2.size());
+		Assert.assertEquals("value11", cache2.get("key1"));
+		Assert.assertEquals("value2", cache2.get("key2"));
+		Assert.assertEquals(1024, cache2.getMaxBytes());
+
+		cache2.put("key3", "value3");
+		Assert.assertEquals("value3", cache2.get("key3"));
+		cache2.close();
+	}
+
+	@Test
+	public void closeTest() {
+		final File file = FileUtil.file(FileUtil.getTmpDir(), "hutool-offheap-cache-close-test.data");
+		final OffHeapCache<String, String> cache = CacheUtil.newMappedFileCache(file, 4096, 0, new JdkCacheSerializer<>());
+		cache.put("key1", "value1");
+		cache.close();
+		Assert.assertTrue(cache.isEmpty());
+		// 解除映射后文件可以删除
+		Assert.assertTrue(FileUtil.del(file));
+	}
+
+	@Test
+	public void tieredCachePromoteRaceTest() throws InterruptedException {
+		final CountDownLatch promoting = new CountDownLatch(1);
+		final FIFOCache<String, String> secondCache = new FIFOCache<String, String>(10) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public String get(String key, boolean isUpdateLastAccess) {
+				final String value = super.get(key, isUpdateLastAccess);
+				if (null != value) {
+					// 提升时读取到旧值后暂停，期间写入新值
+					promoting.countDown();
+					ThreadUtil.sleep(100);
+				}
+				return value;
+			}
+		};
+		final TieredCache<String, String> cache = CacheUtil.newTieredCache(new LRUCache<>(2), secondCache);
+		secondCache.put("key1", "old");
+
+		final Thread reader = new Thread(() -> cache.get("key1"));
+		reader.start();
+		promoting.await();
+		cache.put("key1", "new");
+		reader.join();
+
+		Assert.assertEquals("new", cache.get("key1"));
+		Assert.assertFalse(secondCache.containsKey("key1"));
+	}
+
+	@Test
+	public void tieredCacheConcurrentRemoveListenerTest() throws InterruptedException {
+		final CountDownLatch removing = new CountDownLatch(1);
+		final CountDownLatch removed = new CountDownLatch(1);
+		final AtomicBoolean block = new AtomicBoolean(true);
+		final FIFOCache<String, String> secondCache = new FIFOCache<String, String>(10) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public void remove(String key) {
+				if (block.compareAndSet(true, false)) {
+					// 写入时移除二级缓存中的旧值，暂停期间其它线程移除同一个键
+					removing.countDown();
+					try {
+						removed.await();
+					} catch (InterruptedException e) {
+						throw new RuntimeException(e);
+					}
+				}
+				super.remove(key);
+			}
+		};
+		final AtomicInteger removeCount = new AtomicInteger();
+		final TieredCache<String, String> cache = CacheUtil.newTieredCache(new LRUCache<>(2), secondCache);
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+		secondCache.put("key1", "old");
+
+		final Thread writer = new Thread(() -> cache.put("key1", "new"));
+		writer.start();
+		removing.await();
+		secondCache.remove("key1");
+		removed.countDown();
+		writer.join();
+
+		// 其它线程的移除正常回调
+		Assert.assertEquals(1, removeCount.get());
+		Assert.assertEquals("new", cache.get("key1"));
+	}
+
+	@Test
+	public void tieredCacheDemoteTtlTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+		final TieredCache<String, String> cache = CacheUtil.newTieredCache(new LRUCache<>(1), new FIFOCache<>(10));
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+
+		cache.put("key1", "value1", 100);
+		cache.put("key2", "value2");
+		// key1降级后保留剩余存活时长
+		Assert.assertTrue(cache.getSecondCache().containsKey("key1"));
+		ThreadUtil.sleep(150);
+		Assert.assertNull(cache.get("key1"));
+		Assert.assertEquals(1, removeCount.get());
+		Assert.assertEquals("value2", cache.get("key2"));
+	}
+
+	@Test
+	public void tieredCacheDemoteRaceTest() throws InterruptedException {
+		final CountDownLatch evicted = new CountDownLatch(1);
+		final CountDownLatch resume = new CountDownLatch(1);
+		final AtomicBoolean block = new AtomicBoolean(true);
+		final List<CacheObj<String, String>> deferred = new ArrayList<>();
+		// 在锁外回调淘汰的一级缓存，回调前暂停，期间其它线程写入被淘汰的键
+		final LRUCache<String, String> heapCache = new LRUCache<String, String>(1) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void onRemove(CacheObj<String, String> co, RemovalCause cause) {
+				if (RemovalCause.SIZE == cause && block.get()) {
+					deferred.add(co);
+					return;
+				}
+				super.onRemove(co, cause);
+			}
+
+			@Override
+			public void put(String key, String object) {
+				super.put(key, object);
+				if (false == deferred.isEmpty() && block.compareAndSet(true, false)) {
+					evicted.countDown();
+					try {
+						resume.await();
+					} catch (InterruptedException e) {
+						throw new RuntimeException(e);
+					}
+					for (CacheObj<String, String> co : deferred) {
+						super.onRemove(co, RemovalCause.SIZE);
+					}
+				}
+			}
+		};
+		final FIFOCache<String, String> secondCache = new FIFOCache<>(10);
+		final TieredCache<String, String> cache = CacheUtil.newTieredCache(heapCache, secondCache);
+		cache.put("key1", "old");
+
+		final Thread evictor = new Thread(() -> cache.put("key2", "value2"));
+		evictor.start();
+		evicted.await();
+		final Thread writer = new Thread(() -> cache.put("key1", "new"));
+		writer.start();
+		ThreadUtil.sleep(100);
+		resume.countDown();
+		evictor.join();
+		writer.join();
+
+		// 被淘汰的旧值不能降级到二级缓存，一个键只存在于其中一级
+		Assert.assertEquals("new", heapCache.get("key1"));
+		Assert.assertFalse(secondCache.containsKey("key1"));
+		Assert.assertEquals("value2", cache.get("key2"));
+	}
+}
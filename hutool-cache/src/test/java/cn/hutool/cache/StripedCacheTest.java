@@ -0,0 +1,59 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.StripedCache;
+import cn.hutool.core.thread.ThreadUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StripedCacheTest {
+
+	@Test
+	public void stripedLfuCacheTest() {
+		final StripedCache<Integer, Integer> cache = CacheUtil.newStripedLFUCache(100, 3);
+		// 分段数被调整为2的幂
+		Assert.assertEquals(4, cache.segmentCount());
+		Assert.assertEquals(100, cache.capacity());
+
+		final AtomicInteger removeCount = new AtomicInteger();
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+		for (int i = 0; i < 1000; i++) {
+			cache.put(i, i);
+		}
+		Assert.assertTrue(cache.size() <= 100);
+		Assert.assertEquals(1000, cache.size() + removeCount.get());
+
+		cache.put(1000, 1000);
+		Assert.assertEquals(Integer.valueOf(1000), cache.get(1000));
+		Assert.assertTrue(cache.containsKey(1000));
+		cache.remove(1000);
+		Assert.assertNull(cache.get(1000));
+
+		cache.clear();
+		Assert.assertTrue(cache.isEmpty());
+	}
+
+	@Test
+	public void capacityLessThanSegmentTest() {
+		final StripedCache<Integer, Integer> cache = CacheUtil.newStripedFIFOCache(3, 16);
+		Assert.assertEquals(2, cache.segmentCount());
+		Assert.assertEquals(3, cache.capacity());
+	}
+
+	@Test
+	public void concurrentPutTest() {
+		final StripedCache<Integer, Integer> cache = CacheUtil.newStripedLFUCache(20000, 16);
+		final AtomicInteger counter = new AtomicInteger();
+		ThreadUtil.concurrencyTest(16, () -> {
+			int key;
+			for (int i = 0; i < 1000; i++) {
+				key = counter.getAndIncrement();
+				cache.put(key, key);
+				Assert.assertEquals(Integer.valueOf(key), cache.get(key));
+			}
+		});
+		Assert.assertEquals(16000, cache.size());
+		Assert.assertEquals(16000, cache.getHitCount());
+	}
+}
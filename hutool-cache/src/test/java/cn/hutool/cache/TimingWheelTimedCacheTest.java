@@ -0,0 +1,125 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.TimingWheelTimedCache;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.ObjectUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TimingWheelTimedCacheTest {
+
+	@Test
+	public void expireTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+		final TimingWheelTimedCache<String, String> cache = CacheUtil.newTimingWheelTimedCache(50, 5);
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+
+		cache.put("key1", "value1");
+		cache.put("key2", "value2", 500);
+		cache.put("key3", "value3", 0);
+		Assert.assertEquals(3, cache.size());
+
+		ThreadUtil.sleep(100);
+		Assert.assertEquals(1, cache.prune());
+		Assert.assertEquals(1, removeCount.get());
+		Assert.assertNull(cache.get("key1"));
+		Assert.assertTrue(cache.containsKey("key2"));
+		Assert.assertEquals("value3", cache.get("key3"));
+
+		ThreadUtil.sleep(600);
+		Assert.assertEquals(1, cache.prune());
+		Assert.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void accessExtendTest() {
+		final TimingWheelTimedCache<String, String> cache = CacheUtil.newTimingWheelTimedCache(100, 5);
+		cache.put("key1", "value1");
+		for (int i = 0; i < 5; i++) {
+			ThreadUtil.sleep(50);
+			// 访问延后过期时间，时间轮到期时重新调度而不移除
+			Assert.assertEquals("value1", cache.get("key1"));
+			cache.prune();
+		}
+		Assert.assertEquals(1, cache.size());
+
+		ThreadUtil.sleep(200);
+		Assert.assertEquals(1, cache.prune());
+		Assert.assertTrue(cache.isEmpty());
+	}
+
+	@Test
+	public void replaceAndRemoveTest() {
+		final TimingWheelTimedCache<String, String> cache = CacheUtil.newTimingWheelTimedCache(50, 5);
+		cache.put("key1", "value1");
+		cache.put("key1", "value11", 0);
+		cache.put("key2", "value2");
+		cache.remove("key2");
+
+		ThreadUtil.sleep(100);
+		// 被替换和移除的对象不再参与过期
+		Assert.assertEquals(0, cache.prune());
+		Assert.assertEquals("value11", cache.get("key1"));
+
+		cache.clear();
+		Assert.assertTrue(cache.isEmpty());
+	}
+
+	@Test
+	public void longTimeoutTest() {
+		// 跨越多层时间轮的对象
+		final AtomicInteger removeCount = new AtomicInteger();
+		final TimingWheelTimedCache<Integer, Integer> cache = CacheUtil.newTimingWheelTimedCache(0, 1);
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+		for (int i = 0; i < 100; i++) {
+			cache.put(i, i, 5 + i * 3);
+		}
+		ThreadUtil.sleep(400);
+		cache.prune();
+		Assert.assertEquals(100, removeCount.get());
+		Assert.assertTrue(cache.isEmpty());
+	}
+
+	@Test
+	public void clearThenFillTest() {
+		final TimingWheelTimedCache<String, String> cache = CacheUtil.newTimingWheelTimedCache(0, 5);
+		cache.setWeigher((key, value) -> value.length(), 1000);
+
+		cache.put("key1", "a");
+		cache.put("key2", "bb");
+		cache.put("key2", "ccc");
+		Assert.assertEquals(4, cache.getTotalWeight());
+
+		cache.clear();
+		Assert.assertEquals(0, cache.getTotalWeight());
+		Assert.assertTrue(cache.isEmpty());
+
+		cache.put("key3", "dddd");
+		cache.put("key4", "e");
+		Assert.assertEquals(5, cache.getTotalWeight());
+		cache.remove("key3");
+		Assert.assertEquals(1, cache.getTotalWeight());
+	}
+
+	@Test
+	public void serializeTest() {
+		final TimingWheelTimedCache<Integer, String> cache = CacheUtil.newTimingWheelTimedCache(60_000, 5);
+		for (int i = 0; i < 200_000; i++) {
+			cache.put(i, "value" + i);
+		}
+		cache.put(-1, "short", 20);
+
+		// 大量对象序列化时不能沿链表递归
+		final TimingWheelTimedCache<Integer, String> cache2 = ObjectUtil.cloneByStream(cache);
+		Assert.assertEquals(200_001, cache2.size());
+		Assert.assertEquals("value199999", cache2.get(199_999));
+
+		// 反序列化后重建时间轮，到期对象仍被清理
+		ThreadUtil.sleep(100);
+		cache2.put(-2, "value");
+		Assert.assertEquals(200_001, cache2.size());
+		Assert.assertFalse(cache2.containsKey(-1));
+	}
+}
@@ -0,0 +1,162 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.cache.impl.TinyLfuCache;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.ObjectUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TinyLfuCacheTest {
+
+	@Test
+	public void putGetTest() {
+		final TinyLfuCache<String, String> cache = CacheUtil.newTinyLfuCache(3);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		Assert.assertEquals("value1", cache.get("key1"));
+		Assert.assertEquals("value2", cache.get("key2"));
+		Assert.assertNull(cache.get("key3"));
+		Assert.assertTrue(cache.containsKey("key1"));
+
+		cache.put("key1", "value11");
+		Assert.assertEquals("value11", cache.get("key1"));
+		Assert.assertEquals(2, cache.size());
+
+		cache.remove("key1");
+		Assert.assertNull(cache.get("key1"));
+		cache.clear();
+		Assert.assertTrue(cache.isEmpty());
+	}
+
+	@Test
+	public void capacityTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+		final TinyLfuCache<Integer, Integer> cache = CacheUtil.newTinyLfuCache(100);
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+		for (int i = 0; i < 1000; i++) {
+			cache.put(i, i);
+		}
+		Assert.assertEquals(100, cache.size());
+		Assert.assertEquals(900, removeCount.get());
+	}
+
+	@Test
+	public void frequencyTest() {
+		final TinyLfuCache<String, String> cache = CacheUtil.newTinyLfuCache(3);
+		cache.put("key1", "value1");
+		cache.get("key1");
+		cache.get("key1");
+		cache.put("key2", "value2");
+		cache.put("key3", "value3");
+		cache.put("key4", "value4");
+		cache.put("key5", "value5");
+
+		// 频繁访问的key1不会被一次性访问的key淘汰
+		Assert.assertEquals("value1", cache.get("key1"));
+		Assert.assertEquals(3, cache.size());
+	}
+
+	@Test
+	public void timeoutTest() {
+		final TinyLfuCache<String, String> cache = CacheUtil.newTinyLfuCache(10, 10);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2", 0);
+		ThreadUtil.sleep(50);
+		Assert.assertNull(cache.get("key1"));
+		Assert.assertEquals("value2", cache.get("key2"));
+		Assert.assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void hitRateTest() {
+		// 热点集中的访问，TinyLFU的命中率不低于LRU
+		final int capacity = 500;
+		final TinyLfuCache<Integer, Integer> tinyLfuCache = CacheUtil.newTinyLfuCache(capacity);
+		final LRUCache<Integer, Integer> lruCache = CacheUtil.newLRUCache(capacity);
+
+		final Random random = new Random(1);
+		Integer key;
+		for (int i = 0; i < 200000; i++) {
+			key = skewedKey(random, 50000);
+			if (null == tinyLfuCache.get(key)) {
+				tinyLfuCache.put(key, key);
+			}
+			if (null == lruCache.get(key)) {
+				lruCache.put(key, key);
+			}
+		}
+
+		final double tinyLfuHitRate = (double) tinyLfuCache.getHitCount() / (tinyLfuCache.getHitCount() + tinyLfuCache.getMissCount());
+		final double lruHitRate = (double) lruCache.getHitCount() / (lruCache.getHitCount() + lruCache.getMissCount());
+		Assert.assertTrue(tinyLfuHitRate >= lruHitRate);
+	}
+
+	@Test
+	public void concurrentTest() {
+		final TinyLfuCache<Integer, Integer> cache = CacheUtil.newTinyLfuCache(1000);
+		ThreadUtil.concurrencyTest(32, () -> {
+			final Random random = new Random();
+			int key;
+			for (int i = 0; i < 10000; i++) {
+				key = random.nextInt(5000);
+				if (null == cache.get(key)) {
+					cache.put(key, key);
+				}
+			}
+		});
+		// 所有写入都已回放，缓存大小不超过容量
+		cache.prune();
+		Assert.assertTrue(cache.size() <= 1000);
+		for (Integer value : cache) {
+			Assert.assertEquals(value, cache.get(value, false));
+		}
+	}
+
+	@Test
+	public void drainAfterContentionTest() {
+		final TinyLfuCache<Integer, Integer> cache = CacheUtil.newTinyLfuCache(100);
+		for (int round = 0; round < 20; round++) {
+			ThreadUtil.concurrencyTest(16, () -> {
+				final Random random = new Random();
+				int key;
+				for (int i = 0; i < 2000; i++) {
+					key = random.nextInt(1000);
+					cache.put(key, key);
+					cache.get(random.nextInt(1000));
+				}
+			});
+			// 竞争淘汰锁失败的写入由持有锁的线程在释放后回放，写入结束后无需再次写入或清理，大小不超过容量
+			Assert.assertTrue(cache.size() <= 100);
+		}
+	}
+
+	@Test
+	public void serializeTest() {
+		final TinyLfuCache<Integer, String> cache = CacheUtil.newTinyLfuCache(100000);
+		for (int i = 0; i < 100000; i++) {
+			cache.put(i, "value" + i);
+		}
+		cache.get(1);
+
+		final TinyLfuCache<Integer, String> cache2 = ObjectUtil.cloneByStream(cache);
+		Assert.assertEquals(100000, cache2.size());
+		Assert.assertEquals("value1", cache2.get(1));
+
+		// 反序列化后淘汰策略可用
+		for (int i = 100000; i < 110000; i++) {
+			cache2.put(i, "value" + i);
+		}
+		Assert.assertEquals(100000, cache2.size());
+	}
+
+	/**
+	 * 模拟Zipf分布的倾斜访问
+	 */
+	private static int skewedKey(Random random, int max) {
+		return (int) (max * Math.pow(random.nextDouble(), 4));
+	}
+}
@@ -0,0 +1,126 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.AbstractCache;
+import cn.hutool.cache.impl.BucketLFUCache;
+import cn.hutool.cache.impl.FIFOCache;
+import cn.hutool.cache.impl.LFUCache;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.cache.impl.OffHeapCache;
+import cn.hutool.cache.impl.TinyLfuCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WeigherTest {
+
+	@Test
+	public void fifoWeightTest() {
+		final FIFOCache<String, byte[]> cache = CacheUtil.newFIFOCache(0);
+		cache.setWeigher((key, value) -> value.length, 100);
+		cache.put("key1", new byte[30]);
+		cache.put("key2", new byte[30]);
+		cache.put("key3", new byte[30]);
+		Assert.assertEquals(90, cache.getTotalWeight());
+
+		// 大对象加入后依次淘汰先入的key1、key2
+		cache.put("key4", new byte[60]);
+		Assert.assertFalse(cache.containsKey("key1"));
+		Assert.assertFalse(cache.containsKey("key2"));
+		Assert.assertTrue(cache.containsKey("key3"));
+		Assert.assertEquals(90, cache.getTotalWeight());
+		Assert.assertEquals(2, cache.stats().getRemovalCount(RemovalCause.SIZE));
+
+		// 替换和移除时更新总权重
+		cache.put("key3", new byte[10]);
+		Assert.assertEquals(70, cache.getTotalWeight());
+		cache.remove("key4");
+		Assert.assertEquals(10, cache.getTotalWeight());
+		cache.clear();
+		Assert.assertEquals(0, cache.getTotalWeight());
+	}
+
+	@Test
+	public void lruWeightTest() {
+		final LRUCache<String, byte[]> cache = CacheUtil.newLRUCache(1000);
+		cache.setWeigher((key, value) -> value.length, 100);
+		cache.put("key1", new byte[40]);
+		cache.put("key2", new byte[40]);
+		// 访问key1后，key2为最久未使用
+		cache.get("key1");
+		cache.put("key3", new byte[40]);
+		Assert.assertTrue(cache.containsKey("key1"));
+		Assert.assertFalse(cache.containsKey("key2"));
+		Assert.assertTrue(cache.containsKey("key3"));
+		Assert.assertEquals(80, cache.getTotalWeight());
+	}
+
+	@Test
+	public void lfuWeightTest() {
+		final LFUCache<String, byte[]> cache = CacheUtil.newLFUCache(0);
+		cache.setWeigher((key, value) -> value.length, 100);
+		cache.put("key1", new byte[40]);
+		cache.put("key2", new byte[40]);
+		cache.get("key1");
+		cache.get("key1");
+		cache.get("key2");
+		cache.put("key3", new byte[40]);
+		// 访问最少的对象被淘汰，直到总权重不超过限制
+		Assert.assertFalse(cache.containsKey("key3"));
+		Assert.assertTrue(cache.containsKey("key1"));
+		Assert.assertTrue(cache.containsKey("key2"));
+		Assert.assertEquals(80, cache.getTotalWeight());
+
+		cache.get("key1");
+		cache.put("key4", new byte[20]);
+		Assert.assertEquals(100, cache.getTotalWeight());
+		Assert.assertTrue(cache.containsKey("key4"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeWeightTest() {
+		final AbstractCache<String, String> cache = CacheUtil.newFIFOCache(10);
+		cache.setWeigher((key, value) -> -1, 100);
+		cache.put("key1", "value1");
+	}
+
+	@Test
+	public void bucketLfuWeightTest() {
+		final BucketLFUCache<String, byte[]> cache = new BucketLFUCache<>(1000);
+		cache.setWeigher((key, value) -> value.length, 100);
+		cache.put("key1", new byte[30]);
+		cache.put("key2", new byte[30]);
+		cache.put("key3", new byte[30]);
+		cache.get("key1");
+		cache.get("key3");
+		Assert.assertEquals(90, cache.getTotalWeight());
+
+		// 依次淘汰频率最低的key2和新加入的key4，与LFUCache一致
+		cache.put("key4", new byte[60]);
+		Assert.assertFalse(cache.containsKey("key2"));
+		Assert.assertFalse(cache.containsKey("key4"));
+		Assert.assertTrue(cache.containsKey("key1"));
+		Assert.assertTrue(cache.containsKey("key3"));
+		Assert.assertEquals(60, cache.getTotalWeight());
+		Assert.assertEquals(2, cache.stats().getRemovalCount(RemovalCause.SIZE));
+
+		// 替换和移除时更新总权重
+		cache.put("key3", new byte[10]);
+		Assert.assertEquals(40, cache.getTotalWeight());
+		cache.remove("key1");
+		Assert.assertEquals(10, cache.getTotalWeight());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void tinyLfuWeightTest() {
+		new TinyLfuCache<String, byte[]>(100).setWeigher((key, value) -> value.length, 100);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void offHeapWeightTest() {
+		final OffHeapCache<String, byte[]> cache = CacheUtil.newOffHeapCache(1024, 0);
+		try {
+			cache.setWeigher((key, value) -> value.length, 100);
+		} finally {
+			cache.close();
+		}
+	}
+}
@@ -3,6 +3,8 @@ package cn.hutool.core.io;
 import cn.hutool.core.util.CharsetUtil;
 import cn.hutool.core.util.StrUtil;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
@@ -259,4 +261,44 @@ public class BufferUtil {
 	public static CharBuffer createCharBuffer(int capacity) {
 		return CharBuffer.allocate(capacity);
 	}
+
+	/**
+	 * 释放直接缓冲区（{@link ByteBuffer#allocateDirect(int)}）或内存映射缓冲区（{@link java.nio.MappedByteBuffer}）占用的内存，
+	 * 内存映射缓冲区释放后解除文件映射（Windows下映射期间文件无法删除）。<br>
+	 * 释放后的缓冲区不可再访问，否则可能导致JVM崩溃；堆缓冲区、切片或复制的缓冲区不做处理；释放失败时忽略，内存由GC回收。
+	 *
+	 * @param buffer 缓冲区，{@code null}忽略
+	 * @return 是否释放成功
+	 * @since 5.8.10
+	 */
+	public static boolean free(ByteBuffer buffer) {
+		if (null == buffer || false == buffer.isDirect()) {
+			return false;
+		}
+		try {
+			// JDK9+
+			final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+			final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+			invokeCleaner.invoke(theUnsafe.get(null), buffer);
+			return true;
+		} catch (NoSuchMethodException e) {
+			// JDK8，使用下面的方式
+		} catch (Exception e) {
+			return false;
+		}
+		try {
+			final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+			cleanerMethod.setAccessible(true);
+			final Object cleaner = cleanerMethod.invoke(buffer);
+			if (null == cleaner) {
+				return false;
+			}
+			cleaner.getClass().getMethod("clean").invoke(cleaner);
+			return true;
+		} catch (Exception e) {
+			return false;
+		}
+	}
 }
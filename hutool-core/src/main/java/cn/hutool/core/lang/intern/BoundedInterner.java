@@ -0,0 +1,51 @@
+package cn.hutool.core.lang.intern;
+
+import cn.hutool.core.lang.Assert;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 固定大小的规范化器，使用按照hash定位的槽位数组存储规范化对象，类似于符号表<br>
+ * 同一槽位冲突时新对象替换旧对象，因此占用内存有上限，适用于JSON键、列名等取值有限但重复次数很多的对象。<br>
+ * 与{@link WeakInterner}不同，不保证相等的对象总是返回同一个对象，只是尽可能复用；线程安全且无锁。
+ *
+ * @param <T> 规范化的对象类型
+ * @author looly
+ * @since 5.8.10
+ */
+public class BoundedInterner<T> implements Interner<T> {
+
+	private final AtomicReferenceArray<T> table;
+	private final int mask;
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 槽位数，会调整为不小于此值的2的幂
+	 */
+	public BoundedInterner(int capacity) {
+		Assert.isTrue(capacity > 0, "Capacity must be positive!");
+		int size = 1;
+		while (size < capacity && size < (1 << 30)) {
+			size <<= 1;
+		}
+		this.table = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+	}
+
+	@Override
+	public T intern(T sample) {
+		if (null == sample) {
+			return null;
+		}
+		int hash = sample.hashCode();
+		hash ^= (hash >>> 16);
+		final int index = hash & mask;
+		final T existing = table.get(index);
+		if (sample.equals(existing)) {
+			return existing;
+		}
+		table.lazySet(index, sample);
+		return sample;
+	}
+}
@@ -28,6 +28,18 @@ public class InternUtil {
 		return new JdkStringInterner();
 	}
 
+	/**
+	 * 创建固定大小的规范化器，占用内存有上限，槽位冲突时替换旧对象
+	 *
+	 * @param <T>      规范对象的类型
+	 * @param capacity 槽位数
+	 * @return {@link Interner}
+	 * @since 5.8.10
+	 */
+	public static <T> Interner<T> createBoundedInterner(int capacity) {
+		return new BoundedInterner<>(capacity);
+	}
+
 	/**
 	 * 创建字符串规范化器
 	 *
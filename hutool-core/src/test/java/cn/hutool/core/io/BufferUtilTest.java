@@ -63,4 +63,14 @@ public class BufferUtilTest {
 		// 读取剩余部分
 		Assert.assertEquals("cc", StrUtil.utf8Str(BufferUtil.readBytes(buffer)));
 	}
+
+	@Test
+	public void freeTest() {
+		Assert.assertFalse(BufferUtil.free(null));
+		Assert.assertFalse(BufferUtil.free(ByteBuffer.allocate(16)));
+
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+		Assert.assertFalse(BufferUtil.free(buffer.duplicate()));
+		Assert.assertTrue(BufferUtil.free(buffer));
+	}
 }
@@ -21,4 +21,21 @@ public class InternUtilTest {
 		Assert.assertSame(interner.intern(a1), interner.intern(a2));
 	}
 
+	@SuppressWarnings("StringOperationCanBeSimplified")
+	@Test
+	public void boundedTest(){
+		final Interner<String> interner = InternUtil.createBoundedInterner(16);
+		String a1 = RandomUtil.randomString(RandomUtil.randomInt(100));
+		String a2 = new String(a1);
+
+		Assert.assertSame(a1, interner.intern(a1));
+		Assert.assertSame(a1, interner.intern(a2));
+		Assert.assertNull(interner.intern(null));
+
+		// 槽位数有限，大量不同对象时旧对象被替换，但结果始终与原对象相等
+		for (int i = 0; i < 1000; i++) {
+			final String str = String.valueOf(i);
+			Assert.assertEquals(str, interner.intern(new String(str)));
+		}
+	}
 }
@@ -0,0 +1,189 @@
+package cn.hutool.dfa;
+
+import cn.hutool.core.lang.Assert;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.List;
+
+/**
+ * 敏感词过滤Writer，写入的文本经过敏感词过滤后写出到被包装的Writer中，结果与{@link SensitiveUtil#sensitiveFilter(String, boolean, SensitiveProcessor)}相同<br>
+ * 文本可以分多次写入，跨越多次写入的敏感词也能被过滤，只有可能成为敏感词一部分的尾部文本会被暂存，其余文本直接写出，
+ * 因此可用于过滤大文件或长文本流，无需将全部内容读入内存。<br>
+ * 写入完毕后需调用{@link #finish()}或{@link #close()}写出暂存的文本。此类非线程安全。
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class SensitiveFilterWriter extends Writer {
+
+	private final Writer out;
+	private final WordAutomaton.Matcher matcher;
+	private final SensitiveProcessor sensitiveProcessor;
+	/**
+	 * 暂存的未写出文本
+	 */
+	private final StringBuilder buffer = new StringBuilder();
+	/**
+	 * 暂存文本第一个字符在原文中的位置
+	 */
+	private int bufferOffset;
+	/**
+	 * 起始位置相同的匹配结果中最后（最长）的一个，等待同一起始位置的更长结果
+	 */
+	private FoundWord candidate;
+	/**
+	 * 上一个被替换的敏感词的结束位置
+	 */
+	private int replacedEnd = -1;
+	private boolean finished;
+
+	/**
+	 * 构造
+	 *
+	 * @param out                被包装的Writer
+	 * @param automaton          敏感词自动机
+	 * @param isGreedMatch       贪婪匹配（最长匹配）原则：假如关键字a,ab，最长匹配将匹配[a, ab]
+	 * @param sensitiveProcessor 敏感词处理器，{@code null}表示默认按匹配内容的字符数替换成*
+	 */
+	public SensitiveFilterWriter(Writer out, WordAutomaton automaton, boolean isGreedMatch, SensitiveProcessor sensitiveProcessor) {
+		this.out = Assert.notNull(out, "Writer must be not null!");
+		// 敏感词过滤场景下，需要密集匹配以找到每个位置开始的词，重叠部分在替换时跳过
+		this.matcher = Assert.notNull(automaton, "Automaton must be not null!").matcher(-1, true, isGreedMatch);
+		this.sensitiveProcessor = null == sensitiveProcessor ? new SensitiveProcessor() {
+		} : sensitiveProcessor;
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		write(CharBuffer.wrap(cbuf, off, len));
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		write(CharBuffer.wrap(str, off, off + len));
+	}
+
+	@Override
+	public Writer append(CharSequence csq) throws IOException {
+		write(null == csq ? "null" : csq);
+		return this;
+	}
+
+	@Override
+	public Writer append(CharSequence csq, int start, int end) throws IOException {
+		write(null == csq ? "null" : csq.subSequence(start, end));
+		return this;
+	}
+
+	/**
+	 * 写入一块文本
+	 *
+	 * @param chunk 文本块
+	 * @throws IOException IO异常
+	 */
+	public void write(CharSequence chunk) throws IOException {
+		Assert.isFalse(finished, "Writer is finished!");
+		buffer.append(chunk);
+		for (FoundWord foundWord : matcher.append(chunk)) {
+			accept(foundWord);
+		}
+		// 安全位置之前的文本不会再被替换，直接写出
+		int safeIndex = matcher.getSafeIndex();
+		if (null != candidate) {
+			safeIndex = Math.min(safeIndex, candidate.getStartIndex());
+		}
+		writeRaw(safeIndex);
+	}
+
+	/**
+	 * 结束写入，写出所有暂存的文本，不关闭被包装的Writer
+	 *
+	 * @throws IOException IO异常
+	 */
+	public void finish() throws IOException {
+		if (finished) {
+			return;
+		}
+		finished = true;
+		final List<FoundWord> foundWords = matcher.finish();
+		for (FoundWord foundWord : foundWords) {
+			accept(foundWord);
+		}
+		if (null != candidate) {
+			replace(candidate);
+			candidate = null;
+		}
+		writeRaw(bufferOffset + buffer.length());
+		out.flush();
+	}
+
+	/**
+	 * 刷新被包装的Writer，暂存的可能成为敏感词一部分的文本不会写出
+	 *
+	 * @throws IOException IO异常
+	 */
+	@Override
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	/**
+	 * 写出所有暂存的文本并关闭被包装的Writer
+	 *
+	 * @throws IOException IO异常
+	 */
+	@Override
+	public void close() throws IOException {
+		finish();
+		out.close();
+	}
+
+	/**
+	 * 处理匹配结果，同一起始位置的结果按长度递增产生，只替换最后（最长）的一个
+	 *
+	 * @param foundWord 匹配结果
+	 * @throws IOException IO异常
+	 */
+	private void accept(FoundWord foundWord) throws IOException {
+		if (null != candidate && false == candidate.getStartIndex().equals(foundWord.getStartIndex())) {
+			replace(candidate);
+		}
+		candidate = foundWord;
+	}
+
+	/**
+	 * 替换敏感词，起始位置在上一个被替换的敏感词内的跳过
+	 *
+	 * @param foundWord 敏感词
+	 * @throws IOException IO异常
+	 */
+	private void replace(FoundWord foundWord) throws IOException {
+		final int start = foundWord.getStartIndex();
+		if (start <= replacedEnd) {
+			return;
+		}
+		writeRaw(start);
+		out.write(sensitiveProcessor.process(foundWord));
+		final int end = foundWord.getEndIndex() + 1;
+		buffer.delete(0, end - bufferOffset);
+		bufferOffset = end;
+		replacedEnd = foundWord.getEndIndex();
+	}
+
+	/**
+	 * 写出暂存文本直到指定位置
+	 *
+	 * @param index 位置（不包含）
+	 * @throws IOException IO异常
+	 */
+	private void writeRaw(int index) throws IOException {
+		final int length = index - bufferOffset;
+		if (length > 0) {
+			out.append(buffer, 0, length);
+			buffer.delete(0, length);
+			bufferOffset = index;
+		}
+	}
+}
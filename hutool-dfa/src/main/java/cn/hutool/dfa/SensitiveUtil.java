@@ -1,15 +1,27 @@
 package cn.hutool.dfa;
 
 import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.exceptions.ExceptionUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.lang.Filter;
 import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.json.JSONUtil;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * 敏感词工具类
@@ -19,13 +31,26 @@ import java.util.Map;
 public final class SensitiveUtil {
 
 	public static final char DEFAULT_SEPARATOR = StrUtil.C_COMMA;
-	private static final WordTree sensitiveTree = new WordTree();
+	/**
+	 * 敏感词词典，更新时构建新的自动机后原子替换，查找时不会看到构建了一半的词典
+	 */
+	private static final WordDictionary sensitiveDictionary = new WordDictionary();
 
 	/**
 	 * @return 是否已经被初始化
 	 */
 	public static boolean isInited() {
-		return false == sensitiveTree.isEmpty();
+		return false == sensitiveDictionary.isEmpty();
+	}
+
+	/**
+	 * 获取敏感词词典，可用于从文件或classpath资源热加载敏感词，或增量增加、删除敏感词，更新期间查找不受影响
+	 *
+	 * @return 敏感词词典
+	 * @since 5.8.10
+	 */
+	public static WordDictionary getDictionary() {
+		return sensitiveDictionary;
 	}
 
 	/**
@@ -51,8 +76,7 @@ public final class SensitiveUtil {
 	 * @param sensitiveWords 敏感词列表
 	 */
 	public static void init(Collection<String> sensitiveWords) {
-		sensitiveTree.clear();
-		sensitiveTree.addWords(sensitiveWords);
+		sensitiveDictionary.reload(sensitiveWords);
 //		log.debug("Sensitive init finished, sensitives: {}", sensitiveWords);
 	}
 
@@ -88,7 +112,7 @@ public final class SensitiveUtil {
 	 */
 	public static void setCharFilter(Filter<Character> charFilter) {
 		if (charFilter != null) {
-			sensitiveTree.setCharFilter(charFilter);
+			sensitiveDictionary.setCharFilter(charFilter);
 		}
 	}
 
@@ -99,7 +123,7 @@ public final class SensitiveUtil {
 	 * @return 是否包含
 	 */
 	public static boolean containsSensitive(String text) {
-		return sensitiveTree.isMatch(text);
+		return getAutomaton().isMatch(text);
 	}
 
 	/**
@@ -109,7 +133,7 @@ public final class SensitiveUtil {
 	 * @return 是否包含
 	 */
 	public static boolean containsSensitive(Object obj) {
-		return sensitiveTree.isMatch(JSONUtil.toJsonStr(obj));
+		return getAutomaton().isMatch(JSONUtil.toJsonStr(obj));
 	}
 
 	/**
@@ -120,7 +144,7 @@ public final class SensitiveUtil {
 	 * @since 5.5.3
 	 */
 	public static FoundWord getFoundFirstSensitive(String text) {
-		return sensitiveTree.matchWord(text);
+		return getAutomaton().matchWord(text);
 	}
 
 	/**
@@ -130,7 +154,7 @@ public final class SensitiveUtil {
 	 * @return 敏感词
 	 */
 	public static FoundWord getFoundFirstSensitive(Object obj) {
-		return sensitiveTree.matchWord(JSONUtil.toJsonStr(obj));
+		return getAutomaton().matchWord(JSONUtil.toJsonStr(obj));
 	}
 
 	/**
@@ -141,7 +165,7 @@ public final class SensitiveUtil {
 	 * @since 5.5.3
 	 */
 	public static List<FoundWord> getFoundAllSensitive(String text) {
-		return sensitiveTree.matchAllWords(text);
+		return getAutomaton().matchAllWords(text);
 	}
 
 	/**
@@ -155,7 +179,7 @@ public final class SensitiveUtil {
 	 * @return 敏感词
 	 */
 	public static List<FoundWord> getFoundAllSensitive(String text, boolean isDensityMatch, boolean isGreedMatch) {
-		return sensitiveTree.matchAllWords(text, -1, isDensityMatch, isGreedMatch);
+		return getAutomaton().matchAllWords(text, -1, isDensityMatch, isGreedMatch);
 	}
 
 	/**
@@ -166,7 +190,7 @@ public final class SensitiveUtil {
 	 * @since 5.5.3
 	 */
 	public static List<FoundWord> getFoundAllSensitive(Object bean) {
-		return sensitiveTree.matchAllWords(JSONUtil.toJsonStr(bean));
+		return getAutomaton().matchAllWords(JSONUtil.toJsonStr(bean));
 	}
 
 	/**
@@ -246,4 +270,132 @@ public final class SensitiveUtil {
 		}
 		return textStringBuilder.toString();
 	}
+
+	/**
+	 * 流式查找敏感词，从Reader中分块读取文本，不会将全部内容读入内存，跨块的敏感词也能被找到，不关闭Reader<br>
+	 * 密集匹配原则：假如关键词有 ab,b，文本是abab，将匹配 [ab,b,ab]<br>
+	 * 贪婪匹配（最长匹配）原则：假如关键字a,ab，最长匹配将匹配[a, ab]
+	 *
+	 * @param reader         文本Reader
+	 * @param isDensityMatch 是否使用密集匹配原则
+	 * @param isGreedMatch   是否使用贪婪匹配（最长匹配）原则
+	 * @return 敏感词，位置为在全部文本中的位置
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.10
+	 */
+	public static List<FoundWord> getFoundAllSensitive(Reader reader, boolean isDensityMatch, boolean isGreedMatch) throws IORuntimeException {
+		final WordAutomaton.Matcher matcher = getAutomaton().matcher(-1, isDensityMatch, isGreedMatch);
+		final List<FoundWord> foundWords = new ArrayList<>();
+		final CharBuffer buffer = CharBuffer.allocate(IoUtil.DEFAULT_BUFFER_SIZE);
+		try {
+			while (reader.read(buffer) > -1) {
+				buffer.flip();
+				foundWords.addAll(matcher.append(buffer));
+				buffer.clear();
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		foundWords.addAll(matcher.finish());
+		return foundWords;
+	}
+
+	/**
+	 * 流式处理过滤文本中的敏感词，从Reader中分块读取，过滤后写出到Writer，不会将全部内容读入内存，不关闭Reader和Writer<br>
+	 * 如需分块过滤{@link CharSequence}，请使用{@link #createFilterWriter(Writer, boolean, SensitiveProcessor)}
+	 *
+	 * @param reader             文本Reader
+	 * @param writer             过滤后文本的Writer
+	 * @param isGreedMatch       贪婪匹配（最长匹配）原则：假如关键字a,ab，最长匹配将匹配[a, ab]
+	 * @param sensitiveProcessor 敏感词处理器，默认按匹配内容的字符数替换成*
+	 * @throws IORuntimeException IO异常
+	 * @since 5.8.10
+	 */
+	public static void sensitiveFilter(Reader reader, Writer writer, boolean isGreedMatch, SensitiveProcessor sensitiveProcessor) throws IORuntimeException {
+		final SensitiveFilterWriter filterWriter = createFilterWriter(writer, isGreedMatch, sensitiveProcessor);
+		final char[] buffer = new char[IoUtil.DEFAULT_BUFFER_SIZE];
+		try {
+			int readSize;
+			while ((readSize = reader.read(buffer)) > -1) {
+				filterWriter.write(buffer, 0, readSize);
+			}
+			filterWriter.finish();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 创建敏感词过滤Writer，写入的文本块经过滤后写出到指定Writer，写入完毕后需调用{@link SensitiveFilterWriter#finish()}
+	 *
+	 * @param writer             过滤后文本的Writer
+	 * @param isGreedMatch       贪婪匹配（最长匹配）原则：假如关键字a,ab，最长匹配将匹配[a, ab]
+	 * @param sensitiveProcessor 敏感词处理器，默认按匹配内容的字符数替换成*
+	 * @return {@link SensitiveFilterWriter}
+	 * @since 5.8.10
+	 */
+	public static SensitiveFilterWriter createFilterWriter(Writer writer, boolean isGreedMatch, SensitiveProcessor sensitiveProcessor) {
+		return new SensitiveFilterWriter(writer, getAutomaton(), isGreedMatch, sensitiveProcessor);
+	}
+
+	/**
+	 * 使用指定线程池并行处理过滤多个文本中的敏感词，结果顺序与传入顺序一致
+	 *
+	 * @param texts              文本列表
+	 * @param isGreedMatch       贪婪匹配（最长匹配）原则：假如关键字a,ab，最长匹配将匹配[a, ab]
+	 * @param sensitiveProcessor 敏感词处理器，默认按匹配内容的字符数替换成*，需线程安全
+	 * @param executor           执行过滤的线程池
+	 * @return 敏感词过滤处理后的文本列表
+	 * @since 5.8.10
+	 */
+	public static List<String> sensitiveFilter(Collection<String> texts, boolean isGreedMatch, SensitiveProcessor sensitiveProcessor, Executor executor) {
+		final WordAutomaton automaton = getAutomaton();
+		final List<CompletableFuture<String>> futures = new ArrayList<>(texts.size());
+		for (String text : texts) {
+			futures.add(CompletableFuture.supplyAsync(() -> sensitiveFilter(automaton, text, isGreedMatch, sensitiveProcessor), executor));
+		}
+		final List<String> result = new ArrayList<>(futures.size());
+		try {
+			for (CompletableFuture<String> future : futures) {
+				result.add(future.join());
+			}
+		} catch (CompletionException e) {
+			throw ExceptionUtil.wrapRuntime(e.getCause());
+		}
+		return result;
+	}
+
+	/**
+	 * 获取当前版本的敏感词自动机
+	 *
+	 * @return {@link WordAutomaton}
+	 */
+	private static WordAutomaton getAutomaton() {
+		return sensitiveDictionary.getAutomaton();
+	}
+
+	/**
+	 * 使用自动机处理过滤文本中的敏感词
+	 *
+	 * @param automaton          自动机
+	 * @param text               文本
+	 * @param isGreedMatch       贪婪匹配（最长匹配）原则
+	 * @param sensitiveProcessor 敏感词处理器
+	 * @return 敏感词过滤处理后的文本
+	 */
+	private static String sensitiveFilter(WordAutomaton automaton, String text, boolean isGreedMatch, SensitiveProcessor sensitiveProcessor) {
+		if (StrUtil.isEmpty(text)) {
+			return text;
+		}
+		final StringWriter writer = new StringWriter(text.length());
+		try {
+			final SensitiveFilterWriter filterWriter = new SensitiveFilterWriter(writer, automaton, isGreedMatch, sensitiveProcessor);
+			filterWriter.write(text);
+			filterWriter.finish();
+		} catch (IOException e) {
+			// StringWriter不会抛出IO异常
+			throw new IORuntimeException(e);
+		}
+		return writer.toString();
+	}
 }
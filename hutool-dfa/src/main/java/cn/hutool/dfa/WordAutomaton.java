@@ -0,0 +1,660 @@
+package cn.hutool.dfa;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.lang.Filter;
+import cn.hutool.core.util.StrUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 编译后的不可变单词自动机（Aho-Corasick自动机），匹配结果与{@link WordTree}相同。<br>
+ * 与{@link WordTree}使用{@link java.util.HashMap}存储每个节点不同，此自动机使用基本类型数组存储：
+ * <ul>
+ *     <li>每个节点的子节点按照字符排序后连续存放，查找子节点使用二分查找，根节点使用直接索引表</li>
+ *     <li>每个节点记录失败指针和输出指针，匹配时文本只需扫描一遍，无需从每个位置重新开始</li>
+ * </ul>
+ * 匹配时停顿词（不被字符过滤规则接受的字符）不参与匹配，但作为关键词中间的字符会包含在{@link FoundWord#getFoundWord()}中。<br>
+ * 此类线程安全，可被多个线程共享使用。
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class WordAutomaton {
+
+	/**
+	 * 根节点
+	 */
+	private static final int ROOT = 0;
+
+	/**
+	 * 字符过滤规则，当accept为false时，此字符不参与匹配
+	 */
+	private final Filter<Character> charFilter;
+	/**
+	 * 根节点的子节点直接索引表，下标为字符，值为子节点，0表示无此子节点
+	 */
+	private final int[] rootChildren;
+	/**
+	 * 节点的子节点在childChars和childNodes中的起始位置，节点i的子节点为[childStart[i], childStart[i + 1])
+	 */
+	private final int[] childStart;
+	/**
+	 * 子节点对应的字符，同一节点的子节点按照字符升序排列
+	 */
+	private final char[] childChars;
+	/**
+	 * 子节点
+	 */
+	private final int[] childNodes;
+	/**
+	 * 节点深度，即从根节点到此节点的字符数
+	 */
+	private final int[] depth;
+	/**
+	 * 失败指针，即当前节点对应字符串的最长真后缀所在的节点
+	 */
+	private final int[] fail;
+	/**
+	 * 输出指针，即沿失败指针找到的第一个单词结尾节点，0表示无
+	 */
+	private final int[] output;
+	/**
+	 * 节点是否为单词结尾
+	 */
+	private final boolean[] terminal;
+	/**
+	 * 单词结尾节点的单词是否有更短的前缀也是单词，用于最短匹配
+	 */
+	private final boolean[] prefixed;
+	/**
+	 * 最长单词的长度
+	 */
+	private final int maxDepth;
+
+	/**
+	 * 构造，使用默认的停顿词过滤规则
+	 *
+	 * @param words 单词列表
+	 */
+	public WordAutomaton(Collection<String> words) {
+		this(words, StopChar::isNotStopChar);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param words      单词列表
+	 * @param charFilter 字符过滤规则，当accept为false时，此字符不参与匹配，单词中的此类字符也会被去除
+	 */
+	public WordAutomaton(Collection<String> words, Filter<Character> charFilter) {
+		this.charFilter = null == charFilter ? StopChar::isNotStopChar : charFilter;
+
+		// 过滤、去重并排序，保证按顺序插入时同一节点的子节点按字符升序创建
+		final String[] sortedWords = filterAndSort(words, this.charFilter);
+		int nodeCount = 1;
+		int maxDepth = 0;
+		for (int i = 0; i < sortedWords.length; i++) {
+			final String word = sortedWords[i];
+			nodeCount += word.length() - (i > 0 ? commonPrefixLength(sortedWords[i - 1], word) : 0);
+			maxDepth = Math.max(maxDepth, word.length());
+		}
+		this.maxDepth = Math.max(1, maxDepth);
+
+		// 构建Trie，除根节点外每个节点有且仅有一个父节点
+		final int[] parent = new int[nodeCount];
+		final char[] nodeChar = new char[nodeCount];
+		this.depth = new int[nodeCount];
+		this.terminal = new boolean[nodeCount];
+		this.prefixed = new boolean[nodeCount];
+		final int[] path = new int[this.maxDepth + 1];
+		int nextNode = 1;
+		for (int i = 0; i < sortedWords.length; i++) {
+			final String word = sortedWords[i];
+			final int common = i > 0 ? commonPrefixLength(sortedWords[i - 1], word) : 0;
+			// 单词的前缀排在单词之前，此时已标记为结尾
+			boolean hasWordPrefix = false;
+			for (int d = 1; d <= common; d++) {
+				hasWordPrefix |= terminal[path[d]];
+			}
+			for (int d = common + 1; d <= word.length(); d++) {
+				final int node = nextNode++;
+				parent[node] = path[d - 1];
+				nodeChar[node] = word.charAt(d - 1);
+				depth[node] = d;
+				path[d] = node;
+			}
+			final int end = path[word.length()];
+			terminal[end] = true;
+			prefixed[end] = hasWordPrefix;
+		}
+
+		// 按父节点分组存放子节点，节点按创建顺序遍历，同一父节点的子节点保持字符升序
+		this.childStart = new int[nodeCount + 1];
+		for (int node = 1; node < nodeCount; node++) {
+			childStart[parent[node] + 1]++;
+		}
+		for (int node = 0; node < nodeCount; node++) {
+			childStart[node + 1] += childStart[node];
+		}
+		this.childChars = new char[nodeCount - 1];
+		this.childNodes = new int[nodeCount - 1];
+		final int[] fillIndex = Arrays.copyOf(childStart, nodeCount);
+		this.rootChildren = new int[Character.MAX_VALUE + 1];
+		for (int node = 1; node < nodeCount; node++) {
+			final int index = fillIndex[parent[node]]++;
+			childChars[index] = nodeChar[node];
+			childNodes[index] = node;
+			if (ROOT == parent[node]) {
+				rootChildren[nodeChar[node]] = node;
+			}
+		}
+
+		// 广度优先构建失败指针和输出指针
+		this.fail = new int[nodeCount];
+		this.output = new int[nodeCount];
+		final int[] queue = new int[nodeCount];
+		int head = 0;
+		int tail = 0;
+		for (int i = childStart[ROOT]; i < childStart[ROOT + 1]; i++) {
+			queue[tail++] = childNodes[i];
+		}
+		while (head < tail) {
+			final int node = queue[head++];
+			for (int i = childStart[node]; i < childStart[node + 1]; i++) {
+				final int child = childNodes[i];
+				final int failNode = next(fail[node], childChars[i]);
+				fail[child] = failNode;
+				output[child] = terminal[failNode] ? failNode : output[failNode];
+				queue[tail++] = child;
+			}
+		}
+	}
+
+	/**
+	 * 获取单词结尾节点的个数，即单词数
+	 *
+	 * @return 单词数
+	 */
+	public int size() {
+		int count = 0;
+		for (boolean isEnd : terminal) {
+			if (isEnd) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 是否不包含任何单词
+	 *
+	 * @return 是否为空
+	 */
+	public boolean isEmpty() {
+		return depth.length <= 1;
+	}
+
+	//------------------------------------------------------------------------------- match
+
+	/**
+	 * 指定文本是否包含自动机中的词
+	 *
+	 * @param text 被检查的文本
+	 * @return 是否包含
+	 */
+	public boolean isMatch(String text) {
+		if (null == text) {
+			return false;
+		}
+		return null != matchWord(text);
+	}
+
+	/**
+	 * 获得第一个匹配的关键字
+	 *
+	 * @param text 被检查的文本
+	 * @return 匹配到的关键字
+	 */
+	public String match(String text) {
+		final FoundWord foundWord = matchWord(text);
+		return null != foundWord ? foundWord.toString() : null;
+	}
+
+	/**
+	 * 获得第一个匹配的关键字
+	 *
+	 * @param text 被检查的文本
+	 * @return 匹配到的关键字
+	 */
+	public FoundWord matchWord(String text) {
+		if (null == text) {
+			return null;
+		}
+		final List<FoundWord> matchAll = matchAllWords(text, 1);
+		return CollUtil.get(matchAll, 0);
+	}
+
+	//------------------------------------------------------------------------------- match all
+
+	/**
+	 * 找出所有匹配的关键字
+	 *
+	 * @param text 被检查的文本
+	 * @return 匹配的词列表
+	 */
+	public List<String> matchAll(String text) {
+		return matchAll(text, -1);
+	}
+
+	/**
+	 * 找出所有匹配的关键字
+	 *
+	 * @param text 被检查的文本
+	 * @return 匹配的词列表
+	 */
+	public List<FoundWord> matchAllWords(String text) {
+		return matchAllWords(text, -1);
+	}
+
+	/**
+	 * 找出所有匹配的关键字
+	 *
+	 * @param text  被检查的文本
+	 * @param limit 限制匹配个数
+	 * @return 匹配的词列表
+	 */
+	public List<String> matchAll(String text, int limit) {
+		return matchAll(text, limit, false, false);
+	}
+
+	/**
+	 * 找出所有匹配的关键字
+	 *
+	 * @param text  被检查的文本
+	 * @param limit 限制匹配个数
+	 * @return 匹配的词列表
+	 */
+	public List<FoundWord> matchAllWords(String text, int limit) {
+		return matchAllWords(text, limit, false, false);
+	}
+
+	/**
+	 * 找出所有匹配的关键字<br>
+	 * 密集匹配原则：假如关键词有 ab,b，文本是abab，将匹配 [ab,b,ab]<br>
+	 * 贪婪匹配（最长匹配）原则：假如关键字a,ab，最长匹配将匹配[a, ab]
+	 *
+	 * @param text           被检查的文本
+	 * @param limit          限制匹配个数
+	 * @param isDensityMatch 是否使用密集匹配原则
+	 * @param isGreedMatch   是否使用贪婪匹配（最长匹配）原则
+	 * @return 匹配的词列表
+	 */
+	public List<String> matchAll(String text, int limit, boolean isDensityMatch, boolean isGreedMatch) {
+		final List<FoundWord> matchAllWords = matchAllWords(text, limit, isDensityMatch, isGreedMatch);
+		return CollUtil.map(matchAllWords, FoundWord::toString, true);
+	}
+
+	/**
+	 * 找出所有匹配的关键字，文本只扫描一遍，结果与{@link WordTree#matchAllWords(String, int, boolean, boolean)}相同：
+	 * <ul>
+	 *     <li>密集且贪婪匹配：返回所有位置开始的所有关键词</li>
+	 *     <li>密集非贪婪匹配：返回每个位置开始的最短关键词</li>
+	 *     <li>非密集匹配：从左到右返回最短关键词，并跳过已匹配的部分</li>
+	 * </ul>
+	 * 结果按照起始位置排序，起始位置相同时按照结束位置排序。
+	 *
+	 * @param text           被检查的文本
+	 * @param limit          限制匹配个数
+	 * @param isDensityMatch 是否使用密集匹配原则
+	 * @param isGreedMatch   是否使用贪婪匹配（最长匹配）原则
+	 * @return 匹配的词列表
+	 */
+	public List<FoundWord> matchAllWords(String text, int limit, boolean isDensityMatch, boolean isGreedMatch) {
+		if (null == text) {
+			return null;
+		}
+		final Matcher matcher = matcher(limit, isDensityMatch, isGreedMatch);
+		final List<FoundWord> foundWords = matcher.append(text);
+		foundWords.addAll(matcher.finish());
+		return foundWords;
+	}
+
+	/**
+	 * 创建流式匹配器，用于分块匹配长文本或{@link java.io.Reader}中的内容，块与块之间保持自动机状态，跨块的关键词也能被匹配
+	 *
+	 * @param limit          限制匹配个数，小于等于0表示不限制
+	 * @param isDensityMatch 是否使用密集匹配原则
+	 * @param isGreedMatch   是否使用贪婪匹配（最长匹配）原则
+	 * @return {@link Matcher}
+	 * @since 5.8.10
+	 */
+	public Matcher matcher(int limit, boolean isDensityMatch, boolean isGreedMatch) {
+		return new Matcher(limit, isDensityMatch, isGreedMatch);
+	}
+
+	//--------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 状态转移，当前节点无对应子节点时沿失败指针查找
+	 *
+	 * @param state 当前状态
+	 * @param c     字符
+	 * @return 新状态
+	 */
+	private int next(int state, char c) {
+		while (ROOT != state) {
+			final int child = child(state, c);
+			if (child > ROOT) {
+				return child;
+			}
+			state = fail[state];
+		}
+		return rootChildren[c];
+	}
+
+	/**
+	 * 查找子节点
+	 *
+	 * @param node 节点
+	 * @param c    字符
+	 * @return 子节点，不存在返回0
+	 */
+	private int child(int node, char c) {
+		int low = childStart[node];
+		int high = childStart[node + 1] - 1;
+		while (low <= high) {
+			final int mid = (low + high) >>> 1;
+			final char midChar = childChars[mid];
+			if (midChar < c) {
+				low = mid + 1;
+			} else if (midChar > c) {
+				high = mid - 1;
+			} else {
+				return childNodes[mid];
+			}
+		}
+		return ROOT;
+	}
+
+	/**
+	 * 过滤单词中的停顿词，去除空词和重复词并排序
+	 *
+	 * @param words      单词列表
+	 * @param charFilter 字符过滤规则
+	 * @return 排序后的单词
+	 */
+	private static String[] filterAndSort(Collection<String> words, Filter<Character> charFilter) {
+		final List<String> result = new ArrayList<>(CollUtil.size(words));
+		if (null != words) {
+			final StringBuilder builder = StrUtil.builder();
+			for (String word : words) {
+				if (null == word) {
+					continue;
+				}
+				builder.setLength(0);
+				for (int i = 0; i < word.length(); i++) {
+					if (charFilter.accept(word.charAt(i))) {
+						builder.append(word.charAt(i));
+					}
+				}
+				if (builder.length() > 0) {
+					result.add(builder.toString());
+				}
+			}
+		}
+		final String[] sorted = result.toArray(new String[0]);
+		Arrays.sort(sorted);
+		int size = 0;
+		for (int i = 0; i < sorted.length; i++) {
+			if (0 == i || false == sorted[i].equals(sorted[size - 1])) {
+				sorted[size++] = sorted[i];
+			}
+		}
+		return Arrays.copyOf(sorted, size);
+	}
+
+	/**
+	 * 两个字符串的公共前缀长度
+	 *
+	 * @param str1 字符串1
+	 * @param str2 字符串2
+	 * @return 公共前缀长度
+	 */
+	private static int commonPrefixLength(String str1, String str2) {
+		final int length = Math.min(str1.length(), str2.length());
+		int i = 0;
+		while (i < length && str1.charAt(i) == str2.charAt(i)) {
+			i++;
+		}
+		return i;
+	}
+	//--------------------------------------------------------------------------------------- Private method end
+
+	/**
+	 * 流式匹配器，非线程安全，多次调用{@link #append(CharSequence)}传入连续的文本块，最后调用{@link #finish()}获取剩余的结果<br>
+	 * 匹配器只缓存可能成为关键词一部分的尾部文本，因此内存占用与文本总长度无关。
+	 * 返回的{@link FoundWord}中的位置为在全部文本中的位置，结果按照起始位置排序。
+	 *
+	 * @since 5.8.10
+	 */
+	public class Matcher {
+		private final int limit;
+		private final boolean isDensityMatch;
+		/**
+		 * 非密集或非贪婪时，每个起始位置只取最短的词
+		 */
+		private final boolean shortestOnly;
+		/**
+		 * 匹配按结束位置产生，需按起始位置排序后输出
+		 */
+		private final PriorityQueue<Match> pending = new PriorityQueue<>();
+		/**
+		 * 最近maxDepth个有效字符在原文中的位置
+		 */
+		private final int[] positions = new int[maxDepth];
+		/**
+		 * 缓存的尾部文本，用于生成匹配内容
+		 */
+		private final StringBuilder window = new StringBuilder();
+		/**
+		 * 缓存文本第一个字符在原文中的位置
+		 */
+		private int windowOffset;
+		/**
+		 * 已处理的字符数
+		 */
+		private int count;
+		private int state = ROOT;
+		/**
+		 * 有效字符（非停顿词）的序号
+		 */
+		private int position = -1;
+		/**
+		 * 非密集匹配时上一个匹配词的结束位置
+		 */
+		private int lastEnd = -1;
+		/**
+		 * 已输出的匹配个数
+		 */
+		private int foundCount;
+
+		/**
+		 * 构造
+		 *
+		 * @param limit          限制匹配个数，小于等于0表示不限制
+		 * @param isDensityMatch 是否使用密集匹配原则
+		 * @param isGreedMatch   是否使用贪婪匹配（最长匹配）原则
+		 */
+		private Matcher(int limit, boolean isDensityMatch, boolean isGreedMatch) {
+			this.limit = limit;
+			this.isDensityMatch = isDensityMatch;
+			this.shortestOnly = false == (isDensityMatch && isGreedMatch);
+		}
+
+		/**
+		 * 匹配下一块文本
+		 *
+		 * @param chunk 文本块
+		 * @return 本次可以确定的匹配结果，之后的文本不会再产生起始位置更小的结果
+		 */
+		public List<FoundWord> append(CharSequence chunk) {
+			final List<FoundWord> foundWords = new ArrayList<>();
+			if (isLimitReached() || isEmpty()) {
+				count += chunk.length();
+				windowOffset = count;
+				return foundWords;
+			}
+			window.append(chunk);
+			final Filter<Character> charFilter = WordAutomaton.this.charFilter;
+			final int length = chunk.length();
+			char currentChar;
+			for (int j = 0; j < length; j++) {
+				currentChar = chunk.charAt(j);
+				final int i = count++;
+				if (false == charFilter.accept(currentChar)) {
+					continue;
+				}
+				position++;
+				positions[position % maxDepth] = i;
+				state = next(state, currentChar);
+
+				for (int node = terminal[state] ? state : output[state]; node > ROOT; node = output[node]) {
+					if (shortestOnly && prefixed[node]) {
+						continue;
+					}
+					final int start = position - depth[node] + 1;
+					pending.add(new Match(start, positions[start % maxDepth], i, node));
+				}
+
+				// 之后产生的匹配起始位置不小于当前状态对应的起始位置，在此之前开始的匹配可以输出
+				final int bound = position - depth[state] + 1;
+				while (false == pending.isEmpty() && pending.peek().start < bound) {
+					addMatch(foundWords, pending.poll());
+					if (isLimitReached()) {
+						count += length - j - 1;
+						window.setLength(0);
+						windowOffset = count;
+						return foundWords;
+					}
+				}
+			}
+
+			// 丢弃不会再被使用的文本
+			final int safeIndex = getSafeIndex();
+			window.delete(0, safeIndex - windowOffset);
+			windowOffset = safeIndex;
+			return foundWords;
+		}
+
+		/**
+		 * 结束匹配，返回剩余的匹配结果
+		 *
+		 * @return 剩余的匹配结果
+		 */
+		public List<FoundWord> finish() {
+			final List<FoundWord> foundWords = new ArrayList<>();
+			while (false == pending.isEmpty() && false == isLimitReached()) {
+				addMatch(foundWords, pending.poll());
+			}
+			pending.clear();
+			state = ROOT;
+			window.setLength(0);
+			windowOffset = count;
+			return foundWords;
+		}
+
+		/**
+		 * 获取安全位置，之后产生的匹配结果的起始位置不会小于此位置，此位置之前的文本可以放心输出
+		 *
+		 * @return 安全位置
+		 */
+		public int getSafeIndex() {
+			int safeIndex = count;
+			if (depth[state] > 0) {
+				// 当前状态对应的文本可能成为关键词的开头
+				safeIndex = positions[(position - depth[state] + 1) % maxDepth];
+			}
+			if (false == pending.isEmpty()) {
+				safeIndex = Math.min(safeIndex, pending.peek().startIndex);
+			}
+			return safeIndex;
+		}
+
+		/**
+		 * 是否已达到匹配个数限制，达到后后续文本不再匹配
+		 *
+		 * @return 是否已达到匹配个数限制
+		 */
+		public boolean isLimitReached() {
+			return limit > 0 && foundCount >= limit;
+		}
+
+		/**
+		 * 加入匹配结果，非密集匹配时跳过与上一个结果重叠的匹配
+		 *
+		 * @param foundWords 结果列表
+		 * @param match      匹配
+		 */
+		private void addMatch(List<FoundWord> foundWords, Match match) {
+			if (false == isDensityMatch && match.startIndex <= lastEnd) {
+				return;
+			}
+			final String foundWord = window.substring(match.startIndex - windowOffset, match.endIndex + 1 - windowOffset);
+			final String word;
+			if (foundWord.length() == depth[match.node]) {
+				word = foundWord;
+			} else {
+				// 匹配内容中包含停顿词，单词为去除停顿词后的内容
+				final StringBuilder builder = StrUtil.builder(depth[match.node]);
+				for (int i = 0; i < foundWord.length(); i++) {
+					if (charFilter.accept(foundWord.charAt(i))) {
+						builder.append(foundWord.charAt(i));
+					}
+				}
+				word = builder.toString();
+			}
+			foundWords.add(new FoundWord(word, foundWord, match.startIndex, match.endIndex));
+			foundCount++;
+			lastEnd = match.endIndex;
+		}
+	}
+
+	/**
+	 * 待输出的匹配，按起始位置和结束位置排序
+	 */
+	private static class Match implements Comparable<Match> {
+		/**
+		 * 起始位置，为有效字符序号
+		 */
+		private final int start;
+		/**
+		 * 在原文中的起始位置（包含）
+		 */
+		private final int startIndex;
+		/**
+		 * 在原文中的结束位置（包含）
+		 */
+		private final int endIndex;
+		/**
+		 * 单词结尾节点
+		 */
+		private final int node;
+
+		Match(int start, int startIndex, int endIndex, int node) {
+			this.start = start;
+			this.startIndex = startIndex;
+			this.endIndex = endIndex;
+			this.node = node;
+		}
+
+		@Override
+		public int compareTo(Match o) {
+			final int result = Integer.compare(this.start, o.start);
+			return 0 != result ? result : Integer.compare(this.endIndex, o.endIndex);
+		}
+	}
+}
@@ -0,0 +1,272 @@
+package cn.hutool.dfa;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.resource.ResourceUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.Filter;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 可热替换的版本化单词词典<br>
+ * 词典内容以不可变快照（版本号、单词集合、编译后的{@link WordAutomaton}）的形式保存，更新时采用写时复制：
+ * <ul>
+ *     <li>在当前线程或指定线程池中基于新的单词集合构建新的自动机，构建期间读取方继续使用旧版本</li>
+ *     <li>构建完成后原子替换当前版本，读取方不会阻塞，也不会看到构建了一半的词典</li>
+ * </ul>
+ * 多个更新操作之间串行执行，保证增量添加和删除不会丢失。
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class WordDictionary {
+
+	private final AtomicReference<Version> current;
+	/**
+	 * 写锁，只用于更新操作之间的串行化，读取不加锁
+	 */
+	private final ReentrantLock updateLock = new ReentrantLock();
+
+	/**
+	 * 构造，使用默认的停顿词过滤规则
+	 */
+	public WordDictionary() {
+		this(null);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param charFilter 字符过滤规则，当accept为false时，此字符不参与匹配，{@code null}表示使用默认的停顿词过滤规则
+	 */
+	public WordDictionary(Filter<Character> charFilter) {
+		this.current = new AtomicReference<>(new Version(0, Collections.emptySet(), charFilter));
+	}
+
+	//------------------------------------------------------------------------------- read
+
+	/**
+	 * 获取当前版本的自动机，获取后即使词典被更新，此自动机也不会变化
+	 *
+	 * @return {@link WordAutomaton}
+	 */
+	public WordAutomaton getAutomaton() {
+		return current.get().automaton;
+	}
+
+	/**
+	 * 获取当前版本号，每次更新加1，初始为0
+	 *
+	 * @return 版本号
+	 */
+	public long getVersion() {
+		return current.get().version;
+	}
+
+	/**
+	 * 获取当前版本的单词集合（只读）
+	 *
+	 * @return 单词集合
+	 */
+	public Set<String> getWords() {
+		return current.get().words;
+	}
+
+	/**
+	 * 词典是否为空
+	 *
+	 * @return 是否为空
+	 */
+	public boolean isEmpty() {
+		return current.get().automaton.isEmpty();
+	}
+
+	//------------------------------------------------------------------------------- reload
+
+	/**
+	 * 使用新的单词列表替换全部单词，在当前线程中构建
+	 *
+	 * @param words 单词列表
+	 * @return 新版本号
+	 */
+	public long reload(Collection<String> words) {
+		return reload(() -> words);
+	}
+
+	/**
+	 * 使用单词来源提供的单词替换全部单词，在当前线程中读取和构建
+	 *
+	 * @param wordSource 单词来源
+	 * @return 新版本号
+	 */
+	public long reload(Supplier<? extends Collection<String>> wordSource) {
+		Assert.notNull(wordSource, "Word source must be not null!");
+		// 读取单词来源可能较慢，在加锁前完成
+		final Set<String> words = toWordSet(wordSource.get());
+		return swap(version -> words, null);
+	}
+
+	/**
+	 * 使用单词来源提供的单词替换全部单词，在指定线程池中读取和构建，构建完成后替换
+	 *
+	 * @param wordSource 单词来源
+	 * @param executor   执行构建的线程池
+	 * @return 新版本号的Future，构建失败时旧版本保持不变
+	 */
+	public CompletableFuture<Long> reloadAsync(Supplier<? extends Collection<String>> wordSource, Executor executor) {
+		return CompletableFuture.supplyAsync(() -> reload(wordSource), executor);
+	}
+
+	/**
+	 * 从文件中重新加载单词，每行一个单词，空行忽略
+	 *
+	 * @param file    文件
+	 * @param charset 编码
+	 * @return 新版本号
+	 */
+	public long reload(File file, Charset charset) {
+		return reload(() -> FileUtil.readLines(file, charset));
+	}
+
+	/**
+	 * 从classpath资源中重新加载单词，每行一个单词，空行忽略
+	 *
+	 * @param resource 资源路径，相对于classpath
+	 * @param charset  编码
+	 * @return 新版本号
+	 */
+	public long reloadResource(String resource, Charset charset) {
+		return reload(() -> {
+			final BufferedReader reader = ResourceUtil.getReader(resource, charset);
+			try {
+				return IoUtil.readLines(reader, new ArrayList<>());
+			} finally {
+				IoUtil.close(reader);
+			}
+		});
+	}
+
+	//------------------------------------------------------------------------------- incremental update
+
+	/**
+	 * 增加一批单词，基于当前版本的单词重新构建
+	 *
+	 * @param words 增加的单词
+	 * @return 新版本号
+	 */
+	public long addWords(Collection<String> words) {
+		return update(words, null);
+	}
+
+	/**
+	 * 删除一批单词，基于当前版本的单词重新构建
+	 *
+	 * @param words 删除的单词
+	 * @return 新版本号
+	 */
+	public long removeWords(Collection<String> words) {
+		return update(null, words);
+	}
+
+	/**
+	 * 增加和删除一批单词，基于当前版本的单词只重新构建一次，同一单词同时在增加和删除中时以删除为准
+	 *
+	 * @param addWords    增加的单词，可以为{@code null}
+	 * @param removeWords 删除的单词，可以为{@code null}
+	 * @return 新版本号
+	 */
+	public long update(Collection<String> addWords, Collection<String> removeWords) {
+		return swap(version -> {
+			final Set<String> words = new HashSet<>(version.words);
+			if (CollUtil.isNotEmpty(addWords)) {
+				words.addAll(toWordSet(addWords));
+			}
+			if (CollUtil.isNotEmpty(removeWords)) {
+				words.removeAll(removeWords);
+			}
+			return words;
+		}, null);
+	}
+
+	/**
+	 * 更改字符过滤规则，基于当前版本的单词重新构建
+	 *
+	 * @param charFilter 字符过滤规则，当accept为false时，此字符不参与匹配
+	 * @return 新版本号
+	 */
+	public long setCharFilter(Filter<Character> charFilter) {
+		Assert.notNull(charFilter, "Char filter must be not null!");
+		return swap(version -> version.words, charFilter);
+	}
+
+	/**
+	 * 基于当前版本构建新版本并替换
+	 *
+	 * @param wordsUpdater 根据当前版本生成新单词集合的函数
+	 * @param charFilter   新的字符过滤规则，{@code null}表示保持不变
+	 * @return 新版本号
+	 */
+	private long swap(Function<Version, Set<String>> wordsUpdater, Filter<Character> charFilter) {
+		updateLock.lock();
+		try {
+			final Version version = current.get();
+			final Version newVersion = new Version(version.version + 1, wordsUpdater.apply(version),
+					null == charFilter ? version.charFilter : charFilter);
+			current.set(newVersion);
+			return newVersion.version;
+		} finally {
+			updateLock.unlock();
+		}
+	}
+
+	/**
+	 * 去除空白单词，转为集合
+	 *
+	 * @param words 单词列表
+	 * @return 单词集合
+	 */
+	private static Set<String> toWordSet(Collection<String> words) {
+		final Set<String> result = new HashSet<>();
+		if (null != words) {
+			for (String word : words) {
+				if (StrUtil.isNotBlank(word)) {
+					result.add(word);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 词典的不可变版本
+	 */
+	private static class Version {
+		private final long version;
+		private final Set<String> words;
+		private final Filter<Character> charFilter;
+		private final WordAutomaton automaton;
+
+		Version(long version, Set<String> words, Filter<Character> charFilter) {
+			this.version = version;
+			this.words = Collections.unmodifiableSet(words);
+			this.charFilter = charFilter;
+			this.automaton = new WordAutomaton(words, charFilter);
+		}
+	}
+}
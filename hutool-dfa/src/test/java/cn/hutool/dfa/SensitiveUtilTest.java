@@ -1,12 +1,18 @@
 package cn.hutool.dfa;
 
 import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.util.StrUtil;
 import lombok.Data;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class SensitiveUtilTest {
 
@@ -39,4 +45,42 @@ public class SensitiveUtilTest {
 		String result = SensitiveUtil.sensitiveFilter("赵阿三在做什么。", true, null);
 		Assert.assertEquals("***在做什么。", result);
 	}
+
+	@Test
+	public void streamFilterTest() throws IOException {
+		SensitiveUtil.init(ListUtil.of("大", "大土豆", "土豆", "刚出锅", "出锅"));
+		final String text = StrUtil.repeat("我有一颗$大土^豆，刚出锅的", 100);
+		final String expected = SensitiveUtil.sensitiveFilter(text, true, null);
+
+		// 每次写入一个字符，跨块的敏感词也能被过滤
+		final StringWriter writer = new StringWriter();
+		final SensitiveFilterWriter filterWriter = SensitiveUtil.createFilterWriter(writer, true, null);
+		for (int i = 0; i < text.length(); i++) {
+			filterWriter.write(text.substring(i, i + 1));
+		}
+		filterWriter.finish();
+		Assert.assertEquals(expected, writer.toString());
+
+		final StringWriter readerWriter = new StringWriter();
+		SensitiveUtil.sensitiveFilter(new StringReader(text), readerWriter, true, null);
+		Assert.assertEquals(expected, readerWriter.toString());
+
+		final List<FoundWord> foundWords = SensitiveUtil.getFoundAllSensitive(new StringReader(text), true, true);
+		Assert.assertEquals(500, foundWords.size());
+		Assert.assertEquals("土^豆", foundWords.get(2).getFoundWord());
+		Assert.assertEquals(14 + 6, foundWords.get(7).getStartIndex().intValue());
+	}
+
+	@Test
+	public void parallelFilterTest() {
+		SensitiveUtil.init(ListUtil.of("赵", "赵阿", "赵阿三"));
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final List<String> result = SensitiveUtil.sensitiveFilter(
+					ListUtil.of("赵阿三在做什么。", "", "没有敏感词", "赵阿四"), true, null, executor);
+			Assert.assertEquals(ListUtil.of("***在做什么。", "", "没有敏感词", "**四"), result);
+		} finally {
+			executor.shutdown();
+		}
+	}
 }
@@ -0,0 +1,109 @@
+package cn.hutool.dfa;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.RandomUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class WordAutomatonTest {
+
+	// 构建被查询的文本，包含停顿词
+	final String text = "我有一颗$大土^豆，刚出锅的";
+
+	@Test
+	public void matchAllTest() {
+		final WordAutomaton automaton = buildWordTree().compile();
+		Assert.assertEquals(CollUtil.newArrayList("大", "土^豆", "刚出锅"), automaton.matchAll(text, -1, false, false));
+		Assert.assertEquals(CollUtil.newArrayList("大", "土^豆", "刚出锅", "出锅"), automaton.matchAll(text, -1, true, false));
+		Assert.assertEquals(CollUtil.newArrayList("大", "土^豆", "刚出锅"), automaton.matchAll(text, -1, false, true));
+		Assert.assertEquals(CollUtil.newArrayList("大", "大土^豆", "土^豆", "刚出锅", "出锅"), automaton.matchAll(text, -1, true, true));
+		Assert.assertEquals(CollUtil.newArrayList("大", "大土^豆"), automaton.matchAll(text, 2, true, true));
+	}
+
+	@Test
+	public void foundWordTest() {
+		final WordAutomaton automaton = new WordAutomaton(CollUtil.newArrayList("土豆", "赵阿三"));
+		final FoundWord foundWord = automaton.matchWord(text);
+		Assert.assertEquals("土豆", foundWord.getWord());
+		Assert.assertEquals("土^豆", foundWord.getFoundWord());
+		Assert.assertEquals(6, foundWord.getStartIndex().intValue());
+		Assert.assertEquals(8, foundWord.getEndIndex().intValue());
+
+		Assert.assertTrue(automaton.isMatch("赵阿三在做什么"));
+		Assert.assertFalse(automaton.isMatch("赵阿四在做什么"));
+		Assert.assertNull(automaton.match("土 不是豆"));
+		Assert.assertNull(automaton.matchAllWords(null));
+		Assert.assertTrue(new WordAutomaton(new ArrayList<>()).matchAll(text).isEmpty());
+	}
+
+	@Test
+	public void sameAsWordTreeTest() {
+		// 随机单词和文本，结果应与WordTree完全一致
+		final String chars = "abcd ";
+		for (int round = 0; round < 200; round++) {
+			final WordTree tree = new WordTree();
+			for (int i = 0; i < 8; i++) {
+				tree.addWord(RandomUtil.randomString(chars, RandomUtil.randomInt(1, 5)));
+			}
+			final WordAutomaton automaton = tree.compile();
+			final String randomText = RandomUtil.randomString(chars, 50);
+			for (int limit : new int[]{-1, 1, 3}) {
+				for (boolean density : new boolean[]{true, false}) {
+					for (boolean greed : new boolean[]{true, false}) {
+						Assert.assertEquals(toString(tree.matchAllWords(randomText, limit, density, greed)),
+								toString(automaton.matchAllWords(randomText, limit, density, greed)));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void matcherTest() {
+		// 随机分块匹配的结果应与整体匹配一致
+		final String chars = "abcd ";
+		for (int round = 0; round < 200; round++) {
+			final List<String> words = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				words.add(RandomUtil.randomString(chars, RandomUtil.randomInt(1, 5)));
+			}
+			final WordAutomaton automaton = new WordAutomaton(words);
+			final String randomText = RandomUtil.randomString(chars, 50);
+			for (boolean density : new boolean[]{true, false}) {
+				for (boolean greed : new boolean[]{true, false}) {
+					final WordAutomaton.Matcher matcher = automaton.matcher(-1, density, greed);
+					final List<FoundWord> foundWords = new ArrayList<>();
+					int index = 0;
+					while (index < randomText.length()) {
+						final int end = Math.min(randomText.length(), index + RandomUtil.randomInt(1, 6));
+						foundWords.addAll(matcher.append(randomText.substring(index, end)));
+						index = end;
+					}
+					foundWords.addAll(matcher.finish());
+					Assert.assertEquals(toString(automaton.matchAllWords(randomText, -1, density, greed)), toString(foundWords));
+				}
+			}
+		}
+	}
+
+	private static List<String> toString(List<FoundWord> foundWords) {
+		final List<String> result = new ArrayList<>();
+		for (FoundWord foundWord : foundWords) {
+			result.add(foundWord.getWord() + ":" + foundWord.getFoundWord() + ":" + foundWord.getStartIndex() + "-" + foundWord.getEndIndex());
+		}
+		return result;
+	}
+
+	private WordTree buildWordTree() {
+		final WordTree tree = new WordTree();
+		tree.addWord("大");
+		tree.addWord("大土豆");
+		tree.addWord("土豆");
+		tree.addWord("刚出锅");
+		tree.addWord("出锅");
+		return tree;
+	}
+}
@@ -0,0 +1,129 @@
+package cn.hutool.dfa;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.CharsetUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class WordDictionaryTest {
+
+	@Test
+	public void updateTest() {
+		final WordDictionary dictionary = new WordDictionary();
+		Assert.assertTrue(dictionary.isEmpty());
+		Assert.assertEquals(0, dictionary.getVersion());
+
+		Assert.assertEquals(1, dictionary.reload(CollUtil.newArrayList("大土豆", "刚出锅", "", " ")));
+		Assert.assertEquals(2, dictionary.getWords().size());
+		final WordAutomaton old = dictionary.getAutomaton();
+
+		Assert.assertEquals(2, dictionary.addWords(CollUtil.newArrayList("出锅")));
+		Assert.assertEquals(3, dictionary.removeWords(CollUtil.newArrayList("刚出锅")));
+		Assert.assertEquals(CollUtil.newArrayList("大土豆", "出锅"), dictionary.getAutomaton().matchAll("我有一颗大土豆，刚出锅的"));
+		// 已获取的自动机不受更新影响
+		Assert.assertEquals(CollUtil.newArrayList("大土豆", "刚出锅"), old.matchAll("我有一颗大土豆，刚出锅的"));
+
+		dictionary.update(CollUtil.newArrayList("土豆", "锅"), CollUtil.newArrayList("大土豆", "锅"));
+		Assert.assertEquals(CollUtil.newHashSet("土豆", "出锅"), dictionary.getWords());
+	}
+
+	@Test
+	public void charFilterTest() {
+		final WordDictionary dictionary = new WordDictionary();
+		dictionary.reload(CollUtil.newArrayList("土豆"));
+		Assert.assertEquals("土^豆", dictionary.getAutomaton().match("大土^豆"));
+
+		dictionary.setCharFilter(c -> true);
+		Assert.assertNull(dictionary.getAutomaton().match("大土^豆"));
+		Assert.assertEquals(2, dictionary.getVersion());
+	}
+
+	@Test
+	public void reloadFileTest() {
+		final File file = FileUtil.createTempFile("words", ".txt", true);
+		try {
+			FileUtil.writeUtf8Lines(CollUtil.newArrayList("土豆", "", "出锅"), file);
+			final WordDictionary dictionary = new WordDictionary();
+			dictionary.reload(file, CharsetUtil.CHARSET_UTF_8);
+			Assert.assertEquals(CollUtil.newHashSet("土豆", "出锅"), dictionary.getWords());
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void reloadAsyncTest() throws Exception {
+		final WordDictionary dictionary = new WordDictionary();
+		dictionary.reload(CollUtil.newArrayList("土豆"));
+
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Assert.assertEquals(2L, dictionary.reloadAsync(() -> CollUtil.newArrayList("白菜"), executor).get().longValue());
+			Assert.assertEquals(CollUtil.newHashSet("白菜"), dictionary.getWords());
+
+			// 构建失败时旧版本保持不变
+			try {
+				dictionary.reloadAsync(() -> {
+					throw new IllegalStateException("load failed");
+				}, executor).join();
+				Assert.fail();
+			} catch (Exception e) {
+				Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+			}
+			Assert.assertEquals(2, dictionary.getVersion());
+			Assert.assertEquals(CollUtil.newHashSet("白菜"), dictionary.getWords());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void concurrentReadTest() throws Exception {
+		// 两组单词数量不同，读取方每次应看到完整的一组
+		final List<String> wordsA = new ArrayList<>();
+		final List<String> wordsB = new ArrayList<>();
+		final StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 200; i++) {
+			wordsA.add("a" + i + "#");
+			text.append("a").append(i).append("#,");
+			if (i < 100) {
+				wordsB.add("a" + i + "#");
+			}
+		}
+
+		final WordDictionary dictionary = new WordDictionary();
+		dictionary.reload(wordsA);
+		final AtomicBoolean stop = new AtomicBoolean();
+		final AtomicInteger errors = new AtomicInteger();
+		final Thread[] readers = new Thread[4];
+		for (int i = 0; i < readers.length; i++) {
+			readers[i] = new Thread(() -> {
+				while (false == stop.get()) {
+					final int size = dictionary.getAutomaton().matchAll(text.toString()).size();
+					if (size != 200 && size != 100) {
+						errors.incrementAndGet();
+					}
+				}
+			});
+			readers[i].start();
+		}
+		for (int i = 0; i < 50; i++) {
+			dictionary.reload(i % 2 == 0 ? wordsB : wordsA);
+		}
+		stop.set(true);
+		for (Thread reader : readers) {
+			reader.join();
+		}
+		Assert.assertEquals(0, errors.get());
+		Assert.assertEquals(51, dictionary.getVersion());
+	}
+}
@@ -3,6 +3,8 @@ package cn.hutool.json;
 import cn.hutool.core.bean.copier.CopyOptions;
 import cn.hutool.core.convert.Convert;
 import cn.hutool.core.lang.Filter;
+import cn.hutool.core.lang.intern.InternUtil;
+import cn.hutool.core.lang.intern.Interner;
 import cn.hutool.core.lang.mutable.MutablePair;
 import cn.hutool.core.map.CaseInsensitiveLinkedMap;
 import cn.hutool.core.map.CaseInsensitiveTreeMap;
@@ -26,6 +28,11 @@ import java.util.TreeMap;
  */
 public final class InternalJSONUtil {
 
+	/**
+	 * 键的规范化器，固定大小，见{@link JSONConfig#isInternKey()}
+	 */
+	private static final Interner<String> KEY_INTERNER = InternUtil.createBoundedInterner(4096);
+
 	private InternalJSONUtil() {
 	}
 
@@ -191,6 +198,16 @@ public final class InternalJSONUtil {
 				.setTransientSupport(config.isTransientSupport());
 	}
 
+	/**
+	 * 规范化键，相同的键返回同一个String对象
+	 *
+	 * @param key 键
+	 * @return 规范化后的键
+	 */
+	static String internKey(String key) {
+		return KEY_INTERNER.intern(key);
+	}
+
 	/**
 	 * 根据配置创建对应的原始Map
 	 *
@@ -213,6 +230,8 @@ public final class InternalJSONUtil {
 		} else {
 			if (null != keyComparator) {
 				rawHashMap = new TreeMap<>(keyComparator);
+			} else if (config.isRecordMode()) {
+				rawHashMap = new JSONRecordMap();
 			} else {
 				rawHashMap = new LinkedHashMap<>(capacity);
 			}
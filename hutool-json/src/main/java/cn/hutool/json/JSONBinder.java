@@ -0,0 +1,498 @@
+package cn.hutool.json;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.lang.TypeReference;
+import cn.hutool.core.map.CaseInsensitiveMap;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.map.WeakConcurrentMap;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ModifierUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.TypeUtil;
+import cn.hutool.json.serialize.GlobalSerializeMapping;
+
+import java.io.Reader;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON直接绑定器，从{@link JSONReader}中逐个读取标记，直接绑定到Bean、集合、Map和数组中，不构建中间的{@link JSONObject}和{@link JSONArray}<br>
+ * 每种目标类型的绑定器（属性名映射、属性的实际泛型类型、Setter方法、构造方法等）只在首次使用时解析一次并缓存，
+ * 绑定规则与{@link JSONUtil#toBean(String, Type, boolean)}相同：
+ * <ul>
+ *     <li>键按照属性名（支持{@link cn.hutool.core.annotation.Alias}）、驼峰名、去掉is前缀的名称查找属性，
+ *     {@link JSONConfig#isIgnoreCase()}为true时忽略大小写</li>
+ *     <li>{@link JSONConfig#isTransientSupport()}、{@link JSONConfig#isIgnoreNullValue()}、{@link JSONConfig#isIgnoreError()}的含义与转Bean时相同</li>
+ *     <li>字符串、数字、布尔等常用类型直接读取，其它类型（如日期、枚举）、自定义{@link cn.hutool.json.serialize.JSONDeserializer}
+ *     及{@link JSONBeanParser}的值仍通过{@link JSONConverter}转换</li>
+ * </ul>
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class JSONBinder {
+
+	/**
+	 * 类型对应的绑定器缓存
+	 */
+	private static final WeakConcurrentMap<Type, ValueBinder> BINDER_CACHE = new WeakConcurrentMap<>();
+
+	/**
+	 * 将JSON字符串直接绑定为指定类型的对象，使用默认配置
+	 *
+	 * @param <T>  目标类型
+	 * @param json JSON字符串
+	 * @param type 目标类型，可以为{@link TypeReference}
+	 * @return 目标对象
+	 * @throws JSONException 语法错误或绑定失败
+	 */
+	public static <T> T bind(CharSequence json, Type type) throws JSONException {
+		return bind(json, null, type);
+	}
+
+	/**
+	 * 将JSON字符串直接绑定为指定类型的对象
+	 *
+	 * @param <T>    目标类型
+	 * @param json   JSON字符串
+	 * @param config JSON配置，{@code null}使用默认配置
+	 * @param type   目标类型，可以为{@link TypeReference}
+	 * @return 目标对象
+	 * @throws JSONException 语法错误或绑定失败
+	 */
+	public static <T> T bind(CharSequence json, JSONConfig config, Type type) throws JSONException {
+		return bind(new JSONReader(json, config), type);
+	}
+
+	/**
+	 * 从Reader中读取JSON并直接绑定为指定类型的对象，不关闭Reader
+	 *
+	 * @param <T>    目标类型
+	 * @param reader Reader
+	 * @param config JSON配置，{@code null}使用默认配置
+	 * @param type   目标类型，可以为{@link TypeReference}
+	 * @return 目标对象
+	 * @throws JSONException 语法错误或绑定失败
+	 */
+	public static <T> T bind(Reader reader, JSONConfig config, Type type) throws JSONException {
+		return bind(new JSONReader(reader, config), type);
+	}
+
+	/**
+	 * 读取{@link JSONReader}中的下一个值并直接绑定为指定类型的对象
+	 *
+	 * @param <T>    目标类型
+	 * @param reader {@link JSONReader}
+	 * @param type   目标类型，可以为{@link TypeReference}
+	 * @return 目标对象，值为null时返回{@code null}
+	 * @throws JSONException 语法错误或绑定失败
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T bind(JSONReader reader, Type type) throws JSONException {
+		if (type instanceof TypeReference) {
+			type = ((TypeReference<?>) type).getType();
+		}
+		return (T) getBinder(type).bind(reader, reader.getConfig());
+	}
+
+	/**
+	 * 清空绑定器缓存，一般在注册了新的{@link cn.hutool.json.serialize.JSONDeserializer}后调用
+	 */
+	public static void clearCache() {
+		BINDER_CACHE.clear();
+	}
+
+	/**
+	 * 获取类型对应的绑定器，不存在时创建
+	 *
+	 * @param type 类型
+	 * @return 绑定器
+	 */
+	private static ValueBinder getBinder(Type type) {
+		return BINDER_CACHE.computeIfAbsent(type, JSONBinder::createBinder);
+	}
+
+	/**
+	 * 创建类型对应的绑定器
+	 *
+	 * @param type 类型
+	 * @return 绑定器
+	 */
+	private static ValueBinder createBinder(Type type) {
+		final ValueBinder fallback = (reader, config) -> JSONConverter.jsonConvert(type, reader.nextValue(), config.isIgnoreError());
+		final Class<?> clazz = TypeUtil.getClass(type);
+		if (null != clazz && JSON.class.isAssignableFrom(clazz)) {
+			// 读取的JSONObject或JSONArray已按照当前配置构建，直接返回，避免转换时按照默认配置重建
+			return (reader, config) -> {
+				final Object value = reader.nextValue();
+				return clazz.isInstance(value) ? value : JSONConverter.jsonConvert(type, value, config.isIgnoreError());
+			};
+		}
+		if (null == clazz || Object.class == clazz
+				|| JSONBeanParser.class.isAssignableFrom(clazz) || null != GlobalSerializeMapping.getDeserializer(type)) {
+			return fallback;
+		}
+
+		if (String.class == clazz) {
+			return (reader, config) -> JSONReader.Token.STRING == reader.peek() ? reader.nextString() : fallback.bind(reader, config);
+		}
+		if (boolean.class == clazz || Boolean.class == clazz) {
+			return (reader, config) -> JSONReader.Token.BOOLEAN == reader.peek() ? reader.nextBoolean() : fallback.bind(reader, config);
+		}
+		if (int.class == clazz || Integer.class == clazz) {
+			return (reader, config) -> {
+				if (JSONReader.Token.NUMBER == reader.peek()) {
+					final String number = reader.nextString();
+					try {
+						return Integer.parseInt(number);
+					} catch (NumberFormatException e) {
+						return JSONConverter.jsonConvert(type, InternalJSONUtil.stringToValue(number), config.isIgnoreError());
+					}
+				}
+				return fallback.bind(reader, config);
+			};
+		}
+		if (long.class == clazz || Long.class == clazz) {
+			return (reader, config) -> {
+				if (JSONReader.Token.NUMBER == reader.peek()) {
+					final String number = reader.nextString();
+					try {
+						return Long.parseLong(number);
+					} catch (NumberFormatException e) {
+						return JSONConverter.jsonConvert(type, InternalJSONUtil.stringToValue(number), config.isIgnoreError());
+					}
+				}
+				return fallback.bind(reader, config);
+			};
+		}
+		if (double.class == clazz || Double.class == clazz) {
+			return (reader, config) -> JSONReader.Token.NUMBER == reader.peek() ? Double.parseDouble(reader.nextString()) : fallback.bind(reader, config);
+		}
+		if (float.class == clazz || Float.class == clazz) {
+			return (reader, config) -> JSONReader.Token.NUMBER == reader.peek() ? Float.parseFloat(reader.nextString()) : fallback.bind(reader, config);
+		}
+		if (BigDecimal.class == clazz) {
+			return (reader, config) -> JSONReader.Token.NUMBER == reader.peek() ? new BigDecimal(reader.nextString()) : fallback.bind(reader, config);
+		}
+
+		if (clazz.isArray() && byte[].class != clazz) {
+			return new ArrayBinder(type, clazz, fallback);
+		}
+		if (Collection.class.isAssignableFrom(clazz)) {
+			return new CollectionBinder(type, clazz, fallback);
+		}
+		if (Map.class.isAssignableFrom(clazz)) {
+			return new MapBinder(type, clazz, fallback);
+		}
+		if (ClassUtil.isNormalClass(clazz) && BeanUtil.isBean(clazz)) {
+			return new BeanBinder(type, clazz, fallback);
+		}
+		return fallback;
+	}
+
+	/**
+	 * 将泛型参数等类型转换为可绑定的类型，无法确定的泛型变量视为Object
+	 *
+	 * @param type 类型
+	 * @return 类型
+	 */
+	private static Type normalize(Type type) {
+		if (type instanceof WildcardType) {
+			final Type[] upperBounds = ((WildcardType) type).getUpperBounds();
+			type = upperBounds.length > 0 ? upperBounds[0] : null;
+		}
+		if (null == type || type instanceof TypeVariable) {
+			return Object.class;
+		}
+		return type;
+	}
+
+	/**
+	 * 值绑定器，读取下一个值并转换为对应类型
+	 */
+	@FunctionalInterface
+	private interface ValueBinder {
+		/**
+		 * 读取下一个值并转换
+		 *
+		 * @param reader {@link JSONReader}
+		 * @param config JSON配置
+		 * @return 值
+		 */
+		Object bind(JSONReader reader, JSONConfig config);
+	}
+
+	/**
+	 * 延迟获取的绑定器，避免自引用类型（如树形结构）在创建绑定器时无限递归
+	 */
+	private static class LazyBinder {
+		private final Type type;
+		private ValueBinder binder;
+
+		LazyBinder(Type type) {
+			this.type = normalize(type);
+		}
+
+		ValueBinder get() {
+			// 并发时可能重复获取，获取的结果相同，无需同步
+			if (null == binder) {
+				binder = getBinder(type);
+			}
+			return binder;
+		}
+	}
+
+	/**
+	 * 数组绑定器
+	 */
+	private static class ArrayBinder implements ValueBinder {
+		private final Class<?> componentClass;
+		private final LazyBinder componentBinder;
+		private final ValueBinder fallback;
+
+		ArrayBinder(Type type, Class<?> clazz, ValueBinder fallback) {
+			this.componentClass = clazz.getComponentType();
+			this.componentBinder = new LazyBinder(type instanceof GenericArrayType ?
+					((GenericArrayType) type).getGenericComponentType() : componentClass);
+			this.fallback = fallback;
+		}
+
+		@Override
+		public Object bind(JSONReader reader, JSONConfig config) {
+			if (JSONReader.Token.BEGIN_ARRAY != reader.peek()) {
+				return fallback.bind(reader, config);
+			}
+			final List<Object> list = new ArrayList<>();
+			reader.beginArray();
+			while (reader.hasNext()) {
+				list.add(componentBinder.get().bind(reader, config));
+			}
+			reader.endArray();
+
+			final Object array = Array.newInstance(componentClass, list.size());
+			for (int i = 0; i < list.size(); i++) {
+				final Object value = list.get(i);
+				// 原始类型数组中的null保留默认值
+				if (null != value || false == componentClass.isPrimitive()) {
+					Array.set(array, i, value);
+				}
+			}
+			return array;
+		}
+	}
+
+	/**
+	 * 集合绑定器
+	 */
+	private static class CollectionBinder implements ValueBinder {
+		private final Class<?> collectionClass;
+		private final Class<?> elementClass;
+		private final LazyBinder elementBinder;
+		private final ValueBinder fallback;
+
+		CollectionBinder(Type type, Class<?> clazz, ValueBinder fallback) {
+			this.collectionClass = clazz;
+			final Type elementType = normalize(TypeUtil.getTypeArgument(type));
+			this.elementClass = TypeUtil.getClass(elementType);
+			this.elementBinder = new LazyBinder(elementType);
+			this.fallback = fallback;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public Object bind(JSONReader reader, JSONConfig config) {
+			if (JSONReader.Token.BEGIN_ARRAY != reader.peek()) {
+				return fallback.bind(reader, config);
+			}
+			final Collection<Object> collection = CollUtil.create(collectionClass, (Class<Object>) elementClass);
+			reader.beginArray();
+			while (reader.hasNext()) {
+				collection.add(elementBinder.get().bind(reader, config));
+			}
+			reader.endArray();
+			return collection;
+		}
+	}
+
+	/**
+	 * Map绑定器
+	 */
+	private static class MapBinder implements ValueBinder {
+		private final Class<?> mapClass;
+		private final Type keyType;
+		private final LazyBinder valueBinder;
+		private final ValueBinder fallback;
+
+		MapBinder(Type type, Class<?> clazz, ValueBinder fallback) {
+			this.mapClass = clazz;
+			this.keyType = normalize(TypeUtil.getTypeArgument(type, 0));
+			this.valueBinder = new LazyBinder(TypeUtil.getTypeArgument(type, 1));
+			this.fallback = fallback;
+		}
+
+		@Override
+		public Object bind(JSONReader reader, JSONConfig config) {
+			if (JSONReader.Token.BEGIN_OBJECT != reader.peek()) {
+				return fallback.bind(reader, config);
+			}
+			final Map<Object, Object> map = MapUtil.createMap(mapClass);
+			final boolean convertKey = Object.class != keyType && String.class != keyType;
+			reader.beginObject();
+			while (reader.hasNext()) {
+				final String name = reader.nextName();
+				final Object key = convertKey ? Convert.convertWithCheck(keyType, name, null, config.isIgnoreError()) : name;
+				map.put(key, valueBinder.get().bind(reader, config));
+			}
+			reader.endObject();
+			return map;
+		}
+	}
+
+	/**
+	 * Bean绑定器，属性名映射、属性类型和Setter在创建时解析
+	 */
+	private static class BeanBinder implements ValueBinder {
+		private final Class<?> beanClass;
+		private final Constructor<?> constructor;
+		private final Map<String, PropBinder> props;
+		private final Map<String, PropBinder> propsIgnoreCase;
+		private final ValueBinder fallback;
+
+		BeanBinder(Type type, Class<?> clazz, ValueBinder fallback) {
+			this.beanClass = clazz;
+			// 无参构造，获取时已设置为可访问
+			this.constructor = ReflectUtil.getConstructor(clazz);
+			final Map<String, PropBinder> props = new HashMap<>();
+			for (PropDesc prop : BeanUtil.getBeanDesc(clazz).getProps()) {
+				if (prop.isWritable(false)) {
+					props.put(prop.getFieldName(), new PropBinder(type, prop));
+				}
+			}
+			this.props = props;
+			this.propsIgnoreCase = new CaseInsensitiveMap<>(props);
+			this.fallback = fallback;
+		}
+
+		@Override
+		public Object bind(JSONReader reader, JSONConfig config) {
+			if (JSONReader.Token.BEGIN_OBJECT != reader.peek()) {
+				return fallback.bind(reader, config);
+			}
+			final Object bean = newInstance();
+			final Map<String, PropBinder> props = config.isIgnoreCase() ? this.propsIgnoreCase : this.props;
+			reader.beginObject();
+			while (reader.hasNext()) {
+				final PropBinder prop = findProp(props, reader.nextName());
+				if (null == prop || (prop.isTransient && config.isTransientSupport())) {
+					reader.skipValue();
+					continue;
+				}
+				prop.bind(reader, config, bean);
+			}
+			reader.endObject();
+			return bean;
+		}
+
+		/**
+		 * 创建Bean对象，优先使用无参构造
+		 *
+		 * @return Bean对象
+		 */
+		private Object newInstance() {
+			if (null != constructor) {
+				try {
+					return constructor.newInstance();
+				} catch (Exception e) {
+					throw new JSONException(e, "Instance [{}] error!", beanClass.getName());
+				}
+			}
+			final Object bean = ReflectUtil.newInstanceIfPossible(beanClass);
+			if (null == bean) {
+				throw new JSONException("Can not instance [{}]", beanClass.getName());
+			}
+			return bean;
+		}
+
+		/**
+		 * 查找键对应的属性，与转Bean时相同，依次尝试原名称、驼峰名称、去掉is前缀的名称
+		 *
+		 * @param props 属性映射
+		 * @param name  键
+		 * @return 属性绑定器，未找到返回{@code null}
+		 */
+		private static PropBinder findProp(Map<String, PropBinder> props, String name) {
+			PropBinder prop = props.get(name);
+			if (null != prop) {
+				return prop;
+			}
+			name = StrUtil.toCamelCase(name);
+			prop = props.get(name);
+			if (null == prop && name.startsWith("is")) {
+				prop = props.get(StrUtil.removePreAndLowerFirst(name, 2));
+			}
+			return prop;
+		}
+	}
+
+	/**
+	 * 属性绑定器
+	 */
+	private static class PropBinder {
+		private final String name;
+		private final Method setter;
+		private final Field field;
+		private final boolean isTransient;
+		private final boolean isPrimitive;
+		private final LazyBinder valueBinder;
+
+		PropBinder(Type beanType, PropDesc prop) {
+			this.name = prop.getFieldName();
+			this.setter = prop.getSetter();
+			this.field = null == setter ? prop.getField() : null;
+			this.isTransient = false == prop.isWritable(true);
+			this.isPrimitive = prop.getFieldClass().isPrimitive();
+			this.valueBinder = new LazyBinder(TypeUtil.getActualType(beanType, prop.getFieldType()));
+		}
+
+		/**
+		 * 读取值并赋值给Bean的属性
+		 *
+		 * @param reader {@link JSONReader}
+		 * @param config JSON配置
+		 * @param bean   Bean对象
+		 */
+		void bind(JSONReader reader, JSONConfig config, Object bean) {
+			final Object value = valueBinder.get().bind(reader, config);
+			if (null == value && (isPrimitive || config.isIgnoreNullValue())) {
+				return;
+			}
+			try {
+				if (null != setter) {
+					setter.invoke(bean, value);
+				} else if (ModifierUtil.isPublic(field)) {
+					field.set(bean, value);
+				}
+			} catch (Exception e) {
+				if (false == config.isIgnoreError()) {
+					throw new JSONException(e, "Set value of [{}] error!", name);
+				}
+			}
+		}
+	}
+}
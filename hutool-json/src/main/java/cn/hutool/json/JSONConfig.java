@@ -49,6 +49,16 @@ public class JSONConfig implements Serializable {
 	 */
 	private boolean checkDuplicate;
 
+	/**
+	 * 解析时是否规范化键，相同的键复用同一个String对象
+	 */
+	private boolean internKey;
+
+	/**
+	 * 是否使用紧凑的记录形式存储JSONObject，相同键顺序的对象共享键表，值存储在数组中
+	 */
+	private boolean recordMode;
+
 	/**
 	 * 创建默认的配置项
 	 *
@@ -262,4 +272,51 @@ public class JSONConfig implements Serializable {
 		this.checkDuplicate = checkDuplicate;
 		return this;
 	}
+
+	/**
+	 * 解析时是否规范化键，相同的键复用同一个String对象
+	 *
+	 * @return 是否规范化键
+	 * @since 5.8.10
+	 */
+	public boolean isInternKey() {
+		return internKey;
+	}
+
+	/**
+	 * 设置解析时是否规范化键<br>
+	 * 规范化后，解析得到的相同键复用同一个String对象，适用于大量相同结构对象的JSON，规范化使用固定大小的符号表，占用内存有上限
+	 *
+	 * @param internKey 是否规范化键
+	 * @return this
+	 * @since 5.8.10
+	 */
+	public JSONConfig setInternKey(boolean internKey) {
+		this.internKey = internKey;
+		return this;
+	}
+
+	/**
+	 * 是否使用紧凑的记录形式存储JSONObject
+	 *
+	 * @return 是否使用紧凑的记录形式
+	 * @since 5.8.10
+	 */
+	public boolean isRecordMode() {
+		return recordMode;
+	}
+
+	/**
+	 * 设置是否使用紧凑的记录形式存储JSONObject<br>
+	 * 记录形式中，同一次解析中键及其顺序相同的对象共享同一个键表，每个对象只保存值数组，可大幅减少大量相同结构对象的内存占用。<br>
+	 * 此选项对忽略大小写（{@link #isIgnoreCase()}）和自定义键排序（{@link #getKeyComparator()}）无效。
+	 *
+	 * @param recordMode 是否使用紧凑的记录形式
+	 * @return this
+	 * @since 5.8.10
+	 */
+	public JSONConfig setRecordMode(boolean recordMode) {
+		this.recordMode = recordMode;
+		return this;
+	}
 }
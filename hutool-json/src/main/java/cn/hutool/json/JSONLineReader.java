@@ -0,0 +1,414 @@
+package cn.hutool.json;
+
+import cn.hutool.core.collection.ComputeIter;
+import cn.hutool.core.collection.IterableIter;
+import cn.hutool.core.io.BufferUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.file.PathUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * JSON Lines（NDJSON）读取器，每行一个JSON值，逐行读取并解析为{@link JSONObject}或Bean<br>
+ * 读取为懒加载方式，只在遍历时读取下一行，空白行被跳过。此对象遍历结束后应关闭，推荐使用方式：
+ *
+ * <pre>
+ * try (JSONLineReader&lt;User&gt; reader = JSONLineReader.of(path, null, User.class)) {
+ * 	for (User user : reader) {
+ * 		// do something with user
+ * 	}
+ * }
+ * </pre>
+ * <p>
+ * 对于较大的文件，可使用{@link #parallelStream(Path, JSONConfig, Type)}，将文件映射到内存后按照换行符拆分，
+ * 在{@link java.util.concurrent.ForkJoinPool}中并行解析。
+ *
+ * @param <T> 每行解析后的类型
+ * @author looly
+ * @since 5.8.10
+ */
+public class JSONLineReader<T> extends ComputeIter<T> implements IterableIter<T>, Closeable {
+
+	/**
+	 * 并行解析时每个任务映射的最大字节数
+	 */
+	private static final int MAP_WINDOW = 16 * 1024 * 1024;
+	/**
+	 * 并行解析时拆分的最小字节数，小于此大小的部分不再拆分
+	 */
+	private static final long MIN_SPLIT_SIZE = 1024 * 1024;
+
+	private final BufferedReader reader;
+	private final JSONConfig config;
+	private final Type type;
+	private long lineNumber;
+
+	/**
+	 * 创建读取器，每行解析为{@link JSONObject}
+	 *
+	 * @param reader {@link Reader}
+	 * @return JSONLineReader
+	 */
+	public static JSONLineReader<JSONObject> of(Reader reader) {
+		return new JSONLineReader<>(reader, null, JSONObject.class);
+	}
+
+	/**
+	 * 创建读取器
+	 *
+	 * @param <T>    每行解析后的类型
+	 * @param reader {@link Reader}
+	 * @param config JSON配置，{@code null}表示使用默认配置
+	 * @param type   每行解析后的类型，可以为Bean、{@link JSONObject}、{@link cn.hutool.core.lang.TypeReference}等
+	 * @return JSONLineReader
+	 */
+	public static <T> JSONLineReader<T> of(Reader reader, JSONConfig config, Type type) {
+		return new JSONLineReader<>(reader, config, type);
+	}
+
+	/**
+	 * 创建读取UTF-8编码文件的读取器
+	 *
+	 * @param <T>    每行解析后的类型
+	 * @param path   文件路径
+	 * @param config JSON配置，{@code null}表示使用默认配置
+	 * @param type   每行解析后的类型，可以为Bean、{@link JSONObject}、{@link cn.hutool.core.lang.TypeReference}等
+	 * @return JSONLineReader
+	 * @throws IORuntimeException IO异常
+	 */
+	public static <T> JSONLineReader<T> of(Path path, JSONConfig config, Type type) throws IORuntimeException {
+		return new JSONLineReader<>(PathUtil.getUtf8Reader(path), config, type);
+	}
+
+	/**
+	 * 并行读取UTF-8编码的文件<br>
+	 * 文件被映射到内存，按照换行符拆分为多个部分，在并行流（{@link java.util.concurrent.ForkJoinPool#commonPool()}）中解析，
+	 * 流是有序的，使用{@link Stream#forEachOrdered(Consumer)}或收集结果时保持行的顺序。<br>
+	 * 每个部分遍历结束后释放其映射的内存，使用结束后应关闭流以释放剩余的映射和文件。
+	 *
+	 * @param <T>    每行解析后的类型
+	 * @param path   文件路径
+	 * @param config JSON配置，{@code null}表示使用默认配置
+	 * @param type   每行解析后的类型，可以为Bean、{@link JSONObject}、{@link cn.hutool.core.lang.TypeReference}等
+	 * @return 并行流
+	 * @throws IORuntimeException IO异常
+	 */
+	public static <T> Stream<T> parallelStream(Path path, JSONConfig config, Type type) throws IORuntimeException {
+		final FileChannel channel;
+		final long size;
+		try {
+			channel = FileChannel.open(path, StandardOpenOption.READ);
+			size = channel.size();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		final Set<MappedLineSpliterator<?>> mapped = ConcurrentHashMap.newKeySet();
+		final MappedLineSpliterator<T> spliterator = new MappedLineSpliterator<>(
+				channel, mapped, defaultConfig(config), type, skipBom(channel, size), size);
+		return StreamSupport.stream(spliterator, true).onClose(() -> {
+			// 映射的内存在回收前会一直占用文件，Windows下导致文件无法删除
+			mapped.forEach(MappedLineSpliterator::unmap);
+			IoUtil.close(channel);
+		});
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param reader {@link Reader}
+	 * @param config JSON配置，{@code null}表示使用默认配置
+	 * @param type   每行解析后的类型
+	 */
+	public JSONLineReader(Reader reader, JSONConfig config, Type type) {
+		Assert.notNull(reader, "Reader must not be null");
+		this.reader = IoUtil.getReader(reader);
+		this.config = defaultConfig(config);
+		this.type = type;
+	}
+
+	/**
+	 * 转换为顺序流，关闭流时关闭此读取器
+	 *
+	 * @return 流
+	 */
+	public Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+				Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+	}
+
+	/**
+	 * 关闭读取器
+	 */
+	@Override
+	public void close() {
+		super.finish();
+		IoUtil.close(reader);
+	}
+
+	@Override
+	protected T computeNext() {
+		String line;
+		try {
+			while (null != (line = reader.readLine())) {
+				lineNumber++;
+				if (StrUtil.isNotBlank(line)) {
+					return parseLine(line, config, type, lineNumber);
+				}
+			}
+		} catch (IOException e) {
+			close();
+			throw new IORuntimeException(e);
+		}
+		return null;
+	}
+
+	// ------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 解析一行
+	 *
+	 * @param line     行
+	 * @param config   JSON配置
+	 * @param type     目标类型
+	 * @param position 行号或并行读取时行在文件中的字节偏移，用于异常信息
+	 * @return 解析后的对象
+	 */
+	private static <T> T parseLine(String line, JSONConfig config, Type type, long position) {
+		final T value;
+		try (JSONReader reader = new JSONReader(line, config)) {
+			value = JSONBinder.bind(reader, type);
+			if (JSONReader.Token.END_DOCUMENT != reader.peek()) {
+				// 每行只能包含一个值
+				throw new JSONException("Unexpected content after value");
+			}
+		} catch (JSONException e) {
+			throw new JSONException(e, "Parse JSON line at {} error!", position);
+		}
+		if (null == value) {
+			// 迭代器和流中不能包含null
+			throw new JSONException("JSON line at {} is null!", position);
+		}
+		return value;
+	}
+
+	/**
+	 * 默认配置，与{@link JSONUtil#parseObj(String)}相同，解析文本时保留null值
+	 *
+	 * @param config 配置
+	 * @return 配置
+	 */
+	static JSONConfig defaultConfig(JSONConfig config) {
+		return null != config ? config : JSONConfig.create().setIgnoreNullValue(false);
+	}
+
+	/**
+	 * 跳过UTF-8的BOM
+	 *
+	 * @param channel 文件
+	 * @param size    文件大小
+	 * @return 内容开始的位置
+	 */
+	private static long skipBom(FileChannel channel, long size) {
+		if (size < 3) {
+			return 0;
+		}
+		final ByteBuffer head = ByteBuffer.allocate(3);
+		try {
+			channel.read(head, 0);
+		} catch (IOException e) {
+			IoUtil.close(channel);
+			throw new IORuntimeException(e);
+		}
+		return (head.get(0) == (byte) 0xEF && head.get(1) == (byte) 0xBB && head.get(2) == (byte) 0xBF) ? 3 : 0;
+	}
+	// ------------------------------------------------------------------------------------ Private method end
+
+	/**
+	 * 内存映射文件的按行拆分器，拆分时从中点向后查找换行符，遍历时按窗口映射文件并逐行解析
+	 *
+	 * @param <T> 每行解析后的类型
+	 */
+	private static class MappedLineSpliterator<T> implements Spliterator<T> {
+		private final FileChannel channel;
+		/**
+		 * 所有持有映射窗口的拆分器，关闭流时释放
+		 */
+		private final Set<MappedLineSpliterator<?>> mapped;
+		private final JSONConfig config;
+		private final Type type;
+		/**
+		 * 下一行的开始位置
+		 */
+		private long position;
+		/**
+		 * 结束位置（不包括）
+		 */
+		private final long end;
+		private MappedByteBuffer window;
+		private long windowStart;
+
+		MappedLineSpliterator(FileChannel channel, Set<MappedLineSpliterator<?>> mapped, JSONConfig config, Type type, long start, long end) {
+			this.channel = channel;
+			this.mapped = mapped;
+			this.config = config;
+			this.type = type;
+			this.position = start;
+			this.end = end;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			long lineEnd;
+			while (position < end) {
+				lineEnd = findLineEnd();
+				final long lineStart = position;
+				final byte[] bytes = new byte[(int) (lineEnd - lineStart)];
+				window.position((int) (lineStart - windowStart));
+				window.get(bytes);
+				// 跳过换行符
+				position = Math.min(lineEnd + 1, end);
+
+				final String line = StrUtil.str(bytes, CharsetUtil.CHARSET_UTF_8);
+				if (StrUtil.isNotBlank(line)) {
+					action.accept(parseLine(line, config, type, lineStart));
+					return true;
+				}
+			}
+			unmap();
+			return false;
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			if (end - position < MIN_SPLIT_SIZE) {
+				return null;
+			}
+			final long mid = nextLineStart(position + (end - position) / 2);
+			if (mid >= end) {
+				return null;
+			}
+			final MappedLineSpliterator<T> prefix = new MappedLineSpliterator<>(channel, mapped, config, type, position, mid);
+			this.position = mid;
+			unmap();
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			// 未知行数，使用剩余字节数估算
+			return end - position;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | NONNULL | IMMUTABLE;
+		}
+
+		/**
+		 * 查找当前行的结束位置（换行符所在位置或结束位置），必要时重新映射窗口以包含整行
+		 *
+		 * @return 行结束位置
+		 */
+		private long findLineEnd() {
+			long size = MAP_WINDOW;
+			while (true) {
+				if (null == window || position < windowStart || position >= windowStart + window.capacity()) {
+					map(position, size);
+				}
+				final long windowEnd = windowStart + window.capacity();
+				for (long i = position; i < windowEnd; i++) {
+					if ('\n' == window.get((int) (i - windowStart))) {
+						return i;
+					}
+				}
+				if (windowEnd >= end) {
+					return end;
+				}
+				if (windowEnd - position >= Integer.MAX_VALUE) {
+					throw new JSONException("JSON line at {} is too long!", position);
+				}
+				// 行超出窗口，从行首重新映射更大的窗口
+				size = Math.min(Integer.MAX_VALUE, (windowEnd - position) * 2);
+				unmap();
+			}
+		}
+
+		/**
+		 * 映射文件的指定部分
+		 *
+		 * @param start 开始位置
+		 * @param size  最大大小
+		 */
+		private void map(long start, long size) {
+			unmap();
+			try {
+				this.window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(size, end - start));
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+			this.windowStart = start;
+			mapped.add(this);
+		}
+
+		/**
+		 * 释放当前映射的窗口，不等待GC回收
+		 */
+		private void unmap() {
+			final MappedByteBuffer window = this.window;
+			if (null != window) {
+				this.window = null;
+				mapped.remove(this);
+				BufferUtil.free(window);
+			}
+		}
+
+		/**
+		 * 查找指定位置之后的下一行开始位置
+		 *
+		 * @param from 开始查找的位置
+		 * @return 下一行开始位置，无换行符时返回结束位置
+		 */
+		private long nextLineStart(long from) {
+			final ByteBuffer buffer = ByteBuffer.allocate(8192);
+			long pos = from;
+			try {
+				while (pos < end) {
+					buffer.clear();
+					final int read = channel.read(buffer, pos);
+					if (read <= 0) {
+						break;
+					}
+					for (int i = 0; i < read && pos + i < end; i++) {
+						if ('\n' == buffer.get(i)) {
+							return pos + i + 1;
+						}
+					}
+					pos += read;
+				}
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+			return end;
+		}
+	}
+}
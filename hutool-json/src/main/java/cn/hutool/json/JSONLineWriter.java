@@ -0,0 +1,150 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.json.serialize.JSONByteWriter;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * JSON Lines（NDJSON）写出器，每个对象序列化为一行紧凑格式的JSON，使用UTF-8编码，以'\n'结尾<br>
+ * 写出内容先进入缓冲区，缓冲区满、调用{@link #flush()}或{@link #close()}时写出到流中。
+ *
+ * <pre>
+ * try (JSONLineWriter writer = new JSONLineWriter(path, true, null)) {
+ * 	writer.write(user1).write(user2);
+ * }
+ * </pre>
+ *
+ * @author looly
+ * @see JSONLineReader
+ * @since 5.8.10
+ */
+public class JSONLineWriter implements Closeable, Flushable {
+
+	private final JSONByteWriter writer;
+
+	/**
+	 * 构造
+	 *
+	 * @param out    输出流，关闭时一并关闭
+	 * @param config JSON配置，{@code null}表示使用默认配置，与{@link JSONLineReader}相同保留null值
+	 */
+	public JSONLineWriter(OutputStream out, JSONConfig config) {
+		Assert.notNull(out, "OutputStream must not be null");
+		this.writer = new JSONByteWriter(out, JSONLineReader.defaultConfig(config));
+	}
+
+	/**
+	 * 构造，文件不存在时创建
+	 *
+	 * @param path     文件路径
+	 * @param isAppend 是否追加到已有内容之后，{@code false}表示覆盖已有内容
+	 * @param config   JSON配置，{@code null}表示使用默认配置，与{@link JSONLineReader}相同保留null值
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONLineWriter(Path path, boolean isAppend, JSONConfig config) throws IORuntimeException {
+		this(newOutputStream(path, isAppend), config);
+	}
+
+	/**
+	 * 写出一个对象为一行，写出失败时丢弃已写出的部分内容，不影响之后的写出
+	 *
+	 * @param obj 对象，可以为Bean、Map、{@link JSONObject}等
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONLineWriter write(Object obj) throws IORuntimeException {
+		writer.mark();
+		try {
+			writer.writeValue(obj).newLine();
+		} catch (RuntimeException e) {
+			writer.reset();
+			throw e;
+		}
+		return this;
+	}
+
+	/**
+	 * 写出多个对象，每个对象一行
+	 *
+	 * @param iter 对象迭代器
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONLineWriter writeAll(Iterator<?> iter) throws IORuntimeException {
+		while (iter.hasNext()) {
+			write(iter.next());
+		}
+		return this;
+	}
+
+	/**
+	 * 写出多个对象，每个对象一行
+	 *
+	 * @param iterable 对象列表
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONLineWriter writeAll(Iterable<?> iterable) throws IORuntimeException {
+		return writeAll(iterable.iterator());
+	}
+
+	/**
+	 * 按照流的顺序写出多个对象，每个对象一行
+	 *
+	 * @param stream 对象流
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONLineWriter writeAll(Stream<?> stream) throws IORuntimeException {
+		return writeAll(stream.iterator());
+	}
+
+	/**
+	 * 将缓冲区中的内容写出到流中并刷新流
+	 *
+	 * @throws IORuntimeException IO异常
+	 */
+	@Override
+	public void flush() throws IORuntimeException {
+		writer.flush();
+	}
+
+	/**
+	 * 写出缓冲区中的内容并关闭流
+	 *
+	 * @throws IORuntimeException IO异常
+	 */
+	@Override
+	public void close() throws IORuntimeException {
+		writer.close();
+	}
+
+	/**
+	 * 打开文件输出流
+	 *
+	 * @param path     文件路径
+	 * @param isAppend 是否追加
+	 * @return 输出流
+	 */
+	private static OutputStream newOutputStream(Path path, boolean isAppend) {
+		final OpenOption[] options = isAppend
+				? new OpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.APPEND}
+				: new OpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE};
+		try {
+			return Files.newOutputStream(path, options);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+}
@@ -4,6 +4,8 @@ import cn.hutool.core.lang.Filter;
 import cn.hutool.core.lang.mutable.Mutable;
 import cn.hutool.core.lang.mutable.MutablePair;
 
+import java.util.Map;
+
 /**
  * JSON字符串解析器
  *
@@ -42,7 +44,27 @@ public class JSONParser {
 	 * @param filter     键值对过滤编辑器，可以通过实现此接口，完成解析前对键值对的过滤和修改操作，{@code null}表示不过滤
 	 */
 	public void parseTo(JSONObject jsonObject, Filter<MutablePair<String, Object>> filter) {
+		final Map<String, Object> raw = jsonObject.getRaw();
+		if (raw instanceof JSONRecordMap) {
+			// 同一文本中的对象共享键表
+			final JSONRecordMap recordMap = (JSONRecordMap) raw;
+			recordMap.setRoot(tokener.getRecordSchema());
+			parseEntries(jsonObject, filter);
+			recordMap.trimToSize();
+		} else {
+			parseEntries(jsonObject, filter);
+		}
+	}
+
+	/**
+	 * 解析{@link JSONTokener}中的键值对到目标的{@link JSONObject}中
+	 *
+	 * @param jsonObject {@link JSONObject}
+	 * @param filter     键值对过滤编辑器，{@code null}表示不过滤
+	 */
+	private void parseEntries(JSONObject jsonObject, Filter<MutablePair<String, Object>> filter) {
 		final JSONTokener tokener = this.tokener;
+		final boolean internKey = jsonObject.getConfig().isInternKey();
 
 		char c;
 		String key;
@@ -60,6 +82,9 @@ public class JSONParser {
 				default:
 					tokener.back();
 					key = tokener.nextValue().toString();
+					if (internKey) {
+						key = InternalJSONUtil.internKey(key);
+					}
 			}
 
 			// The key is followed by ':'.
@@ -0,0 +1,455 @@
+package cn.hutool.json;
+
+import cn.hutool.core.bean.BeanPath;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Reader;
+import java.io.Serializable;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON路径查询，直接扫描JSON文本，只构建匹配路径的值，不匹配的对象和数组整体跳过<br>
+ * 适用于只需要从较大的JSON文本中读取少量字段的场景，与{@link JSON#getByPath(String)}相比无需先将整个文本解析为{@link JSONObject}。<br>
+ * 表达式写法与{@link BeanPath}相同，并支持通配符：
+ * <pre>
+ * $.person.name
+ * persons[3]
+ * person.friends[5].name
+ * ['person']['friends'][5]['name']
+ * items[0:10:2].id          切片，不支持负数下标
+ * items[0,2].id             多个下标
+ * ['name','age']            多个键
+ * items[*].id               任意下标或键
+ * </pre>
+ * 与{@link BeanPath}的语义区别：键只匹配对象中的键，不会投影到数组的每个元素上，切片和多个下标的结果也不会合并为一个数组。
+ * 如对于{@code {"a":{"b":[{"c":1},{"c":2}]}}}，{@link JSON#getByPath(String)}使用{@code a.b.c}返回{@code [1,2]}，
+ * 而此类使用{@code a.b.c}不匹配任何值，应使用{@code a.b[*].c}并通过{@link #readAll(CharSequence)}读取所有匹配的值。<br>
+ * 编译后的JSONPath对象不可变，可在多个线程、多个文本间复用。
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class JSONPath implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 通配符，匹配任意键或下标
+	 */
+	private static final String WILDCARD = "*";
+
+	private final String expression;
+	private final Segment[] segments;
+	/**
+	 * 是否为确定路径，确定路径最多只匹配一个值，匹配后即停止扫描
+	 */
+	private final boolean definite;
+
+	/**
+	 * 编译路径表达式
+	 *
+	 * @param expression 表达式
+	 * @return JSONPath
+	 */
+	public static JSONPath create(String expression) {
+		return new JSONPath(expression);
+	}
+
+	/**
+	 * 扫描一次JSON文本，读取多个路径的首个匹配值，所有路径匹配后即停止扫描
+	 *
+	 * @param json  JSON文本
+	 * @param paths 路径列表
+	 * @return 与路径列表一一对应的值，路径不存在时对应值为{@code null}，值为null时为{@link JSONNull#NULL}
+	 * @throws JSONException 语法错误
+	 */
+	public static Object[] read(CharSequence json, JSONPath... paths) throws JSONException {
+		return read(newReader(json), paths);
+	}
+
+	/**
+	 * 扫描一次JSON，读取多个路径的首个匹配值，所有路径匹配后即停止扫描
+	 *
+	 * @param reader {@link JSONReader}，读取其下一个值
+	 * @param paths  路径列表
+	 * @return 与路径列表一一对应的值，路径不存在时对应值为{@code null}，值为null时为{@link JSONNull#NULL}
+	 * @throws JSONException 语法错误
+	 */
+	public static Object[] read(JSONReader reader, JSONPath... paths) throws JSONException {
+		final List<Object>[] matches = new Scanner(paths, true).scan(reader);
+		final Object[] result = new Object[paths.length];
+		for (int i = 0; i < paths.length; i++) {
+			result[i] = matches[i].isEmpty() ? null : matches[i].get(0);
+		}
+		return result;
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param expression 表达式
+	 */
+	public JSONPath(String expression) {
+		this.expression = expression;
+		final List<String> parts = BeanPath.create(expression).getPatternParts();
+		this.segments = new Segment[parts.size()];
+		boolean definite = true;
+		for (int i = 0; i < segments.length; i++) {
+			segments[i] = new Segment(parts.get(i));
+			definite &= segments[i].isDefinite();
+		}
+		this.definite = definite;
+	}
+
+	/**
+	 * 获取表达式
+	 *
+	 * @return 表达式
+	 */
+	public String getExpression() {
+		return this.expression;
+	}
+
+	/**
+	 * 是否为确定路径，即不包含通配符、切片和多个键或下标，确定路径最多只匹配一个值
+	 *
+	 * @return 是否为确定路径
+	 */
+	public boolean isDefinite() {
+		return this.definite;
+	}
+
+	/**
+	 * 读取JSON文本中首个匹配的值，匹配后即停止扫描
+	 *
+	 * @param json JSON文本
+	 * @return 值，可能为Boolean, Integer, Long, BigDecimal, String, JSONObject, JSONArray或{@link JSONNull#NULL}，路径不存在时返回{@code null}
+	 * @throws JSONException 语法错误
+	 */
+	public Object read(CharSequence json) throws JSONException {
+		return read(newReader(json));
+	}
+
+	/**
+	 * 读取JSON中首个匹配的值，匹配后即停止读取
+	 *
+	 * @param reader JSON流
+	 * @return 值，可能为Boolean, Integer, Long, BigDecimal, String, JSONObject, JSONArray或{@link JSONNull#NULL}，路径不存在时返回{@code null}
+	 * @throws JSONException 语法错误
+	 */
+	public Object read(Reader reader) throws JSONException {
+		return read(new JSONReader(reader, newConfig()));
+	}
+
+	/**
+	 * 读取首个匹配的值，匹配后即停止读取
+	 *
+	 * @param reader {@link JSONReader}，读取其下一个值
+	 * @return 值，可能为Boolean, Integer, Long, BigDecimal, String, JSONObject, JSONArray或{@link JSONNull#NULL}，路径不存在时返回{@code null}
+	 * @throws JSONException 语法错误
+	 */
+	public Object read(JSONReader reader) throws JSONException {
+		return read(reader, this)[0];
+	}
+
+	/**
+	 * 读取JSON文本中首个匹配的值并转换为指定类型
+	 *
+	 * @param <T>  目标类型
+	 * @param json JSON文本
+	 * @param type 目标类型
+	 * @return 转换后的值，路径不存在或值为null时返回{@code null}
+	 * @throws JSONException 语法错误或转换失败
+	 */
+	public <T> T read(CharSequence json, Type type) throws JSONException {
+		final JSONReader reader = newReader(json);
+		return JSONConverter.jsonConvert(type, read(reader), reader.getConfig().isIgnoreError());
+	}
+
+	/**
+	 * 读取JSON文本中所有匹配的值，按照在文本中出现的顺序排列
+	 *
+	 * @param json JSON文本
+	 * @return 匹配的值列表
+	 * @throws JSONException 语法错误
+	 */
+	public List<Object> readAll(CharSequence json) throws JSONException {
+		return readAll(newReader(json));
+	}
+
+	/**
+	 * 读取所有匹配的值，按照出现的顺序排列
+	 *
+	 * @param reader {@link JSONReader}，读取其下一个值
+	 * @return 匹配的值列表
+	 * @throws JSONException 语法错误
+	 */
+	public List<Object> readAll(JSONReader reader) throws JSONException {
+		return new Scanner(new JSONPath[]{this}, false).scan(reader)[0];
+	}
+
+	@Override
+	public String toString() {
+		return this.expression;
+	}
+
+	/**
+	 * 创建读取JSON文本的{@link JSONReader}
+	 *
+	 * @param json JSON文本
+	 * @return {@link JSONReader}
+	 */
+	private static JSONReader newReader(CharSequence json) {
+		return new JSONReader(json, newConfig());
+	}
+
+	/**
+	 * 创建默认配置，与{@link JSONUtil#parse(Object)}相同，解析文本时保留null值
+	 *
+	 * @return JSONConfig
+	 */
+	private static JSONConfig newConfig() {
+		return JSONConfig.create().setIgnoreNullValue(false);
+	}
+
+	/**
+	 * 路径中的一段，匹配键或下标
+	 */
+	private static class Segment implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		private final boolean wildcard;
+		private final String[] names;
+		private final int[] indexes;
+		/**
+		 * 切片参数，step为0表示非切片
+		 */
+		private final int start, end, step;
+
+		Segment(String part) {
+			this.wildcard = WILDCARD.equals(part);
+			if (false == wildcard && StrUtil.contains(part, ':')) {
+				// [start:end:step] 模式
+				final List<String> parts = StrUtil.split(part, ':', true, false);
+				this.start = StrUtil.isEmpty(parts.get(0)) ? 0 : Integer.parseInt(parts.get(0));
+				this.end = parts.size() < 2 || StrUtil.isEmpty(parts.get(1)) ? Integer.MAX_VALUE : Integer.parseInt(parts.get(1));
+				this.step = parts.size() < 3 || StrUtil.isEmpty(parts.get(2)) ? 1 : Integer.parseInt(parts.get(2));
+				if (start < 0 || end < 0 || step <= 0) {
+					throw new IllegalArgumentException(StrUtil.format("Bad slice '[{}]', negative index or step is not supported!", part));
+				}
+				this.names = new String[0];
+				this.indexes = new int[0];
+				return;
+			}
+			this.start = 0;
+			this.end = 0;
+			this.step = 0;
+			// [num0,num1...]、['key0','key1'...]模式或单个键
+			this.names = wildcard ? new String[0] : StrUtil.splitTrim(part, ',').toArray(new String[0]);
+			final List<Integer> indexes = new ArrayList<>(names.length);
+			for (String name : names) {
+				if (NumberUtil.isInteger(name)) {
+					indexes.add(Integer.parseInt(name));
+				}
+			}
+			this.indexes = ArrayUtil.unWrap(indexes.toArray(new Integer[0]));
+		}
+
+		/**
+		 * 是否只匹配一个键或下标
+		 *
+		 * @return 是否只匹配一个键或下标
+		 */
+		boolean isDefinite() {
+			return false == wildcard && 0 == step && 1 == names.length;
+		}
+
+		/**
+		 * 是否匹配对象中的键
+		 *
+		 * @param key 键
+		 * @return 是否匹配
+		 */
+		boolean matchKey(String key) {
+			return wildcard || ArrayUtil.contains(names, key);
+		}
+
+		/**
+		 * 是否匹配数组中的下标
+		 *
+		 * @param index 下标
+		 * @return 是否匹配
+		 */
+		boolean matchIndex(int index) {
+			if (wildcard) {
+				return true;
+			}
+			if (step > 0) {
+				return index >= start && index < end && 0 == (index - start) % step;
+			}
+			return ArrayUtil.contains(indexes, index);
+		}
+	}
+
+	/**
+	 * 路径扫描器，一次扫描同时匹配多个路径
+	 */
+	private static class Scanner {
+		private final JSONPath[] paths;
+		private final List<Object>[] matches;
+		/**
+		 * 每个路径最多匹配的值个数
+		 */
+		private final int[] limits;
+		/**
+		 * 未达到匹配个数上限的路径数
+		 */
+		private int remaining;
+
+		@SuppressWarnings("unchecked")
+		Scanner(JSONPath[] paths, boolean firstOnly) {
+			this.paths = paths;
+			this.matches = new List[paths.length];
+			this.limits = new int[paths.length];
+			for (int i = 0; i < paths.length; i++) {
+				matches[i] = new ArrayList<>();
+				limits[i] = firstOnly || paths[i].definite ? 1 : Integer.MAX_VALUE;
+			}
+			this.remaining = paths.length;
+		}
+
+		/**
+		 * 扫描读取器中的下一个值
+		 *
+		 * @param reader {@link JSONReader}
+		 * @return 每个路径匹配的值列表
+		 */
+		List<Object>[] scan(JSONReader reader) {
+			if (remaining > 0 && JSONReader.Token.END_DOCUMENT != reader.peek()) {
+				final int[] active = new int[paths.length];
+				for (int i = 0; i < active.length; i++) {
+					active[i] = i;
+				}
+				scanValue(reader, active, active.length, 0);
+			}
+			return matches;
+		}
+
+		/**
+		 * 扫描一个值，depth之前的路径段已匹配
+		 *
+		 * @param reader {@link JSONReader}
+		 * @param active 当前匹配中的路径下标
+		 * @param count  当前匹配中的路径数
+		 * @param depth  深度，即已匹配的路径段数
+		 */
+		private void scanValue(JSONReader reader, int[] active, int count, int depth) {
+			for (int i = 0; i < count; i++) {
+				if (isActive(active[i]) && paths[active[i]].segments.length == depth) {
+					// 有路径在此处结束，构建值后在值上匹配所有路径
+					final Object value = reader.nextValue();
+					for (int j = 0; j < count; j++) {
+						collect(active[j], value, depth);
+					}
+					return;
+				}
+			}
+
+			final int[] next = new int[count];
+			int nextCount;
+			switch (reader.peek()) {
+				case BEGIN_OBJECT:
+					reader.beginObject();
+					while (remaining > 0 && reader.hasNext()) {
+						final String key = reader.nextName();
+						nextCount = 0;
+						for (int i = 0; i < count; i++) {
+							if (isActive(active[i]) && paths[active[i]].segments[depth].matchKey(key)) {
+								next[nextCount++] = active[i];
+							}
+						}
+						if (nextCount > 0) {
+							scanValue(reader, next, nextCount, depth + 1);
+						} else {
+							reader.skipValue();
+						}
+					}
+					if (remaining > 0) {
+						reader.endObject();
+					}
+					break;
+				case BEGIN_ARRAY:
+					reader.beginArray();
+					for (int index = 0; remaining > 0 && reader.hasNext(); index++) {
+						nextCount = 0;
+						for (int i = 0; i < count; i++) {
+							if (isActive(active[i]) && paths[active[i]].segments[depth].matchIndex(index)) {
+								next[nextCount++] = active[i];
+							}
+						}
+						if (nextCount > 0) {
+							scanValue(reader, next, nextCount, depth + 1);
+						} else {
+							reader.skipValue();
+						}
+					}
+					if (remaining > 0) {
+						reader.endArray();
+					}
+					break;
+				default:
+					// 简单值无法继续匹配
+					reader.skipValue();
+			}
+		}
+
+		/**
+		 * 在已构建的值上匹配路径剩余的段
+		 *
+		 * @param pathIndex 路径下标
+		 * @param value     值
+		 * @param depth     深度，即已匹配的路径段数
+		 */
+		private void collect(int pathIndex, Object value, int depth) {
+			if (false == isActive(pathIndex)) {
+				return;
+			}
+			final Segment[] segments = paths[pathIndex].segments;
+			if (segments.length == depth) {
+				matches[pathIndex].add(value);
+				if (matches[pathIndex].size() >= limits[pathIndex]) {
+					remaining--;
+				}
+				return;
+			}
+			if (value instanceof JSONObject) {
+				for (Map.Entry<String, Object> entry : ((JSONObject) value).entrySet()) {
+					if (segments[depth].matchKey(entry.getKey())) {
+						collect(pathIndex, entry.getValue(), depth + 1);
+					}
+				}
+			} else if (value instanceof JSONArray) {
+				final JSONArray array = (JSONArray) value;
+				for (int i = 0; i < array.size(); i++) {
+					if (segments[depth].matchIndex(i)) {
+						collect(pathIndex, array.get(i), depth + 1);
+					}
+				}
+			}
+		}
+
+		/**
+		 * 路径是否仍需匹配
+		 *
+		 * @param pathIndex 路径下标
+		 * @return 是否仍需匹配
+		 */
+		private boolean isActive(int pathIndex) {
+			return matches[pathIndex].size() < limits[pathIndex];
+		}
+	}
+}
@@ -0,0 +1,760 @@
+package cn.hutool.json;
+
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * 基于{@link JSONTokener}的流式JSON读取器（拉取式解析）<br>
+ * 与{@link JSONUtil#parse(Object)}一次性构建整个{@link JSONObject}或{@link JSONArray}不同，此类按需逐个读取JSON中的标记，
+ * 调用方通过{@link #peek()}查看下一个标记的类型，再调用对应的方法读取，例如：
+ * <pre>
+ * try (JSONReader reader = new JSONReader(FileUtil.getUtf8Reader(file), JSONConfig.create())) {
+ *     reader.beginArray();
+ *     while (reader.hasNext()) {
+ *         User user = reader.nextBean(User.class);
+ *         // 处理单个元素，处理完毕后即可回收
+ *     }
+ *     reader.endArray();
+ * }
+ * </pre>
+ * 内存中只保留当前正在读取的值，可用于读取超大的JSON文件。对于某一部分子树，可以调用{@link #nextValue()}构建为JSON，
+ * 或调用{@link #nextBean(Type)}通过{@link JSONConverter}转换为Bean，或调用{@link #skipValue()}跳过而不构建任何对象。<br>
+ * 解析规则与{@link JSONParser}相同，支持单引号字符串、无引号的键、尾后逗号等非标准写法，
+ * 同时支持连续的多个顶层值（如每行一个JSON的格式）。此类非线程安全。
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class JSONReader implements Closeable {
+
+	/**
+	 * JSON标记类型
+	 */
+	public enum Token {
+		/**
+		 * 对象开始，即'{'
+		 */
+		BEGIN_OBJECT,
+		/**
+		 * 对象结束，即'}'
+		 */
+		END_OBJECT,
+		/**
+		 * 数组开始，即'['
+		 */
+		BEGIN_ARRAY,
+		/**
+		 * 数组结束，即']'
+		 */
+		END_ARRAY,
+		/**
+		 * 对象中的键
+		 */
+		NAME,
+		/**
+		 * 字符串
+		 */
+		STRING,
+		/**
+		 * 数字
+		 */
+		NUMBER,
+		/**
+		 * true或false
+		 */
+		BOOLEAN,
+		/**
+		 * null
+		 */
+		NULL,
+		/**
+		 * 文档结束
+		 */
+		END_DOCUMENT
+	}
+
+	// ------------------------------------------------------------------------------------ 嵌套层级的状态
+	/**
+	 * 文档开始，未读取顶层值
+	 */
+	private static final int EMPTY_DOCUMENT = 0;
+	/**
+	 * 已读取顶层值
+	 */
+	private static final int NONEMPTY_DOCUMENT = 1;
+	/**
+	 * 数组开始，未读取元素
+	 */
+	private static final int EMPTY_ARRAY = 2;
+	/**
+	 * 数组中已读取元素
+	 */
+	private static final int NONEMPTY_ARRAY = 3;
+	/**
+	 * 对象开始，未读取键值对
+	 */
+	private static final int EMPTY_OBJECT = 4;
+	/**
+	 * 对象中已读取键，等待值
+	 */
+	private static final int DANGLING_NAME = 5;
+	/**
+	 * 对象中已读取键值对
+	 */
+	private static final int NONEMPTY_OBJECT = 6;
+
+	private final JSONTokener tokener;
+	private final JSONConfig config;
+	private final Reader reader;
+
+	/**
+	 * 嵌套层级状态栈
+	 */
+	private int[] stack = new int[32];
+	private int stackSize;
+
+	/**
+	 * 已查看但未读取的标记，{@code null}表示未查看
+	 */
+	private Token peeked;
+	/**
+	 * 已查看的字符串或键的引号，字符串内容在读取时才解析，0表示无引号
+	 */
+	private char peekedQuote;
+	/**
+	 * 已查看的无引号的键、数字、布尔或null的原始文本
+	 */
+	private String peekedLiteral;
+
+	// ------------------------------------------------------------------------------------ Constructor start
+
+	/**
+	 * 从Reader中构建，使用默认配置
+	 *
+	 * @param reader Reader
+	 */
+	public JSONReader(Reader reader) {
+		this(reader, null);
+	}
+
+	/**
+	 * 从Reader中构建
+	 *
+	 * @param reader Reader
+	 * @param config JSON配置，{@code null}使用默认配置，用于构建子树和转换Bean
+	 */
+	public JSONReader(Reader reader, JSONConfig config) {
+		this.config = ObjectUtil.defaultIfNull(config, JSONConfig.create());
+		this.tokener = new JSONTokener(reader, this.config);
+		this.reader = reader;
+		this.stack[stackSize++] = EMPTY_DOCUMENT;
+	}
+
+	/**
+	 * 从InputStream中构建，使用UTF-8编码
+	 *
+	 * @param in     InputStream
+	 * @param config JSON配置，{@code null}使用默认配置，用于构建子树和转换Bean
+	 */
+	public JSONReader(InputStream in, JSONConfig config) {
+		this(IoUtil.getUtf8Reader(in), config);
+	}
+
+	/**
+	 * 从字符串中构建
+	 *
+	 * @param json   JSON字符串
+	 * @param config JSON配置，{@code null}使用默认配置，用于构建子树和转换Bean
+	 */
+	public JSONReader(CharSequence json, JSONConfig config) {
+		this(new StringReader(StrUtil.str(json)), config);
+	}
+	// ------------------------------------------------------------------------------------ Constructor end
+
+	/**
+	 * 获取JSON配置
+	 *
+	 * @return {@link JSONConfig}
+	 */
+	public JSONConfig getConfig() {
+		return this.config;
+	}
+
+	/**
+	 * 查看下一个标记的类型，不读取
+	 *
+	 * @return 标记类型
+	 * @throws JSONException 语法错误
+	 */
+	public Token peek() throws JSONException {
+		if (null != peeked) {
+			return peeked;
+		}
+
+		final JSONTokener tokener = this.tokener;
+		char c;
+		switch (stack[stackSize - 1]) {
+			case EMPTY_DOCUMENT:
+			case NONEMPTY_DOCUMENT:
+				if (0 == tokener.nextClean()) {
+					return peeked = Token.END_DOCUMENT;
+				}
+				tokener.back();
+				stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+				return peeked = peekValue();
+			case EMPTY_ARRAY:
+				stack[stackSize - 1] = NONEMPTY_ARRAY;
+				if (']' == tokener.nextClean()) {
+					return peeked = Token.END_ARRAY;
+				}
+				tokener.back();
+				return peeked = peekValue();
+			case NONEMPTY_ARRAY:
+				switch (tokener.nextClean()) {
+					case ']':
+						return peeked = Token.END_ARRAY;
+					case ',':
+						if (']' == tokener.nextClean()) {
+							// 尾后逗号
+							return peeked = Token.END_ARRAY;
+						}
+						tokener.back();
+						return peeked = peekValue();
+					default:
+						throw tokener.syntaxError("Expected a ',' or ']'");
+				}
+			case EMPTY_OBJECT:
+			case NONEMPTY_OBJECT:
+				c = tokener.nextClean();
+				if (NONEMPTY_OBJECT == stack[stackSize - 1]) {
+					switch (c) {
+						case '}':
+							return peeked = Token.END_OBJECT;
+						case ';':
+						case ',':
+							c = tokener.nextClean();
+							break;
+						default:
+							throw tokener.syntaxError("Expected a ',' or '}'");
+					}
+				}
+				switch (c) {
+					case 0:
+						throw tokener.syntaxError("A JSONObject text must end with '}'");
+					case '}':
+						// 空对象或尾后逗号
+						return peeked = Token.END_OBJECT;
+					case '"':
+					case '\'':
+						peekedQuote = c;
+						break;
+					case '{':
+					case '[':
+						throw tokener.syntaxError("Expected a name");
+					default:
+						tokener.back();
+						peekedQuote = 0;
+						peekedLiteral = readLiteral();
+				}
+				stack[stackSize - 1] = DANGLING_NAME;
+				return peeked = Token.NAME;
+			case DANGLING_NAME:
+				if (':' != tokener.nextClean()) {
+					throw tokener.syntaxError("Expected a ':' after a key");
+				}
+				stack[stackSize - 1] = NONEMPTY_OBJECT;
+				return peeked = peekValue();
+			default:
+				throw new IllegalStateException("JSONReader is closed!");
+		}
+	}
+
+	/**
+	 * 当前数组或对象中是否还有元素，或文档中是否还有值
+	 *
+	 * @return 是否还有元素
+	 * @throws JSONException 语法错误
+	 */
+	public boolean hasNext() throws JSONException {
+		final Token token = peek();
+		return Token.END_OBJECT != token && Token.END_ARRAY != token && Token.END_DOCUMENT != token;
+	}
+
+	/**
+	 * 读取对象开始标记'{'
+	 *
+	 * @throws JSONException 下一个标记不是对象开始
+	 */
+	public void beginObject() throws JSONException {
+		expect(Token.BEGIN_OBJECT);
+		push(EMPTY_OBJECT);
+	}
+
+	/**
+	 * 读取对象结束标记'}'
+	 *
+	 * @throws JSONException 下一个标记不是对象结束
+	 */
+	public void endObject() throws JSONException {
+		expect(Token.END_OBJECT);
+		stackSize--;
+	}
+
+	/**
+	 * 读取数组开始标记'['
+	 *
+	 * @throws JSONException 下一个标记不是数组开始
+	 */
+	public void beginArray() throws JSONException {
+		expect(Token.BEGIN_ARRAY);
+		push(EMPTY_ARRAY);
+	}
+
+	/**
+	 * 读取数组结束标记']'
+	 *
+	 * @throws JSONException 下一个标记不是数组结束
+	 */
+	public void endArray() throws JSONException {
+		expect(Token.END_ARRAY);
+		stackSize--;
+	}
+
+	/**
+	 * 读取对象中的键
+	 *
+	 * @return 键
+	 * @throws JSONException 下一个标记不是键
+	 */
+	public String nextName() throws JSONException {
+		expect(Token.NAME);
+		return readPeekedText();
+	}
+
+	/**
+	 * 读取字符串值，数字值按照原始文本返回
+	 *
+	 * @return 字符串
+	 * @throws JSONException 下一个标记不是字符串或数字
+	 */
+	public String nextString() throws JSONException {
+		final Token token = peek();
+		if (Token.STRING != token && Token.NUMBER != token) {
+			throw unexpected(Token.STRING, token);
+		}
+		peeked = null;
+		return readPeekedText();
+	}
+
+	/**
+	 * 读取布尔值
+	 *
+	 * @return 布尔值
+	 * @throws JSONException 下一个标记不是布尔值
+	 */
+	public boolean nextBoolean() throws JSONException {
+		expect(Token.BOOLEAN);
+		return "true".equalsIgnoreCase(peekedLiteral);
+	}
+
+	/**
+	 * 读取null值
+	 *
+	 * @throws JSONException 下一个标记不是null
+	 */
+	public void nextNull() throws JSONException {
+		expect(Token.NULL);
+	}
+
+	/**
+	 * 读取long值，支持带引号的数字
+	 *
+	 * @return long值
+	 * @throws JSONException 下一个标记不是数字或超出long范围
+	 */
+	public long nextLong() throws JSONException {
+		final String number = nextNumberText();
+		try {
+			return Long.parseLong(number);
+		} catch (NumberFormatException e) {
+			try {
+				// 如1.0或1e3
+				return new BigDecimal(number).longValueExact();
+			} catch (NumberFormatException | ArithmeticException e2) {
+				throw tokener.syntaxError("Expected a long but was " + number);
+			}
+		}
+	}
+
+	/**
+	 * 读取int值，支持带引号的数字
+	 *
+	 * @return int值
+	 * @throws JSONException 下一个标记不是数字或超出int范围
+	 */
+	public int nextInt() throws JSONException {
+		final long value = nextLong();
+		if (value != (int) value) {
+			throw tokener.syntaxError("Expected an int but was " + value);
+		}
+		return (int) value;
+	}
+
+	/**
+	 * 读取double值，支持带引号的数字
+	 *
+	 * @return double值
+	 * @throws JSONException 下一个标记不是数字
+	 */
+	public double nextDouble() throws JSONException {
+		final String number = nextNumberText();
+		try {
+			return Double.parseDouble(number);
+		} catch (NumberFormatException e) {
+			throw tokener.syntaxError("Expected a double but was " + number);
+		}
+	}
+
+	/**
+	 * 读取{@link BigDecimal}值，支持带引号的数字，不损失精度
+	 *
+	 * @return BigDecimal值
+	 * @throws JSONException 下一个标记不是数字
+	 */
+	public BigDecimal nextBigDecimal() throws JSONException {
+		final String number = nextNumberText();
+		try {
+			return new BigDecimal(number);
+		} catch (NumberFormatException e) {
+			throw tokener.syntaxError("Expected a number but was " + number);
+		}
+	}
+
+	/**
+	 * 读取下一个值，对象和数组构建为{@link JSONObject}和{@link JSONArray}，其它值与{@link JSONTokener#nextValue()}相同
+	 *
+	 * @return 值，可能为Boolean, Integer, Long, BigDecimal, String, JSONObject, JSONArray或{@link JSONNull#NULL}
+	 * @throws JSONException 语法错误或下一个标记不是值
+	 */
+	public Object nextValue() throws JSONException {
+		final Token token = peek();
+		switch (token) {
+			case BEGIN_OBJECT:
+			case BEGIN_ARRAY:
+				// 回退到'{'或'['，复用JSONParser解析子树
+				peeked = null;
+				tokener.back();
+				return Token.BEGIN_OBJECT == token ? new JSONObject(tokener, config) : new JSONArray(tokener, config);
+			case STRING:
+				peeked = null;
+				return readPeekedText();
+			case NUMBER:
+			case BOOLEAN:
+			case NULL:
+				peeked = null;
+				return InternalJSONUtil.stringToValue(peekedLiteral);
+			default:
+				throw tokener.syntaxError("Expected a value but was " + token);
+		}
+	}
+
+	/**
+	 * 读取下一个值并转换为指定类型，对象和数组通过{@link JSONConverter}转换为Bean、集合等
+	 *
+	 * @param <T>  目标类型
+	 * @param type 目标类型
+	 * @return 转换后的值，值为null时返回{@code null}
+	 * @throws JSONException 语法错误
+	 */
+	public <T> T nextBean(Type type) throws JSONException {
+		return JSONConverter.jsonConvert(type, nextValue(), config.isIgnoreError());
+	}
+
+	/**
+	 * 逐个读取数组中的元素并转换为指定类型，每读取一个元素即交给消费者处理，不保留已处理的元素
+	 *
+	 * @param <T>          元素类型
+	 * @param elementClass 元素类型
+	 * @param consumer     元素消费者
+	 * @throws JSONException 语法错误或下一个标记不是数组
+	 */
+	public <T> void readArray(Class<T> elementClass, Consumer<? super T> consumer) throws JSONException {
+		readArray((Type) elementClass, consumer);
+	}
+
+	/**
+	 * 逐个读取数组中的元素并转换为指定类型，每读取一个元素即交给消费者处理，不保留已处理的元素
+	 *
+	 * @param <T>         元素类型
+	 * @param elementType 元素类型，可以为泛型类型
+	 * @param consumer    元素消费者
+	 * @throws JSONException 语法错误或下一个标记不是数组
+	 */
+	public <T> void readArray(Type elementType, Consumer<? super T> consumer) throws JSONException {
+		beginArray();
+		while (hasNext()) {
+			consumer.accept(nextBean(elementType));
+		}
+		endArray();
+	}
+
+	/**
+	 * 跳过下一个值，对象和数组会被整体跳过且不构建任何对象；如果下一个标记为键，跳过键及其值
+	 *
+	 * @throws JSONException 语法错误
+	 */
+	public void skipValue() throws JSONException {
+		if (Token.NAME == peek()) {
+			peeked = null;
+			skipPeekedText();
+		}
+		int depth = 0;
+		do {
+			final Token token = peek();
+			switch (token) {
+				case BEGIN_OBJECT:
+					beginObject();
+					depth++;
+					break;
+				case BEGIN_ARRAY:
+					beginArray();
+					depth++;
+					break;
+				case END_OBJECT:
+					endObject();
+					depth--;
+					break;
+				case END_ARRAY:
+					endArray();
+					depth--;
+					break;
+				case NAME:
+				case STRING:
+					peeked = null;
+					skipPeekedText();
+					break;
+				case END_DOCUMENT:
+					throw tokener.syntaxError("Expected a value but was " + token);
+				default:
+					peeked = null;
+			}
+		} while (depth > 0);
+	}
+
+	/**
+	 * 关闭读取器，同时关闭被包装的Reader
+	 */
+	@Override
+	public void close() {
+		peeked = null;
+		stack[0] = -1;
+		stackSize = 1;
+		IoUtil.close(this.reader);
+	}
+
+	/**
+	 * 查看当前位置的值的类型，对于字符串只记录引号，对于其它值读取原始文本
+	 *
+	 * @return 标记类型
+	 */
+	private Token peekValue() {
+		final char c = tokener.nextClean();
+		switch (c) {
+			case '{':
+				return Token.BEGIN_OBJECT;
+			case '[':
+				return Token.BEGIN_ARRAY;
+			case '"':
+			case '\'':
+				peekedQuote = c;
+				return Token.STRING;
+			case ',':
+				if (NONEMPTY_ARRAY == stack[stackSize - 1]) {
+					// 与JSONParser相同，数组中连续的逗号表示null
+					tokener.back();
+					peekedLiteral = null;
+					return Token.NULL;
+				}
+				break;
+		}
+		tokener.back();
+		final String literal = readLiteral();
+		if (literal.isEmpty()) {
+			throw tokener.syntaxError("Missing value");
+		}
+		peekedQuote = 0;
+		peekedLiteral = literal;
+		if ("true".equalsIgnoreCase(literal) || "false".equalsIgnoreCase(literal)) {
+			return Token.BOOLEAN;
+		}
+		if (StrUtil.NULL.equalsIgnoreCase(literal)) {
+			return Token.NULL;
+		}
+		// 与JSONTokener相同，无法识别的无引号文本作为字符串
+		return isNumber(literal) ? Token.NUMBER : Token.STRING;
+	}
+
+	/**
+	 * 读取无引号的原始文本，直到遇到分隔符
+	 *
+	 * @return 原始文本，已去除首尾空白
+	 */
+	private String readLiteral() {
+		final StringBuilder sb = new StringBuilder();
+		char c = tokener.next();
+		while (c >= ' ' && ",:]}/\\\"[{;=#".indexOf(c) < 0) {
+			sb.append(c);
+			c = tokener.next();
+		}
+		tokener.back();
+		return sb.toString().trim();
+	}
+
+	/**
+	 * 读取已查看的字符串或键的内容
+	 *
+	 * @return 内容
+	 */
+	private String readPeekedText() {
+		return 0 == peekedQuote ? peekedLiteral : tokener.nextString(peekedQuote);
+	}
+
+	/**
+	 * 跳过已查看的字符串或键，不构建字符串
+	 */
+	private void skipPeekedText() {
+		if (0 == peekedQuote) {
+			return;
+		}
+		while (true) {
+			final char c = tokener.next();
+			switch (c) {
+				case 0:
+				case '\n':
+				case '\r':
+					throw tokener.syntaxError("Unterminated string");
+				case '\\':
+					tokener.next();
+					break;
+				default:
+					if (c == peekedQuote) {
+						return;
+					}
+			}
+		}
+	}
+
+	/**
+	 * 读取数字或带引号的数字的文本
+	 *
+	 * @return 数字文本
+	 */
+	private String nextNumberText() {
+		final Token token = peek();
+		if (Token.NUMBER != token && Token.STRING != token) {
+			throw unexpected(Token.NUMBER, token);
+		}
+		peeked = null;
+		return readPeekedText().trim();
+	}
+
+	/**
+	 * 检查下一个标记为指定类型并读取
+	 *
+	 * @param expected 期望的标记类型
+	 */
+	private void expect(Token expected) {
+		final Token token = peek();
+		if (expected != token) {
+			throw unexpected(expected, token);
+		}
+		peeked = null;
+	}
+
+	/**
+	 * 构建标记类型不符的异常
+	 *
+	 * @param expected 期望的标记类型
+	 * @param actual   实际的标记类型
+	 * @return JSONException
+	 */
+	private JSONException unexpected(Token expected, Token actual) {
+		return tokener.syntaxError(StrUtil.format("Expected {} but was {}", expected, actual));
+	}
+
+	/**
+	 * 进入新的嵌套层级
+	 *
+	 * @param scope 层级状态
+	 */
+	private void push(int scope) {
+		if (stackSize == stack.length) {
+			stack = Arrays.copyOf(stack, stackSize << 1);
+		}
+		stack[stackSize++] = scope;
+	}
+
+	/**
+	 * 是否为JSON格式的数字，即：-?(0|[1-9][0-9]*)(\.[0-9]+)?([eE][+-]?[0-9]+)?
+	 *
+	 * @param str 文本
+	 * @return 是否为数字
+	 */
+	private static boolean isNumber(String str) {
+		final int length = str.length();
+		int i = 0;
+		if (i < length && '-' == str.charAt(i)) {
+			i++;
+		}
+		if (i >= length || false == isDigit(str.charAt(i))) {
+			return false;
+		}
+		if ('0' == str.charAt(i++)) {
+			if (i < length && isDigit(str.charAt(i))) {
+				// 前导0
+				return false;
+			}
+		} else {
+			while (i < length && isDigit(str.charAt(i))) {
+				i++;
+			}
+		}
+		if (i < length && '.' == str.charAt(i)) {
+			final int start = ++i;
+			while (i < length && isDigit(str.charAt(i))) {
+				i++;
+			}
+			if (i == start) {
+				return false;
+			}
+		}
+		if (i < length && ('e' == str.charAt(i) || 'E' == str.charAt(i))) {
+			i++;
+			if (i < length && ('+' == str.charAt(i) || '-' == str.charAt(i))) {
+				i++;
+			}
+			final int start = i;
+			while (i < length && isDigit(str.charAt(i))) {
+				i++;
+			}
+			if (i == start) {
+				return false;
+			}
+		}
+		return i == length;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+}
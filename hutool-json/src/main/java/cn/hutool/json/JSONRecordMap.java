@@ -0,0 +1,380 @@
+package cn.hutool.json;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 紧凑的记录形式Map，作为{@link JSONObject}的原始Map，在{@link JSONConfig#isRecordMode()}为true时使用<br>
+ * 键按照加入顺序保存在共享的键表（{@link Schema}）中，本对象只保存值数组。键表按照加入键的顺序形成树，
+ * 同一棵树上依次加入相同键的对象得到同一个键表，因此大量相同结构的对象只保存一份键。<br>
+ * 键数超过{@link Schema#MAX_SHARED_LENGTH}的对象使用独占的键表，不再共享。<br>
+ * 与{@link java.util.LinkedHashMap}的区别：移除的键保留其位置，再次加入时回到原来的位置。
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+final class JSONRecordMap extends AbstractMap<String, Object> implements Serializable, Cloneable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 已移除值的占位对象，使用枚举保证序列化后仍为同一对象
+	 */
+	private enum Removed {
+		INSTANCE
+	}
+
+	private static final Object REMOVED = Removed.INSTANCE;
+	private static final Object[] EMPTY = new Object[0];
+
+	private Schema schema;
+	private Object[] values;
+	private int size;
+
+	/**
+	 * 构造，使用独立的键表
+	 */
+	JSONRecordMap() {
+		this(new Schema());
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param root 根键表，即没有任何键的键表，加入键时从此键表派生
+	 */
+	JSONRecordMap(Schema root) {
+		this.schema = root;
+		this.values = EMPTY;
+	}
+
+	/**
+	 * 在Map为空时更换根键表，用于解析时使同一文本中的对象共享键表
+	 *
+	 * @param root 根键表
+	 */
+	void setRoot(Schema root) {
+		if (0 == schema.length) {
+			this.schema = root;
+		}
+	}
+
+	/**
+	 * 去除值数组中多余的空间
+	 */
+	void trimToSize() {
+		if (values.length > schema.length) {
+			values = Arrays.copyOf(values, schema.length);
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf(key) >= 0;
+	}
+
+	@Override
+	public Object get(Object key) {
+		final int index = indexOf(key);
+		return index >= 0 ? values[index] : null;
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+		int index = schema.indexOf(key);
+		if (index >= 0) {
+			final Object old = values[index];
+			values[index] = value;
+			if (REMOVED == old) {
+				size++;
+				return null;
+			}
+			return old;
+		}
+		schema = schema.next(key);
+		index = schema.length - 1;
+		if (index >= values.length) {
+			values = Arrays.copyOf(values, Math.max(index + 1, values.length << 1));
+		}
+		values[index] = value;
+		size++;
+		return null;
+	}
+
+	@Override
+	public Object remove(Object key) {
+		final int index = indexOf(key);
+		if (index < 0) {
+			return null;
+		}
+		final Object old = values[index];
+		values[index] = REMOVED;
+		size--;
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		schema = schema.root;
+		values = EMPTY;
+		size = 0;
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		return new AbstractSet<Entry<String, Object>>() {
+			@Override
+			public Iterator<Entry<String, Object>> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	@Override
+	public JSONRecordMap clone() {
+		try {
+			final JSONRecordMap clone = (JSONRecordMap) super.clone();
+			clone.schema = schema.copy();
+			clone.values = values.clone();
+			return clone;
+		} catch (CloneNotSupportedException e) {
+			throw new InternalError(e);
+		}
+	}
+
+	/**
+	 * 查找存在的键的位置
+	 *
+	 * @param key 键
+	 * @return 位置，不存在返回-1
+	 */
+	private int indexOf(Object key) {
+		final int index = schema.indexOf(key);
+		return (index >= 0 && REMOVED != values[index]) ? index : -1;
+	}
+
+	/**
+	 * 键值对迭代器，跳过已移除的值
+	 */
+	private class EntryIterator implements Iterator<Entry<String, Object>> {
+		private int next = advance(0);
+		private int last = -1;
+
+		@Override
+		public boolean hasNext() {
+			return next < schema.length;
+		}
+
+		@Override
+		public Entry<String, Object> next() {
+			if (false == hasNext()) {
+				throw new NoSuchElementException();
+			}
+			final int index = last = next;
+			next = advance(next + 1);
+			return new SimpleEntry<String, Object>(schema.keys[index], values[index]) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public Object setValue(Object value) {
+					values[index] = value;
+					return super.setValue(value);
+				}
+			};
+		}
+
+		@Override
+		public void remove() {
+			if (last < 0) {
+				throw new IllegalStateException();
+			}
+			values[last] = REMOVED;
+			size--;
+			last = -1;
+		}
+
+		private int advance(int from) {
+			final int length = schema.length;
+			while (from < length && REMOVED == values[from]) {
+				from++;
+			}
+			return from;
+		}
+	}
+
+	/**
+	 * 共享的键表，保存按照加入顺序排列的键，并缓存加入下一个键后得到的键表<br>
+	 * 共享的键表创建后不可变，可在多个线程间共享；键数超过{@link #MAX_SHARED_LENGTH}后派生独占的键表，
+	 * 独占键表由一个对象持有，加入键时直接修改自身，避免每加入一个键复制整个键表。
+	 */
+	static final class Schema implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * 每个键表缓存的派生键表数上限，超出后派生的键表不再共享，避免键各不相同时占用过多内存
+		 */
+		private static final int MAX_TRANSITIONS = 64;
+		/**
+		 * 共享键表的最大键数，超出后使用独占的键表
+		 */
+		static final int MAX_SHARED_LENGTH = 64;
+		/**
+		 * 键数超过此值时使用HashMap查找位置，否则顺序查找
+		 */
+		private static final int LINEAR_SEARCH_SIZE = 8;
+
+		private final Schema root;
+		/**
+		 * 是否为独占的键表
+		 */
+		private final boolean owned;
+		private String[] keys;
+		/**
+		 * 键数，独占键表的键数组可能有多余空间
+		 */
+		private int length;
+		private Map<String, Integer> indexes;
+		private transient Map<String, Schema> transitions;
+
+		/**
+		 * 创建根键表
+		 */
+		Schema() {
+			this.root = this;
+			this.owned = false;
+			this.keys = new String[0];
+		}
+
+		/**
+		 * 从父键表派生，加入一个键
+		 *
+		 * @param parent 父键表
+		 * @param key    加入的键
+		 * @param owned  是否为独占的键表
+		 */
+		private Schema(Schema parent, String key, boolean owned) {
+			this.root = parent.root;
+			this.owned = owned;
+			this.keys = Arrays.copyOf(parent.keys, owned ? parent.length << 1 : parent.length + 1);
+			this.length = parent.length;
+			if (null != parent.indexes) {
+				this.indexes = new HashMap<>(parent.indexes);
+			}
+			add(key);
+		}
+
+		/**
+		 * 复制独占的键表
+		 *
+		 * @param schema 独占的键表
+		 */
+		private Schema(Schema schema) {
+			this.root = schema.root;
+			this.owned = true;
+			this.keys = schema.keys.clone();
+			this.length = schema.length;
+			this.indexes = new HashMap<>(schema.indexes);
+		}
+
+		/**
+		 * 查找键的位置
+		 *
+		 * @param key 键
+		 * @return 位置，不存在返回-1
+		 */
+		int indexOf(Object key) {
+			if (null != indexes) {
+				final Integer index = indexes.get(key);
+				return null == index ? -1 : index;
+			}
+			final String[] keys = this.keys;
+			final int length = this.length;
+			for (int i = 0; i < length; i++) {
+				// 规范化的键直接比较引用
+				if (keys[i] == key) {
+					return i;
+				}
+			}
+			for (int i = 0; i < length; i++) {
+				if (keys[i].equals(key)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * 获取加入指定键后的键表，独占的键表加入键后返回自身
+		 *
+		 * @param key 键
+		 * @return 键表
+		 */
+		Schema next(String key) {
+			if (owned) {
+				add(key);
+				return this;
+			}
+			if (length >= MAX_SHARED_LENGTH) {
+				return new Schema(this, key, true);
+			}
+			synchronized (this) {
+				if (null == transitions) {
+					transitions = new HashMap<>(4);
+				}
+				Schema next = transitions.get(key);
+				if (null == next) {
+					next = new Schema(this, key, false);
+					if (transitions.size() < MAX_TRANSITIONS) {
+						transitions.put(key, next);
+					}
+				}
+				return next;
+			}
+		}
+
+		/**
+		 * 复制键表，用于复制Map，共享的键表返回自身
+		 *
+		 * @return 键表
+		 */
+		Schema copy() {
+			return owned ? new Schema(this) : this;
+		}
+
+		/**
+		 * 在末尾加入键，只在构造或独占的键表中调用
+		 *
+		 * @param key 键
+		 */
+		private void add(String key) {
+			if (length == keys.length) {
+				keys = Arrays.copyOf(keys, Math.max(length + 1, length << 1));
+			}
+			keys[length++] = key;
+			if (null != indexes) {
+				indexes.put(key, length - 1);
+			} else if (length > LINEAR_SEARCH_SIZE) {
+				indexes = new HashMap<>(length * 2);
+				for (int i = 0; i < length; i++) {
+					indexes.put(keys[i], i);
+				}
+			}
+		}
+	}
+}
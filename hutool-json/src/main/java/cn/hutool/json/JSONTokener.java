@@ -47,6 +47,11 @@ public class JSONTokener {
 	 */
 	private final JSONConfig config;
 
+	/**
+	 * 记录形式的根键表，同一文本中解析的对象共享，见{@link JSONConfig#isRecordMode()}
+	 */
+	private JSONRecordMap.Schema recordSchema;
+
 	// ------------------------------------------------------------------------------------ Constructor start
 
 	/**
@@ -433,6 +438,18 @@ public class JSONTokener {
 		return jsonArray;
 	}
 
+	/**
+	 * 获取记录形式的根键表，同一文本中解析的对象共享此键表
+	 *
+	 * @return 根键表
+	 */
+	JSONRecordMap.Schema getRecordSchema() {
+		if (null == this.recordSchema) {
+			this.recordSchema = new JSONRecordMap.Schema();
+		}
+		return this.recordSchema;
+	}
+
 	/**
 	 * Make a printable string of this JSONTokener.
 	 *
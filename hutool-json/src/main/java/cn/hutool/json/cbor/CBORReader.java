@@ -0,0 +1,382 @@
+package cn.hutool.json.cbor;
+
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.json.JSON;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONNull;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * CBOR（RFC 8949）读取器，将{@link CBORWriter}等编码的CBOR数据解码为{@link JSONObject}、{@link JSONArray}或Bean<br>
+ * 解码规则：
+ * <ul>
+ *     <li>映射解码为{@link JSONObject}，非字符串的键转换为字符串；数组解码为{@link JSONArray}</li>
+ *     <li>整数解码为Integer、Long或BigInteger，浮点数解码为Float或Double，十进制小数（tag 4）解码为{@link BigDecimal}</li>
+ *     <li>null和undefined解码为{@link JSONNull#NULL}，字节串解码为byte[]，其它tag忽略，只保留其内容</li>
+ * </ul>
+ *
+ * @author looly
+ * @see CBORWriter
+ * @since 5.8.10
+ */
+public class CBORReader {
+
+	private static final int BREAK = 0xFF;
+
+	/**
+	 * 解码CBOR字节为JSON，使用默认配置
+	 *
+	 * @param bytes CBOR字节
+	 * @return 值，可能为JSONObject、JSONArray、String、数字、Boolean、byte[]或{@link JSONNull#NULL}
+	 * @throws JSONException 数据格式错误
+	 */
+	public static Object parse(byte[] bytes) throws JSONException {
+		return parse(bytes, null);
+	}
+
+	/**
+	 * 解码CBOR字节为JSON
+	 *
+	 * @param bytes  CBOR字节
+	 * @param config JSON配置，{@code null}使用默认配置
+	 * @return 值，可能为JSONObject、JSONArray、String、数字、Boolean、byte[]或{@link JSONNull#NULL}
+	 * @throws JSONException 数据格式错误
+	 */
+	public static Object parse(byte[] bytes, JSONConfig config) throws JSONException {
+		return new CBORReader(bytes, config).readValue();
+	}
+
+	/**
+	 * 解码CBOR字节为Bean
+	 *
+	 * @param <T>    Bean类型
+	 * @param bytes  CBOR字节
+	 * @param config JSON配置，{@code null}使用默认配置
+	 * @param type   目标类型，可以为{@link cn.hutool.core.lang.TypeReference}
+	 * @return Bean，值为null时返回{@code null}
+	 * @throws JSONException 数据格式错误
+	 */
+	public static <T> T toBean(byte[] bytes, JSONConfig config, Type type) throws JSONException {
+		final CBORReader reader = new CBORReader(bytes, config);
+		final Object value = reader.readValue();
+		if (JSONUtil.isNull(value)) {
+			return null;
+		}
+		if (value instanceof JSON) {
+			return ((JSON) value).toBean(type, reader.config.isIgnoreError());
+		}
+		return Convert.convertWithCheck(type, value, null, reader.config.isIgnoreError());
+	}
+
+	private final byte[] bytes;
+	private final JSONConfig config;
+	private int position;
+
+	/**
+	 * 构造，读取流中全部内容，不关闭流
+	 *
+	 * @param in     输入流
+	 * @param config JSON配置，{@code null}使用默认配置
+	 * @throws IORuntimeException IO异常
+	 */
+	public CBORReader(InputStream in, JSONConfig config) throws IORuntimeException {
+		this(IoUtil.readBytes(in, false), config);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param bytes  CBOR字节
+	 * @param config JSON配置，{@code null}使用默认配置，与解析JSON字符串相同，默认保留null值
+	 */
+	public CBORReader(byte[] bytes, JSONConfig config) {
+		this.bytes = bytes;
+		this.config = null != config ? config : JSONConfig.create().setIgnoreNullValue(false);
+	}
+
+	/**
+	 * 是否还有未读取的数据项，用于读取连续存放的多个数据项
+	 *
+	 * @return 是否还有未读取的数据项
+	 */
+	public boolean hasNext() {
+		return position < bytes.length;
+	}
+
+	/**
+	 * 读取下一个数据项
+	 *
+	 * @return 值，可能为JSONObject、JSONArray、String、数字、Boolean、byte[]或{@link JSONNull#NULL}
+	 * @throws JSONException 数据格式错误
+	 */
+	public Object readValue() throws JSONException {
+		final int initial = readByte();
+		if (BREAK == initial) {
+			throw syntaxError("Unexpected break");
+		}
+		return readValue(initial);
+	}
+
+	// ------------------------------------------------------------------------------ Private methods
+
+	/**
+	 * 读取数据项
+	 *
+	 * @param initial 数据项首字节
+	 * @return 值
+	 */
+	private Object readValue(int initial) {
+		final int major = initial >>> 5;
+		final int info = initial & 0x1F;
+		switch (major) {
+			case 0:
+				return toNumber(readArgument(info), false);
+			case 1:
+				return toNumber(readArgument(info), true);
+			case 2:
+				return readBytes(major, info);
+			case 3:
+				return new String(readBytes(major, info), CharsetUtil.CHARSET_UTF_8);
+			case 4:
+				return readArray(info);
+			case 5:
+				return readMap(info);
+			case 6:
+				return readTagged(readArgument(info));
+			default:
+				return readSimple(info);
+		}
+	}
+
+	/**
+	 * 读取数组
+	 *
+	 * @param info 附加信息
+	 * @return JSONArray
+	 */
+	private JSONArray readArray(int info) {
+		final JSONArray array = new JSONArray(config);
+		if (31 == info) {
+			int initial;
+			while (BREAK != (initial = readByte())) {
+				array.add(readValue(initial));
+			}
+		} else {
+			final long size = readLength(info);
+			for (long i = 0; i < size; i++) {
+				array.add(readValue());
+			}
+		}
+		return array;
+	}
+
+	/**
+	 * 读取映射
+	 *
+	 * @param info 附加信息
+	 * @return JSONObject
+	 */
+	private JSONObject readMap(int info) {
+		final JSONObject obj = new JSONObject(config);
+		if (31 == info) {
+			int initial;
+			while (BREAK != (initial = readByte())) {
+				obj.set(Convert.toStr(readValue(initial)), readValue());
+			}
+		} else {
+			final long size = readLength(info);
+			for (long i = 0; i < size; i++) {
+				obj.set(Convert.toStr(readValue()), readValue());
+			}
+		}
+		return obj;
+	}
+
+	/**
+	 * 读取带tag的数据项，支持大整数（tag 2/3）和十进制小数（tag 4），其它tag只返回内容
+	 *
+	 * @param tag tag
+	 * @return 值
+	 */
+	private Object readTagged(long tag) {
+		final Object content = readValue();
+		if ((2 == tag || 3 == tag) && content instanceof byte[]) {
+			final BigInteger value = new BigInteger(1, (byte[]) content);
+			return 2 == tag ? value : value.negate().subtract(BigInteger.ONE);
+		}
+		if (4 == tag && content instanceof JSONArray && 2 == ((JSONArray) content).size()) {
+			final JSONArray array = (JSONArray) content;
+			final int exponent = array.getInt(0);
+			final BigInteger mantissa = Convert.toBigInteger(array.get(1));
+			return new BigDecimal(mantissa, -exponent);
+		}
+		return content;
+	}
+
+	/**
+	 * 读取简单值和浮点数
+	 *
+	 * @param info 附加信息
+	 * @return 值
+	 */
+	private Object readSimple(int info) {
+		switch (info) {
+			case 20:
+				return Boolean.FALSE;
+			case 21:
+				return Boolean.TRUE;
+			case 22:
+			case 23:
+				return JSONNull.NULL;
+			case 25:
+				return halfToFloat((int) readUnsigned(2));
+			case 26:
+				return Float.intBitsToFloat((int) readUnsigned(4));
+			case 27:
+				return Double.longBitsToDouble(readUnsigned(8));
+			default:
+				throw syntaxError("Unsupported simple value " + info);
+		}
+	}
+
+	/**
+	 * 读取字节串或文本，支持不定长的分块形式
+	 *
+	 * @param major 主类型
+	 * @param info  附加信息
+	 * @return 字节
+	 */
+	private byte[] readBytes(int major, int info) {
+		if (31 == info) {
+			byte[] result = new byte[0];
+			int initial;
+			while (BREAK != (initial = readByte())) {
+				if (initial >>> 5 != major) {
+					throw syntaxError("Illegal chunk type");
+				}
+				result = ArrayUtil.addAll(result, readBytes(major, initial & 0x1F));
+			}
+			return result;
+		}
+		final long length = readLength(info);
+		final byte[] result = ArrayUtil.sub(bytes, position, position + (int) length);
+		position += length;
+		return result;
+	}
+
+	/**
+	 * 将整数参数转换为数字，与解析JSON字符串相同，优先使用Integer，其次Long，超出范围使用BigInteger
+	 *
+	 * @param value    参数，作为无符号数
+	 * @param negative 是否为负数，负数的值为-1 - value
+	 * @return 数字
+	 */
+	private static Number toNumber(long value, boolean negative) {
+		if (value < 0) {
+			// 超出long范围的无符号数
+			final BigInteger unsigned = new BigInteger(Long.toUnsignedString(value));
+			return negative ? unsigned.negate().subtract(BigInteger.ONE) : unsigned;
+		}
+		final long result = negative ? -1 - value : value;
+		if (result == (int) result) {
+			return (int) result;
+		}
+		return result;
+	}
+
+	/**
+	 * 读取长度参数
+	 *
+	 * @param info 附加信息
+	 * @return 长度
+	 */
+	private long readLength(int info) {
+		final long length = readArgument(info);
+		if (length < 0 || length > bytes.length - position) {
+			// 每个字节或元素至少占用一个字节，长度不能超出剩余数据
+			throw syntaxError("Illegal length " + Long.toUnsignedString(length));
+		}
+		return length;
+	}
+
+	/**
+	 * 读取参数
+	 *
+	 * @param info 附加信息
+	 * @return 参数，作为无符号数
+	 */
+	private long readArgument(int info) {
+		if (info < 24) {
+			return info;
+		}
+		switch (info) {
+			case 24:
+				return readUnsigned(1);
+			case 25:
+				return readUnsigned(2);
+			case 26:
+				return readUnsigned(4);
+			case 27:
+				return readUnsigned(8);
+			default:
+				throw syntaxError("Illegal additional info " + info);
+		}
+	}
+
+	/**
+	 * 按照大端序读取无符号整数
+	 *
+	 * @param length 字节数
+	 * @return 值
+	 */
+	private long readUnsigned(int length) {
+		long value = 0;
+		for (int i = 0; i < length; i++) {
+			value = (value << 8) | readByte();
+		}
+		return value;
+	}
+
+	private int readByte() {
+		if (position >= bytes.length) {
+			throw syntaxError("Unexpected end of data");
+		}
+		return bytes[position++] & 0xFF;
+	}
+
+	/**
+	 * 半精度浮点数转为float
+	 *
+	 * @param half 半精度浮点数的位
+	 * @return float
+	 */
+	private static float halfToFloat(int half) {
+		final int exponent = (half >> 10) & 0x1F;
+		final int mantissa = half & 0x3FF;
+		final float value;
+		if (0 == exponent) {
+			value = (float) (mantissa * Math.pow(2, -24));
+		} else if (31 == exponent) {
+			value = 0 == mantissa ? Float.POSITIVE_INFINITY : Float.NaN;
+		} else {
+			value = (float) ((mantissa + 1024) * Math.pow(2, exponent - 25));
+		}
+		return 0 == (half & 0x8000) ? value : -value;
+	}
+
+	private JSONException syntaxError(String message) {
+		return new JSONException("{} at position {}", message, position);
+	}
+}
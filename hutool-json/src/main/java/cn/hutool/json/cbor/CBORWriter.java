@@ -0,0 +1,499 @@
+package cn.hutool.json.cbor;
+
+import cn.hutool.core.collection.ArrayIter;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.date.TemporalAccessorUtil;
+import cn.hutool.core.date.format.GlobalCustomFormat;
+import cn.hutool.core.io.FastByteArrayOutputStream;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONString;
+import cn.hutool.json.JSONTokener;
+import cn.hutool.json.JSONUtil;
+import cn.hutool.json.serialize.GlobalSerializeMapping;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.time.MonthDay;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CBOR（RFC 8949）写出器，将{@link JSONObject}、{@link JSONArray}、Bean、Map、集合等对象编码为CBOR二进制格式<br>
+ * 编码规则与{@link JSONUtil#toJsonStr(Object, JSONConfig)}保持一致：
+ * <ul>
+ *     <li>{@link JSONConfig#isIgnoreNullValue()}为true时忽略键值对和数组中的null值</li>
+ *     <li>日期按照{@link JSONConfig#getDateFormat()}格式化为字符串，未定义格式时为毫秒时间戳</li>
+ *     <li>Bean和注册了{@link GlobalSerializeMapping}自定义序列化器的对象先转换为JSON再编码</li>
+ *     <li>{@link BigDecimal}编码为十进制小数（tag 4），超出long范围的整数编码为大整数（tag 2/3），byte[]编码为字节串</li>
+ * </ul>
+ *
+ * @author looly
+ * @see CBORReader
+ * @since 5.8.10
+ */
+public class CBORWriter implements Closeable, Flushable {
+
+	/**
+	 * 将对象编码为CBOR字节，使用默认配置
+	 *
+	 * @param obj 对象
+	 * @return CBOR字节
+	 */
+	public static byte[] toBytes(Object obj) {
+		return toBytes(obj, null);
+	}
+
+	/**
+	 * 将对象编码为CBOR字节
+	 *
+	 * @param obj    对象
+	 * @param config JSON配置，{@code null}使用默认配置
+	 * @return CBOR字节
+	 */
+	public static byte[] toBytes(Object obj, JSONConfig config) {
+		final FastByteArrayOutputStream out = new FastByteArrayOutputStream();
+		new CBORWriter(out, config).writeValue(obj);
+		return out.toByteArray();
+	}
+
+	/**
+	 * 将对象编码为CBOR并写出到流中，写出后刷新但不关闭流
+	 *
+	 * @param obj    对象
+	 * @param out    输出流
+	 * @param config JSON配置，{@code null}使用默认配置
+	 * @throws IORuntimeException IO异常
+	 */
+	public static void write(Object obj, OutputStream out, JSONConfig config) throws IORuntimeException {
+		final CBORWriter writer = new CBORWriter(out, config);
+		writer.writeValue(obj);
+		writer.flush();
+	}
+
+	private final OutputStream out;
+	private final JSONConfig config;
+
+	/**
+	 * 构造
+	 *
+	 * @param out    输出流，非内存流时使用{@link BufferedOutputStream}包装
+	 * @param config JSON配置，{@code null}使用默认配置
+	 */
+	public CBORWriter(OutputStream out, JSONConfig config) {
+		this.out = (out instanceof BufferedOutputStream || out instanceof ByteArrayOutputStream
+				|| out instanceof FastByteArrayOutputStream) ? out : new BufferedOutputStream(out);
+		this.config = ObjectUtil.defaultIfNull(config, JSONConfig.create());
+	}
+
+	/**
+	 * 写出值，根据值的类型编码
+	 *
+	 * @param value 值
+	 * @return this
+	 * @throws JSONException 值为无穷数字等非法值
+	 * @throws IORuntimeException IO异常
+	 */
+	public CBORWriter writeValue(Object value) throws JSONException, IORuntimeException {
+		if (JSONUtil.isNull(value)) {
+			write(0xF6);
+		} else if (value instanceof JSONObject) {
+			writeMap((JSONObject) value);
+		} else if (value instanceof JSONArray) {
+			writeIterable((JSONArray) value, value);
+		} else if (value instanceof Number) {
+			writeNumber((Number) value);
+		} else if (value instanceof Boolean) {
+			write((Boolean) value ? 0xF5 : 0xF4);
+		} else if (value instanceof JSONString) {
+			writeJSONString((JSONString) value);
+		} else if (value instanceof CharSequence || value instanceof Character) {
+			writeText(value.toString());
+		} else if (value instanceof Date || value instanceof Calendar || value instanceof TemporalAccessor) {
+			if (value instanceof MonthDay) {
+				// issue#2572@Github
+				writeText(value.toString());
+			} else {
+				writeDate(value);
+			}
+		} else if (value instanceof Enum || value instanceof SQLException) {
+			writeText(value.toString());
+		} else if (value instanceof byte[]) {
+			final byte[] bytes = (byte[]) value;
+			writeHead(2, bytes.length);
+			write(bytes);
+		} else if (null != GlobalSerializeMapping.getSerializer(value.getClass())) {
+			// 自定义序列化
+			writeWrapped(value);
+		} else if (ArrayUtil.isArray(value)) {
+			writeIterable(() -> new ArrayIter<>(value), value);
+		} else if (((value instanceof Map || value instanceof Map.Entry) && (config.isIgnoreCase() || null != config.getKeyComparator()))
+				|| false == ClassUtil.isJdkClass(value.getClass())) {
+			// 需要转换键的Map和Bean
+			writeWrapped(value);
+		} else if (value instanceof Map) {
+			writeMap((Map<?, ?>) value);
+		} else if (value instanceof Map.Entry) {
+			final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+			if (isWritable(entry)) {
+				writeHead(5, 1);
+				writeText(Convert.toStr(entry.getKey()));
+				writeValue(entry.getValue());
+			} else {
+				writeHead(5, 0);
+			}
+		} else if (value instanceof Collection) {
+			writeIterable((Collection<?>) value, value);
+		} else if (value instanceof Iterable) {
+			writeIterator(((Iterable<?>) value).iterator(), value);
+		} else if (value instanceof Iterator) {
+			writeIterator((Iterator<?>) value, value);
+		} else {
+			// Java内部类不做转换
+			writeText(value.toString());
+		}
+		return this;
+	}
+
+	/**
+	 * 刷新输出流
+	 *
+	 * @throws IORuntimeException IO异常
+	 */
+	@Override
+	public void flush() throws IORuntimeException {
+		try {
+			out.flush();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 关闭输出流
+	 *
+	 * @throws IORuntimeException IO异常
+	 */
+	@Override
+	public void close() throws IORuntimeException {
+		try {
+			out.close();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	// ------------------------------------------------------------------------------ Private methods
+
+	/**
+	 * 写出Map，键转为字符串，null键和忽略的null值不写出
+	 *
+	 * @param map Map
+	 */
+	private void writeMap(Map<?, ?> map) {
+		int size = 0;
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			if (isWritable(entry)) {
+				size++;
+			}
+		}
+		writeHead(5, size);
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			if (isWritable(entry)) {
+				writeText(Convert.toStr(entry.getKey()));
+				writeValue(entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * 写出可多次遍历的集合或数组，元素为null且忽略null值时跳过，与{@link JSONArray}相同
+	 *
+	 * @param iterable 集合或数组
+	 * @param source   来源对象，用于跳过对自身的引用
+	 */
+	private void writeIterable(Iterable<?> iterable, Object source) {
+		int size = 0;
+		for (Object element : iterable) {
+			if (isWritable(element, source)) {
+				size++;
+			}
+		}
+		writeHead(4, size);
+		for (Object element : iterable) {
+			if (isWritable(element, source)) {
+				writeValue(element);
+			}
+		}
+	}
+
+	/**
+	 * 先转换为JSON再写出，用于Bean、自定义序列化的对象等
+	 *
+	 * @param value 值
+	 */
+	private void writeWrapped(Object value) {
+		final Object json = JSONUtil.wrap(value, config);
+		// 无法转换的对象原样返回，按照null写出
+		writeValue(json == value ? null : json);
+	}
+
+	/**
+	 * 使用不定长数组写出迭代器中的元素
+	 *
+	 * @param iter   元素迭代器
+	 * @param source 来源对象，用于跳过对自身的引用
+	 */
+	private void writeIterator(Iterator<?> iter, Object source) {
+		write(0x9F);
+		Object element;
+		while (iter.hasNext()) {
+			element = iter.next();
+			if (isWritable(element, source)) {
+				writeValue(element);
+			}
+		}
+		write(0xFF);
+	}
+
+	/**
+	 * 写出数字，整数使用最短的整数编码，浮点数按照原始精度编码
+	 *
+	 * @param number 数字
+	 */
+	private void writeNumber(Number number) {
+		if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte
+				|| number instanceof AtomicInteger || number instanceof AtomicLong) {
+			writeLong(number.longValue());
+		} else if (number instanceof BigInteger) {
+			writeBigInteger((BigInteger) number);
+		} else if (number instanceof BigDecimal) {
+			BigDecimal decimal = (BigDecimal) number;
+			if (config.isStripTrailingZeros()) {
+				decimal = decimal.stripTrailingZeros();
+			}
+			if (decimal.scale() <= 0 && decimal.precision() - decimal.scale() <= 18) {
+				// 整数
+				writeLong(decimal.longValueExact());
+			} else {
+				// 十进制小数，[指数, 尾数]
+				writeHead(6, 4);
+				writeHead(4, 2);
+				writeLong(-decimal.scale());
+				writeBigInteger(decimal.unscaledValue());
+			}
+		} else {
+			if (false == ObjectUtil.isValidIfNumber(number)) {
+				throw new JSONException("JSON does not allow non-finite numbers.");
+			}
+			if (number instanceof Float) {
+				write(0xFA);
+				writeInt(Float.floatToIntBits(number.floatValue()), 4);
+			} else {
+				write(0xFB);
+				writeInt(Double.doubleToLongBits(number.doubleValue()), 8);
+			}
+		}
+	}
+
+	/**
+	 * 写出long整数
+	 *
+	 * @param value 值
+	 */
+	private void writeLong(long value) {
+		if (value >= 0) {
+			writeHead(0, value);
+		} else {
+			// -1 - n
+			writeHead(1, -1 - value);
+		}
+	}
+
+	/**
+	 * 写出大整数，64位范围内的使用整数编码，否则使用tag 2/3
+	 *
+	 * @param value 值
+	 */
+	private void writeBigInteger(BigInteger value) {
+		if (value.bitLength() < 64) {
+			writeLong(value.longValue());
+			return;
+		}
+		final boolean negative = value.signum() < 0;
+		if (negative) {
+			value = value.negate().subtract(BigInteger.ONE);
+		}
+		if (value.bitLength() <= 64) {
+			// 无符号64位整数范围内，使用整数编码
+			writeHead(negative ? 1 : 0, value.longValue());
+			return;
+		}
+		byte[] bytes = value.toByteArray();
+		if (0 == bytes[0] && bytes.length > 1) {
+			// 去掉符号位
+			bytes = ArrayUtil.sub(bytes, 1, bytes.length);
+		}
+		writeHead(6, negative ? 3 : 2);
+		writeHead(2, bytes.length);
+		write(bytes);
+	}
+
+	/**
+	 * 写出日期，格式规则与{@link cn.hutool.json.serialize.JSONWriter}相同
+	 *
+	 * @param date 日期
+	 */
+	private void writeDate(Object date) {
+		final String format = config.getDateFormat();
+		if (StrUtil.isBlank(format)) {
+			// 默认使用时间戳
+			final long timeMillis;
+			if (date instanceof TemporalAccessor) {
+				timeMillis = TemporalAccessorUtil.toEpochMilli((TemporalAccessor) date);
+			} else if (date instanceof Calendar) {
+				timeMillis = ((Calendar) date).getTimeInMillis();
+			} else {
+				timeMillis = ((Date) date).getTime();
+			}
+			writeLong(timeMillis);
+			return;
+		}
+
+		final String dateStr = date instanceof TemporalAccessor
+				? TemporalAccessorUtil.format((TemporalAccessor) date, format)
+				: DateUtil.format(Convert.toDate(date), format);
+		if (GlobalCustomFormat.FORMAT_SECONDS.equals(format) || GlobalCustomFormat.FORMAT_MILLISECONDS.equals(format)) {
+			// Hutool自定义的秒和毫秒表示为数字
+			writeLong(Long.parseLong(dateStr));
+		} else {
+			writeText(dateStr);
+		}
+	}
+
+	/**
+	 * 写出实现了{@link JSONString}接口的对象，解析其JSON后编码，toJSONString()返回null时写出toString()
+	 *
+	 * @param jsonString {@link JSONString}
+	 */
+	private void writeJSONString(JSONString jsonString) {
+		final String valueStr;
+		try {
+			valueStr = jsonString.toJSONString();
+		} catch (Exception e) {
+			throw new JSONException(e);
+		}
+		if (null == valueStr) {
+			writeText(jsonString.toString());
+		} else {
+			writeValue(new JSONTokener(valueStr, config).nextValue());
+		}
+	}
+
+	/**
+	 * 写出UTF-8文本
+	 *
+	 * @param text 文本
+	 */
+	private void writeText(String text) {
+		final byte[] bytes = text.getBytes(CharsetUtil.CHARSET_UTF_8);
+		writeHead(3, bytes.length);
+		write(bytes);
+	}
+
+	/**
+	 * 写出数据项头部，包括主类型和参数
+	 *
+	 * @param majorType 主类型，0~7
+	 * @param value     参数，作为无符号数
+	 */
+	private void writeHead(int majorType, long value) {
+		final int major = majorType << 5;
+		if (value >= 0 && value < 24) {
+			write(major | (int) value);
+		} else if (value >= 0 && value <= 0xFF) {
+			write(major | 24);
+			write((int) value);
+		} else if (value >= 0 && value <= 0xFFFF) {
+			write(major | 25);
+			writeInt(value, 2);
+		} else if (value >= 0 && value <= 0xFFFFFFFFL) {
+			write(major | 26);
+			writeInt(value, 4);
+		} else {
+			write(major | 27);
+			writeInt(value, 8);
+		}
+	}
+
+	/**
+	 * 按照大端序写出整数的低位字节
+	 *
+	 * @param value  值
+	 * @param length 字节数
+	 */
+	private void writeInt(long value, int length) {
+		for (int i = length - 1; i >= 0; i--) {
+			write((int) (value >>> (i << 3)));
+		}
+	}
+
+	/**
+	 * 键值对是否写出
+	 *
+	 * @param entry 键值对
+	 * @return 是否写出
+	 */
+	private boolean isWritable(Map.Entry<?, ?> entry) {
+		return null != entry.getKey() && false == (config.isIgnoreNullValue() && JSONUtil.isNull(entry.getValue()));
+	}
+
+	/**
+	 * 数组元素是否写出
+	 *
+	 * @param element 元素
+	 * @param source  来源对象，对自身的引用不写出
+	 * @return 是否写出
+	 */
+	private boolean isWritable(Object element, Object source) {
+		return element != source && false == (config.isIgnoreNullValue() && JSONUtil.isNull(element));
+	}
+
+	private void write(int b) {
+		try {
+			out.write(b);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	private void write(byte[] bytes) {
+		try {
+			out.write(bytes);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * JSON与CBOR（RFC 8949）二进制格式相互转换封装
+ *
+ * @author looly
+ */
+package cn.hutool.json.cbor;
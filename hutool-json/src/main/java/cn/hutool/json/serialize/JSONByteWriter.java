@@ -0,0 +1,694 @@
+package cn.hutool.json.serialize;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.collection.ArrayIter;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.map.WeakConcurrentMap;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ModifierUtil;
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONNull;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONString;
+import cn.hutool.json.JSONUtil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.time.MonthDay;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON字节写出器，将Bean、Map、集合、数组等对象直接序列化为UTF-8编码的JSON字节，写出到{@link OutputStream}或字节数组中<br>
+ * 与{@link JSONUtil#toJsonStr(Object)}相比：
+ * <ul>
+ *     <li>不先将对象转换为{@link JSONObject}或{@link JSONArray}，直接遍历对象写出</li>
+ *     <li>每个Bean类的可读属性、Getter方法和已编码的键名只解析一次并缓存</li>
+ *     <li>整数和字符串直接编码写入字节缓冲区，不产生临时的String；缓冲区按线程复用</li>
+ * </ul>
+ * 输出结果与{@link JSONUtil#toJsonStr(Object, JSONConfig)}的紧凑格式相同，
+ * 配置了{@link JSONConfig#isIgnoreCase()}、{@link JSONConfig#getKeyComparator()}或自定义{@link JSONSerializer}的对象仍先转换为JSON再写出。<br>
+ * 此类非线程安全。
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class JSONByteWriter implements Closeable {
+
+	/**
+	 * 默认缓冲区大小
+	 */
+	private static final int BUFFER_SIZE = 8192;
+	/**
+	 * 可复用的最大缓冲区大小，超过此大小的缓冲区用完后丢弃，避免长期占用内存
+	 */
+	private static final int MAX_POOLED_SIZE = 1024 * 1024;
+	/**
+	 * 按线程复用的缓冲区，使用中时移出，同一线程中嵌套使用时分配新的缓冲区
+	 */
+	private static final ThreadLocal<byte[]> BUFFER_POOL = new ThreadLocal<>();
+	/**
+	 * Bean类对应的属性写出器
+	 */
+	private static final WeakConcurrentMap<Class<?>, BeanWriter> BEAN_WRITER_CACHE = new WeakConcurrentMap<>();
+
+	private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+	private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+	private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+	private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+
+	/**
+	 * 将对象序列化为UTF-8编码的JSON字节，使用默认配置
+	 *
+	 * @param obj 对象
+	 * @return JSON字节
+	 */
+	public static byte[] toBytes(Object obj) {
+		return toBytes(obj, null);
+	}
+
+	/**
+	 * 将对象序列化为UTF-8编码的JSON字节
+	 *
+	 * @param obj    对象
+	 * @param config JSON配置，{@code null}使用默认配置
+	 * @return JSON字节
+	 */
+	public static byte[] toBytes(Object obj, JSONConfig config) {
+		final JSONByteWriter writer = new JSONByteWriter(null, config);
+		try {
+			writer.writeValue(obj);
+			return Arrays.copyOf(writer.buffer, writer.position);
+		} finally {
+			writer.release();
+		}
+	}
+
+	/**
+	 * 将对象序列化为UTF-8编码的JSON并写出到流中，写出后刷新但不关闭流
+	 *
+	 * @param obj    对象
+	 * @param out    输出流
+	 * @param config JSON配置，{@code null}使用默认配置
+	 * @throws IORuntimeException IO异常
+	 */
+	public static void write(Object obj, OutputStream out, JSONConfig config) throws IORuntimeException {
+		final JSONByteWriter writer = new JSONByteWriter(out, config);
+		try {
+			writer.writeValue(obj);
+			writer.flush();
+		} finally {
+			writer.release();
+		}
+	}
+
+	private final OutputStream out;
+	private final JSONConfig config;
+	private byte[] buffer;
+	private int position;
+	/**
+	 * 标记位置，-1表示未标记，标记之后的内容保留在缓冲区中
+	 */
+	private int mark = -1;
+
+	/**
+	 * 构造
+	 *
+	 * @param out    输出流，{@code null}表示写出到内存中
+	 * @param config JSON配置，{@code null}使用默认配置
+	 */
+	public JSONByteWriter(OutputStream out, JSONConfig config) {
+		this.out = out;
+		this.config = ObjectUtil.defaultIfNull(config, JSONConfig.create());
+		final byte[] pooled = BUFFER_POOL.get();
+		if (null != pooled) {
+			BUFFER_POOL.remove();
+			this.buffer = pooled;
+		} else {
+			this.buffer = new byte[BUFFER_SIZE];
+		}
+	}
+
+	/**
+	 * 写出值，根据值的类型写出对应的JSON
+	 *
+	 * @param value 值
+	 * @return this
+	 * @throws JSONException 值为无穷数字等非法值
+	 * @throws IllegalStateException 已关闭
+	 */
+	public JSONByteWriter writeValue(Object value) throws JSONException {
+		checkOpen();
+		if (null == value || value instanceof JSONNull) {
+			writeRaw(NULL);
+		} else if (value instanceof JSONObject) {
+			writeMap((JSONObject) value);
+		} else if (value instanceof JSONArray) {
+			writeIterator(((JSONArray) value).iterator(), value);
+		} else if (value instanceof Number) {
+			writeNumber((Number) value);
+		} else if (value instanceof Boolean) {
+			writeRaw((Boolean) value ? TRUE : FALSE);
+		} else if (value instanceof JSONString) {
+			writeJSONString((JSONString) value);
+		} else if (value instanceof CharSequence) {
+			writeString((CharSequence) value);
+		} else if (value instanceof Character) {
+			writeString(value.toString());
+		} else if (value instanceof Date || value instanceof Calendar || value instanceof TemporalAccessor) {
+			if (value instanceof MonthDay) {
+				// issue#2572@Github
+				writeString(value.toString());
+			} else {
+				writeChars(JSONWriter.formatDate(value, config.getDateFormat()));
+			}
+		} else if (value instanceof Enum || value instanceof SQLException) {
+			writeString(value.toString());
+		} else if (null != GlobalSerializeMapping.getSerializer(value.getClass())
+				|| value instanceof byte[]
+				|| ((value instanceof Map || value instanceof Map.Entry || false == ClassUtil.isJdkClass(value.getClass()))
+				&& (config.isIgnoreCase() || null != config.getKeyComparator()))) {
+			// 自定义序列化、字节数组、需要转换键的情况，先转换为JSON
+			writeValue(JSONUtil.wrap(value, config));
+		} else if (value instanceof Map) {
+			writeMap((Map<?, ?>) value);
+		} else if (value instanceof Map.Entry) {
+			final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+			writeByte('{');
+			writeField(true, Convert.toStr(entry.getKey()), entry.getValue());
+			writeByte('}');
+		} else if (value instanceof Iterable) {
+			writeIterator(((Iterable<?>) value).iterator(), value);
+		} else if (value instanceof Iterator) {
+			writeIterator((Iterator<?>) value, value);
+		} else if (ArrayUtil.isArray(value)) {
+			writeIterator(new ArrayIter<>(value), value);
+		} else if (ClassUtil.isJdkClass(value.getClass())) {
+			// Java内部类不做转换
+			writeString(value.toString());
+		} else {
+			writeBean(value);
+		}
+		return this;
+	}
+
+	/**
+	 * 写出换行符'\n'，用于JSON Lines等每行一个值的格式
+	 *
+	 * @return this
+	 * @throws IllegalStateException 已关闭
+	 */
+	public JSONByteWriter newLine() {
+		checkOpen();
+		writeByte('\n');
+		return this;
+	}
+
+	/**
+	 * 标记当前位置，之后写出的内容可以通过{@link #reset()}撤销<br>
+	 * 标记之后的内容在下次标记或{@link #flush()}前保留在缓冲区中，缓冲区不足时扩容而不写出到流。
+	 *
+	 * @return this
+	 * @throws IllegalStateException 已关闭
+	 */
+	public JSONByteWriter mark() {
+		checkOpen();
+		mark = position;
+		return this;
+	}
+
+	/**
+	 * 撤销标记之后写出的内容，用于丢弃写出失败时的不完整内容，未标记时无效
+	 *
+	 * @return this
+	 * @throws IllegalStateException 已关闭
+	 */
+	public JSONByteWriter reset() {
+		checkOpen();
+		if (mark >= 0) {
+			position = mark;
+		}
+		return this;
+	}
+
+	/**
+	 * 将缓冲区中的内容写出到流中并刷新流，同时清除标记
+	 *
+	 * @throws IORuntimeException IO异常
+	 * @throws IllegalStateException 已关闭
+	 */
+	public void flush() throws IORuntimeException {
+		checkOpen();
+		if (null == out) {
+			return;
+		}
+		try {
+			out.write(buffer, 0, position);
+			position = 0;
+			mark = -1;
+			out.flush();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 写出缓冲区中的内容，关闭输出流并归还缓冲区，关闭后再写出抛出{@link IllegalStateException}，重复关闭无效
+	 *
+	 * @throws IORuntimeException IO异常
+	 */
+	@Override
+	public void close() throws IORuntimeException {
+		if (null == buffer) {
+			return;
+		}
+		try {
+			flush();
+		} finally {
+			release();
+			IoUtil.close(out);
+		}
+	}
+
+	// ------------------------------------------------------------------------------ Private methods
+
+	/**
+	 * 写出Map，键转为字符串
+	 *
+	 * @param map Map
+	 */
+	private void writeMap(Map<?, ?> map) {
+		writeByte('{');
+		boolean first = true;
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			if (null != entry.getKey()) {
+				first = writeField(first, Convert.toStr(entry.getKey()), entry.getValue());
+			}
+		}
+		writeByte('}');
+	}
+
+	/**
+	 * 写出键值对，值为null且忽略null值时跳过
+	 *
+	 * @param first 是否为第一个键值对
+	 * @param key   键
+	 * @param value 值
+	 * @return 写出后是否仍为第一个键值对
+	 */
+	private boolean writeField(boolean first, String key, Object value) {
+		if (JSONUtil.isNull(value) && config.isIgnoreNullValue()) {
+			return first;
+		}
+		if (false == first) {
+			writeByte(',');
+		}
+		writeString(key);
+		writeByte(':');
+		writeValue(value);
+		return false;
+	}
+
+	/**
+	 * 写出数组，元素为null且忽略null值时跳过，与{@link JSONArray}相同
+	 *
+	 * @param iter   元素迭代器
+	 * @param source 来源对象，用于跳过对自身的引用
+	 */
+	private void writeIterator(Iterator<?> iter, Object source) {
+		writeByte('[');
+		boolean first = true;
+		Object element;
+		while (iter.hasNext()) {
+			element = iter.next();
+			if (element == source || (JSONUtil.isNull(element) && config.isIgnoreNullValue())) {
+				continue;
+			}
+			if (false == first) {
+				writeByte(',');
+			}
+			writeValue(element);
+			first = false;
+		}
+		writeByte(']');
+	}
+
+	/**
+	 * 写出Bean，使用缓存的属性写出器，不可读的对象与{@link JSONUtil#wrap(Object, JSONConfig)}相同，按照null写出
+	 *
+	 * @param bean Bean
+	 */
+	private void writeBean(Object bean) {
+		final BeanWriter beanWriter = BEAN_WRITER_CACHE.computeIfAbsent(bean.getClass(), BeanWriter::new);
+		if (null == beanWriter.props) {
+			writeRaw(NULL);
+			return;
+		}
+		writeByte('{');
+		boolean first = true;
+		for (PropWriter prop : beanWriter.props) {
+			if (prop.isTransient && config.isTransientSupport()) {
+				continue;
+			}
+			final Object value;
+			try {
+				value = prop.getValue(bean);
+			} catch (Exception e) {
+				if (config.isIgnoreError()) {
+					continue;
+				}
+				throw new JSONException(e, "Get value of [{}] error!", prop.name);
+			}
+			if (null == value && config.isIgnoreNullValue()) {
+				continue;
+			}
+			if (false == first) {
+				writeByte(',');
+			}
+			writeRaw(prop.nameBytes);
+			writeValue(value);
+			first = false;
+		}
+		writeByte('}');
+	}
+
+	/**
+	 * 写出数字，整数直接写出各位数字，其它数字根据{@link JSONConfig#isStripTrailingZeros()}格式化
+	 *
+	 * @param number 数字
+	 */
+	private void writeNumber(Number number) {
+		if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+			writeLong(number.longValue());
+			return;
+		}
+		if (false == ObjectUtil.isValidIfNumber(number)) {
+			throw new JSONException("JSON does not allow non-finite numbers.");
+		}
+		writeChars(NumberUtil.toStr(number, config.isStripTrailingZeros()));
+	}
+
+	/**
+	 * 直接写出long的各位数字
+	 *
+	 * @param value 值
+	 */
+	private void writeLong(long value) {
+		if (Long.MIN_VALUE == value) {
+			writeChars(Long.toString(value));
+			return;
+		}
+		ensure(20);
+		if (value < 0) {
+			buffer[position++] = '-';
+			value = -value;
+		}
+		int digits = 1;
+		for (long v = value; v >= 10; v /= 10) {
+			digits++;
+		}
+		int index = position + digits;
+		position = index;
+		do {
+			buffer[--index] = (byte) ('0' + (value % 10));
+			value /= 10;
+		} while (value > 0);
+	}
+
+	/**
+	 * 输出实现了{@link JSONString}接口的对象，toJSONString()返回null时调用toString()并使用双引号包装
+	 *
+	 * @param jsonString {@link JSONString}
+	 */
+	private void writeJSONString(JSONString jsonString) {
+		final String valueStr;
+		try {
+			valueStr = jsonString.toJSONString();
+		} catch (Exception e) {
+			throw new JSONException(e);
+		}
+		if (null != valueStr) {
+			writeChars(valueStr);
+		} else {
+			writeString(jsonString.toString());
+		}
+	}
+
+	/**
+	 * 写出字符串值，包装双引号并转义，转义规则与{@link JSONUtil#quote(String)}相同
+	 *
+	 * @param str 字符串
+	 */
+	private void writeString(CharSequence str) {
+		writeByte('"');
+		final int length = str.length();
+		char c;
+		for (int i = 0; i < length; i++) {
+			c = str.charAt(i);
+			// 一个字符最多输出6个字节（\\uXXXX）
+			ensure(6);
+			switch (c) {
+				case '\\':
+				case '"':
+					buffer[position++] = '\\';
+					buffer[position++] = (byte) c;
+					break;
+				case '\b':
+					writeEscape('b');
+					break;
+				case '\t':
+					writeEscape('t');
+					break;
+				case '\n':
+					writeEscape('n');
+					break;
+				case '\f':
+					writeEscape('f');
+					break;
+				case '\r':
+					writeEscape('r');
+					break;
+				default:
+					if (c < ' ' || (c >= '\u0080' && c <= '\u00a0') || (c >= '\u2000' && c <= '\u2010')
+							|| (c >= '\u2028' && c <= '\u202F') || (c >= '\u2066' && c <= '\u206F')) {
+						buffer[position++] = '\\';
+						buffer[position++] = 'u';
+						buffer[position++] = HEX[(c >> 12) & 0xF];
+						buffer[position++] = HEX[(c >> 8) & 0xF];
+						buffer[position++] = HEX[(c >> 4) & 0xF];
+						buffer[position++] = HEX[c & 0xF];
+					} else {
+						i = writeChar(str, i, c);
+					}
+			}
+		}
+		writeByte('"');
+	}
+
+	/**
+	 * 写出原始字符串，只做UTF-8编码，不转义
+	 *
+	 * @param str 字符串
+	 */
+	private void writeChars(CharSequence str) {
+		final int length = str.length();
+		for (int i = 0; i < length; i++) {
+			ensure(4);
+			i = writeChar(str, i, str.charAt(i));
+		}
+	}
+
+	/**
+	 * 按照UTF-8编码写出一个字符，调用前需保证缓冲区有4个字节的空间
+	 *
+	 * @param str 字符所在的字符串
+	 * @param i   字符位置
+	 * @param c   字符
+	 * @return 最后处理的字符位置，代理对占用两个字符
+	 */
+	private int writeChar(CharSequence str, int i, char c) {
+		final byte[] buffer = this.buffer;
+		if (c < 0x80) {
+			buffer[position++] = (byte) c;
+		} else if (c < 0x800) {
+			buffer[position++] = (byte) (0xC0 | (c >> 6));
+			buffer[position++] = (byte) (0x80 | (c & 0x3F));
+		} else if (Character.isSurrogate(c)) {
+			if (Character.isHighSurrogate(c) && i + 1 < str.length() && Character.isLowSurrogate(str.charAt(i + 1))) {
+				final int codePoint = Character.toCodePoint(c, str.charAt(++i));
+				buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+				buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+				buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+				buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+			} else {
+				// 与String.getBytes相同，不成对的代理字符写出为'?'
+				buffer[position++] = '?';
+			}
+		} else {
+			buffer[position++] = (byte) (0xE0 | (c >> 12));
+			buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+			buffer[position++] = (byte) (0x80 | (c & 0x3F));
+		}
+		return i;
+	}
+
+	/**
+	 * 写出转义字符，调用前需保证缓冲区有2个字节的空间
+	 *
+	 * @param c 转义后的字符
+	 */
+	private void writeEscape(char c) {
+		buffer[position++] = '\\';
+		buffer[position++] = (byte) c;
+	}
+
+	/**
+	 * 写出单个字节
+	 *
+	 * @param b 字节
+	 */
+	private void writeByte(char b) {
+		ensure(1);
+		buffer[position++] = (byte) b;
+	}
+
+	/**
+	 * 写出原始字节
+	 *
+	 * @param bytes 字节
+	 */
+	private void writeRaw(byte[] bytes) {
+		ensure(bytes.length);
+		if (bytes.length > buffer.length) {
+			// 超出缓冲区大小的内容直接写出
+			try {
+				out.write(bytes);
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+			return;
+		}
+		System.arraycopy(bytes, 0, buffer, position, bytes.length);
+		position += bytes.length;
+	}
+
+	/**
+	 * 保证缓冲区有指定大小的剩余空间，写出到流时先写出标记前的内容，写出到内存或标记后的内容不足时扩容
+	 *
+	 * @param size 需要的空间
+	 */
+	private void ensure(int size) {
+		if (position + size <= buffer.length) {
+			return;
+		}
+		if (null != out) {
+			final int flushed = mark < 0 ? position : mark;
+			try {
+				out.write(buffer, 0, flushed);
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+			position -= flushed;
+			if (mark >= 0) {
+				// 标记后的内容移到缓冲区开头，保证可以撤销
+				System.arraycopy(buffer, flushed, buffer, 0, position);
+				mark = 0;
+				if (position + size > buffer.length) {
+					buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + size));
+				}
+			}
+		} else {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + size));
+		}
+	}
+
+	/**
+	 * 检查是否已关闭，关闭后缓冲区已归还，不能再写出
+	 *
+	 * @throws IllegalStateException 已关闭
+	 */
+	private void checkOpen() {
+		if (null == buffer) {
+			throw new IllegalStateException("JSONByteWriter is closed");
+		}
+	}
+
+	/**
+	 * 归还缓冲区，归还后不能再写出
+	 */
+	private void release() {
+		if (null != buffer && buffer.length <= MAX_POOLED_SIZE) {
+			BUFFER_POOL.set(buffer);
+		}
+		buffer = null;
+	}
+
+	/**
+	 * Bean的属性写出器，解析可读属性并预先编码键名
+	 */
+	private static class BeanWriter {
+		/**
+		 * 可读属性，{@code null}表示不是可读的Bean
+		 */
+		private final PropWriter[] props;
+
+		BeanWriter(Class<?> beanClass) {
+			if (false == BeanUtil.isReadableBean(beanClass)) {
+				this.props = null;
+				return;
+			}
+			final List<PropWriter> props = new ArrayList<>();
+			for (PropDesc prop : BeanUtil.getBeanDesc(beanClass).getProps()) {
+				if (prop.isReadable(false)) {
+					props.add(new PropWriter(prop));
+				}
+			}
+			this.props = props.toArray(new PropWriter[0]);
+		}
+	}
+
+	/**
+	 * 属性写出器
+	 */
+	private static class PropWriter {
+		private final String name;
+		/**
+		 * 已编码的键名及冒号，即"name":
+		 */
+		private final byte[] nameBytes;
+		private final Method getter;
+		private final Field field;
+		private final boolean isTransient;
+
+		PropWriter(PropDesc prop) {
+			this.name = prop.getFieldName();
+			this.nameBytes = (JSONUtil.quote(name) + ':').getBytes(CharsetUtil.CHARSET_UTF_8);
+			this.getter = prop.getGetter();
+			this.field = null == getter && ModifierUtil.isPublic(prop.getField()) ? prop.getField() : null;
+			this.isTransient = false == prop.isReadable(true);
+		}
+
+		Object getValue(Object bean) throws Exception {
+			return null != getter ? getter.invoke(bean) : field.get(bean);
+		}
+	}
+}
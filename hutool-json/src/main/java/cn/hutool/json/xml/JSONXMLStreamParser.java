@@ -0,0 +1,401 @@
+package cn.hutool.json.xml;
+
+import cn.hutool.core.collection.ComputeIter;
+import cn.hutool.core.collection.IterableIter;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.io.file.PathUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.json.InternalJSONUtil;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONLineWriter;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.serialize.JSONWriter;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 基于StAX的XML流式解析器，将XML转换为JSON，转换规则与{@link JSONXMLParser}相同。<br>
+ * 与{@link JSONXMLParser}不同，此解析器直接从{@link Reader}或{@link InputStream}中读取，不需要将XML读取为字符串，
+ * 支持两种模式：
+ * <ul>
+ *     <li>文档模式：记录元素为{@code null}，整个文档转换为一个{@link JSONObject}，结果与{@link cn.hutool.json.XML#toJSONObject(String)}相同</li>
+ *     <li>记录模式：指定记录元素名，每遇到一个此名称的元素，将此元素转换为一个{@link JSONObject}，记录元素之外的内容被忽略，
+ *     内存中只保留当前记录，适用于逐条处理较大的XML数据。</li>
+ * </ul>
+ * 记录模式下，元素的属性和子元素作为键，文本内容的键为"content"，无内容的元素转换为空的JSONObject。<br>
+ * 读取为懒加载方式，只在遍历时读取下一条记录，遍历结束后应关闭，推荐使用方式：
+ *
+ * <pre>
+ * try (JSONXMLStreamParser parser = JSONXMLStreamParser.of(reader, "item")) {
+ * 	for (JSONObject item : parser) {
+ * 		// do something with item
+ * 	}
+ * }
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.10
+ */
+public class JSONXMLStreamParser extends ComputeIter<JSONObject> implements IterableIter<JSONObject>, Closeable {
+
+	/**
+	 * JDK内置StAX实现中开启CDATA事件报告的属性
+	 */
+	private static final String REPORT_CDATA_EVENT = "http://java.sun.com/xml/stream/properties/report-cdata-event";
+	private static final XMLInputFactory FACTORY = createFactory();
+
+	private final XMLStreamReader reader;
+	private final Closeable source;
+	private final String recordElement;
+	private final JSONConfig config;
+	private final boolean keepStrings;
+	/**
+	 * 当前元素中未处理的文本，遇到非文本节点时写入"content"
+	 */
+	private final StringBuilder text = new StringBuilder();
+	private boolean documentRead;
+
+	/**
+	 * 创建解析器
+	 *
+	 * @param reader        XML的{@link Reader}
+	 * @param recordElement 记录元素名，{@code null}表示整个文档作为一条记录
+	 * @return JSONXMLStreamParser
+	 */
+	public static JSONXMLStreamParser of(Reader reader, String recordElement) {
+		return of(reader, recordElement, null, false);
+	}
+
+	/**
+	 * 创建解析器
+	 *
+	 * @param reader        XML的{@link Reader}
+	 * @param recordElement 记录元素名，{@code null}表示整个文档作为一条记录
+	 * @param config        JSON配置，{@code null}表示使用默认配置
+	 * @param keepStrings   如果为{@code true}，则值保持String类型，不转换为数字或boolean
+	 * @return JSONXMLStreamParser
+	 * @throws JSONException XML读取异常
+	 */
+	public static JSONXMLStreamParser of(Reader reader, String recordElement, JSONConfig config, boolean keepStrings) throws JSONException {
+		Assert.notNull(reader, "Reader must not be null");
+		try {
+			return new JSONXMLStreamParser(FACTORY.createXMLStreamReader(reader), reader, recordElement, config, keepStrings);
+		} catch (XMLStreamException e) {
+			throw new JSONException(e);
+		}
+	}
+
+	/**
+	 * 创建解析器，编码根据XML声明自动识别
+	 *
+	 * @param in            XML的{@link InputStream}
+	 * @param recordElement 记录元素名，{@code null}表示整个文档作为一条记录
+	 * @param config        JSON配置，{@code null}表示使用默认配置
+	 * @param keepStrings   如果为{@code true}，则值保持String类型，不转换为数字或boolean
+	 * @return JSONXMLStreamParser
+	 * @throws JSONException XML读取异常
+	 */
+	public static JSONXMLStreamParser of(InputStream in, String recordElement, JSONConfig config, boolean keepStrings) throws JSONException {
+		Assert.notNull(in, "InputStream must not be null");
+		try {
+			return new JSONXMLStreamParser(FACTORY.createXMLStreamReader(in), in, recordElement, config, keepStrings);
+		} catch (XMLStreamException e) {
+			throw new JSONException(e);
+		}
+	}
+
+	/**
+	 * 创建读取XML文件的解析器，编码根据XML声明自动识别
+	 *
+	 * @param path          文件路径
+	 * @param recordElement 记录元素名，{@code null}表示整个文档作为一条记录
+	 * @param config        JSON配置，{@code null}表示使用默认配置
+	 * @param keepStrings   如果为{@code true}，则值保持String类型，不转换为数字或boolean
+	 * @return JSONXMLStreamParser
+	 * @throws IORuntimeException IO异常
+	 * @throws JSONException      XML读取异常
+	 */
+	public static JSONXMLStreamParser of(Path path, String recordElement, JSONConfig config, boolean keepStrings) throws IORuntimeException, JSONException {
+		final InputStream in = PathUtil.getInputStream(path);
+		try {
+			return of(in, recordElement, config, keepStrings);
+		} catch (JSONException e) {
+			IoUtil.close(in);
+			throw e;
+		}
+	}
+
+	/**
+	 * 读取整个XML文档为JSONObject，结果与{@link JSONXMLParser}相同，读取结束后关闭Reader
+	 *
+	 * @param reader      XML的{@link Reader}
+	 * @param config      JSON配置，{@code null}表示使用默认配置
+	 * @param keepStrings 如果为{@code true}，则值保持String类型，不转换为数字或boolean
+	 * @return JSONObject
+	 * @throws JSONException XML读取异常
+	 */
+	public static JSONObject toJSONObject(Reader reader, JSONConfig config, boolean keepStrings) throws JSONException {
+		try (final JSONXMLStreamParser parser = of(reader, null, config, keepStrings)) {
+			return parser.next();
+		}
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param reader        {@link XMLStreamReader}
+	 * @param source        XML来源，关闭时一并关闭，可以为{@code null}
+	 * @param recordElement 记录元素名，{@code null}表示整个文档作为一条记录
+	 * @param config        JSON配置，{@code null}表示使用默认配置
+	 * @param keepStrings   如果为{@code true}，则值保持String类型，不转换为数字或boolean
+	 */
+	public JSONXMLStreamParser(XMLStreamReader reader, Closeable source, String recordElement, JSONConfig config, boolean keepStrings) {
+		this.reader = Assert.notNull(reader, "XMLStreamReader must not be null");
+		this.source = source;
+		this.recordElement = StrUtil.emptyToNull(recordElement);
+		this.config = null == config ? JSONConfig.create() : config;
+		this.keepStrings = keepStrings;
+	}
+
+	/**
+	 * 转换为顺序流，关闭流时关闭此解析器
+	 *
+	 * @return 流
+	 */
+	public Stream<JSONObject> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+				Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+	}
+
+	/**
+	 * 将剩余的所有记录写出为JSON数组，写出后不关闭Writer
+	 *
+	 * @param writer {@link Writer}
+	 * @return 写出的记录数
+	 * @throws IORuntimeException IO异常
+	 */
+	public long writeArray(Writer writer) throws IORuntimeException {
+		final JSONWriter jsonWriter = JSONWriter.of(writer, 0, 0, config).beginArray();
+		long count = 0;
+		while (hasNext()) {
+			jsonWriter.writeValue(next());
+			count++;
+		}
+		jsonWriter.end();
+		return count;
+	}
+
+	/**
+	 * 将剩余的所有记录写出为JSON Lines，每条记录一行，使用UTF-8编码，写出后不关闭流
+	 *
+	 * @param out {@link OutputStream}
+	 * @return 写出的记录数
+	 * @throws IORuntimeException IO异常
+	 */
+	public long writeLines(OutputStream out) throws IORuntimeException {
+		final JSONLineWriter lineWriter = new JSONLineWriter(out, config);
+		long count = 0;
+		while (hasNext()) {
+			lineWriter.write(next());
+			count++;
+		}
+		lineWriter.flush();
+		return count;
+	}
+
+	/**
+	 * 关闭解析器及XML来源
+	 */
+	@Override
+	public void close() {
+		super.finish();
+		try {
+			reader.close();
+		} catch (XMLStreamException e) {
+			// ignore
+		}
+		IoUtil.close(source);
+	}
+
+	@Override
+	protected JSONObject computeNext() {
+		try {
+			return null == recordElement ? readDocument() : readRecord();
+		} catch (XMLStreamException e) {
+			close();
+			throw new JSONException(e, "Parse XML error at line {}", null == e.getLocation() ? -1 : e.getLocation().getLineNumber());
+		}
+	}
+
+	// ------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 读取整个文档，文档只有一个根元素，因此只返回一次
+	 *
+	 * @return 文档转换的JSONObject，已读取返回{@code null}
+	 * @throws XMLStreamException XML异常
+	 */
+	private JSONObject readDocument() throws XMLStreamException {
+		if (documentRead) {
+			return null;
+		}
+		documentRead = true;
+		final JSONObject document = new JSONObject(config);
+		while (reader.hasNext()) {
+			if (XMLStreamConstants.START_ELEMENT == reader.next()) {
+				final String name = getName(reader.getPrefix(), reader.getLocalName());
+				document.accumulate(name, readElement(false));
+			}
+		}
+		return document;
+	}
+
+	/**
+	 * 读取下一个记录元素
+	 *
+	 * @return 记录元素转换的JSONObject，无更多记录返回{@code null}
+	 * @throws XMLStreamException XML异常
+	 */
+	private JSONObject readRecord() throws XMLStreamException {
+		while (reader.hasNext()) {
+			if (XMLStreamConstants.START_ELEMENT == reader.next()
+					&& (recordElement.equals(reader.getLocalName())
+					|| recordElement.equals(getName(reader.getPrefix(), reader.getLocalName())))) {
+				return (JSONObject) readElement(true);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 读取当前元素，读取结束后位于元素的结束标签
+	 *
+	 * @param isRecord 是否为记录元素，记录元素总是返回JSONObject
+	 * @return 元素转换后的值
+	 * @throws XMLStreamException XML异常
+	 */
+	private Object readElement(boolean isRecord) throws XMLStreamException {
+		final XMLStreamReader reader = this.reader;
+		final JSONObject jsonObject = new JSONObject(config);
+		// 与JSONXMLParser相同，命名空间声明作为属性处理
+		for (int i = 0; i < reader.getNamespaceCount(); i++) {
+			jsonObject.accumulate(getName("xmlns", reader.getNamespacePrefix(i)), reader.getNamespaceURI(i));
+		}
+		for (int i = 0; i < reader.getAttributeCount(); i++) {
+			jsonObject.accumulate(getName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+					toValue(reader.getAttributeValue(i)));
+		}
+
+		while (reader.hasNext()) {
+			switch (reader.next()) {
+				case XMLStreamConstants.CHARACTERS:
+				case XMLStreamConstants.SPACE:
+					text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+					break;
+				case XMLStreamConstants.CDATA:
+					flushText(jsonObject);
+					if (reader.getTextLength() > 0) {
+						jsonObject.accumulate("content", reader.getText());
+					}
+					break;
+				case XMLStreamConstants.START_ELEMENT:
+					flushText(jsonObject);
+					final String name = getName(reader.getPrefix(), reader.getLocalName());
+					jsonObject.accumulate(name, readElement(false));
+					break;
+				case XMLStreamConstants.END_ELEMENT:
+					flushText(jsonObject);
+					if (isRecord) {
+						return jsonObject;
+					}
+					if (jsonObject.isEmpty()) {
+						return StrUtil.EMPTY;
+					}
+					if (jsonObject.size() == 1 && null != jsonObject.get("content")) {
+						return jsonObject.get("content");
+					}
+					return jsonObject;
+				default:
+					// 注释、处理指令等与JSONXMLParser相同，分隔文本
+					flushText(jsonObject);
+			}
+		}
+		throw new JSONException("Unexpected end of XML document");
+	}
+
+	/**
+	 * 将缓存的文本去除首尾空白后加入"content"
+	 *
+	 * @param jsonObject 当前元素的JSONObject
+	 */
+	private void flushText(JSONObject jsonObject) {
+		if (text.length() > 0) {
+			final String content = StrUtil.trim(text);
+			text.setLength(0);
+			if (content.length() > 0) {
+				jsonObject.accumulate("content", toValue(content));
+			}
+		}
+	}
+
+	/**
+	 * 转换文本或属性值
+	 *
+	 * @param value 值
+	 * @return 转换后的值
+	 */
+	private Object toValue(String value) {
+		return keepStrings ? value : InternalJSONUtil.stringToValue(value);
+	}
+
+	/**
+	 * 获取带前缀的名称
+	 *
+	 * @param prefix    前缀，可以为{@code null}或空
+	 * @param localName 本地名称，可以为{@code null}或空
+	 * @return 名称
+	 */
+	private static String getName(String prefix, String localName) {
+		if (StrUtil.isEmpty(prefix)) {
+			return localName;
+		}
+		if (StrUtil.isEmpty(localName)) {
+			return prefix;
+		}
+		return prefix + ':' + localName;
+	}
+
+	/**
+	 * 创建{@link XMLInputFactory}，关闭DTD和外部实体支持，防止XXE<br>
+	 * JDK内置实现默认将CDATA作为普通文本报告，开启CDATA事件以与{@link JSONXMLParser}相同保留CDATA原文
+	 *
+	 * @return XMLInputFactory
+	 */
+	private static XMLInputFactory createFactory() {
+		final XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		try {
+			factory.setProperty(REPORT_CDATA_EVENT, true);
+		} catch (IllegalArgumentException e) {
+			// 其它实现不支持此属性，一般默认报告CDATA事件
+		}
+		return factory;
+	}
+}
@@ -0,0 +1,133 @@
+package cn.hutool.json;
+
+import cn.hutool.core.annotation.Alias;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.lang.TypeReference;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class JSONBinderTest {
+
+	final String json = "{\"id\": 12, \"name\": \"hutool\", \"user_age\": 18, \"active\": true, \"score\": 99.5, \"price\": 1.10," +
+			"\"created\": \"2022-10-01 12:00:00\", \"type\": \"B\", \"nick\": \"looly\", \"unknown\": {\"a\": [1, 2, {\"b\": null}]}," +
+			"\"tags\": [\"a\", \"b\", \"a\"], \"scores\": [1, 2, 3], \"attrs\": {\"1\": {\"id\": 1}, \"2\": null}," +
+			"\"children\": [{\"id\": 2, \"name\": \"child\", \"children\": []}], \"password\": \"123\", \"extra\": {\"k\": \"v\"}}";
+
+	@Test
+	public void bindTest() {
+		final Node node = JSONBinder.bind(json, Node.class);
+		Assert.assertEquals(12L, node.getId());
+		Assert.assertEquals("hutool", node.getName());
+		Assert.assertEquals(Integer.valueOf(18), node.getUserAge());
+		Assert.assertTrue(node.isActive());
+		Assert.assertEquals(99.5D, node.getScore(), 0);
+		Assert.assertEquals(new BigDecimal("1.10"), node.getPrice());
+		Assert.assertEquals(DateUtil.parse("2022-10-01 12:00:00"), node.getCreated());
+		Assert.assertEquals(Type.B, node.getType());
+		Assert.assertEquals("looly", node.getNickName());
+		Assert.assertEquals(CollUtil.newHashSet("a", "b"), node.getTags());
+		Assert.assertArrayEquals(new int[]{1, 2, 3}, node.getScores());
+		Assert.assertEquals(1L, node.getAttrs().get(1).getId());
+		Assert.assertNull(node.getAttrs().get(2));
+		Assert.assertEquals("child", node.getChildren().get(0).getName());
+		Assert.assertTrue(node.getChildren().get(0).getChildren().isEmpty());
+		Assert.assertEquals("v", node.getExtra().getStr("k"));
+		// transient字段默认不绑定
+		Assert.assertNull(node.getPassword());
+
+		// 与先解析为JSONObject再转Bean的结果相同
+		Assert.assertEquals(JSONUtil.toBean(json, Node.class), node);
+	}
+
+	@Test
+	public void bindConfigTest() {
+		final String json = "{\"ID\": 1, \"NAME\": \"a\", \"password\": \"123\", \"score\": null}";
+		final Node node = JSONBinder.bind(json, JSONConfig.create().setIgnoreCase(true).setTransientSupport(false), Node.class);
+		Assert.assertEquals(1L, node.getId());
+		Assert.assertEquals("a", node.getName());
+		Assert.assertEquals("123", node.getPassword());
+
+		// 转换失败时忽略
+		final Node node2 = JSONBinder.bind("{\"id\": \"abc\", \"name\": \"a\"}", JSONConfig.create().setIgnoreError(true), Node.class);
+		Assert.assertEquals(0L, node2.getId());
+		Assert.assertEquals("a", node2.getName());
+	}
+
+	@Test
+	public void bindJSONTest() {
+		// JSON类型的目标直接返回读取的结果，保留配置中的null值
+		final JSONConfig config = JSONConfig.create().setIgnoreNullValue(false);
+		final JSONObject jsonObject = JSONBinder.bind("{\"a\": 1, \"b\": null}", config, JSONObject.class);
+		Assert.assertTrue(jsonObject.containsKey("b"));
+		Assert.assertEquals("{\"a\":1,\"b\":null}", jsonObject.toString());
+
+		final JSONArray jsonArray = JSONBinder.bind("[1, null]", config, JSONArray.class);
+		Assert.assertEquals(2, jsonArray.size());
+
+		final Node node = JSONBinder.bind("{\"id\": 1, \"extra\": {\"k\": null}}", config, Node.class);
+		Assert.assertTrue(node.getExtra().containsKey("k"));
+	}
+
+	@Test
+	public void bindGenericTest() {
+		final String json = "{\"code\": 0, \"data\": [{\"id\": 1, \"name\": \"a\"}, {\"id\": 2, \"name\": \"b\"}]}";
+		final Result<List<Node>> result = JSONBinder.bind(json, new TypeReference<Result<List<Node>>>() {
+		});
+		Assert.assertEquals(2, result.getData().size());
+		Assert.assertEquals("b", result.getData().get(1).getName());
+
+		final List<Map<String, Long>> list = JSONBinder.bind("[{\"a\": 1}, {\"b\": 2}]", new TypeReference<List<Map<String, Long>>>() {
+		});
+		Assert.assertEquals(Long.valueOf(2), list.get(1).get("b"));
+	}
+
+	@Test
+	public void bindStreamTest() {
+		final JSONReader reader = new JSONReader("[{\"id\": 1}, {\"id\": 2}, {\"id\": 3}]", null);
+		long sum = 0;
+		reader.beginArray();
+		while (reader.hasNext()) {
+			sum += JSONBinder.<Node>bind(reader, Node.class).getId();
+		}
+		reader.endArray();
+		Assert.assertEquals(6, sum);
+	}
+
+	public enum Type {
+		A, B
+	}
+
+	@Data
+	public static class Node {
+		private long id;
+		private String name;
+		private Integer userAge;
+		private boolean active;
+		private double score;
+		private BigDecimal price;
+		private Date created;
+		private Type type;
+		@Alias("nick")
+		private String nickName;
+		private Set<String> tags;
+		private int[] scores;
+		private Map<Integer, Node> attrs;
+		private List<Node> children;
+		private transient String password;
+		private JSONObject extra;
+	}
+
+	@Data
+	public static class Result<T> {
+		private int code;
+		private T data;
+	}
+}
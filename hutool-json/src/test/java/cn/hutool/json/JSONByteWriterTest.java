@@ -0,0 +1,134 @@
+package cn.hutool.json;
+
+import cn.hutool.core.annotation.Alias;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.json.serialize.JSONByteWriter;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+public class JSONByteWriterTest {
+
+	@Test
+	public void writeBeanTest() {
+		final Node node = createNode();
+		assertSame(node, JSONConfig.create());
+		assertSame(node, JSONConfig.create().setIgnoreNullValue(false));
+		assertSame(node, JSONConfig.create().setDateFormat("yyyy-MM-dd").setTransientSupport(false));
+		assertSame(node, JSONConfig.create().setStripTrailingZeros(false));
+		// 以下配置转换为JSON后写出
+		assertSame(node, JSONConfig.create().setIgnoreCase(true));
+		assertSame(node, JSONConfig.create().setKeyComparator(String::compareTo));
+	}
+
+	@Test
+	public void writeCollectionTest() {
+		final List<Object> list = CollUtil.newArrayList(1, null, "a", 'c', true, Long.MIN_VALUE, Integer.MAX_VALUE, (short) -3,
+				new int[]{1, 2}, new String[]{"x", null}, MapUtil.of("k", null), MapUtil.of(1, 2));
+		list.add(list);
+		assertSame(list, JSONConfig.create());
+		assertSame(list, JSONConfig.create().setIgnoreNullValue(false));
+
+		assertSame(new JSONArray("[1, {\"a\": null, \"b\": [true, 1.5]}]"), JSONConfig.create().setIgnoreNullValue(false));
+		assertSame(MapUtil.entry("key", 1), JSONConfig.create());
+	}
+
+	@Test
+	public void writeStringTest() {
+		final String str = "中文\"\\/\b\t\n\f\r\u0001\u0085 ⁯😀a";
+		Assert.assertEquals(JSONUtil.quote(str), StrUtil.utf8Str(JSONByteWriter.toBytes(str)));
+		Assert.assertEquals("\"\"", StrUtil.utf8Str(JSONByteWriter.toBytes("")));
+		Assert.assertEquals("null", StrUtil.utf8Str(JSONByteWriter.toBytes(null)));
+	}
+
+	@Test(expected = JSONException.class)
+	public void nonFiniteTest() {
+		JSONByteWriter.toBytes(CollUtil.newArrayList(1D, Double.NaN));
+	}
+
+	@Test
+	public void writeStreamTest() {
+		// 超出缓冲区大小的内容分多次写出
+		final List<Node> list = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			list.add(createNode());
+		}
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		JSONByteWriter.write(list, out, null);
+		Assert.assertEquals(JSONUtil.toJsonStr(list), StrUtil.utf8Str(out.toByteArray()));
+		Assert.assertArrayEquals(out.toByteArray(), JSONByteWriter.toBytes(list));
+	}
+
+	@Test
+	public void writeAfterCloseTest() {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final JSONByteWriter writer = new JSONByteWriter(out, null);
+		writer.writeValue(MapUtil.of("a", 1));
+		writer.close();
+		// 重复关闭无效
+		writer.close();
+		Assert.assertEquals("{\"a\":1}", StrUtil.utf8Str(out.toByteArray()));
+
+		Assert.assertThrows(IllegalStateException.class, () -> writer.writeValue("b"));
+		Assert.assertThrows(IllegalStateException.class, writer::newLine);
+		Assert.assertThrows(IllegalStateException.class, writer::flush);
+	}
+
+	private static void assertSame(Object obj, JSONConfig config) {
+		Assert.assertEquals(JSONUtil.toJsonStr(obj, config), StrUtil.utf8Str(JSONByteWriter.toBytes(obj, config)));
+	}
+
+	private static Node createNode() {
+		final Node node = new Node();
+		node.setId(Long.MAX_VALUE);
+		node.setName("hutool\t\"工具\"");
+		node.setActive(true);
+		node.setScore(99.5D);
+		node.setPrice(new BigDecimal("1.10"));
+		node.setCreated(DateUtil.parse("2022-10-01 12:00:00"));
+		node.setTime(LocalDateTime.of(2022, 10, 1, 12, 0));
+		node.setType(Type.B);
+		node.setNickName("looly");
+		node.setScores(new int[]{1, 2, 3});
+		node.setAttrs(MapUtil.of("a", "b"));
+		node.setPassword("123");
+		final Node child = new Node();
+		child.setId(2);
+		node.setChildren(CollUtil.newArrayList(child, null));
+		return node;
+	}
+
+	public enum Type {
+		A, B
+	}
+
+	@Data
+	public static class Node {
+		private long id;
+		private String name;
+		private Integer userAge;
+		private boolean active;
+		private double score;
+		private BigDecimal price;
+		private Date created;
+		private LocalDateTime time;
+		private Type type;
+		@Alias("nick")
+		private String nickName;
+		private int[] scores;
+		private Map<String, Object> attrs;
+		private List<Node> children;
+		private transient String password;
+	}
+}
@@ -0,0 +1,146 @@
+package cn.hutool.json;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.json.test.bean.KeyBean;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class JSONLinesTest {
+
+	@Test
+	public void readTest() {
+		final String lines = "{\"akey\": \"a1\", \"bkey\": null}\r\n\n  \n{\"akey\": \"a2\"}";
+		final List<JSONObject> list = new ArrayList<>();
+		try (JSONLineReader<JSONObject> reader = JSONLineReader.of(new StringReader(lines))) {
+			for (JSONObject obj : reader) {
+				list.add(obj);
+			}
+		}
+		Assert.assertEquals(2, list.size());
+		Assert.assertEquals("a2", list.get(1).getStr("akey"));
+		// 与JSONUtil.parseObj相同，保留null值
+		Assert.assertTrue(list.get(0).containsKey("bkey"));
+
+		try (Stream<KeyBean> stream = JSONLineReader.<KeyBean>of(new StringReader(lines), null, KeyBean.class).stream()) {
+			Assert.assertEquals(CollUtil.newArrayList("a1", "a2"), stream.map(KeyBean::getAkey).collect(Collectors.toList()));
+		}
+	}
+
+	@Test(expected = JSONException.class)
+	public void readErrorTest() {
+		final JSONLineReader<JSONObject> reader = JSONLineReader.of(new StringReader("{\"a\": 1}\n{\"a\": "));
+		reader.next();
+		reader.next();
+	}
+
+	@Test
+	public void readTrailingContentTest() {
+		Assert.assertEquals(1, JSONLineReader.of(new StringReader("{\"a\": 1}  \t")).next().getInt("a").intValue());
+		for (String line : new String[]{"{}{}", "{} junk", "[1] 2"}) {
+			try {
+				JSONLineReader.of(new StringReader(line)).next();
+				Assert.fail("Trailing content accepted: " + line);
+			} catch (JSONException e) {
+				// 每行只能有一个值
+			}
+		}
+	}
+
+	@Test
+	public void writeErrorTest() {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (JSONLineWriter writer = new JSONLineWriter(out, null)) {
+			writer.write(MapUtil.of("a", 1));
+			// 超出缓冲区大小后失败的行不能写出
+			final Map<String, Object> bad = MapUtil.<String, Object>builder()
+					.put("a", StrUtil.repeat('x', 20000))
+					.put("b", Double.NaN)
+					.build();
+			try {
+				writer.write(bad);
+				Assert.fail("NaN accepted");
+			} catch (JSONException e) {
+				// 非法数字
+			}
+			writer.write(MapUtil.of("a", 2));
+		}
+		final String result = StrUtil.utf8Str(out.toByteArray());
+		Assert.assertEquals("{\"a\":1}\n{\"a\":2}\n", result);
+		final List<JSONObject> list = ListUtil.toList(JSONLineReader.of(new StringReader(result)).iterator());
+		Assert.assertEquals(2, list.size());
+		Assert.assertEquals(2, list.get(1).getInt("a").intValue());
+	}
+
+	@Test
+	public void writeNullTest() {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final Map<String, Object> map = MapUtil.newHashMap();
+		map.put("a", null);
+		map.put("b", 1);
+		try (JSONLineWriter writer = new JSONLineWriter(out, null)) {
+			writer.write(map);
+		}
+		// 与读取的默认配置相同，保留null值
+		final JSONObject read = JSONLineReader.of(new StringReader(StrUtil.utf8Str(out.toByteArray()))).next();
+		Assert.assertTrue(read.containsKey("a"));
+		Assert.assertEquals(1, read.getInt("b").intValue());
+	}
+
+	@Test
+	public void writeAndParallelReadTest() {
+		final File file = FileUtil.createTempFile(".jsonl", true);
+		try {
+			final Path path = file.toPath();
+			final List<KeyBean> beans = new ArrayList<>();
+			for (int i = 0; i < 50000; i++) {
+				final KeyBean bean = new KeyBean();
+				bean.setAkey("a" + i);
+				bean.setBkey("中文\n" + i);
+				beans.add(bean);
+			}
+			try (JSONLineWriter writer = new JSONLineWriter(path, false, null)) {
+				writer.writeAll(beans.subList(0, 100));
+			}
+			try (JSONLineWriter writer = new JSONLineWriter(path, true, null)) {
+				writer.writeAll(beans.subList(100, beans.size()).stream());
+			}
+			Assert.assertEquals(JSONUtil.toJsonStr(beans.get(0)), FileUtil.readLines(file, CharsetUtil.CHARSET_UTF_8).get(0));
+
+			final List<KeyBean> read;
+			try (JSONLineReader<KeyBean> reader = JSONLineReader.of(path, null, KeyBean.class)) {
+				read = ListUtil.toList(reader.iterator());
+			}
+			Assert.assertEquals(beans.size(), read.size());
+			Assert.assertEquals("中文\n49999", read.get(49999).getBkey());
+
+			// 文件大于拆分大小，并行解析后保持顺序
+			try (Stream<KeyBean> stream = JSONLineReader.parallelStream(path, null, KeyBean.class)) {
+				final List<String> keys = stream.map(KeyBean::getAkey).collect(Collectors.toList());
+				Assert.assertEquals(beans.stream().map(KeyBean::getAkey).collect(Collectors.toList()), keys);
+			}
+
+			// 未遍历完时关闭流，释放映射后文件可以删除
+			try (Stream<KeyBean> stream = JSONLineReader.parallelStream(path, null, KeyBean.class)) {
+				Assert.assertTrue(stream.anyMatch(bean -> "a0".equals(bean.getAkey())));
+			}
+			Assert.assertTrue(file.delete());
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+}
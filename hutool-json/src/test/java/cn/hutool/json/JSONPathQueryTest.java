@@ -0,0 +1,89 @@
+package cn.hutool.json;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.json.test.bean.KeyBean;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+public class JSONPathQueryTest {
+
+	final String json = "{\"id\": 1, \"payload\": {\"big\": [[1, 2, {\"x\": \"}]\"}], {\"y\": null}], \"text\": \"a\\\"b\"}," +
+			"\"user\": {\"name\": \"looly\", \"tags\": [\"a\", \"b\", \"c\"], \"bean\": {\"akey\": \"a1\", \"bkey\": \"b1\"}}," +
+			"\"items\": [{\"id\": 10, \"n\": null}, {\"id\": 11}, {\"id\": 12}, {\"id\": 13}], \"3\": \"three\"}";
+
+	@Test
+	public void readTest() {
+		final JSONObject obj = JSONUtil.parseObj(json);
+		for (String expression : new String[]{"id", "$.user.name", "user.tags[1]", "['user']['tags'][2]", "items[1].id",
+				"user.bean", "payload.text", "items[0].n", "3", "user.tags"}) {
+			Assert.assertEquals(expression, obj.getByPath(expression), JSONPath.create(expression).read(json));
+		}
+		Assert.assertNull(JSONPath.create("user.age").read(json));
+		Assert.assertNull(JSONPath.create("items[9].id").read(json));
+		Assert.assertNull(JSONPath.create("id.x").read(json));
+		Assert.assertEquals(obj, JSONPath.create("$").read(json));
+
+		Assert.assertEquals("looly", JSONPath.create("user.name").read(new StringReader(json)));
+		final KeyBean bean = JSONPath.create("user.bean").read(json, KeyBean.class);
+		Assert.assertEquals("b1", bean.getBkey());
+		Assert.assertEquals(Long.valueOf(12), JSONPath.create("items[2].id").read(json, Long.class));
+	}
+
+	@Test
+	public void readAllTest() {
+		Assert.assertEquals(CollUtil.newArrayList(10, 11, 12, 13), JSONPath.create("items[*].id").readAll(json));
+		Assert.assertEquals(CollUtil.newArrayList(10, 12), JSONPath.create("items[0:4:2].id").readAll(json));
+		Assert.assertEquals(CollUtil.newArrayList(11, 13), JSONPath.create("items[1,3].id").readAll(json));
+		Assert.assertEquals(CollUtil.newArrayList(1, "three"), JSONPath.create("['id','3']").readAll(json));
+		Assert.assertEquals(CollUtil.newArrayList("a1", "b1"), JSONPath.create("user.bean.*").readAll(json));
+		Assert.assertTrue(JSONPath.create("items[*].name").readAll(json).isEmpty());
+		Assert.assertFalse(JSONPath.create("items[*].id").isDefinite());
+		Assert.assertTrue(JSONPath.create("items[1].id").isDefinite());
+	}
+
+	@Test
+	public void readMultiTest() {
+		final JSONPath[] paths = {JSONPath.create("user.name"), JSONPath.create("user"), JSONPath.create("items[3].id"),
+				JSONPath.create("user.tags[*]"), JSONPath.create("none")};
+		final Object[] values = JSONPath.read(json, paths);
+		Assert.assertEquals("looly", values[0]);
+		Assert.assertEquals(JSONUtil.parseObj(json).getJSONObject("user"), values[1]);
+		Assert.assertEquals(13, values[2]);
+		Assert.assertEquals("a", values[3]);
+		Assert.assertNull(values[4]);
+
+		// 重叠路径在已构建的值上匹配
+		final List<Object> tags = JSONPath.create("user.tags[*]").readAll(json);
+		Assert.assertEquals(CollUtil.newArrayList("a", "b", "c"), tags);
+	}
+
+	@Test
+	public void stopAfterMatchTest() {
+		// 匹配后不再读取之后的内容，之后的语法错误不影响结果
+		Assert.assertEquals(1, JSONPath.create("a").read("{\"a\": 1, \"b\": [1, 2"));
+		Assert.assertEquals(2, JSONPath.create("b[1]").read("{\"a\": 1, \"b\": [1, 2, {"));
+	}
+
+	@Test
+	public void noProjectionTest() {
+		final String json = "{\"a\":{\"b\":[{\"c\":1},{\"c\":2}]}}";
+		// BeanPath将键投影到数组的每个元素上，JSONPath不投影
+		Assert.assertEquals(CollUtil.newArrayList(1, 2), JSONUtil.parseObj(json).getByPath("a.b.c"));
+		Assert.assertNull(JSONPath.create("a.b.c").read(json));
+		Assert.assertTrue(JSONPath.create("a.b.c").readAll(json).isEmpty());
+		Assert.assertEquals(CollUtil.newArrayList(1, 2), JSONPath.create("a.b[*].c").readAll(json));
+	}
+
+	@Test(expected = JSONException.class)
+	public void syntaxErrorTest() {
+		JSONPath.create("c").read("{\"a\": 1, \"b\": [1, 2");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeSliceTest() {
+		JSONPath.create("items[-2:].id");
+	}
+}
@@ -0,0 +1,138 @@
+package cn.hutool.json;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.json.test.bean.KeyBean;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class JSONReaderTest {
+
+	@Test
+	public void readTokensTest() {
+		final String json = "{\"id\": 9223372036854775807, 'name':\"a\\\"b\", flag: true, \"rate\": 1.5e2, \"empty\": null, \"tags\": [1, 2,]}";
+		final JSONReader reader = new JSONReader(json, null);
+		Assert.assertEquals(JSONReader.Token.BEGIN_OBJECT, reader.peek());
+		reader.beginObject();
+
+		Assert.assertEquals("id", reader.nextName());
+		Assert.assertEquals(JSONReader.Token.NUMBER, reader.peek());
+		Assert.assertEquals(Long.MAX_VALUE, reader.nextLong());
+		Assert.assertEquals("name", reader.nextName());
+		Assert.assertEquals("a\"b", reader.nextString());
+		Assert.assertEquals("flag", reader.nextName());
+		Assert.assertTrue(reader.nextBoolean());
+		Assert.assertEquals("rate", reader.nextName());
+		Assert.assertEquals(150D, reader.nextDouble(), 0);
+		Assert.assertEquals("empty", reader.nextName());
+		Assert.assertEquals(JSONReader.Token.NULL, reader.peek());
+		reader.nextNull();
+
+		Assert.assertEquals("tags", reader.nextName());
+		reader.beginArray();
+		Assert.assertEquals(1, reader.nextInt());
+		Assert.assertEquals(2, reader.nextInt());
+		Assert.assertFalse(reader.hasNext());
+		reader.endArray();
+
+		Assert.assertFalse(reader.hasNext());
+		reader.endObject();
+		Assert.assertEquals(JSONReader.Token.END_DOCUMENT, reader.peek());
+	}
+
+	@Test
+	public void numberTest() {
+		final JSONReader reader = new JSONReader("[\"12\", 1.0, 12345678901234567890.1, -0, 01]", null);
+		reader.beginArray();
+		Assert.assertEquals(12L, reader.nextLong());
+		Assert.assertEquals(1L, reader.nextLong());
+		Assert.assertEquals(new BigDecimal("12345678901234567890.1"), reader.nextBigDecimal());
+		Assert.assertEquals(JSONReader.Token.NUMBER, reader.peek());
+		Assert.assertEquals(0, reader.nextInt());
+		// 与JSONTokener相同，非法数字作为无引号字符串
+		Assert.assertEquals(JSONReader.Token.STRING, reader.peek());
+		Assert.assertEquals("01", reader.nextString());
+		reader.endArray();
+	}
+
+	@Test(expected = JSONException.class)
+	public void intOverflowTest() {
+		final JSONReader reader = new JSONReader("[4294967296]", null);
+		reader.beginArray();
+		reader.nextInt();
+	}
+
+	@Test
+	public void skipValueTest() {
+		final JSONReader reader = new JSONReader("{\"a\": {\"x\": [1, {\"y\": \"}]\\\"\"}], \"z\": null}, \"b\": 2}", null);
+		reader.beginObject();
+		Assert.assertEquals("a", reader.nextName());
+		reader.skipValue();
+		Assert.assertEquals("b", reader.nextName());
+		Assert.assertEquals(2, reader.nextInt());
+		reader.endObject();
+
+		final JSONReader reader2 = new JSONReader("{\"a\": [1, 2], \"b\": 2}", null);
+		reader2.beginObject();
+		// 跳过键及其值
+		reader2.skipValue();
+		Assert.assertEquals("b", reader2.nextName());
+	}
+
+	@Test
+	public void nextValueTest() {
+		final JSONReader reader = new JSONReader("{\"meta\": {\"total\": 2}, \"items\": [[1, 2], \"s\", 3]}", null);
+		reader.beginObject();
+		Assert.assertEquals("meta", reader.nextName());
+		final JSONObject meta = (JSONObject) reader.nextValue();
+		Assert.assertEquals(2, meta.getInt("total").intValue());
+		Assert.assertEquals("items", reader.nextName());
+		reader.beginArray();
+		Assert.assertEquals(new JSONArray("[1, 2]"), reader.nextValue());
+		Assert.assertEquals("s", reader.nextValue());
+		Assert.assertEquals(3, reader.nextValue());
+		reader.endArray();
+		reader.endObject();
+	}
+
+	@Test
+	public void readArrayTest() {
+		final String json = "[{\"akey\":\"a1\",\"bkey\":\"b1\"},{\"akey\":\"a2\",\"bkey\":\"b2\"},null]";
+		final List<KeyBean> beans = new ArrayList<>();
+		new JSONReader(json, null).readArray(KeyBean.class, beans::add);
+		Assert.assertEquals(3, beans.size());
+		Assert.assertEquals("a1", beans.get(0).getAkey());
+		Assert.assertEquals("b2", beans.get(1).getBkey());
+		Assert.assertNull(beans.get(2));
+	}
+
+	@Test
+	public void multiValueTest() {
+		final JSONReader reader = new JSONReader("{\"a\":1}\n{\"a\":2}\n", null);
+		final List<Integer> values = new ArrayList<>();
+		while (reader.hasNext()) {
+			values.add(reader.<JSONObject>nextBean(JSONObject.class).getInt("a"));
+		}
+		Assert.assertEquals(CollUtil.newArrayList(1, 2), values);
+	}
+
+	@Test
+	public void emptyElementTest() {
+		// 与JSONParser相同，数组中连续的逗号表示null
+		final JSONReader reader = new JSONReader("[1,,2]", null);
+		reader.beginArray();
+		Assert.assertEquals(1, reader.nextInt());
+		reader.nextNull();
+		Assert.assertEquals(2, reader.nextInt());
+		reader.endArray();
+	}
+
+	@Test(expected = JSONException.class)
+	public void unexpectedTokenTest() {
+		final JSONReader reader = new JSONReader("{\"a\": 1}", null);
+		reader.beginArray();
+	}
+}
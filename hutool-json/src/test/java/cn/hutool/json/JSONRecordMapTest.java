@@ -0,0 +1,111 @@
+package cn.hutool.json;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.json.test.bean.KeyBean;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Map;
+
+public class JSONRecordMapTest {
+
+	final String json = "[{\"akey\": \"a1\", \"bkey\": \"b1\", \"n\": {\"x\": 1}}, {\"akey\": \"a2\", \"bkey\": null, \"n\": {\"x\": 2}}," +
+			"{\"bkey\": \"b3\", \"akey\": \"a3\"}]";
+
+	@Test
+	public void parseTest() {
+		final JSONConfig config = JSONConfig.create().setIgnoreNullValue(false).setRecordMode(true);
+		final JSONArray array = new JSONArray(json, config);
+		Assert.assertEquals(new JSONArray(json, JSONConfig.create().setIgnoreNullValue(false)), array);
+		Assert.assertEquals(new JSONArray(json, JSONConfig.create().setIgnoreNullValue(false)).toString(), array.toString());
+
+		final JSONObject obj0 = array.getJSONObject(0);
+		final JSONObject obj1 = array.getJSONObject(1);
+		Assert.assertTrue(obj0.getRaw() instanceof JSONRecordMap);
+		// 相同结构的对象共享键
+		Assert.assertSame(CollUtil.getFirst(obj0.keySet()), CollUtil.getFirst(obj1.keySet()));
+		Assert.assertSame(CollUtil.getFirst(obj0.getJSONObject("n").keySet()), CollUtil.getFirst(obj1.getJSONObject("n").keySet()));
+		// 顺序不同的对象按照各自的顺序
+		Assert.assertEquals(CollUtil.newArrayList("bkey", "akey"), CollUtil.newArrayList(array.getJSONObject(2).keySet()));
+
+		Assert.assertEquals("b3", array.getJSONObject(2).toBean(KeyBean.class).getBkey());
+		Assert.assertEquals(CollUtil.newArrayList("a1", "a2", "a3"), CollUtil.map(array.toList(KeyBean.class), KeyBean::getAkey, true));
+	}
+
+	@Test
+	public void mapApiTest() throws CloneNotSupportedException {
+		final JSONObject obj = new JSONObject(JSONConfig.create().setRecordMode(true));
+		obj.set("a", 1).set("b", 2).set("c", 3);
+		Assert.assertEquals(3, obj.size());
+		Assert.assertEquals(2, obj.getInt("b").intValue());
+		Assert.assertEquals(2, obj.getRaw().put("b", 4));
+
+		Assert.assertEquals(1, obj.remove("a"));
+		Assert.assertNull(obj.remove("a"));
+		Assert.assertFalse(obj.containsKey("a"));
+		Assert.assertEquals(2, obj.size());
+		Assert.assertEquals("{\"b\":4,\"c\":3}", obj.toString());
+
+		final Iterator<Map.Entry<String, Object>> iter = obj.entrySet().iterator();
+		iter.next().setValue(5);
+		iter.next();
+		iter.remove();
+		Assert.assertEquals("{\"b\":5}", obj.toString());
+
+		obj.set("a", 6).set("d", 7);
+		Assert.assertEquals("{\"a\":6,\"b\":5,\"d\":7}", obj.toString());
+		Assert.assertEquals(new JSONObject("{\"a\":6,\"b\":5,\"d\":7}"), obj);
+
+		final JSONObject clone = obj.clone();
+		clone.set("a", 8);
+		Assert.assertEquals(6, obj.getInt("a").intValue());
+		Assert.assertEquals(obj, ObjectUtil.cloneByStream(obj));
+
+		obj.clear();
+		Assert.assertTrue(obj.isEmpty());
+		Assert.assertEquals("{}", obj.toString());
+	}
+
+	@Test
+	public void wideObjectTest() throws CloneNotSupportedException {
+		final StringBuilder sb = new StringBuilder("{");
+		for (int i = 0; i < 20000; i++) {
+			sb.append("\"key").append(i).append("\":").append(i).append(',');
+		}
+		sb.setCharAt(sb.length() - 1, '}');
+		final JSONObject obj = JSONUtil.parseObj(sb, JSONConfig.create().setRecordMode(true));
+		Assert.assertEquals(JSONUtil.parseObj(sb), obj);
+		Assert.assertEquals(19999, obj.getInt("key19999").intValue());
+		Assert.assertEquals("key19999", CollUtil.getLast(obj.keySet()));
+
+		// 超出共享键数的部分使用独占键表，不在根键表中保留中间键表
+		final JSONRecordMap raw = (JSONRecordMap) obj.getRaw();
+		Object schema = ReflectUtil.getFieldValue(ReflectUtil.getFieldValue(raw, "schema"), "root");
+		int depth = 0;
+		Map<?, ?> transitions;
+		while (null != (transitions = (Map<?, ?>) ReflectUtil.getFieldValue(schema, "transitions"))) {
+			schema = CollUtil.getFirst(transitions.values());
+			depth++;
+		}
+		Assert.assertEquals(JSONRecordMap.Schema.MAX_SHARED_LENGTH, depth);
+
+		// 复制后独占键表互不影响
+		final JSONObject clone = obj.clone();
+		clone.set("added", 1);
+		Assert.assertFalse(obj.containsKey("added"));
+		Assert.assertEquals(20001, clone.size());
+		Assert.assertEquals(20000, obj.size());
+		Assert.assertEquals(obj, ObjectUtil.cloneByStream(obj));
+	}
+
+	@Test
+	public void internKeyTest() {
+		final JSONConfig config = JSONConfig.create().setInternKey(true);
+		final JSONObject obj1 = new JSONObject("{\"name\": 1}", config);
+		final JSONObject obj2 = new JSONObject("{\"name\": 2}", config);
+		Assert.assertSame(CollUtil.getFirst(obj1.keySet()), CollUtil.getFirst(obj2.keySet()));
+	}
+}
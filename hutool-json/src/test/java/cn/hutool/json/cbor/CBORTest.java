@@ -0,0 +1,141 @@
+package cn.hutool.json.cbor;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.util.HexUtil;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONNull;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import cn.hutool.json.serialize.JSONObjectSerializer;
+import lombok.Data;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Date;
+import java.util.List;
+
+public class CBORTest {
+
+	@Test
+	public void encodeTest() {
+		// RFC 8949附录A中的示例
+		Assert.assertEquals("00", hex(0));
+		Assert.assertEquals("1864", hex(100));
+		Assert.assertEquals("1b000000e8d4a51000", hex(1000000000000L));
+		Assert.assertEquals("3903e7", hex(-1000));
+		Assert.assertEquals("c249010000000000000000", hex(new BigInteger("18446744073709551616")));
+		Assert.assertEquals("3bffffffffffffffff", hex(new BigInteger("-18446744073709551616")));
+		Assert.assertEquals("fb3ff199999999999a", hex(1.1D));
+		Assert.assertEquals("c48221196ab3", hex(new BigDecimal("273.15")));
+		Assert.assertEquals("f4", hex(false));
+		Assert.assertEquals("f6", hex(null));
+		Assert.assertEquals("6449455446", hex("IETF"));
+		Assert.assertEquals("62c3bc", hex("ü"));
+		Assert.assertEquals("4401020304", hex(new byte[]{1, 2, 3, 4}));
+		Assert.assertEquals("83010203", hex(CollUtil.newArrayList(1, 2, 3)));
+		Assert.assertEquals("a26161016162820203", hex(JSONUtil.parseObj("{\"a\": 1, \"b\": [2, 3]}")));
+		Assert.assertEquals("820102", hex(new int[]{1, 2}));
+		Assert.assertEquals("9f0102ff", hex(CollUtil.newArrayList(1, 2).iterator()));
+	}
+
+	@Test
+	public void decodeTest() {
+		Assert.assertEquals(100, decode("1864"));
+		Assert.assertEquals(1000000000000L, decode("1b000000e8d4a51000"));
+		Assert.assertEquals(new BigInteger("18446744073709551615"), decode("1bffffffffffffffff"));
+		Assert.assertEquals(new BigInteger("-18446744073709551617"), decode("c349010000000000000000"));
+		Assert.assertEquals(1.5F, decode("f93e00"));
+		Assert.assertEquals(-4.0F, decode("f9c400"));
+		Assert.assertEquals(new BigDecimal("273.15"), decode("c48221196ab3"));
+		Assert.assertEquals(JSONNull.NULL, decode("f7"));
+		Assert.assertEquals("streaming", decode("7f657374726561646d696e67ff"));
+		// 标准日期时间tag只保留内容
+		Assert.assertEquals("2013-03-21T20:04:00Z", decode("c074323031332d30332d32315432303a30343a30305a"));
+		Assert.assertEquals(JSONUtil.parseObj("{\"a\": 1, \"b\": [2, 3]}"), decode("bf61610161629f0203ffff"));
+		Assert.assertEquals(JSONUtil.parseObj("{\"1\": 2}"), decode("a10102"));
+	}
+
+	@Test
+	public void roundTripTest() {
+		final User user = new User();
+		user.setId(Long.MAX_VALUE);
+		user.setName("looly中文");
+		user.setScore(99.5D);
+		user.setPrice(new BigDecimal("1.10"));
+		user.setBirthday(DateUtil.parse("2022-10-01 12:00:00"));
+		user.setTags(CollUtil.newArrayList("a", null, "b"));
+		user.setData(new byte[]{1, 2, 3});
+
+		final byte[] bytes = CBORWriter.toBytes(user);
+		final User user2 = CBORReader.toBean(bytes, null, User.class);
+		Assert.assertEquals(user.getName(), user2.getName());
+		Assert.assertEquals(user.getId(), user2.getId());
+		Assert.assertEquals(user.getBirthday(), user2.getBirthday());
+		Assert.assertEquals(0, user.getPrice().compareTo(user2.getPrice()));
+		// 与JSON相同，忽略null值
+		Assert.assertEquals(CollUtil.newArrayList("a", "b"), user2.getTags());
+		Assert.assertArrayEquals(user.getData(), user2.getData());
+		Assert.assertNull(user2.getRemark());
+
+		// 解码后的JSON与文本JSON相同
+		Assert.assertEquals(JSONUtil.toJsonStr(user), CBORReader.parse(bytes).toString());
+		Assert.assertTrue(bytes.length < JSONUtil.toJsonStr(user).length());
+	}
+
+	@Test
+	public void configTest() {
+		final User user = new User();
+		user.setName("looly");
+		user.setBirthday(DateUtil.parse("2022-10-01 12:00:00"));
+		final JSONConfig config = JSONConfig.create().setIgnoreNullValue(false).setDateFormat("yyyy-MM-dd");
+		final JSONObject obj = (JSONObject) CBORReader.parse(CBORWriter.toBytes(user, config));
+		Assert.assertEquals("2022-10-01", obj.getStr("birthday"));
+		Assert.assertTrue(obj.containsKey("remark"));
+		Assert.assertEquals(JSONUtil.toJsonStr(user, config), obj.toString());
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		CBORWriter.write(MapUtil.of("list", new JSONArray("[1, null]")), out, null);
+		Assert.assertEquals("a1646c6973748101", HexUtil.encodeHexStr(out.toByteArray()));
+	}
+
+	@Test
+	public void customSerializerTest() {
+		JSONUtil.putSerializer(Point.class, (JSONObjectSerializer<Point>) (json, bean) -> json.set("xy", bean.x + "," + bean.y));
+		final Point point = new Point();
+		point.x = 1;
+		point.y = 2;
+		final JSONObject obj = (JSONObject) CBORReader.parse(CBORWriter.toBytes(point));
+		Assert.assertEquals("1,2", obj.getStr("xy"));
+	}
+
+	private static String hex(Object value) {
+		return HexUtil.encodeHexStr(CBORWriter.toBytes(value));
+	}
+
+	private static Object decode(String hex) {
+		return CBORReader.parse(HexUtil.decodeHex(hex));
+	}
+
+	@Data
+	public static class User {
+		private long id;
+		private String name;
+		private double score;
+		private BigDecimal price;
+		private Date birthday;
+		private List<String> tags;
+		private byte[] data;
+		private String remark;
+	}
+
+	public static class Point {
+		int x;
+		int y;
+	}
+}
@@ -0,0 +1,107 @@
+package cn.hutool.json.xml;
+
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import cn.hutool.json.XML;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class JSONXMLStreamParserTest {
+
+	final String feed = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+			"<!-- feed -->\n" +
+			"<rss version=\"2.0\" xmlns:dc=\"http://purl.org/dc/elements/1.1/\">\n" +
+			"  <channel>\n" +
+			"    <title>Hutool &amp; 新闻</title>\n" +
+			"    <item id=\"1\"><title>a</title><price>1.5</price><dc:creator>looly</dc:creator></item>\n" +
+			"    <item id=\"2\"><title><![CDATA[<b>b</b>]]></title><tag>x</tag><tag>y</tag><empty/></item>\n" +
+			"    <item id=\"3\">text<br/>tail</item>\n" +
+			"  </channel>\n" +
+			"</rss>";
+
+	@Test
+	public void documentTest() {
+		final JSONObject expected = XML.toJSONObject(feed);
+		final JSONObject jsonObject = JSONXMLStreamParser.toJSONObject(new StringReader(feed), null, false);
+		Assert.assertEquals(expected, jsonObject);
+		Assert.assertEquals("Hutool & 新闻", jsonObject.getByPath("rss.channel.title"));
+		Assert.assertEquals(3, jsonObject.getByPath("rss.channel.item", JSONArray.class).size());
+
+		Assert.assertEquals(XML.toJSONObject(feed, true), JSONXMLStreamParser.toJSONObject(new StringReader(feed), null, true));
+	}
+
+	@Test
+	public void cdataTest() {
+		// CDATA与JSONXMLParser相同，保留首尾空白且不转换为数字
+		final String xml = "<a><![CDATA[ 1 ]]></a>";
+		final JSONObject jsonObject = JSONXMLStreamParser.toJSONObject(new StringReader(xml), null, false);
+		Assert.assertEquals(" 1 ", jsonObject.get("a"));
+		Assert.assertEquals(XML.toJSONObject(xml), jsonObject);
+
+		final String mixed = "<a> 2 <![CDATA[ x ]]><b><![CDATA[3]]></b></a>";
+		Assert.assertEquals(XML.toJSONObject(mixed), JSONXMLStreamParser.toJSONObject(new StringReader(mixed), null, false));
+	}
+
+	@Test
+	public void recordTest() {
+		final List<JSONObject> items;
+		try (final JSONXMLStreamParser parser = JSONXMLStreamParser.of(new StringReader(feed), "item")) {
+			items = parser.stream().collect(Collectors.toList());
+		}
+		Assert.assertEquals(3, items.size());
+
+		final JSONObject item1 = items.get(0);
+		Assert.assertEquals(1, item1.get("id"));
+		Assert.assertEquals(new BigDecimal("1.5"), item1.get("price"));
+		Assert.assertEquals("looly", item1.getStr("dc:creator"));
+
+		final JSONObject item2 = items.get(1);
+		Assert.assertEquals("<b>b</b>", item2.getStr("title"));
+		Assert.assertEquals(CollUtil.newArrayList("x", "y"), item2.getJSONArray("tag").toList(String.class));
+		Assert.assertEquals("", item2.getStr("empty"));
+
+		Assert.assertEquals(JSONUtil.parseArray("[\"text\", \"tail\"]"), items.get(2).getJSONArray("content"));
+
+		// 记录内容与文档模式中的对应部分相同
+		final JSONArray docItems = XML.toJSONObject(feed).getByPath("rss.channel.item", JSONArray.class);
+		Assert.assertEquals(docItems.getJSONObject(0), item1);
+		Assert.assertEquals(docItems.getJSONObject(1), item2);
+	}
+
+	@Test
+	public void writeTest() {
+		final StringWriter writer = new StringWriter();
+		final long count;
+		try (final JSONXMLStreamParser parser = JSONXMLStreamParser.of(new StringReader(feed), "tag")) {
+			count = parser.writeArray(writer);
+		}
+		Assert.assertEquals(2, count);
+		Assert.assertEquals("[{\"content\":\"x\"},{\"content\":\"y\"}]", writer.toString());
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (final JSONXMLStreamParser parser = JSONXMLStreamParser.of(IoUtil.toUtf8Stream(feed), "item", null, true)) {
+			Assert.assertEquals(3, parser.writeLines(out));
+		}
+		final List<String> lines = StrUtil.splitTrim(StrUtil.utf8Str(out.toByteArray()), '\n');
+		Assert.assertEquals(3, lines.size());
+		Assert.assertEquals("1.5", JSONUtil.parseObj(lines.get(0)).get("price"));
+	}
+
+	@Test
+	public void noRecordTest() {
+		try (final JSONXMLStreamParser parser = JSONXMLStreamParser.of(new StringReader(feed), "notExist")) {
+			Assert.assertFalse(parser.hasNext());
+		}
+	}
+}